@@ -12,12 +12,14 @@ import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
 import de.mossgrabers.bitwig.framework.daw.data.SlotImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.daw.AbstractBrowser;
+import de.mossgrabers.framework.daw.BrowserResultCache;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IItem;
 
 import com.bitwig.extension.controller.api.BrowserFilterColumn;
+import com.bitwig.extension.controller.api.BrowserItem;
 import com.bitwig.extension.controller.api.BrowserResultsItemBank;
 import com.bitwig.extension.controller.api.CursorBrowserResultItem;
 import com.bitwig.extension.controller.api.CursorDevice;
@@ -39,6 +41,10 @@ public class BrowserImpl extends AbstractBrowser
     private final BrowserFilterColumn []  filterColumns;
     private final CursorBrowserResultItem cursorResult;
     private final BrowserResultsItemBank  resultsItemBank;
+    private final BrowserResultsItemBank  prefetchItemBank;
+    private final BrowserResultCache      resultCache;
+    private int                           resultsVersion = 0;
+    private boolean                       isCacheDirty   = true;
 
 
     /**
@@ -82,7 +88,19 @@ public class BrowserImpl extends AbstractBrowser
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
+        this.resultsItemBank.scrollPosition ().addValueObserver (this::updatePrefetchPosition);
         this.resultData = this.createResultData (this.numResults);
+
+        // Loads the pages before and after the visible page in the background
+        this.prefetchItemBank = (BrowserResultsItemBank) this.browser.resultsColumn ().createItemBank (3 * this.numResults);
+        this.prefetchItemBank.scrollPosition ().addValueObserver (position -> this.isCacheDirty = true);
+        for (int i = 0; i < this.prefetchItemBank.getSizeOfBank (); i++)
+        {
+            final BrowserItem item = this.prefetchItemBank.getItemAt (i);
+            item.exists ().markInterested ();
+            item.name ().addValueObserver (name -> this.isCacheDirty = true);
+        }
+        this.resultCache = new BrowserResultCache (5 * this.numResults);
     }
 
 
@@ -90,7 +108,8 @@ public class BrowserImpl extends AbstractBrowser
     @Override
     public void enableObservers (final boolean enable)
     {
-        Util.setIsSubscribed (this.browser.exists (), enable);
+        // The existence of the browser is always observed since it is required to open the browser
+        // mode when the browser is opened from the DAW
         Util.setIsSubscribed (this.browser.selectedContentTypeIndex (), enable);
         Util.setIsSubscribed (this.browser.selectedContentTypeName (), enable);
         Util.setIsSubscribed (this.browser.contentTypeNames (), enable);
@@ -99,9 +118,18 @@ public class BrowserImpl extends AbstractBrowser
             column.enableObservers (enable);
 
         Util.setIsSubscribed (this.cursorResult.name (), enable);
+        Util.setIsSubscribed (this.resultsItemBank.scrollPosition (), enable);
 
         for (final IBrowserColumnItem item: this.resultData)
             item.enableObservers (enable);
+
+        Util.setIsSubscribed (this.prefetchItemBank.scrollPosition (), enable);
+        for (int i = 0; i < this.prefetchItemBank.getSizeOfBank (); i++)
+        {
+            final BrowserItem item = this.prefetchItemBank.getItemAt (i);
+            Util.setIsSubscribed (item.exists (), enable);
+            Util.setIsSubscribed (item.name (), enable);
+        }
     }
 
 
@@ -258,6 +286,29 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String getResultName (final int index)
+    {
+        this.updateResultCache ();
+
+        final IBrowserColumnItem item = this.resultData[index];
+        final String name = item.getName ();
+        if (!name.isEmpty () || !item.doesExist ())
+            return name;
+        final String cachedName = this.resultCache.get (this.resultsItemBank.scrollPosition ().get () + index);
+        return cachedName == null ? name : cachedName;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getResultsVersion ()
+    {
+        return this.resultsVersion;
+    }
+
+
     /**
      * Select the previous result page.
      */
@@ -289,7 +340,57 @@ public class BrowserImpl extends AbstractBrowser
     {
         final IBrowserColumnItem [] items = new IBrowserColumnItem [count];
         for (int i = 0; i < count; i++)
-            items[i] = new BrowserColumnItemImpl (this.resultsItemBank.getItemAt (i), i);
+            items[i] = new BrowserColumnItemImpl (this.resultsItemBank.getItemAt (i), i, this::handleResultChange);
         return items;
     }
+
+
+    private void handleResultChange ()
+    {
+        this.resultsVersion++;
+        this.isCacheDirty = true;
+    }
+
+
+    /**
+     * Keep the prefetch bank one page before the visible page.
+     *
+     * @param position The scroll position of the visible page
+     */
+    private void updatePrefetchPosition (final int position)
+    {
+        this.prefetchItemBank.scrollPosition ().set (Math.max (0, position - this.numResults));
+    }
+
+
+    /**
+     * Store the names of the visible and the prefetched results in the cache of the current filter
+     * state, if they have changed.
+     */
+    private void updateResultCache ()
+    {
+        if (!this.isCacheDirty)
+            return;
+        this.isCacheDirty = false;
+
+        final StringBuilder filterState = new StringBuilder ().append (this.getSelectedContentTypeIndex ());
+        for (final IBrowserColumn column: this.columnData)
+            filterState.append ('|').append (column.getCursorName ());
+        this.resultCache.select (filterState.toString ());
+
+        final int position = this.resultsItemBank.scrollPosition ().get ();
+        for (int i = 0; i < this.numResults; i++)
+        {
+            if (this.resultData[i].doesExist ())
+                this.resultCache.store (position + i, this.resultData[i].getName ());
+        }
+
+        final int prefetchPosition = this.prefetchItemBank.scrollPosition ().get ();
+        for (int i = 0; i < this.prefetchItemBank.getSizeOfBank (); i++)
+        {
+            final BrowserItem item = this.prefetchItemBank.getItemAt (i);
+            if (item.exists ().get ())
+                this.resultCache.store (prefetchPosition + i, item.name ().get ());
+        }
+    }
 }
\ No newline at end of file
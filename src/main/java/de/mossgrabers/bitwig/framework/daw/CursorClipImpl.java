@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
+import de.mossgrabers.framework.daw.NoteOccupancy;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.GridStep;
 import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
@@ -34,6 +35,7 @@ public class CursorClipImpl implements INoteClip
     private int                      numRows;
 
     private final IStepInfo [] [] [] launcherData;
+    private final NoteOccupancy      launcherOccupancy;
     private PinnableCursorClip       launcherClip;
     private int                      editPage = 0;
     private double                   stepLength;
@@ -59,6 +61,7 @@ public class CursorClipImpl implements INoteClip
         this.stepLength = 1.0 / 4.0; // 16th
 
         this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherOccupancy = new NoteOccupancy (this.numSteps, this.numRows);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -393,6 +396,38 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getNextStepWithNote (final int channel, final int row, final int step, final int endStep)
+    {
+        return this.getOccupancy ().getNextStep (channel, row, step, endStep);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPreviousStepWithNote (final int channel, final int row, final int step, final int startStep)
+    {
+        return this.getOccupancy ().getPreviousStep (channel, row, step, startStep);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNextRowWithNote (final int channel, final int step, final int row)
+    {
+        return this.getOccupancy ().getNextRow (channel, step, row);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStepState (final int channel, final int step)
+    {
+        return this.getOccupancy ().getStepState (channel, step);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void toggleStep (final int channel, final int step, final int row, final int velocity)
@@ -626,13 +661,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () > 0)
-                return true;
-        }
-        return false;
+        return this.getOccupancy ().hasRowData (channel, row);
     }
 
 
@@ -851,7 +880,10 @@ public class CursorClipImpl implements INoteClip
         final int note = noteStep.y ();
         final StepInfoImpl sinfo = this.getUpdateableStep (channel, step, note);
         if (!this.editStep.isSet () || this.editStep.getChannel () != channel || this.editStep.getStep () != step || this.editStep.getNote () != note)
+        {
             sinfo.updateData (noteStep);
+            this.getOccupancy ().update (channel, step, note, sinfo.getState ());
+        }
     }
 
 
@@ -907,4 +939,15 @@ public class CursorClipImpl implements INoteClip
     {
         return this.launcherData;
     }
+
+
+    /**
+     * Get the launcher or arranger note occupancy. Depending on which is active.
+     *
+     * @return The note occupancy
+     */
+    private NoteOccupancy getOccupancy ()
+    {
+        return this.launcherOccupancy;
+    }
 }
\ No newline at end of file
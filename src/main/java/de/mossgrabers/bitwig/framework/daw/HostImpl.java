@@ -11,18 +11,22 @@ import de.mossgrabers.bitwig.framework.osc.OpenSoundControlClientImpl;
 import de.mossgrabers.bitwig.framework.osc.OpenSoundControlMessageImpl;
 import de.mossgrabers.bitwig.framework.osc.OpenSoundControlServerImpl;
 import de.mossgrabers.bitwig.framework.usb.UsbDeviceImpl;
+import de.mossgrabers.framework.controller.grid.BlinkEngine;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TimerWheel;
+import de.mossgrabers.framework.utils.VirtualClock;
 
 import com.bitwig.extension.api.graphics.BitmapFormat;
 import com.bitwig.extension.api.opensoundcontrol.OscAddressSpace;
@@ -44,8 +48,12 @@ import java.util.List;
  */
 public class HostImpl implements IHost
 {
-    private ControllerHost   host;
-    private List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private ControllerHost        host;
+    private List<IUsbDevice>      usbDevices  = new ArrayList<> ();
+    private final TimerWheel      timerWheel  = new TimerWheel (this);
+    private final BlinkEngine     blinkEngine = new BlinkEngine (this);
+    private final MetricsRegistry metrics     = new MetricsRegistry ();
+    private volatile VirtualClock virtualClock;
 
 
     /**
@@ -114,7 +122,43 @@ public class HostImpl implements IHost
     @Override
     public void scheduleTask (final Runnable task, final long delay)
     {
-        this.host.scheduleTask (task, delay);
+        final VirtualClock clock = this.virtualClock;
+        if (clock == null)
+            this.host.scheduleTask (task, delay);
+        else
+            clock.schedule (task, delay);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public BlinkEngine getBlinkEngine ()
+    {
+        return this.blinkEngine;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public MetricsRegistry getMetrics ()
+    {
+        return this.metrics;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVirtualClock (final VirtualClock clock)
+    {
+        this.virtualClock = clock;
     }
 
 
@@ -18,6 +18,7 @@ import de.mossgrabers.bitwig.framework.daw.data.bank.UserParameterBankImpl;
 import de.mossgrabers.framework.daw.AbstractModel;
 import de.mossgrabers.framework.daw.DataSetup;
 import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -150,6 +151,10 @@ public class ModelImpl extends AbstractModel
             // Drum Machine 64 pads
             if (modelSetup.wantsDrum64Device ())
                 this.drumDevice64 = new DrumDeviceImpl (this.host, this.valueChanger, drumMachineDevice, 0, 0, 0, -1, 64, 64);
+
+            this.facetManager.register (ModelFacet.DRUM_PADS, this.drumDevice.getDrumPadBank ());
+            if (this.drumDevice64 != null)
+                this.facetManager.register (ModelFacet.DRUM_PADS, this.drumDevice64.getDrumPadBank ());
         }
 
         for (final DeviceID deviceID: modelSetup.getDeviceIDs ())
@@ -202,7 +207,10 @@ public class ModelImpl extends AbstractModel
 
         final int numResults = this.modelSetup.getNumResults ();
         if (numResults > 0)
+        {
             this.browser = new BrowserImpl (controllerHost.createPopupBrowser (), this.bwCursorTrack, mainCursorDevice, this.modelSetup.getNumFilterColumnEntries (), numResults);
+            this.facetManager.register (ModelFacet.BROWSER, this.browser);
+        }
 
         this.masterTrackEqualsValue = mainCursorDevice.channel ().createEqualsValue (master);
         this.masterTrackEqualsValue.markInterested ();
@@ -454,6 +454,14 @@ public class TransportImpl implements ITransport
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getPosition ()
+    {
+        return this.transport.getPosition ().get ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setPositionToEnd ()
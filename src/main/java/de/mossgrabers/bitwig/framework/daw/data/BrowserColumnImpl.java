@@ -26,6 +26,7 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     private IBrowserColumnItem []     items;
     private BrowserItemBank<?>        itemBank;
     private CursorBrowserFilterItem   cursorResult;
+    private int                       itemsVersion = 0;
 
 
     /**
@@ -50,7 +51,7 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
 
         this.items = new IBrowserColumnItem [numFilterColumnEntries];
         for (int i = 0; i < numFilterColumnEntries; i++)
-            this.items[i] = new BrowserColumnItemImpl (this.itemBank.getItemAt (i), i);
+            this.items[i] = new BrowserColumnItemImpl (this.itemBank.getItemAt (i), i, this::incItemsVersion);
 
         this.cursorResult = (CursorBrowserFilterItem) column.createCursorItem ();
         this.cursorResult.exists ().markInterested ();
@@ -139,6 +140,14 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getItemsVersion ()
+    {
+        return this.itemsVersion;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IBrowserColumnItem [] getItems ()
@@ -201,4 +210,10 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     {
         this.itemBank.cursorIndex ().set (index);
     }
+
+
+    private void incItemsVersion ()
+    {
+        this.itemsVersion++;
+    }
 }
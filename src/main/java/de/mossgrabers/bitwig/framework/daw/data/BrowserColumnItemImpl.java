@@ -28,18 +28,20 @@ public class BrowserColumnItemImpl extends AbstractItemImpl implements IBrowserC
      *
      * @param item The item
      * @param index The index of the item
+     * @param changeObserver Gets notified if the existence, name, selection or hit count of the
+     *            item changes
      */
-    public BrowserColumnItemImpl (final BrowserItem item, final int index)
+    public BrowserColumnItemImpl (final BrowserItem item, final int index, final Runnable changeObserver)
     {
         super (index);
 
         this.item = item;
 
-        item.exists ().markInterested ();
-        item.name ().markInterested ();
-        item.isSelected ().markInterested ();
+        item.exists ().addValueObserver (value -> changeObserver.run ());
+        item.name ().addValueObserver (value -> changeObserver.run ());
+        item.isSelected ().addValueObserver (value -> changeObserver.run ());
         if (item instanceof BrowserFilterItem)
-            ((BrowserFilterItem) item).hitCount ().markInterested ();
+            ((BrowserFilterItem) item).hitCount ().addValueObserver (value -> changeObserver.run ());
     }
 
 
@@ -20,9 +20,7 @@ import com.bitwig.extension.controller.api.PlayingNote;
 import com.bitwig.extension.controller.api.Track;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Locale;
-import java.util.Set;
 
 
 /**
@@ -32,19 +30,19 @@ import java.util.Set;
  */
 public class TrackImpl extends ChannelImpl implements ITrack
 {
-    protected static final int       NOTE_OFF      = 0;
-    protected static final int       NOTE_ON       = 1;
-    protected static final int       NOTE_ON_NEW   = 2;
+    private static final INoteObserver [] NO_OBSERVERS  = new INoteObserver [0];
 
-    protected final Track            track;
+    protected final Track                 track;
 
-    private final BooleanValue       isTopGroup;
-    private final ApplicationImpl    application;
-    private final ISlotBank          slotBank;
-    private final int []             noteCache     = new int [128];
-    private final Set<INoteObserver> noteObservers = new HashSet<> ();
-    private final CursorTrack        cursorTrack;
-    private final IHost              host;
+    private final BooleanValue            isTopGroup;
+    private final ApplicationImpl         application;
+    private final ISlotBank               slotBank;
+    private final long []                 playingNotes  = new long [2];
+    private final long []                 newNotes      = new long [2];
+    private final int []                  newVelocities = new int [128];
+    private INoteObserver []              noteObservers = NO_OBSERVERS;
+    private final CursorTrack             cursorTrack;
+    private final IHost                   host;
 
 
     private enum CrossfadeSetting
@@ -94,8 +92,6 @@ public class TrackImpl extends ChannelImpl implements ITrack
         this.isTopGroup.markInterested ();
 
         this.slotBank = new SlotBankImpl (host, valueChanger, this, track.clipLauncherSlotBank (), numScenes);
-
-        Arrays.fill (this.noteCache, NOTE_OFF);
     }
 
 
@@ -423,36 +419,59 @@ public class TrackImpl extends ChannelImpl implements ITrack
      */
     public void addNoteObserver (final INoteObserver observer)
     {
-        this.noteObservers.add (observer);
+        for (final INoteObserver noteObserver: this.noteObservers)
+        {
+            if (noteObserver == observer)
+                return;
+        }
+        final int length = this.noteObservers.length;
+        this.noteObservers = Arrays.copyOf (this.noteObservers, length + 1);
+        this.noteObservers[length] = observer;
     }
 
 
     /**
-     * Handles the updates on all playing notes. Translates the note array into individual note
-     * observer updates of start and stopped notes.
+     * Handles the updates on all playing notes. Compares the playing notes with the previous ones
+     * and translates the differences into individual note observer updates of started and stopped
+     * notes.
      *
      * @param notes The currently playing notes
      */
     private void handleNotes (final PlayingNote [] notes)
     {
-        synchronized (this.noteCache)
+        synchronized (this.playingNotes)
         {
-            // Send the new notes
+            this.newNotes[0] = 0;
+            this.newNotes[1] = 0;
             for (final PlayingNote note: notes)
             {
                 final int pitch = note.pitch ();
-                this.noteCache[pitch] = NOTE_ON_NEW;
-                this.notifyNoteObservers (pitch, note.velocity ());
+                this.newNotes[pitch >> 6] |= 1L << pitch;
+                this.newVelocities[pitch] = note.velocity ();
             }
-            // Send note offs
-            for (int i = 0; i < this.noteCache.length; i++)
+
+            for (int i = 0; i < 2; i++)
             {
-                if (this.noteCache[i] == NOTE_ON_NEW)
-                    this.noteCache[i] = NOTE_ON;
-                else if (this.noteCache[i] == NOTE_ON)
+                final long started = this.newNotes[i] & ~this.playingNotes[i];
+                final long stopped = this.playingNotes[i] & ~this.newNotes[i];
+                this.playingNotes[i] = this.newNotes[i];
+
+                // Send the new notes
+                long bits = started;
+                while (bits != 0)
+                {
+                    final int pitch = i * 64 + Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+                    this.notifyNoteObservers (pitch, this.newVelocities[pitch]);
+                }
+
+                // Send note offs
+                bits = stopped;
+                while (bits != 0)
                 {
-                    this.noteCache[i] = NOTE_OFF;
-                    this.notifyNoteObservers (i, 0);
+                    final int pitch = i * 64 + Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+                    this.notifyNoteObservers (pitch, 0);
                 }
             }
         }
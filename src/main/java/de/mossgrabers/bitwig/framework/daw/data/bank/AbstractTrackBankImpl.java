@@ -9,7 +9,6 @@ import de.mossgrabers.bitwig.framework.daw.data.TrackImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.ITrack;
-import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IIndexedValueObserver;
 
@@ -30,6 +29,9 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     protected final CursorTrack   cursorTrack;
     private final Track           rootGroup;
 
+    private boolean []            recordingSlots;
+    private int                   numRecordingSlots = 0;
+
 
     /**
      * Constructor.
@@ -69,6 +71,8 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
                     this.handleBankSelection (i, isSelected);
             }
         });
+
+        this.registerRecordingCounter ();
     }
 
 
@@ -111,16 +115,34 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     @Override
     public boolean isClipRecording ()
     {
-        for (int t = 0; t < this.getPageSize (); t++)
+        return this.numRecordingSlots > 0;
+    }
+
+
+    /**
+     * Registers observers for the recording states of all clip slots of the bank page. The
+     * observers update a counter, therefore the recording state can be queried without iterating
+     * over all tracks and slots.
+     */
+    private void registerRecordingCounter ()
+    {
+        final int pageSize = this.getPageSize ();
+        this.recordingSlots = new boolean [pageSize * this.numScenes];
+
+        for (int t = 0; t < pageSize; t++)
         {
-            final ISlotBank slotBank = this.items.get (t).getSlotBank ();
+            final ClipLauncherSlotBank slotBank = this.bank.getItemAt (t).clipLauncherSlotBank ();
             for (int s = 0; s < this.numScenes; s++)
             {
-                if (slotBank.getItem (s).isRecording ())
-                    return true;
+                final int slotIndex = t * this.numScenes + s;
+                slotBank.getItemAt (s).isRecording ().addValueObserver (isRecording -> {
+                    if (this.recordingSlots[slotIndex] == isRecording)
+                        return;
+                    this.recordingSlots[slotIndex] = isRecording;
+                    this.numRecordingSlots += isRecording ? 1 : -1;
+                });
             }
         }
-        return false;
     }
 
 
@@ -133,6 +155,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     private void handleBankSelection (final int index, final boolean isSelected)
     {
         this.getItem (index).setSelected (isSelected);
+        this.updateSelection (index, isSelected);
         this.notifySelectionObservers (index, isSelected);
     }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 
+import com.bitwig.extension.controller.api.ClipLauncherSlot;
 import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
 
 
@@ -40,7 +41,12 @@ public class SlotBankImpl extends AbstractItemBankImpl<ClipLauncherSlotBank, ISl
         this.track = track;
 
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new SlotImpl (this.track, this.bank.getItemAt (i), i));
+        {
+            final ClipLauncherSlot slot = this.bank.getItemAt (i);
+            this.items.add (new SlotImpl (this.track, slot, i));
+            final int index = i;
+            slot.isSelected ().addValueObserver (isSelected -> this.updateSelection (index, isSelected));
+        }
     }
 
 
@@ -59,6 +59,22 @@ public class BitmapImpl implements IBitmap
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.bitmap.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.bitmap.getHeight ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void encode (final IEncoder encoder)
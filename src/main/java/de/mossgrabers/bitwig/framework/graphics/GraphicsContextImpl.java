@@ -239,7 +239,10 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void drawImage (final IImage icon, final double x, final double y)
     {
-        this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
+        if (icon instanceof BitmapImpl)
+            this.gc.drawImage (((BitmapImpl) icon).getBitmap (), x, y);
+        else
+            this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
     }
 
 
@@ -262,6 +265,14 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void translate (final double x, final double y)
+    {
+        this.gc.translate (x, y);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
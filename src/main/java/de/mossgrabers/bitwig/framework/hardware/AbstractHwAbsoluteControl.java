@@ -144,6 +144,8 @@ public abstract class AbstractHwAbsoluteControl<T extends AbsoluteHardwareContro
     @Override
     public void handleValue (final double value)
     {
+        this.markInput ();
+
         if (this.command != null)
         {
             this.command.execute ((int) Math.round (value * 127.0));
@@ -162,6 +164,8 @@ public abstract class AbstractHwAbsoluteControl<T extends AbsoluteHardwareContro
 
     private void handleSimpleParameterValue (final double value)
     {
+        this.markInput ();
+
         if (this.parameter != null)
             this.parameter.setNormalizedValue (value);
     }
@@ -30,6 +30,13 @@ import com.bitwig.extension.controller.api.RelativeHardwareKnob;
  */
 public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements IHwRelativeKnob
 {
+    /** Above this number of changes per second the accumulated value gets accelerated. */
+    private static final double            ACCELERATION_THRESHOLD = 40.0;
+    /** The maximum acceleration factor. */
+    private static final double            MAX_ACCELERATION       = 4.0;
+    /** The maximum value which can be encoded in one change. */
+    private static final int               MAX_CHANGE             = 63;
+
     private final RelativeHardwareKnob     hardwareKnob;
     private final ControllerHost           controllerHost;
     private final RelativeEncoding         encoding;
@@ -39,6 +46,13 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
     private IParameter                     parameter;
     private boolean                        shouldAdaptSensitivity = true;
 
+    private boolean                        accumulate             = false;
+    private boolean                        accelerate             = false;
+    private int                            accumulatedCommand     = 0;
+    private int                            accumulatedParameter   = 0;
+    private int                            accumulatedCount       = 0;
+    private long                           lastApplied            = 0;
+
 
     /**
      * Constructor. Uses Two's complement as the default relative encoding.
@@ -152,6 +166,18 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void triggerTouch (final boolean isDown)
+    {
+        // Execute the pending changes before the release
+        if (!isDown)
+            this.applyAccumulatedChanges ();
+
+        super.triggerTouch (isDown);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handleValue (final double value)
@@ -159,10 +185,15 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
         if (this.command == null)
             return;
 
-        // Convert the value back from the default 2s relative matcher, because we do the conversion
-        // our own way
-        final double a = value * 61.0;
-        final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
+        this.markInput ();
+
+        final int v = convertValue (value);
+        if (this.accumulate)
+        {
+            this.accumulatedCommand += v;
+            this.accumulatedCount++;
+            return;
+        }
         this.command.execute (v < 0 ? v + 128 : v);
     }
 
@@ -172,14 +203,113 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
         if (this.parameter == null)
             return;
 
-        // Convert the value back from the default 2s relative matcher, because we do the conversion
-        // our own way
-        final double a = value * 61.0;
-        final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
+        this.markInput ();
+
+        final int v = convertValue (value);
+        if (this.accumulate)
+        {
+            this.accumulatedParameter += v;
+            this.accumulatedCount++;
+            return;
+        }
         this.parameter.changeValue (v);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void update ()
+    {
+        this.applyAccumulatedChanges ();
+
+        super.update ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAccumulateChanges (final boolean accumulate, final boolean accelerate)
+    {
+        if (!accumulate)
+            this.applyAccumulatedChanges ();
+
+        this.accumulate = accumulate;
+        this.accelerate = accelerate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAccumulatingChanges ()
+    {
+        return this.accumulate;
+    }
+
+
+    /**
+     * Execute the changes which were accumulated since the last flush as one change.
+     */
+    private void applyAccumulatedChanges ()
+    {
+        if (this.accumulatedCount == 0)
+            return;
+
+        double factor = 1.0;
+        final long now = System.currentTimeMillis ();
+        if (this.accelerate)
+        {
+            final double rate = this.accumulatedCount * 1000.0 / Math.max (1, now - this.lastApplied);
+            if (rate > ACCELERATION_THRESHOLD)
+                factor = Math.min (MAX_ACCELERATION, rate / ACCELERATION_THRESHOLD);
+        }
+        this.lastApplied = now;
+        this.accumulatedCount = 0;
+
+        // Values which exceed the maximum change are executed with the next flush
+        if (this.accumulatedCommand != 0 && this.command != null)
+        {
+            final int v = clampChange ((int) Math.round (this.accumulatedCommand * factor));
+            this.accumulatedCommand = this.accumulatedCommand - (int) Math.round (v / factor);
+            if (this.accumulatedCommand != 0)
+                this.accumulatedCount = 1;
+            this.command.execute (v < 0 ? v + 128 : v);
+        }
+        else
+            this.accumulatedCommand = 0;
+
+        if (this.accumulatedParameter != 0 && this.parameter != null)
+        {
+            final int v = clampChange ((int) Math.round (this.accumulatedParameter * factor));
+            this.accumulatedParameter = this.accumulatedParameter - (int) Math.round (v / factor);
+            if (this.accumulatedParameter != 0)
+                this.accumulatedCount = 1;
+            this.parameter.changeValue (v);
+        }
+        else
+            this.accumulatedParameter = 0;
+    }
+
+
+    /**
+     * Convert the value back from the default 2s relative matcher, because we do the conversion our
+     * own way.
+     *
+     * @param value The value from the matcher
+     * @return The relative change
+     */
+    private static int convertValue (final double value)
+    {
+        final double a = value * 61.0;
+        return (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
+    }
+
+
+    private static int clampChange (final int change)
+    {
+        return Math.max (-MAX_CHANGE, Math.min (MAX_CHANGE, change));
+    }
+
+
     /**
      * Get the Bitwig hardware knob proxy.
      *
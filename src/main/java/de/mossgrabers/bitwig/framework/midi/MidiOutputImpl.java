@@ -45,7 +45,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
 
     /** {@inheritDoc} */
     @Override
-    public void sendSysex (final byte [] data)
+    protected void sendMidiSysex (final byte [] data)
     {
         this.port.sendSysex (data);
     }
@@ -53,7 +53,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
 
     /** {@inheritDoc} */
     @Override
-    public void sendSysex (final String data)
+    protected void sendMidiSysex (final String data)
     {
         this.port.sendSysex (data);
     }
@@ -19,6 +19,7 @@ class NoteInputImpl implements INoteInput
 {
     private final NoteInput   noteInput;
     private final INoteRepeat noteRepeat;
+    private boolean           shouldConsumeEvents = false;
 
 
     /**
@@ -53,6 +54,17 @@ class NoteInputImpl implements INoteInput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setShouldConsumeEvents (final boolean shouldConsumeEvents)
+    {
+        if (this.shouldConsumeEvents == shouldConsumeEvents)
+            return;
+        this.shouldConsumeEvents = shouldConsumeEvents;
+        this.noteInput.setShouldConsumeEvents (shouldConsumeEvents);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public INoteRepeat getNoteRepeat ()
@@ -333,6 +333,9 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
             // motor faders
             channelKnob.disableTakeOver ();
             deviceKnob.disableTakeOver ();
+
+            // Do not update the LED ring while the knob is turned
+            channelKnob.setFeedbackHoldTime (200);
         }
 
         new VolumeMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.FADER1, 8)).onActivate ();
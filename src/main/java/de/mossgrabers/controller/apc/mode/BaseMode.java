@@ -12,8 +12,6 @@ import de.mossgrabers.framework.daw.data.bank.IBank;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.Date;
-
 
 /**
  * Base class for knob modes.
@@ -22,10 +20,8 @@ import java.util.Date;
  */
 public abstract class BaseMode extends AbstractMode<APCControlSurface, APCConfiguration>
 {
-    private boolean isKnobMoving;
-    private long    moveStartTime;
-    private int     defaultValue;
-    private int     ledMode;
+    private int defaultValue;
+    private int ledMode;
 
 
     /**
@@ -44,9 +40,6 @@ public abstract class BaseMode extends AbstractMode<APCControlSurface, APCConfig
 
         this.ledMode = ledMode;
         this.defaultValue = defaultValue;
-
-        this.isKnobMoving = false;
-        this.moveStartTime = 0;
     }
 
 
@@ -78,13 +71,6 @@ public abstract class BaseMode extends AbstractMode<APCControlSurface, APCConfig
     public void onKnobValue (final int index, final int value)
     {
         this.setValue (index, value);
-
-        this.moveStartTime = new Date ().getTime ();
-        if (this.isKnobMoving)
-            return;
-
-        this.isKnobMoving = true;
-        this.startCheckKnobMovement ();
     }
 
 
@@ -92,33 +78,18 @@ public abstract class BaseMode extends AbstractMode<APCControlSurface, APCConfig
     @Override
     public void updateDisplay ()
     {
-        if (this.isKnobMoving)
-            return;
         for (int i = 0; i < 8; i++)
         {
+            // Do not update the LED ring while the knob is turned
+            if (this.surface.getContinuous (this.controls.get (i)).isInteracting ())
+                continue;
+
             final int value = this.getKnobValue (i);
             this.surface.setLED (APCControlSurface.APC_KNOB_TRACK_KNOB_1 + i, value < 0 ? this.defaultValue : value);
         }
     }
 
 
-    protected void startCheckKnobMovement ()
-    {
-        this.surface.scheduleTask (this::checkKnobMovement, 100);
-    }
-
-
-    protected void checkKnobMovement ()
-    {
-        if (!this.isKnobMoving)
-            return;
-        if (new Date ().getTime () - this.moveStartTime > 200)
-            this.isKnobMoving = false;
-        else
-            this.startCheckKnobMovement ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public void onButton (final int row, final int index, final ButtonEvent event)
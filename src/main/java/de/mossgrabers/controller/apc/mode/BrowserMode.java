@@ -7,6 +7,7 @@ package de.mossgrabers.controller.apc.mode;
 import de.mossgrabers.controller.apc.controller.APCControlSurface;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 
 
 /**
@@ -38,6 +39,8 @@ public class BrowserMode extends BaseMode
     public BrowserMode (final APCControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model, APCControlSurface.LED_MODE_PAN, 64, null);
+
+        this.requiredFacets.add (ModelFacet.BROWSER);
     }
 
 
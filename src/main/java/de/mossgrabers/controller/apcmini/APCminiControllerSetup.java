@@ -142,7 +142,8 @@ public class APCminiControllerSetup extends AbstractControllerSetup<APCminiContr
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
         final IMidiOutput output = midiAccess.createOutput ();
-        final IMidiInput input = midiAccess.createInput ("Akai APCmini");
+        // Limit the note input to the pads (notes 0 to 63), the buttons send notes as well
+        final IMidiInput input = midiAccess.createInput ("Akai APCmini", "800???", "900???", "801???", "901???", "802???", "902???", "803???", "903???");
         this.surfaces.add (new APCminiControlSurface (this.host, this.colorManager, this.configuration, output, input));
     }
 
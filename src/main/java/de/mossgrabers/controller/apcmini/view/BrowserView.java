@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.featuregroup.AbstractView;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -46,6 +47,8 @@ public class BrowserView extends AbstractView<APCminiControlSurface, APCminiConf
     public BrowserView (final APCminiControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.requiredFacets.add (ModelFacet.BROWSER);
     }
 
 
@@ -38,6 +38,15 @@ public class PlayView extends AbstractPlayView<APCminiControlSurface, APCminiCon
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNoteCallbackRequired ()
+    {
+        // Pure play view, the pads are only used for playing notes
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onSelectTrack (final int index, final ButtonEvent event)
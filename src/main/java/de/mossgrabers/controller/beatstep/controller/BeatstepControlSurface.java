@@ -76,9 +76,6 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
     public static final int BEATSTEP_PAD_15     = 0x7E;
     public static final int BEATSTEP_PAD_16     = 0x7F;
 
-    static final String     SYSEX_HEADER        = "F0 00 20 6B 7F 42 02 00 10 ";
-    static final String     SYSEX_END           = "F7";
-
     private boolean         isShift;
 
 
@@ -7,7 +7,7 @@ package de.mossgrabers.controller.beatstep.controller;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuffer;
 
 
 /**
@@ -17,6 +17,33 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class BeatstepPadGrid extends PadGridImpl
 {
+    private static final int [] SYSEX_HEADER =
+    {
+        0xF0,
+        0x00,
+        0x20,
+        0x6B,
+        0x7F,
+        0x42,
+        0x02,
+        0x00,
+        0x10
+    };
+
+    /** The pad controller numbers of the notes 36-51. */
+    private static final int [] PAD_IDS      = new int [16];
+    static
+    {
+        for (int i = 0; i < 8; i++)
+        {
+            PAD_IDS[i] = BeatstepControlSurface.BEATSTEP_PAD_9 + i;
+            PAD_IDS[8 + i] = BeatstepControlSurface.BEATSTEP_PAD_1 + i;
+        }
+    }
+
+    private final SysexBuffer   sysexBuffer  = new SysexBuffer (SYSEX_HEADER.length + 3);
+
+
     /**
      * Constructor.
      *
@@ -53,14 +80,14 @@ public class BeatstepPadGrid extends PadGridImpl
      */
     public void lightPad (final int note, final int color)
     {
-        final int n = note - 36;
-        final int pad = n < this.cols ? BeatstepControlSurface.BEATSTEP_PAD_9 + n : BeatstepControlSurface.BEATSTEP_PAD_1 + n - this.cols;
-        final String data = BeatstepControlSurface.SYSEX_HEADER + StringUtils.toHexStr (new int []
+        // The Beatstep can only set one pad with a message
+        synchronized (this.sysexBuffer)
         {
-            pad,
-            color
-        }) + BeatstepControlSurface.SYSEX_END;
-        this.output.sendSysex (data);
+            this.sysexBuffer.start (SYSEX_HEADER);
+            this.sysexBuffer.add (PAD_IDS[note - 36]);
+            this.sysexBuffer.add (color);
+            this.sysexBuffer.send (this.output);
+        }
     }
 
 
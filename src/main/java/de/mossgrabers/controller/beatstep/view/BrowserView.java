@@ -10,6 +10,7 @@ import de.mossgrabers.controller.beatstep.controller.BeatstepControlSurface;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.featuregroup.AbstractView;
 
 
@@ -29,6 +30,8 @@ public class BrowserView extends AbstractView<BeatstepControlSurface, BeatstepCo
     public BrowserView (final BeatstepControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.requiredFacets.add (ModelFacet.BROWSER);
     }
 
 
@@ -53,6 +53,7 @@ import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -66,8 +67,11 @@ import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.observer.IParametersAdjustObserver;
+import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.IntSupplier;
 
 
@@ -126,6 +130,7 @@ public class FireControllerSetup extends AbstractControllerSetup<FireControlSurf
         ms.setHasFullFlatTrackList (true);
 
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
+        this.model.getFacetManager ().setOnDemand (ModelFacet.BROWSER, ModelFacet.DRUM_PADS);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.setIndication (true);
@@ -147,12 +152,23 @@ public class FireControllerSetup extends AbstractControllerSetup<FireControlSurf
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
         final IMidiOutput output = midiAccess.createOutput ();
-        final IMidiInput input = midiAccess.createInput ("Pads", "80????" /* Note off */,
-                "90????" /* Note on */);
+
+        // The buttons and knob touches send notes as well, therefore limit the note input to the
+        // pads, which are notes 54 to 117
+        final List<String> filters = new ArrayList<> ();
+        for (int note = 54; note <= 117; note++)
+        {
+            filters.add ("80" + StringUtils.toHexStr (note) + "??");
+            filters.add ("90" + StringUtils.toHexStr (note) + "??");
+        }
+        final IMidiInput input = midiAccess.createInput ("Pads", filters.toArray (new String [filters.size ()]));
         final FireControlSurface surface = new FireControlSurface (this.host, this.colorManager, this.configuration, output, input);
         surface.configureLEDs ();
         this.surfaces.add (surface);
 
+        // Blink in sync with the beats while playing
+        this.host.getBlinkEngine ().setTransport (this.model.getTransport ());
+
         surface.addGraphicsDisplay (new FireDisplay (this.host, output, this.valueChanger.getUpperBound ()));
 
         surface.getModeManager ().setDefaultID (Modes.TRACK);
@@ -96,6 +96,8 @@ public class FireControlSurface extends AbstractControlSurface<FireConfiguration
     public FireControlSurface (final IHost host, final ColorManager colorManager, final FireConfiguration configuration, final IMidiOutput output, final IMidiInput input)
     {
         super (host, configuration, colorManager, output, input, new FirePadGrid (colorManager, output), 306, 154);
+
+        host.getBlinkEngine ().register (this.getPadGrid ());
     }
 
 
@@ -117,6 +119,16 @@ public class FireControlSurface extends AbstractControlSurface<FireConfiguration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void internalShutdown ()
+    {
+        super.internalShutdown ();
+
+        this.host.getBlinkEngine ().unregister (this.getPadGrid ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public FirePadGrid getPadGrid ()
@@ -7,13 +7,11 @@ package de.mossgrabers.controller.fire.controller;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -79,69 +77,24 @@ public class FirePadGrid extends BlinkingPadGrid
 
     /** {@inheritDoc} */
     @Override
-    protected void updateController ()
+    protected void updateController (final int [] notes, final int [] colorIndices, final int count)
     {
-        final String update = this.buildLEDUpdate ();
-        if (update != null)
-            this.output.sendSysex (update);
-    }
-
-
-    private String buildLEDUpdate ()
-    {
-        final StringBuilder sb = new StringBuilder ();
+        final int length = count * 4;
+        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
+        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
+        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int i = 0; i < count; i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            final int index = note - 54;
             // Note: The exact PADx is not needed for getting the color
-            final int [] c = this.colorManager.getColor (info.getColor (), ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
-
-            // Hardware does not support blinking, therefore needs to be implemented the hard
-            // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
-            else
-                this.blinkingLights.remove (key);
+            final int [] c = this.colorManager.getColor (colorIndices[i], ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
+            msg.append (StringUtils.toHexStr (notes[i] - 54)).append (' ');
+            msg.append (StringUtils.toHexStr (c[0])).append (' ');
+            msg.append (StringUtils.toHexStr (c[1])).append (' ');
+            msg.append (StringUtils.toHexStr (c[2])).append (' ');
         }
 
-        int length = this.padInfos.size ();
-
-        // Toggle blink colors every 600ms
-        if (this.checkBlinking ())
-        {
-            length += this.blinkingLights.size ();
-
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
-            {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-                final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
-            }
-        }
-
-        // No update necessary
-        if (sb.length () == 0)
-            return null;
-
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
-        return msg.append (sb).append ("F7").toString ();
+        this.output.sendSysex (msg.append ("F7").toString ());
     }
 
 
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
@@ -38,6 +39,8 @@ public class BrowserMode extends AbstractMode<FireControlSurface, FireConfigurat
     {
         super ("Browser", surface, model, false);
 
+        this.requiredFacets.add (ModelFacet.BROWSER);
+
         this.isKnobTouched = new boolean [9];
         Arrays.fill (this.isKnobTouched, false);
     }
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISpecificDevice;
@@ -56,6 +57,8 @@ public class FireLayerMode extends AbstractMode<FireControlSurface, FireConfigur
     {
         super ("Channel", surface, model);
 
+        this.requiredFacets.add (ModelFacet.DRUM_PADS);
+
         this.setControls (ContinuousID.createSequentialList (ContinuousID.KNOB1, 4));
         this.setParameters (new Fire4KnobProvider (surface, new DrumPadParameterProvider (model)));
     }
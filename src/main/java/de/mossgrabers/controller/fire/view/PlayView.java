@@ -53,6 +53,15 @@ public class PlayView extends AbstractPlayView<FireControlSurface, FireConfigura
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNoteCallbackRequired ()
+    {
+        // Pure play view, the pads are only used for playing notes
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onButton (final ButtonID buttonID, final ButtonEvent event, final int velocity)
@@ -9,6 +9,7 @@ import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
 import de.mossgrabers.controller.generic.flexihandler.IFlexiCommandHandler;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.hardware.InteractionTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -33,6 +34,9 @@ import java.util.Map;
  */
 public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFlexiConfiguration>
 {
+    /** The time in milliseconds after a change in which the value is not sent back. */
+    private static final int                              VALUE_HOLD_TIME = 400;
+
     private static final FileFilter []                    FILE_FILTERS    =
     {
         new FileFilter ("Configuration", "properties"),
@@ -40,11 +44,11 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     };
 
     private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final InteractionTracker []                   interactions    = new InteractionTracker [GenericFlexiConfiguration.NUM_SLOTS];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
     private boolean                                       isShiftPressed  = false;
-    private boolean                                       isUpdatingValue = false;
 
 
     /**
@@ -70,6 +74,8 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         }
 
         Arrays.fill (this.valueCache, -1);
+        for (int i = 0; i < this.interactions.length; i++)
+            this.interactions[i] = new InteractionTracker (VALUE_HOLD_TIME);
 
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_SAVE, this::saveFile);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_LOAD, this::loadAndSelectFile);
@@ -100,12 +106,17 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
                 continue;
 
-            if (this.isUpdatingValue && !(slots[i].getCommand ().isTrigger () && slots[i].isSendValueWhenReceived ()))
-                continue;
-
             final int value = this.getCommandValue (command);
             if (this.valueCache[i] == value)
                 continue;
+
+            // Do not send the value back while the user changes it
+            if (this.interactions[i].isHolding () && !(command.isTrigger () && slots[i].isSendValueWhenReceived ()))
+            {
+                this.valueCache[i] = value;
+                continue;
+            }
+
             this.valueCache[i] = value;
             this.reflectValue (slots[i], value);
         }
@@ -365,13 +376,8 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (command == FlexiCommand.OFF)
             return;
 
-        this.isUpdatingValue = true;
+        this.interactions[slotIndex].markInput ();
         this.handlers.get (command).handle (command, commandSlot.getKnobMode (), value);
-
-        this.host.scheduleTask ( () -> {
-            this.valueCache[slotIndex] = this.getCommandValue (command);
-            this.isUpdatingValue = false;
-        }, 400);
     }
 
 
@@ -103,6 +103,7 @@ public class HUIConfiguration extends AbstractConfiguration
         // Hardware
 
         this.activateHardwareSettings (globalSettings);
+        this.activateMotorFaderOutputSettings (globalSettings, CATEGORY_HARDWARE_SETUP);
         this.activateEnableVUMetersSetting (globalSettings, CATEGORY_HARDWARE_SETUP);
 
         ///////////////////////////
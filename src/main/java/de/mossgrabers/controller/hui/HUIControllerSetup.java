@@ -50,6 +50,7 @@ import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.MotorFaderOutput;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -60,6 +61,8 @@ import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterManager;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -77,7 +80,6 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.ControlOnlyView;
 import de.mossgrabers.framework.view.Views;
 
-import java.util.Arrays;
 import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 
@@ -90,13 +92,14 @@ import java.util.function.IntSupplier;
 public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurface, HUIConfiguration>
 {
     /** State for button LED on. */
-    public static final int HUI_BUTTON_STATE_ON  = 127;
+    public static final int     HUI_BUTTON_STATE_ON  = 127;
     /** State for button LED off. */
-    public static final int HUI_BUTTON_STATE_OFF = 0;
+    public static final int     HUI_BUTTON_STATE_OFF = 0;
 
-    private final int []    vuValuesL            = new int [8];
-    private final int []    vuValuesR            = new int [8];
-    private final int []    faderValues          = new int [36];
+    private static final int    VU_UPDATE_RATE       = 50;
+
+    private VuMeterSubscription vuMeters;
+    private MotorFaderOutput    faderOutput;
 
 
     /**
@@ -111,10 +114,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     {
         super (factory, host, globalSettings, documentSettings);
 
-        Arrays.fill (this.vuValuesL, -1);
-        Arrays.fill (this.vuValuesR, -1);
-        Arrays.fill (this.faderValues, -1);
-
         this.colorManager = new ColorManager ();
         this.colorManager.registerColor (0, ColorEx.BLACK);
         this.colorManager.registerColor (127, ColorEx.RED);
@@ -134,7 +133,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
         this.updateMode (this.getSurface ().getModeManager ().getActiveID ());
 
-        this.updateVUandFaders ();
+        this.updateFaders ();
         this.updateSegmentDisplay ();
     }
 
@@ -172,6 +171,11 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         surface.addTextDisplay (new HUIDisplay (this.host, output));
         surface.addTextDisplay (new HUISegmentDisplay (this.host, output));
         surface.getModeManager ().setDefaultID (Modes.VOLUME);
+
+        this.faderOutput = new MotorFaderOutput (this.host, 8, this.valueChanger.getUpperBound (), (channel, value) -> {
+            output.sendCC (channel, value / 128);
+            output.sendCC (0x20 + channel, value % 128);
+        });
     }
 
 
@@ -207,13 +211,27 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         final HUIControlSurface surface = this.getSurface ();
         surface.getModeManager ().addChangeListener ( (oldMode, newMode) -> this.updateMode (newMode));
 
+        final VuMeterManager vuMeterManager = this.model.getVuMeterManager ();
+        final int [] meters = new int [8];
+        for (int i = 0; i < meters.length; i++)
+        {
+            final int channel = i;
+            meters[i] = vuMeterManager.addMeter ( () -> this.model.getCurrentTrackBank ().getItem (channel));
+        }
+        // Half a LED segment
+        final int minimumDelta = this.valueChanger.getUpperBound () / 24;
+        this.vuMeters = vuMeterManager.subscribe (meters, VU_UPDATE_RATE, minimumDelta, this::updateVU);
+
         this.configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> {
+            this.vuMeters.setEnabled (this.configuration.isEnableVUMeters ());
             final IMode activeMode = surface.getModeManager ().getActive ();
             if (activeMode != null)
                 activeMode.updateDisplay ();
             ((HUIDisplay) surface.getDisplay ()).forceFlush ();
         });
 
+        this.configuration.addSettingObserver (AbstractConfiguration.MOTOR_FADER_OUTPUT, () -> this.faderOutput.configure (this.configuration.getMotorFaderMinimumStep (), this.configuration.getMotorFaderMaximumRate (), this.configuration.getMotorFaderTravelTime ()));
+
         this.configuration.registerDeactivatedItemsHandler (this.model);
     }
 
@@ -648,55 +666,29 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     }
 
 
-    private void updateVUandFaders ()
+    private void updateVU (final int channel, final int vuLeft, final int vuRight)
     {
         final double upperBound = this.valueChanger.getUpperBound ();
-        final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
-        final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
-
-        final ITrackBank tb = this.model.getCurrentTrackBank ();
-        IMidiOutput output;
-        final HUIControlSurface surface = this.getSurface ();
-        output = surface.getMidiOutput ();
-        for (int channel = 0; channel < 8; channel++)
-        {
-            final ITrack track = tb.getItem (channel);
-
-            // Update VU LEDs of channel
-            if (enableVUMeters)
-            {
-                final int vuLeft = track.getVuLeft ();
-                if (vuLeft != this.vuValuesL[channel])
-                {
-                    this.vuValuesL[channel] = vuLeft;
-                    final int scaledValue = (int) Math.floor (vuLeft * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (channel, scaledValue);
-                }
-                final int vuRight = track.getVuRight ();
-                if (vuRight != this.vuValuesR[channel])
-                {
-                    this.vuValuesR[channel] = vuRight;
-                    final int scaledValue = (int) Math.floor (vuRight * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (0x10 + channel, scaledValue);
-                }
-            }
-
-            // Update motor fader of channel
-            if (hasMotorFaders)
-                this.updateFaders (output, channel, track);
-        }
+        final IMidiOutput output = this.getSurface ().getMidiOutput ();
+        output.sendPolyphonicAftertouch (channel, (int) Math.floor (vuLeft * 12 / upperBound));
+        output.sendPolyphonicAftertouch (0x10 + channel, (int) Math.floor (vuRight * 12 / upperBound));
     }
 
 
-    private void updateFaders (final IMidiOutput output, final int channel, final ITrack track)
+    private void updateFaders ()
     {
-        final int value = track.getVolume ();
-        if (value != this.faderValues[channel])
+        if (!this.configuration.hasMotorFaders ())
+            return;
+
+        final HUIControlSurface surface = this.getSurface ();
+        final ITrackBank tb = this.model.getCurrentTrackBank ();
+        for (int channel = 0; channel < 8; channel++)
         {
-            this.faderValues[channel] = value;
-            output.sendCC (channel, value / 128);
-            output.sendCC (0x20 + channel, value % 128);
+            // Dont't update fader if the user touches and therefore 'stops' it
+            this.faderOutput.setTouched (channel, surface.isPressed (ButtonID.get (ButtonID.FADER_TOUCH_1, channel)));
+            this.faderOutput.setTarget (channel, tb.getItem (channel).getVolume ());
         }
+        this.faderOutput.update ();
     }
 
 
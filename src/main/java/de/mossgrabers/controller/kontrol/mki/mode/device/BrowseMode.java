@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -46,6 +47,8 @@ public class BrowseMode extends AbstractKontrol1Mode
     {
         super ("Browse", surface, model);
 
+        this.requiredFacets.add (ModelFacet.BROWSER);
+
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = 0;
     }
@@ -113,7 +116,7 @@ public class BrowseMode extends AbstractKontrol1Mode
                 d.setCell (0, 0, "SELECTED");
                 final IBrowserColumnItem [] results = browser.getResultColumnItems ();
                 for (int i = 0; i < 16; i++)
-                    d.setCell (i % 2, 1 + i / 2, (results[i].isSelected () ? ">" : " ") + results[i].getName ().toUpperCase (Locale.US));
+                    d.setCell (i % 2, 1 + i / 2, (results[i].isSelected () ? ">" : " ") + browser.getResultName (i).toUpperCase (Locale.US));
                 break;
 
             case BrowseMode.SELECTION_FILTER:
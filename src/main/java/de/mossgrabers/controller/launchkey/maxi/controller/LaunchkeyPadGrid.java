@@ -9,8 +9,7 @@ import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.view.Views;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 
 /**
@@ -40,18 +39,20 @@ public class LaunchkeyPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_MAP_DRUM          = new HashMap<> (16);
-    private static final Map<Integer, Integer> INVERSE_MAP_SESSION       = new HashMap<> (16);
-    private static final Map<Integer, Integer> INVERSE_MAP_DEVICE_SELECT = new HashMap<> (16);
+    private static final int [] INVERSE_MAP_DRUM          = new int [128];
+    private static final int [] INVERSE_MAP_SESSION       = new int [128];
+    private static final int [] INVERSE_MAP_DEVICE_SELECT = new int [128];
 
     static
     {
+        Arrays.fill (INVERSE_MAP_DRUM, -1);
+        Arrays.fill (INVERSE_MAP_SESSION, -1);
+        Arrays.fill (INVERSE_MAP_DEVICE_SELECT, -1);
         for (int i = 0; i < 16; i++)
         {
-            final Integer note = Integer.valueOf (36 + i);
-            INVERSE_MAP_DRUM.put (Integer.valueOf (MAP_DRUM[i]), note);
-            INVERSE_MAP_SESSION.put (Integer.valueOf (MAP_SESSION[i]), note);
-            INVERSE_MAP_DEVICE_SELECT.put (Integer.valueOf (MAP_DEVICE_SELECT[i]), note);
+            INVERSE_MAP_DRUM[MAP_DRUM[i]] = 36 + i;
+            INVERSE_MAP_SESSION[MAP_SESSION[i]] = 36 + i;
+            INVERSE_MAP_DEVICE_SELECT[MAP_DEVICE_SELECT[i]] = 36 + i;
         }
     }
 
@@ -74,28 +75,27 @@ public class LaunchkeyPadGrid extends PadGridImpl
     @Override
     public int translateToGrid (final int note)
     {
-        if (this.activeView == null)
+        if (this.activeView == null || note < 0 || note >= 128)
             return note;
 
-        final Integer n = Integer.valueOf (note);
-        Integer inverse;
+        final int inverse;
         switch (this.activeView)
         {
             case DRUM:
-                inverse = INVERSE_MAP_DRUM.get (n);
+                inverse = INVERSE_MAP_DRUM[note];
                 break;
 
             case DEVICE:
-                inverse = INVERSE_MAP_DEVICE_SELECT.get (n);
+                inverse = INVERSE_MAP_DEVICE_SELECT[note];
                 break;
 
             default:
             case SESSION:
-                inverse = INVERSE_MAP_SESSION.get (n);
+                inverse = INVERSE_MAP_SESSION[note];
                 break;
         }
 
-        return inverse == null ? note : inverse.intValue ();
+        return inverse < 0 ? note : inverse;
     }
 
 
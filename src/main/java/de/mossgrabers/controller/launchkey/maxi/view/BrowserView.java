@@ -10,6 +10,7 @@ import de.mossgrabers.controller.launchkey.maxi.controller.LaunchkeyMk3ControlSu
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.featuregroup.AbstractView;
 import de.mossgrabers.framework.featuregroup.ViewManager;
@@ -52,6 +53,8 @@ public class BrowserView extends AbstractView<LaunchkeyMk3ControlSurface, Launch
     public BrowserView (final LaunchkeyMk3ControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.requiredFacets.add (ModelFacet.BROWSER);
     }
 
 
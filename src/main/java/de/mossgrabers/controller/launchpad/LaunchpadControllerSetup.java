@@ -76,6 +76,7 @@ import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -183,6 +184,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         ms.enableDrum64Device (true);
         ms.setHasFullFlatTrackList (this.configuration.areMasterTracksIncluded ());
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
+        this.model.getFacetManager ().setOnDemand (ModelFacet.BROWSER, ModelFacet.DRUM_PADS);
     }
 
 
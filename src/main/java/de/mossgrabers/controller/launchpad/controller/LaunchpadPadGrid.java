@@ -6,13 +6,11 @@ package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.controller.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuffer;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 
 /**
@@ -36,15 +34,23 @@ public class LaunchpadPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+    private static final int [] INVERSE_TRANSLATE_MATRIX = new int [NUM_NOTES];
     static
     {
+        Arrays.fill (INVERSE_TRANSLATE_MATRIX, -1);
         for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
+            INVERSE_TRANSLATE_MATRIX[TRANSLATE_MATRIX[i]] = 36 + i;
     }
 
+    private static final int BITSET_SIZE = NUM_NOTES / 64;
+
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final int []                         colors      = new int [NUM_NOTES];
+    private final int []                         blinkColors = new int [NUM_NOTES];
+    private final boolean []                     fastPads    = new boolean [NUM_NOTES];
+    private final long []                        pendingPads = new long [BITSET_SIZE];
+    private final int []                         updateNotes = new int [NUM_NOTES];
+    private final SysexBuffer                    sysexBuffer = new SysexBuffer (16 + 4 * NUM_NOTES);
 
 
     /**
@@ -66,8 +72,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     public int translateToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note < 0 || note >= NUM_NOTES ? -1 : INVERSE_TRANSLATE_MATRIX[note];
     }
 
 
@@ -89,13 +94,23 @@ public class LaunchpadPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.colors)
         {
-            if (this.padInfos.isEmpty ())
-                return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
-            this.padInfos.clear ();
+            int count = 0;
+            for (int i = 0; i < BITSET_SIZE; i++)
+            {
+                long bits = this.pendingPads[i];
+                this.pendingPads[i] = 0;
+                while (bits != 0)
+                {
+                    this.updateNotes[count] = i * 64 + Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+                    count++;
+                }
+            }
+
+            if (count > 0)
+                this.definition.sendLEDUpdate (this.output, this.sysexBuffer, this.updateNotes, count, this.colors, this.blinkColors, this.fastPads);
         }
     }
 
@@ -104,9 +119,10 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
+        synchronized (this.colors)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.markPending (note);
+            this.colors[note] = color;
         }
     }
 
@@ -115,11 +131,29 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
+        synchronized (this.colors)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.markPending (note);
+            this.blinkColors[note] = blinkColor;
+            this.fastPads[note] = fast;
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Mark a pad to be sent with the next flush. If it was not already pending its colors are
+     * reset.
+     *
+     * @param note The controller note of the pad
+     */
+    private void markPending (final int note)
+    {
+        final long bit = 1L << note % 64;
+        if ((this.pendingPads[note / 64] & bit) != 0)
+            return;
+        this.pendingPads[note / 64] |= bit;
+        this.colors[note] = 0;
+        this.blinkColors[note] = 0;
+        this.fastPads[note] = false;
+    }
+}
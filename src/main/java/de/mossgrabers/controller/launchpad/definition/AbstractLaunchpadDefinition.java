@@ -8,13 +8,10 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuffer;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -27,6 +24,8 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 {
     protected final ButtonSetup buttonSetup = new ButtonSetup ();
 
+    private int []              sysExHeaderData;
+
 
     /**
      * Constructor.
@@ -110,35 +109,118 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final IMidiOutput output, final SysexBuffer buffer, final int [] notes, final int count, final int [] colors, final int [] blinkColors, final boolean [] fast)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        buffer.start (this.getSysExHeaderData ());
+        buffer.add (0x03);
+        for (int i = 0; i < count; i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int note = notes[i];
+            final int blinkColor = blinkColors[note];
 
-            if (info.getBlinkColor () <= 0)
+            if (blinkColor <= 0)
             {
                 // 00h: Static colour from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                buffer.add (0x00);
+                buffer.add (note);
+                buffer.add (colors[note]);
             }
             else
             {
-                if (info.isFast ())
+                if (fast[note])
                 {
                     // 01h: Flashing colour, Lighting data is 2 bytes specifying Colour B and
                     // Colour A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    buffer.add (0x01);
+                    buffer.add (note);
+                    buffer.add (blinkColor);
+                    buffer.add (colors[note]);
                 }
                 else
                 {
                     // 02h: Pulsing colour, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    buffer.add (0x02);
+                    buffer.add (note);
+                    buffer.add (colors[note]);
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        buffer.send (output);
+    }
+
+
+    /**
+     * Send the update of the given pads with the protocol of the older models, which requires one
+     * message for static, one for flashing and one for pulsing pads.
+     *
+     * @param output The output to send the messages to
+     * @param buffer The buffer to use for building the messages
+     * @param notes The controller notes of the pads to update in ascending order
+     * @param count The number of valid entries in the notes array
+     * @param colors The colors of the pads, indexed by the controller note
+     * @param blinkColors The blink colors of the pads, indexed by the controller note, 0 if the pad
+     *            does not blink
+     * @param fast The blink speed of the pads, indexed by the controller note
+     * @param prefixBlink Add 00 in front of each flashing and pulsing pad
+     */
+    protected void sendLegacyLEDUpdate (final IMidiOutput output, final SysexBuffer buffer, final int [] notes, final int count, final int [] colors, final int [] blinkColors, final boolean [] fast, final boolean prefixBlink)
+    {
+        final int [] header = this.getSysExHeaderData ();
+
+        buffer.start (header);
+        buffer.add (0x0A);
+        boolean hasFlash = false;
+        boolean hasPulse = false;
+        for (int i = 0; i < count; i++)
+        {
+            final int note = notes[i];
+            buffer.add (note);
+            buffer.add (colors[note]);
+            if (blinkColors[note] > 0)
+            {
+                if (fast[note])
+                    hasFlash = true;
+                else
+                    hasPulse = true;
+            }
+        }
+        buffer.send (output);
+
+        if (hasFlash)
+            sendLegacyBlinkUpdate (output, buffer, header, 0x23, notes, count, blinkColors, fast, true, prefixBlink);
+        if (hasPulse)
+            sendLegacyBlinkUpdate (output, buffer, header, 0x28, notes, count, blinkColors, fast, false, prefixBlink);
+    }
+
+
+    /**
+     * Get the MIDI system exclusive header of the specific Launchpad.
+     *
+     * @return The header bytes
+     */
+    protected int [] getSysExHeaderData ()
+    {
+        if (this.sysExHeaderData == null)
+            this.sysExHeaderData = StringUtils.fromHexStr (this.getSysExHeader ().replace (" ", ""));
+        return this.sysExHeaderData;
+    }
+
+
+    private static void sendLegacyBlinkUpdate (final IMidiOutput output, final SysexBuffer buffer, final int [] header, final int command, final int [] notes, final int count, final int [] blinkColors, final boolean [] fast, final boolean isFast, final boolean prefixBlink)
+    {
+        buffer.start (header);
+        buffer.add (command);
+        for (int i = 0; i < count; i++)
+        {
+            final int note = notes[i];
+            if (blinkColors[note] <= 0 || fast[note] != isFast)
+                continue;
+            if (prefixBlink)
+                buffer.add (0x00);
+            buffer.add (note);
+            buffer.add (blinkColors[note]);
+        }
+        buffer.send (output);
     }
 }
@@ -6,10 +6,8 @@ package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-
-import java.util.List;
-import java.util.Map;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuffer;
 
 
 /**
@@ -93,10 +91,17 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update sysex string for all given pads.
+     * Send the update of the given pads. The newer models update static, flashing and pulsing pads
+     * with one sysex message, the older ones require a message for each type.
      *
-     * @param padInfos The info how to update the pads
-     * @return The sysex string
+     * @param output The output to send the messages to
+     * @param buffer The buffer to use for building the messages
+     * @param notes The controller notes of the pads to update in ascending order
+     * @param count The number of valid entries in the notes array
+     * @param colors The colors of the pads, indexed by the controller note
+     * @param blinkColors The blink colors of the pads, indexed by the controller note, 0 if the pad
+     *            does not blink
+     * @param fast The blink speed of the pads, indexed by the controller note
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void sendLEDUpdate (IMidiOutput output, SysexBuffer buffer, int [] notes, int count, int [] colors, int [] blinkColors, boolean [] fast);
 }
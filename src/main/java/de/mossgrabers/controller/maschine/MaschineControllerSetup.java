@@ -191,6 +191,9 @@ public class MaschineControllerSetup extends AbstractControllerSetup<MaschineCon
         final MaschineControlSurface surface = new MaschineControlSurface (this.host, this.colorManager, this.maschine, this.configuration, output, input);
         this.surfaces.add (surface);
 
+        // Blink in sync with the beats while playing
+        this.host.getBlinkEngine ().setTransport (this.model.getTransport ());
+
         if (this.maschine.hasMCUDisplay ())
         {
             final MCUDisplay display = new MCUDisplay (this.host, output, true, false, false);
@@ -123,6 +123,8 @@ public class MaschineControlSurface extends AbstractControlSurface<MaschineConfi
         super (host, configuration, colorManager, output, input, new MaschinePadGrid (colorManager, output), 800, maschine.getHeight ());
 
         this.maschine = maschine;
+
+        host.getBlinkEngine ().register (this.getPadGrid ());
     }
 
 
@@ -141,7 +143,25 @@ public class MaschineControlSurface extends AbstractControlSurface<MaschineConfi
     {
         super.flushHardware ();
 
-        ((MaschinePadGrid) this.padGrid).flush ();
+        this.getPadGrid ().flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void internalShutdown ()
+    {
+        super.internalShutdown ();
+
+        this.host.getBlinkEngine ().unregister (this.getPadGrid ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public MaschinePadGrid getPadGrid ()
+    {
+        return (MaschinePadGrid) this.padGrid;
     }
 
 
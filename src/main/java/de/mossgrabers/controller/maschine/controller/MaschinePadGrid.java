@@ -6,11 +6,8 @@ package de.mossgrabers.controller.maschine.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.Map.Entry;
-
 
 /**
  * Implementation of the Maschine grid of pads.
@@ -33,36 +30,9 @@ public class MaschinePadGrid extends BlinkingPadGrid
 
     /** {@inheritDoc} */
     @Override
-    protected void updateController ()
+    protected void updateController (final int [] notes, final int [] colorIndices, final int count)
     {
-        final int channel = 0;
-
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
-        {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-
-            // Note: The exact PADx is not needed for getting the color
-
-            this.output.sendNoteEx (channel, note.intValue (), info.getColor ());
-
-            // Hardware does not support blinking, therefore needs to be implemented the hard
-            // way
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
-            else
-                this.blinkingLights.remove (note);
-        }
-
-        // Toggle blink colors every 600ms
-        if (!this.checkBlinking ())
-            return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
-        {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
-            this.output.sendNoteEx (channel, note, colorIndex);
-        }
+        for (int i = 0; i < count; i++)
+            this.output.sendNoteEx (0, notes[i], colorIndices[i]);
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.maschine.controller.MaschineControlSurface;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -33,6 +34,8 @@ public class BrowseMode extends BaseMode
     public BrowseMode (final MaschineControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.requiredFacets.add (ModelFacet.BROWSER);
     }
 
 
@@ -7,7 +7,10 @@ package de.mossgrabers.controller.maschine.mode;
 import de.mossgrabers.controller.maschine.MaschineConfiguration;
 import de.mossgrabers.controller.maschine.controller.MaschineControlSurface;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterManager;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.mode.track.VolumeMode;
@@ -23,7 +26,10 @@ import java.util.Arrays;
  */
 public class MaschineVolumeMode extends VolumeMode<MaschineControlSurface, MaschineConfiguration>
 {
-    private boolean displayVU = false;
+    private static final int          DISPLAY_VU_UPDATE_RATE = 40;
+
+    private final VuMeterSubscription vuMeters;
+    private boolean                   displayVU              = false;
 
 
     /**
@@ -38,6 +44,17 @@ public class MaschineVolumeMode extends VolumeMode<MaschineControlSurface, Masch
 
         this.isKnobTouched = new boolean [9];
         Arrays.fill (this.isKnobTouched, false);
+
+        // VU meters of the track page, only processed while they are displayed
+        final VuMeterManager vuMeterManager = model.getVuMeterManager ();
+        final int [] meters = new int [8];
+        for (int i = 0; i < 8; i++)
+        {
+            final int index = i;
+            meters[i] = vuMeterManager.addMeter ( () -> this.model.getCurrentTrackBank ().getItem (index));
+        }
+        this.vuMeters = vuMeterManager.subscribe (meters, DISPLAY_VU_UPDATE_RATE, model.getValueChanger ().getUpperBound () / 128, null);
+        this.vuMeters.setEnabled (false);
     }
 
 
@@ -57,8 +74,14 @@ public class MaschineVolumeMode extends VolumeMode<MaschineControlSurface, Masch
 
             if (this.displayVU && !this.isKnobTouched[i] && !(this.isKnobTouched[8] && t.isSelected ()))
             {
-                final int steps = (int) Math.round (this.model.getValueChanger ().toNormalizedValue (t.getVu ()) * 6);
-                d.setCell (1, i, StringUtils.pad ("", steps, '>'));
+                final IValueChanger valueChanger = this.model.getValueChanger ();
+                final int steps = (int) Math.round (valueChanger.toNormalizedValue (this.vuMeters.getMono (i)) * 6);
+                final int peakSteps = (int) Math.round (valueChanger.toNormalizedValue (Math.max (this.vuMeters.getPeakLeft (i), this.vuMeters.getPeakRight (i))) * 6);
+                // Mark the peak hold position behind the bar
+                String vu = StringUtils.pad ("", steps, '>');
+                if (peakSteps > steps)
+                    vu = StringUtils.pad (vu, peakSteps - 1, ' ') + "|";
+                d.setCell (1, i, vu);
             }
             else
                 d.setCell (1, i, t.getVolumeStr (6));
@@ -84,5 +107,6 @@ public class MaschineVolumeMode extends VolumeMode<MaschineControlSurface, Masch
     public void toggleDisplayVU ()
     {
         this.displayVU = !this.displayVU;
+        this.vuMeters.setEnabled (this.displayVU);
     }
 }
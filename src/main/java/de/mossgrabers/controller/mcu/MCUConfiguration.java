@@ -226,6 +226,7 @@ public class MCUConfiguration extends AbstractConfiguration
         // Hardware
 
         this.activateHardwareSettings (globalSettings);
+        this.activateMotorFaderOutputSettings (globalSettings, CATEGORY_HARDWARE_SETUP);
         this.activateExtenderSettings (globalSettings);
 
         ///////////////////////////
@@ -71,6 +71,7 @@ import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.MotorFaderOutput;
 import de.mossgrabers.framework.controller.OutputID;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwFader;
@@ -82,9 +83,10 @@ import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterManager;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
-import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
@@ -99,7 +101,6 @@ import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.view.ControlOnlyView;
 import de.mossgrabers.framework.view.Views;
 
-import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Map;
@@ -141,11 +142,12 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
 
-    private final int []            masterVuValues   = new int [2];
-    private int                     masterFaderValue = -1;
-    private final int []            vuValues         = new int [36];
-    private final int []            faderValues      = new int [36];
+    private static final int        VU_UPDATE_RATE   = 50;
+
     private final int               numMCUDevices;
+    private VuMeterSubscription []  vuMeters;
+    private boolean [] []           isOverloaded;
+    private MotorFaderOutput []     faderOutputs;
 
 
     /**
@@ -163,10 +165,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
-        Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
-
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new DefaultValueChanger (16241 + 1, 10);
         this.configuration = new MCUConfiguration (host, this.valueChanger, numMCUDevices, factory.getArpeggiatorModes ());
@@ -187,7 +185,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             if (mode == null)
                 return;
 
-            this.updateVUMeters ();
             this.updateFaders (surface.isShiftPressed ());
             this.updateSegmentDisplay ();
 
@@ -240,7 +237,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     protected void createSurface ()
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
+        final int faderRange = this.valueChanger.getUpperBound ();
 
+        this.faderOutputs = new MotorFaderOutput [this.numMCUDevices];
         for (int i = 0; i < this.numMCUDevices; i++)
         {
             final MCUDeviceType deviceType = this.configuration.getDeviceType (i);
@@ -255,6 +254,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             surface.addTextDisplay (new MCUSegmentDisplay (this.host, output));
             surface.addTextDisplay (new MCUAssignmentDisplay (this.host, output));
             surface.getModeManager ().setDefaultID (Modes.VOLUME);
+
+            // Channel 8 is the master fader
+            this.faderOutputs[i] = new MotorFaderOutput (this.host, 9, faderRange, (channel, value) -> output.sendPitchbend (channel, value % 127, value / 127));
         }
     }
 
@@ -304,9 +306,12 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 this.getSurface ().getModeManager ().setActive (Modes.MASTER);
         });
 
+        this.createVuMeterSubscriptions ();
+
         this.configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> {
             for (int index = 0; index < this.numMCUDevices; index++)
             {
+                this.vuMeters[index].setEnabled (this.configuration.isEnableVUMeters ());
                 final MCUControlSurface surface = this.getSurface (index);
                 surface.switchVuMode (this.configuration.isEnableVUMeters () ? MCUControlSurface.VUMODE_LED_AND_LCD : MCUControlSurface.VUMODE_OFF);
                 final IMode activeMode = surface.getModeManager ().getActive ();
@@ -316,6 +321,11 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             }
         });
 
+        this.configuration.addSettingObserver (AbstractConfiguration.MOTOR_FADER_OUTPUT, () -> {
+            for (final MotorFaderOutput faderOutput: this.faderOutputs)
+                faderOutput.configure (this.configuration.getMotorFaderMinimumStep (), this.configuration.getMotorFaderMaximumRate (), this.configuration.getMotorFaderTravelTime ());
+        });
+
         this.configuration.addSettingObserver (MCUConfiguration.USE_FADERS_AS_KNOBS, () -> {
             for (int index = 0; index < this.numMCUDevices; index++)
             {
@@ -500,7 +510,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
             {
-                this.addRelativeKnob (surface, ContinuousID.PLAY_POSITION, "Jog Wheel", new PlayPositionTempoCommand (this.model, surface), MCUControlSurface.MCU_CC_JOG, RelativeEncoding.SIGNED_BIT);
+                final IHwRelativeKnob jogWheel = this.addRelativeKnob (surface, ContinuousID.PLAY_POSITION, "Jog Wheel", new PlayPositionTempoCommand (this.model, surface), MCUControlSurface.MCU_CC_JOG, RelativeEncoding.SIGNED_BIT);
+                jogWheel.setAccumulateChanges (true, true);
 
                 final IHwFader master = this.addFader (surface, ContinuousID.FADER_MASTER, "Master", null, 8);
                 master.bindTouch (new FaderTouchCommand (8, this.model, surface), input, BindType.NOTE, 0, MCUControlSurface.MCU_FADER_MASTER);
@@ -514,6 +525,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 // Note: this is pressing the knobs' button not touching it!
                 knob.bindTouch (new ButtonRowModeCommand<> (0, i, this.model, surface), input, BindType.NOTE, 0, MCUControlSurface.MCU_VSELECT1 + i);
                 knob.setIndexInGroup (index * 8 + i);
+                knob.setAccumulateChanges (true, false);
 
                 final IHwFader fader = this.addFader (surface, ContinuousID.get (ContinuousID.FADER1, i), "Fader " + (i + 1), null, i);
                 if (this.configuration.hasMotorFaders ())
@@ -716,60 +728,88 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
-    private void updateVUMeters ()
+    /**
+     * Subscribe each device to the VU meters of its 8 channels and the master channel.
+     */
+    private void createVuMeterSubscriptions ()
     {
-        if (!this.configuration.isEnableVUMeters ())
-            return;
-
-        final double upperBound = this.valueChanger.getUpperBound ();
-
-        final ITrackBank tb = this.model.getCurrentTrackBank ();
-        final boolean shouldPinFXTracksToLastController = this.configuration.shouldPinFXTracksToLastController ();
-
+        final VuMeterManager vuMeterManager = this.model.getVuMeterManager ();
+        final int masterMeter = vuMeterManager.addMeter (this.model::getMasterTrack);
+        // Half a LED segment
+        final int minimumDelta = this.valueChanger.getUpperBound () / 24;
+
+        this.vuMeters = new VuMeterSubscription [this.numMCUDevices];
+        // 8 channels and the left and right master channel
+        this.isOverloaded = new boolean [this.numMCUDevices] [10];
         for (int index = 0; index < this.numMCUDevices; index++)
         {
-            final MCUControlSurface surface = this.getSurface (index);
-            final IMidiOutput output = surface.getMidiOutput ();
-            final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
-            final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
-            final ITrackBank trackBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : tb;
-            final int extenderOffset = pinLastDevice ? 0 : surface.getExtenderOffset ();
+            final int deviceIndex = index;
+            final int [] meters = new int [9];
             for (int i = 0; i < 8; i++)
             {
-                final int channel = extenderOffset + i;
-                final ITrack track = trackBank.getItem (channel);
-
-                final int vu = track.getVu ();
-                if (vu != this.vuValues[channel])
-                {
-                    this.vuValues[channel] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (0x10 * i + scaledValue, 0);
-                }
+                final int channel = i;
+                meters[i] = vuMeterManager.addMeter ( () -> this.getVuMeterTrack (deviceIndex, channel));
             }
+            meters[8] = masterMeter;
+            this.vuMeters[index] = vuMeterManager.subscribe (meters, VU_UPDATE_RATE, minimumDelta, (position, left, right) -> this.updateVUMeter (deviceIndex, position, left, right));
+        }
+    }
 
-            // Stereo VU of master channel
-            if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN && this.configuration.hasMasterVU ())
-            {
-                final IMasterTrack masterTrack = this.model.getMasterTrack ();
 
-                int vu = masterTrack.getVuLeft ();
-                if (vu != this.masterVuValues[0])
-                {
-                    this.masterVuValues[0] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (1, scaledValue, 0);
-                }
+    private ITrack getVuMeterTrack (final int deviceIndex, final int channel)
+    {
+        final boolean pinLastDevice = this.configuration.shouldPinFXTracksToLastController () && deviceIndex == this.numMCUDevices - 1;
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        final ITrackBank trackBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : this.model.getCurrentTrackBank ();
+        final int extenderOffset = pinLastDevice ? 0 : this.getSurface (deviceIndex).getExtenderOffset ();
+        return trackBank.getItem (extenderOffset + channel);
+    }
 
-                vu = masterTrack.getVuRight ();
-                if (vu != this.masterVuValues[1])
-                {
-                    this.masterVuValues[1] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (1, 0x10 + scaledValue, 0);
-                }
-            }
+
+    private void updateVUMeter (final int deviceIndex, final int position, final int left, final int right)
+    {
+        final double upperBound = this.valueChanger.getUpperBound ();
+        final IMidiOutput output = this.getSurface (deviceIndex).getMidiOutput ();
+
+        final VuMeterSubscription subscription = this.vuMeters[deviceIndex];
+
+        if (position < 8)
+        {
+            final int vu = (left + right) / 2;
+            final int scaledValue = (int) Math.round (vu * 12 / upperBound);
+            output.sendChannelAftertouch (0x10 * position + scaledValue, 0);
+            this.updateOverload (output, deviceIndex, 0, position, position, Math.max (subscription.getPeakLeft (position), subscription.getPeakRight (position)));
+            return;
         }
+
+        // Stereo VU of master channel
+        if (this.configuration.getDeviceType (deviceIndex) != MCUDeviceType.MAIN || !this.configuration.hasMasterVU ())
+            return;
+        output.sendChannelAftertouch (1, (int) Math.round (left * 12 / upperBound), 0);
+        output.sendChannelAftertouch (1, 0x10 + (int) Math.round (right * 12 / upperBound), 0);
+        this.updateOverload (output, deviceIndex, 1, 0, 8, subscription.getPeakLeft (position));
+        this.updateOverload (output, deviceIndex, 1, 1, 9, subscription.getPeakRight (position));
+    }
+
+
+    /**
+     * Turn the overload LED of a meter on while its peak hold value is at the maximum.
+     *
+     * @param output The output of the device
+     * @param deviceIndex The index of the device
+     * @param midiChannel The MIDI channel of the meter
+     * @param meter The index of the meter on the MIDI channel
+     * @param stateIndex The index of the stored overload state
+     * @param peak The peak hold value
+     */
+    private void updateOverload (final IMidiOutput output, final int deviceIndex, final int midiChannel, final int meter, final int stateIndex, final int peak)
+    {
+        final boolean isOverload = peak >= this.valueChanger.getUpperBound () - 1;
+        if (this.isOverloaded[deviceIndex][stateIndex] == isOverload)
+            return;
+        this.isOverloaded[deviceIndex][stateIndex] = isOverload;
+        // 0xE sets and 0xF clears the overload LED
+        output.sendChannelAftertouch (midiChannel, 0x10 * meter + (isOverload ? 0x0E : 0x0F), 0);
     }
 
 
@@ -785,32 +825,23 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         {
             final MCUControlSurface surface = this.getSurface (index);
             final IMode mode = surface.getModeManager ().get (modeId);
-            final IMidiOutput output = surface.getMidiOutput ();
+            final MotorFaderOutput faderOutput = this.faderOutputs[index];
             for (int channel = 0; channel < 8; channel++)
             {
                 // Dont't update fader if the user touches and therefore 'stops' it
-                if (mode.isKnobTouched (channel))
-                    continue;
-
-                final int value = mode.getKnobValue (channel);
-                final int position = surface.getExtenderOffset () + channel;
-                if (value != this.faderValues[position])
-                {
-                    this.faderValues[position] = value;
-                    output.sendPitchbend (channel, value % 127, value / 127);
-                }
+                final boolean isTouched = surface.getContinuous (ContinuousID.get (ContinuousID.FADER1, channel)).isTouched ();
+                faderOutput.setTouched (channel, isTouched || mode.isKnobTouched (channel));
+                faderOutput.setTarget (channel, mode.getKnobValue (channel));
             }
 
             // Update motor fader of master channel
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
             {
-                final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
-                if (volume != this.masterFaderValue)
-                {
-                    this.masterFaderValue = volume;
-                    output.sendPitchbend (8, volume % 127, volume / 127);
-                }
+                faderOutput.setTouched (8, surface.getContinuous (ContinuousID.FADER_MASTER).isTouched ());
+                faderOutput.setTarget (8, isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ());
             }
+
+            faderOutput.update ();
         }
     }
 
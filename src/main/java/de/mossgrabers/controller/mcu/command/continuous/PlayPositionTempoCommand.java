@@ -8,6 +8,7 @@ import de.mossgrabers.controller.mcu.MCUConfiguration;
 import de.mossgrabers.controller.mcu.controller.MCUControlSurface;
 import de.mossgrabers.framework.command.continuous.PlayPositionCommand;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 
 
@@ -34,9 +35,18 @@ public class PlayPositionTempoCommand extends PlayPositionCommand<MCUControlSurf
     @Override
     public void execute (final int value)
     {
-        if (this.surface.isPressed (ButtonID.SELECT))
-            this.model.getTransport ().changeTempo (this.model.getValueChanger ().isIncrease (value), this.surface.isKnobSensitivitySlow ());
-        else
-            super.execute (value);
+        // The jog wheel accumulates its changes, therefore apply one step per accumulated tick
+        final IValueChanger valueChanger = this.model.getValueChanger ();
+        final boolean increase = valueChanger.isIncrease (value);
+        final boolean slow = this.surface.isKnobSensitivitySlow ();
+        final int steps = Math.max (1, Math.abs (valueChanger.decode (value)));
+        final boolean changeTempo = this.surface.isPressed (ButtonID.SELECT);
+        for (int i = 0; i < steps; i++)
+        {
+            if (changeTempo)
+                this.transport.changeTempo (increase, slow);
+            else
+                this.transport.changePosition (increase, slow);
+        }
     }
 }
@@ -12,16 +12,76 @@ import de.mossgrabers.framework.daw.IHost;
 
 
 /**
- * The configuration settings for the Midi Monitor implementation.
+ * The configuration settings for the Midi Monitor implementation. The values are read by the MIDI
+ * and the formatting thread, therefore they are volatile.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MidiMonitorConfiguration extends AbstractConfiguration
 {
     /** Setting for filtering system realtime. */
-    public static final Integer FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    public static final Integer     FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    /** Setting for filtering MIDI events. */
+    public static final Integer     FILTER                   = Integer.valueOf (51);
+    /** Setting for the log output. */
+    public static final Integer     OUTPUT                   = Integer.valueOf (52);
 
-    private boolean             isFilterSystemRealtimeOn = false;
+    private static final String     CATEGORY_FILTER          = "Filter";
+    private static final String     CATEGORY_OUTPUT          = "Output";
+
+    private static final String []  FILTER_LABELS            =
+    {
+        "Note",
+        "Polyphonic Aftertouch",
+        "CC",
+        "Program Change",
+        "Channel Aftertouch",
+        "Pitchbend"
+    };
+
+    /** The bits of the status nibbles which are filtered by the filter settings. */
+    private static final int []     FILTER_BITS              =
+    {
+        1 << 0x8 | 1 << 0x9,
+        1 << 0xA,
+        1 << 0xB,
+        1 << 0xC,
+        1 << 0xD,
+        1 << 0xE
+    };
+
+    private static final String []  CHANNEL_OPTIONS          = new String [17];
+    static
+    {
+        CHANNEL_OPTIONS[0] = "All";
+        for (int i = 1; i < CHANNEL_OPTIONS.length; i++)
+            CHANNEL_OPTIONS[i] = Integer.toString (i);
+    }
+
+    private static final String []  STATISTICS_OPTIONS       =
+    {
+        "Off",
+        "1s",
+        "10s",
+        "60s"
+    };
+
+    private static final int []     STATISTICS_INTERVALS     =
+    {
+        0,
+        1,
+        10,
+        60
+    };
+
+    private volatile boolean        isFilterSystemRealtimeOn = false;
+    private volatile int            filterMask               = 0;
+    private volatile boolean        isFilterSysexOn          = false;
+    private volatile int            channel                  = -1;
+    private volatile boolean        isConsoleOutputOn        = true;
+    private volatile String         logFile                  = "";
+    private volatile int            maxLogFileSize           = 10;
+    private volatile int            statisticsInterval       = 0;
 
 
     /**
@@ -40,12 +100,64 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
     @Override
     public void init (final ISettingsUI globalSettings, final ISettingsUI documentSettings)
     {
-        final IEnumSetting filterSystemRealtimeSetting = globalSettings.getEnumSetting ("System Realtime", "Filter", ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        ///////////////////////////
+        // Filter
+
+        final IEnumSetting filterSystemRealtimeSetting = globalSettings.getEnumSetting ("System Realtime", CATEGORY_FILTER, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
         filterSystemRealtimeSetting.addValueObserver (value -> {
             this.isFilterSystemRealtimeOn = "On".equals (value);
             this.notifyObservers (FILTER_SYSTEM_REALTIME);
         });
         this.isSettingActive.add (FILTER_SYSTEM_REALTIME);
+
+        for (int i = 0; i < FILTER_LABELS.length; i++)
+        {
+            final int bits = FILTER_BITS[i];
+            final IEnumSetting filterSetting = globalSettings.getEnumSetting (FILTER_LABELS[i], CATEGORY_FILTER, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+            filterSetting.addValueObserver (value -> {
+                this.filterMask = "On".equals (value) ? this.filterMask | bits : this.filterMask & ~bits;
+                this.notifyObservers (FILTER);
+            });
+        }
+
+        final IEnumSetting filterSysexSetting = globalSettings.getEnumSetting ("System Exclusive", CATEGORY_FILTER, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        filterSysexSetting.addValueObserver (value -> {
+            this.isFilterSysexOn = "On".equals (value);
+            this.notifyObservers (FILTER);
+        });
+
+        final IEnumSetting channelSetting = globalSettings.getEnumSetting ("Only Channel", CATEGORY_FILTER, CHANNEL_OPTIONS, CHANNEL_OPTIONS[0]);
+        channelSetting.addValueObserver (value -> {
+            this.channel = lookupIndex (CHANNEL_OPTIONS, value) - 1;
+            this.notifyObservers (FILTER);
+        });
+        this.isSettingActive.add (FILTER);
+
+        ///////////////////////////
+        // Output
+
+        final IEnumSetting consoleSetting = globalSettings.getEnumSetting ("Console", CATEGORY_OUTPUT, ON_OFF_OPTIONS, ON_OFF_OPTIONS[1]);
+        consoleSetting.addValueObserver (value -> {
+            this.isConsoleOutputOn = "On".equals (value);
+            this.notifyObservers (OUTPUT);
+        });
+
+        globalSettings.getStringSetting ("Log File (empty = off)", CATEGORY_OUTPUT, 256, "").addValueObserver (value -> {
+            this.logFile = value.trim ();
+            this.notifyObservers (OUTPUT);
+        });
+
+        globalSettings.getRangeSetting ("Max. Log File Size", CATEGORY_OUTPUT, 1, 100, 1, "MB", 10).addValueObserver (value -> {
+            this.maxLogFileSize = value.intValue ();
+            this.notifyObservers (OUTPUT);
+        });
+
+        final IEnumSetting statisticsSetting = globalSettings.getEnumSetting ("Statistics", CATEGORY_OUTPUT, STATISTICS_OPTIONS, STATISTICS_OPTIONS[0]);
+        statisticsSetting.addValueObserver (value -> {
+            this.statisticsInterval = STATISTICS_INTERVALS[lookupIndex (STATISTICS_OPTIONS, value)];
+            this.notifyObservers (OUTPUT);
+        });
+        this.isSettingActive.add (OUTPUT);
     }
 
 
@@ -58,4 +170,77 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
     {
         return this.isFilterSystemRealtimeOn;
     }
+
+
+    /**
+     * Test if a short MIDI message should not be recorded.
+     *
+     * @param status The status byte of the message
+     * @return True if the message matches one of the filters
+     */
+    public boolean isFiltered (final int status)
+    {
+        final int code = status >> 4;
+        if (code == 0xF)
+            return this.isFilterSystemRealtimeOn;
+        if ((this.filterMask & 1 << code) != 0)
+            return true;
+        final int ch = this.channel;
+        return ch >= 0 && (status & 0xF) != ch;
+    }
+
+
+    /**
+     * Is the filter for system exclusive messages enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isFilterSysexEnabled ()
+    {
+        return this.isFilterSysexOn;
+    }
+
+
+    /**
+     * Should the events be logged to the console?
+     *
+     * @return True if enabled
+     */
+    public boolean isConsoleOutputEnabled ()
+    {
+        return this.isConsoleOutputOn;
+    }
+
+
+    /**
+     * Get the file to log the events to.
+     *
+     * @return The path of the file, empty if logging to a file is off
+     */
+    public String getLogFile ()
+    {
+        return this.logFile;
+    }
+
+
+    /**
+     * Get the maximum size of a log file before a new one is started.
+     *
+     * @return The size in megabytes
+     */
+    public int getMaxLogFileSize ()
+    {
+        return this.maxLogFileSize;
+    }
+
+
+    /**
+     * Get the interval in which statistics are reported.
+     *
+     * @return The interval in seconds, 0 if off
+     */
+    public int getStatisticsInterval ()
+    {
+        return this.statisticsInterval;
+    }
 }
@@ -0,0 +1,33 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+/**
+ * Interface for handling the events read from a MIDI event buffer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IMidiEventHandler
+{
+    /**
+     * Handle a short MIDI message.
+     *
+     * @param time The time when the message was received in nanoseconds
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void handleShortMessage (long time, int status, int data1, int data2);
+
+
+    /**
+     * Handle a system exclusive message.
+     *
+     * @param time The time when the message was received in nanoseconds
+     * @param data The bytes of the message, only valid until the method returns
+     * @param length The number of valid bytes in the data array
+     */
+    void handleSysex (long time, byte [] data, int length);
+}
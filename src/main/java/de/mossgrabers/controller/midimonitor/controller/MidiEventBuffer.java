@@ -0,0 +1,149 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+/**
+ * A preallocated ring buffer for raw MIDI events. It is lock-free for exactly one producer (the
+ * MIDI thread) and one consumer (the formatting thread). The bytes of system exclusive messages are
+ * stored in a second ring. If one of the rings is full, the event is dropped instead of blocking the
+ * producer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiEventBuffer
+{
+    private static final int SYSEX_EVENT = -1;
+
+    private final int        mask;
+    private final long []    timestamps;
+    private final int []     events;
+    private final long []    sysexStarts;
+    private final int []     sysexLengths;
+    private final byte []    sysexData;
+    private final int        sysexMask;
+    private final byte []    sysexMessage;
+
+    // Written by the producer, read by the consumer
+    private volatile long    writeIndex    = 0;
+    private long             sysexWritePos = 0;
+
+    // Written by the consumer, read by the producer
+    private volatile long    readIndex     = 0;
+    private volatile long    sysexReadPos  = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of events, must be a power of 2
+     * @param sysexCapacity The maximum number of bytes of all system exclusive messages, must be a
+     *            power of 2
+     */
+    public MidiEventBuffer (final int capacity, final int sysexCapacity)
+    {
+        if (Integer.bitCount (capacity) != 1 || Integer.bitCount (sysexCapacity) != 1)
+            throw new IllegalArgumentException ("Capacities must be a power of 2.");
+
+        this.mask = capacity - 1;
+        this.timestamps = new long [capacity];
+        this.events = new int [capacity];
+        this.sysexStarts = new long [capacity];
+        this.sysexLengths = new int [capacity];
+        this.sysexData = new byte [sysexCapacity];
+        this.sysexMask = sysexCapacity - 1;
+        this.sysexMessage = new byte [sysexCapacity];
+    }
+
+
+    /**
+     * Add a short MIDI message. Must only be called by the producer.
+     *
+     * @param time The time when the message was received in nanoseconds
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return False if the buffer is full and the event was dropped
+     */
+    public boolean add (final long time, final int status, final int data1, final int data2)
+    {
+        final long index = this.writeIndex;
+        if (index - this.readIndex > this.mask)
+            return false;
+
+        final int pos = (int) (index & this.mask);
+        this.timestamps[pos] = time;
+        this.events[pos] = (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF;
+        this.writeIndex = index + 1;
+        return true;
+    }
+
+
+    /**
+     * Add a system exclusive message. Must only be called by the producer.
+     *
+     * @param time The time when the message was received in nanoseconds
+     * @param hexData The bytes of the message formatted as a hex string
+     * @return False if the buffer is full and the event was dropped
+     */
+    public boolean addSysex (final long time, final String hexData)
+    {
+        final long index = this.writeIndex;
+        final int length = hexData.length () / 2;
+        if (index - this.readIndex > this.mask || this.sysexWritePos + length - this.sysexReadPos > this.sysexData.length)
+            return false;
+
+        final long start = this.sysexWritePos;
+        for (int i = 0; i < length; i++)
+        {
+            final int value = Character.digit (hexData.charAt (2 * i), 16) << 4 | Character.digit (hexData.charAt (2 * i + 1), 16);
+            this.sysexData[(int) (start + i & this.sysexMask)] = (byte) value;
+        }
+        this.sysexWritePos = start + length;
+
+        final int pos = (int) (index & this.mask);
+        this.timestamps[pos] = time;
+        this.events[pos] = SYSEX_EVENT;
+        this.sysexStarts[pos] = start;
+        this.sysexLengths[pos] = length;
+        this.writeIndex = index + 1;
+        return true;
+    }
+
+
+    /**
+     * Read the available events and hand them to the handler. Must only be called by the consumer.
+     *
+     * @param handler The handler
+     * @param maxEvents The maximum number of events to read
+     * @return The number of read events
+     */
+    public int drain (final IMidiEventHandler handler, final int maxEvents)
+    {
+        final long start = this.readIndex;
+        final long end = Math.min (this.writeIndex, start + maxEvents);
+
+        for (long index = start; index < end; index++)
+        {
+            final int pos = (int) (index & this.mask);
+            final long time = this.timestamps[pos];
+            final int event = this.events[pos];
+            if (event == SYSEX_EVENT)
+            {
+                final long sysexStart = this.sysexStarts[pos];
+                final int length = this.sysexLengths[pos];
+                for (int i = 0; i < length; i++)
+                    this.sysexMessage[i] = this.sysexData[(int) (sysexStart + i & this.sysexMask)];
+                this.sysexReadPos = sysexStart + length;
+                handler.handleSysex (time, this.sysexMessage, length);
+            }
+            else
+                handler.handleShortMessage (time, event >> 16, event >> 8 & 0xFF, event & 0xFF);
+
+            this.readIndex = index + 1;
+        }
+
+        return (int) (end - start);
+    }
+}
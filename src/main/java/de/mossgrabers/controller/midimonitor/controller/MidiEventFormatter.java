@@ -0,0 +1,394 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+import de.mossgrabers.framework.scale.Scales;
+
+
+/**
+ * Formats raw MIDI events as lines of a table. A table header is added whenever the type of the
+ * events changes between short messages and system exclusive messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiEventFormatter
+{
+    private static final char []   HEX_DIGITS       = "0123456789ABCDEF".toCharArray ();
+
+    private static final String [] CC_NAMES         =
+    {
+        "Bank Select",
+        "Modulation",
+        "Breath Controller",
+        "Deferred Play",
+        "Foot Controller",
+        "Portamento Time",
+        "Data Entry MSB",
+        "Volume",
+        "Balance",
+        "Play Pause",
+        "Pan",
+        "Expression",
+        "Effect Controller 1",
+        "Effect Controller 2",
+        "14",
+        "15",
+        "16",
+        "17",
+        "18",
+        "19",
+        "20",
+        "21",
+        "22",
+        "23",
+        "24",
+        "25",
+        "26",
+        "27",
+        "28",
+        "29",
+        "30",
+        "31",
+        "32",
+        "33",
+        "34",
+        "35",
+        "36",
+        "37",
+        "38",
+        "39",
+        "30",
+        "41",
+        "42",
+        "43",
+        "44",
+        "45",
+        "46",
+        "47",
+        "48",
+        "49",
+        "50",
+        "51",
+        "52",
+        "53",
+        "54",
+        "55",
+        "56",
+        "57",
+        "58",
+        "59",
+        "60",
+        "61",
+        "62",
+        "63",
+        "Damper Pedal",
+        "Portamento On/Off Switch",
+        "Sostenuto On/Off Switch",
+        "Soft Pedal On/Off Switch",
+        "Legato Footswitch",
+        "Hold 2",
+        "Sound Controller 1",
+        "Sound Controller 2",
+        "Sound Controller 3",
+        "Sound Controller 4",
+        "Sound Controller 5",
+        "Sound Controller 6",
+        "Sound Controller 7",
+        "Sound Controller 8",
+        "Sound Controller 9",
+        "Sound Controller 10",
+        "General Purpose",
+        "General Purpose",
+        "General Purpose",
+        "General Purpose",
+        "Portamento",
+        "85",
+        "86",
+        "87",
+        "88",
+        "89",
+        "90",
+        "Effect 1 Depth",
+        "Effect 2 Depth",
+        "Effect 3 Depth",
+        "Effect 4 Depth",
+        "Effect 5 Depth",
+        "(+1) Data Increment",
+        "(-1) Data Decrement",
+        "NRPN LSB",
+        "NRPN MSB",
+        "RPN LSB",
+        "RPN MSB",
+        "102",
+        "103",
+        "104",
+        "105",
+        "106",
+        "107",
+        "108",
+        "109",
+        "110",
+        "111",
+        "112",
+        "113",
+        "114",
+        "115",
+        "116",
+        "117",
+        "118",
+        "119",
+        "All Sound Off",
+        "Reset All Controllers",
+        "Local On/Off Switch",
+        "All Notes Off",
+        "Omni Mode Off",
+        "Omni Mode On",
+        "Mono Mode",
+        "Poly Mode"
+    };
+
+    private static final String [] MMC_NAMES        = new String [128];
+    static
+    {
+        MMC_NAMES[0x00] = "Reserved for extensions";
+        MMC_NAMES[0x01] = "Stop";
+        MMC_NAMES[0x02] = "Play ";
+        MMC_NAMES[0x03] = "Deferred play ";
+        MMC_NAMES[0x04] = "Fast forward ";
+        MMC_NAMES[0x05] = "Rewind ";
+        MMC_NAMES[0x06] = "Record strobe";
+        MMC_NAMES[0x07] = "Recordexit";
+        MMC_NAMES[0x08] = "Record pause";
+        MMC_NAMES[0x09] = "Pause ";
+        MMC_NAMES[0x0a] = "Eject ";
+        MMC_NAMES[0x0b] = "Chase";
+        MMC_NAMES[0x0c] = "Command error reset";
+        MMC_NAMES[0x0d] = "MMC reset";
+        MMC_NAMES[0x40] = "Write";
+        MMC_NAMES[0x41] = "Masked write";
+        MMC_NAMES[0x42] = "Read";
+        MMC_NAMES[0x43] = "Update";
+        MMC_NAMES[0x44] = "Locate";
+        MMC_NAMES[0x45] = "Variable play ";
+        MMC_NAMES[0x46] = "Search ";
+        MMC_NAMES[0x47] = "Shuttle ";
+        MMC_NAMES[0x48] = "Step ";
+        MMC_NAMES[0x49] = "Assign system master";
+        MMC_NAMES[0x4a] = "Generator command";
+        MMC_NAMES[0x4b] = "Midi time code command";
+        MMC_NAMES[0x4c] = "Move";
+        MMC_NAMES[0x4d] = "Add";
+        MMC_NAMES[0x4e] = "Subtract";
+        MMC_NAMES[0x4f] = "Drop frame adjust";
+        MMC_NAMES[0x50] = "Procedure";
+        MMC_NAMES[0x51] = "Event";
+        MMC_NAMES[0x52] = "Group";
+        MMC_NAMES[0x53] = "Command segment";
+        MMC_NAMES[0x54] = "Deferred variable play ";
+        MMC_NAMES[0x55] = "Record strobe variable";
+        MMC_NAMES[0x7c] = "Wait";
+        MMC_NAMES[0x7f] = "Resume";
+
+        for (int i = 0; i < MMC_NAMES.length; i++)
+        {
+            if (MMC_NAMES[i] == null)
+                MMC_NAMES[i] = "-";
+        }
+    }
+
+    private final long             startTime;
+    private boolean                printHeader      = true;
+    private boolean                printSysexHeader = true;
+
+
+    /**
+     * Constructor.
+     *
+     * @param startTime The time in nanoseconds to which the timestamps of the events are relative
+     */
+    public MidiEventFormatter (final long startTime)
+    {
+        this.startTime = startTime;
+    }
+
+
+    /**
+     * Format a short MIDI message.
+     *
+     * @param sb Where to append the formatted lines
+     * @param time The time when the message was received in nanoseconds
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void formatShortMessage (final StringBuilder sb, final long time, final int status, final int data1, final int data2)
+    {
+        if (this.printHeader)
+        {
+            this.printSysexHeader = true;
+            this.printHeader = false;
+            sb.append ("\n");
+            sb.append ("|  TIME (ms) | STATUS | DATA 1 | DATA 2 | CHAN | EVENT\n");
+            sb.append ("|------------|--------|--------|--------|------|-------------------------------------\n");
+        }
+
+        final int channel = status & 0xF;
+        sb.append ("| ");
+        this.appendTime (sb, time);
+        sb.append (" | ");
+        appendHex (sb, status);
+        sb.append (' ');
+        appendDecimal (sb, status, 3);
+        sb.append (" | ");
+        appendHex (sb, data1);
+        sb.append (' ');
+        appendDecimal (sb, data1, 3);
+        sb.append (" | ");
+        appendHex (sb, data2);
+        sb.append (' ');
+        appendDecimal (sb, data2, 3);
+        sb.append (" | ");
+        appendDecimal (sb, channel + 1, 4);
+        sb.append (" | ");
+
+        switch (status & 0xF0)
+        {
+            // Note off
+            case 0x80:
+                sb.append ("Note Off ").append (Scales.formatNoteAndOctave (data1, -2));
+                break;
+
+            // Note on
+            case 0x90:
+                sb.append ("Note On  ").append (Scales.formatNoteAndOctave (data1, -2));
+                break;
+
+            // Polyphonic Aftertouch
+            case 0xA0:
+                sb.append ("Polyphonic Key Pressure ").append (Scales.formatNoteAndOctave (data1, -2));
+                break;
+
+            // CC
+            case 0xB0:
+                sb.append ("CC ").append (CC_NAMES[data1]);
+                break;
+
+            // Program Change
+            case 0xC0:
+                sb.append ("Program Change");
+                break;
+
+            // Channel Aftertouch
+            case 0xD0:
+                sb.append ("Channel Pressure (Aftertouch)");
+                break;
+
+            // Pitch Bend
+            case 0xE0:
+                sb.append ("Pitchbend");
+                break;
+
+            // System Realtime - Active Sense
+            default:
+                sb.append (channel == 14 ? "System Realtime - Active Sense" : "System Realtime");
+                break;
+        }
+        sb.append ('\n');
+    }
+
+
+    /**
+     * Format a system exclusive message.
+     *
+     * @param sb Where to append the formatted lines
+     * @param time The time when the message was received in nanoseconds
+     * @param data The bytes of the message
+     * @param length The number of valid bytes
+     */
+    public void formatSysex (final StringBuilder sb, final long time, final byte [] data, final int length)
+    {
+        if (this.printSysexHeader)
+        {
+            this.printHeader = true;
+            this.printSysexHeader = false;
+            sb.append ("\n");
+            sb.append ("|  TIME (ms) | SYSEX\n");
+            sb.append ("|------------|-----------------------------------------------------------------------\n");
+        }
+
+        sb.append ("| ");
+        this.appendTime (sb, time);
+        sb.append (" | ");
+        for (int i = 0; i < length; i++)
+        {
+            appendHex (sb, data[i] & 0xFF);
+
+            if (i + 1 == length)
+                break;
+            if ((i + 1) % 16 == 0)
+                sb.append ("\n|            | ");
+            else
+                sb.append (' ');
+        }
+
+        if (length == 6 && (data[0] & 0xFF) == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && (data[5] & 0xFF) == 0xF7)
+            sb.append (" - MMC ").append (MMC_NAMES[data[4] & 0x7F]);
+        sb.append ('\n');
+    }
+
+
+    /**
+     * Append the time relative to the start time in milliseconds with 3 decimal places, padded to
+     * 10 characters.
+     *
+     * @param sb Where to append the time
+     * @param time The time in nanoseconds
+     */
+    private void appendTime (final StringBuilder sb, final long time)
+    {
+        final long micros = Math.max (0, (time - this.startTime) / 1000);
+        final long millis = micros / 1000;
+        final int fraction = (int) (micros % 1000);
+        final String text = Long.toString (millis);
+        for (int i = text.length (); i < 6; i++)
+            sb.append (' ');
+        sb.append (text).append ('.');
+        if (fraction < 100)
+            sb.append ('0');
+        if (fraction < 10)
+            sb.append ('0');
+        sb.append (fraction);
+    }
+
+
+    /**
+     * Append a value as a 2 digit hex number.
+     *
+     * @param sb Where to append the number
+     * @param value The value in the range of 0-255
+     */
+    private static void appendHex (final StringBuilder sb, final int value)
+    {
+        sb.append (HEX_DIGITS[value >> 4 & 0xF]).append (HEX_DIGITS[value & 0xF]);
+    }
+
+
+    /**
+     * Append a value as a decimal number, padded with spaces on the left.
+     *
+     * @param sb Where to append the number
+     * @param value The value, must not be negative
+     * @param length The length to pad to
+     */
+    private static void appendDecimal (final StringBuilder sb, final int value, final int length)
+    {
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10)
+            digits++;
+        for (int i = digits; i < length; i++)
+            sb.append (' ');
+        sb.append (value);
+    }
+}
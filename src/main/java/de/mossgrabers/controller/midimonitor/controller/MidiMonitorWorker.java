@@ -0,0 +1,284 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+import de.mossgrabers.controller.midimonitor.MidiMonitorConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Background thread which reads the recorded MIDI events from the event buffer, formats them and
+ * writes them to the log file. The text for the console is queued, since the console must only be
+ * written from the controller thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiMonitorWorker implements Runnable, IMidiEventHandler
+{
+    /** The time to wait if there are no events in milliseconds. */
+    private static final int               IDLE_TIME          = 10;
+    private static final int               MAX_EVENTS         = 512;
+    private static final int               MAX_CONSOLE_BLOCKS = 100;
+    private static final int               NUM_BACKUP_FILES   = 3;
+
+    private final MidiEventBuffer          buffer;
+    private final MidiStatistics           statistics;
+    private final MidiMonitorConfiguration configuration;
+    private final MidiEventFormatter       formatter;
+    private final StringBuilder            text               = new StringBuilder ();
+    private final Queue<String>            consoleBlocks      = new ConcurrentLinkedQueue<> ();
+    private final AtomicInteger            numConsoleBlocks   = new AtomicInteger ();
+
+    private Thread                         thread;
+    private volatile boolean               isRunning          = false;
+    private RotatingFileSink               fileSink;
+    private long                           nextStatisticsTime = 0;
+    private long                           droppedConsoleBlocks;
+    private String                         failedLogFile;
+
+
+    /**
+     * Constructor.
+     *
+     * @param buffer The buffer with the recorded events
+     * @param statistics The statistics to report
+     * @param configuration The configuration
+     */
+    public MidiMonitorWorker (final MidiEventBuffer buffer, final MidiStatistics statistics, final MidiMonitorConfiguration configuration)
+    {
+        this.buffer = buffer;
+        this.statistics = statistics;
+        this.configuration = configuration;
+        this.formatter = new MidiEventFormatter (System.nanoTime ());
+    }
+
+
+    /**
+     * Start the background thread.
+     */
+    public void start ()
+    {
+        this.isRunning = true;
+        this.thread = new Thread (this, "Midi Monitor");
+        this.thread.setDaemon (true);
+        this.thread.start ();
+    }
+
+
+    /**
+     * Stop the background thread. Waits until the remaining events are written.
+     */
+    public void shutdown ()
+    {
+        this.isRunning = false;
+        if (this.thread == null)
+            return;
+
+        try
+        {
+            this.thread.join (1000);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Is the background thread running?
+     *
+     * @return True if running
+     */
+    public boolean isRunning ()
+    {
+        return this.isRunning;
+    }
+
+
+    /**
+     * Get the next block of formatted text for the console.
+     *
+     * @return The text or null if there is none
+     */
+    public String pollConsoleText ()
+    {
+        final String block = this.consoleBlocks.poll ();
+        if (block != null)
+            this.numConsoleBlocks.decrementAndGet ();
+        return block;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void run ()
+    {
+        try
+        {
+            while (this.isRunning)
+            {
+                if (this.process () == 0)
+                    Thread.sleep (IDLE_TIME);
+            }
+
+            // Write the remaining events
+            while (this.process () > 0)
+            {
+                // Intentionally empty
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        finally
+        {
+            this.closeFileSink ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleShortMessage (final long time, final int status, final int data1, final int data2)
+    {
+        this.formatter.formatShortMessage (this.text, time, status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleSysex (final long time, final byte [] data, final int length)
+    {
+        this.formatter.formatSysex (this.text, time, data, length);
+    }
+
+
+    /**
+     * Read and format the available events and output the statistics, if due.
+     *
+     * @return The number of processed events
+     */
+    private int process ()
+    {
+        this.updateFileSink ();
+
+        final int count = this.buffer.drain (this, MAX_EVENTS);
+
+        final int interval = this.configuration.getStatisticsInterval ();
+        final long now = System.nanoTime ();
+        if (interval <= 0)
+            this.nextStatisticsTime = 0;
+        else if (this.nextStatisticsTime == 0)
+            this.nextStatisticsTime = now + interval * 1_000_000_000L;
+        else if (now >= this.nextStatisticsTime)
+        {
+            this.nextStatisticsTime = now + interval * 1_000_000_000L;
+            this.statistics.report (this.text, now);
+            if (this.droppedConsoleBlocks > 0)
+            {
+                this.text.append ("| Console could not keep up, dropped ").append (this.droppedConsoleBlocks).append (" blocks.\n");
+                this.droppedConsoleBlocks = 0;
+            }
+        }
+
+        if (this.text.length () > 0)
+        {
+            this.output ();
+            this.text.setLength (0);
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Write the formatted text to the log file and queue it for the console.
+     */
+    private void output ()
+    {
+        if (this.fileSink != null)
+        {
+            try
+            {
+                this.fileSink.write (this.text);
+                this.fileSink.flush ();
+            }
+            catch (final IOException ex)
+            {
+                this.queueConsoleText ("Could not write to log file " + this.fileSink.getFile () + ": " + ex.getMessage ());
+                this.failedLogFile = this.fileSink.getFile ().getPath ();
+                this.closeFileSink ();
+            }
+        }
+
+        if (this.configuration.isConsoleOutputEnabled ())
+        {
+            // Remove the trailing line break, the console adds one
+            this.queueConsoleText (this.text.substring (0, this.text.length () - 1));
+        }
+    }
+
+
+    /**
+     * Queue text for the console. If the console cannot keep up, the text is dropped.
+     *
+     * @param block The text
+     */
+    private void queueConsoleText (final String block)
+    {
+        if (this.numConsoleBlocks.get () >= MAX_CONSOLE_BLOCKS)
+        {
+            this.droppedConsoleBlocks++;
+            return;
+        }
+        this.numConsoleBlocks.incrementAndGet ();
+        this.consoleBlocks.add (block);
+    }
+
+
+    /**
+     * Open, close or replace the log file if the settings have changed.
+     */
+    private void updateFileSink ()
+    {
+        final String path = this.configuration.getLogFile ();
+        final long maxSize = this.configuration.getMaxLogFileSize () * 1024L * 1024L;
+        if (this.fileSink != null && this.fileSink.getFile ().getPath ().equals (path) && this.fileSink.getMaxSize () == maxSize)
+            return;
+
+        // Do not retry a file which could not be written until the setting is changed
+        if (path.equals (this.failedLogFile))
+            return;
+        this.failedLogFile = null;
+
+        this.closeFileSink ();
+        if (!path.isEmpty ())
+            this.fileSink = new RotatingFileSink (new File (path), maxSize, NUM_BACKUP_FILES);
+    }
+
+
+    private void closeFileSink ()
+    {
+        if (this.fileSink == null)
+            return;
+
+        try
+        {
+            this.fileSink.close ();
+        }
+        catch (final IOException ex)
+        {
+            this.queueConsoleText ("Could not close log file " + this.fileSink.getFile () + ": " + ex.getMessage ());
+        }
+        this.fileSink = null;
+    }
+}
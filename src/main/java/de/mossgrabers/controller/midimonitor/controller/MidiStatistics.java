@@ -0,0 +1,159 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Counts the received MIDI messages by their type and detects bursts. The counters are written by
+ * the MIDI thread and reported by the worker thread. They are atomic, therefore the MIDI thread is
+ * never blocked by a report. The burst window is only accessed by the MIDI thread and the values of
+ * the last report only by the worker thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiStatistics
+{
+    private static final String [] TYPE_NAMES     =
+    {
+        "Note Off",
+        "Note On",
+        "Poly Pressure",
+        "CC",
+        "Program Change",
+        "Channel Pressure",
+        "Pitchbend",
+        "System",
+        "Sysex"
+    };
+
+    private static final int       TYPE_SYSEX     = 8;
+
+    /** More messages than this in one burst window are counted as a burst. */
+    private static final int       BURST_SIZE     = 32;
+    /** The length of the window to detect bursts in nanoseconds (10ms). */
+    private static final long      BURST_WINDOW   = 10_000_000L;
+
+    private final AtomicLongArray  counts         = new AtomicLongArray (TYPE_NAMES.length);
+    private final AtomicLong       filtered       = new AtomicLong ();
+    private final AtomicLong       dropped        = new AtomicLong ();
+    private final AtomicLong       bursts         = new AtomicLong ();
+    private final AtomicInteger    maxBurst       = new AtomicInteger ();
+
+    private long                   windowStart;
+    private int                    windowCount;
+
+    private final long []          lastCounts     = new long [TYPE_NAMES.length];
+    private long                   lastFiltered;
+    private long                   lastDropped;
+    private long                   lastBursts;
+    private long                   lastReportTime = System.nanoTime ();
+
+
+    /**
+     * Count a short MIDI message.
+     *
+     * @param time The time when the message was received in nanoseconds
+     * @param status The status byte
+     */
+    public void count (final long time, final int status)
+    {
+        this.counts.incrementAndGet ((status >> 4) - 8);
+        this.countBurst (time);
+    }
+
+
+    /**
+     * Count a system exclusive message.
+     *
+     * @param time The time when the message was received in nanoseconds
+     */
+    public void countSysex (final long time)
+    {
+        this.counts.incrementAndGet (TYPE_SYSEX);
+        this.countBurst (time);
+    }
+
+
+    /**
+     * Count a message which was not recorded since it matched a filter.
+     */
+    public void countFiltered ()
+    {
+        this.filtered.incrementAndGet ();
+    }
+
+
+    /**
+     * Count a message which was dropped since the buffer was full.
+     */
+    public void countDropped ()
+    {
+        this.dropped.incrementAndGet ();
+    }
+
+
+    /**
+     * Append a report of the messages received since the last report. Resets the maximum burst
+     * size.
+     *
+     * @param sb Where to append the report
+     * @param time The current time in nanoseconds
+     */
+    public void report (final StringBuilder sb, final long time)
+    {
+        final double seconds = (time - this.lastReportTime) / 1_000_000_000.0;
+        this.lastReportTime = time;
+
+        sb.append ("| STATISTICS - Messages/s:");
+        long total = 0;
+        for (int i = 0; i < this.counts.length (); i++)
+        {
+            final long count = this.counts.get (i);
+            final long diff = count - this.lastCounts[i];
+            this.lastCounts[i] = count;
+            total += diff;
+            if (diff > 0)
+                sb.append (' ').append (TYPE_NAMES[i]).append (' ').append (formatRate (diff, seconds)).append (',');
+        }
+        sb.append (" Total ").append (formatRate (total, seconds));
+
+        final long filteredCount = this.filtered.get ();
+        final long droppedCount = this.dropped.get ();
+        final long burstCount = this.bursts.get ();
+        sb.append (" | Filtered: ").append (filteredCount - this.lastFiltered);
+        sb.append (" | Bursts: ").append (burstCount - this.lastBursts).append (" (max. ").append (this.maxBurst.getAndSet (0)).append (" in 10ms)");
+        sb.append (" | Dropped: ").append (droppedCount - this.lastDropped).append ('\n');
+        this.lastFiltered = filteredCount;
+        this.lastDropped = droppedCount;
+        this.lastBursts = burstCount;
+    }
+
+
+    private void countBurst (final long time)
+    {
+        if (time - this.windowStart >= BURST_WINDOW)
+        {
+            this.windowStart = time;
+            this.windowCount = 0;
+        }
+        this.windowCount++;
+        if (this.windowCount > this.maxBurst.get ())
+            this.maxBurst.accumulateAndGet (this.windowCount, Math::max);
+        if (this.windowCount == BURST_SIZE + 1)
+            this.bursts.incrementAndGet ();
+    }
+
+
+    private static String formatRate (final long count, final double seconds)
+    {
+        if (seconds <= 0)
+            return Long.toString (count);
+        return Long.toString (Math.round (count / seconds));
+    }
+}
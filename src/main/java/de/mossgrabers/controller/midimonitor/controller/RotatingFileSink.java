@@ -0,0 +1,155 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writes text to a log file. If the file exceeds its maximum size, it is renamed to 'name.1' and a
+ * new file is started. Older files are moved to 'name.2' and so on, the oldest one is deleted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RotatingFileSink
+{
+    private final File file;
+    private final long maxSize;
+    private final int  numBackups;
+
+    private Writer     writer;
+    private long       size;
+
+
+    /**
+     * Constructor.
+     *
+     * @param file The log file
+     * @param maxSize The maximum size of a file in bytes
+     * @param numBackups The number of old files to keep
+     */
+    public RotatingFileSink (final File file, final long maxSize, final int numBackups)
+    {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.numBackups = numBackups;
+    }
+
+
+    /**
+     * Get the log file.
+     *
+     * @return The file
+     */
+    public File getFile ()
+    {
+        return this.file;
+    }
+
+
+    /**
+     * Get the maximum size of a file.
+     *
+     * @return The size in bytes
+     */
+    public long getMaxSize ()
+    {
+        return this.maxSize;
+    }
+
+
+    /**
+     * Append text to the file. Opens the file if necessary.
+     *
+     * @param text The text to append
+     * @throws IOException Could not write the file
+     */
+    public void write (final CharSequence text) throws IOException
+    {
+        if (this.writer == null)
+            this.open ();
+
+        // Only ASCII is written, therefore the number of characters is the number of bytes
+        this.writer.append (text);
+        this.size += text.length ();
+
+        if (this.size >= this.maxSize)
+            this.rotate ();
+    }
+
+
+    /**
+     * Write buffered text to the file.
+     *
+     * @throws IOException Could not write the file
+     */
+    public void flush () throws IOException
+    {
+        if (this.writer != null)
+            this.writer.flush ();
+    }
+
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException Could not close the file
+     */
+    public void close () throws IOException
+    {
+        if (this.writer == null)
+            return;
+        this.writer.close ();
+        this.writer = null;
+    }
+
+
+    private void open () throws IOException
+    {
+        final File parent = this.file.getAbsoluteFile ().getParentFile ();
+        if (parent != null && !parent.exists () && !parent.mkdirs ())
+            throw new IOException ("Could not create folder " + parent);
+
+        this.size = this.file.length ();
+        this.writer = new BufferedWriter (new OutputStreamWriter (new FileOutputStream (this.file, true), StandardCharsets.US_ASCII));
+    }
+
+
+    private void rotate () throws IOException
+    {
+        this.close ();
+
+        final File oldest = this.getBackupFile (this.numBackups);
+        if (oldest.exists () && !oldest.delete ())
+            throw new IOException ("Could not delete " + oldest);
+
+        for (int i = this.numBackups - 1; i >= 1; i--)
+        {
+            final File backup = this.getBackupFile (i);
+            if (backup.exists () && !backup.renameTo (this.getBackupFile (i + 1)))
+                throw new IOException ("Could not rename " + backup);
+        }
+
+        if (this.numBackups > 0)
+        {
+            if (!this.file.renameTo (this.getBackupFile (1)))
+                throw new IOException ("Could not rename " + this.file);
+        }
+        else if (!this.file.delete ())
+            throw new IOException ("Could not delete " + this.file);
+    }
+
+
+    private File getBackupFile (final int index)
+    {
+        return new File (this.file.getPath () + "." + index);
+    }
+}
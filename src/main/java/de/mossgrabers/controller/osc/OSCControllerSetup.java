@@ -76,6 +76,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        this.flushVuMeters ();
         this.writer.flush (false);
     }
 
@@ -182,7 +183,9 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final String sendHost = this.configuration.getSendHost ();
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+        IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+        if (this.traceSession != null)
+            oscClient = this.traceSession.wrap (oscClient);
         this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
 
         // Receive OSC messages
@@ -208,7 +211,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
             parser.registerModule (module);
         });
 
-        this.oscServer = this.host.createOSCServer (parser);
+        this.oscServer = this.host.createOSCServer (this.traceSession == null ? parser : this.traceSession.wrap (parser));
     }
 
 
@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 
@@ -24,6 +25,10 @@ import java.util.LinkedList;
  */
 public class BrowserModule extends AbstractModule
 {
+    private int [] filterItemsVersions = new int [0];
+    private int    resultsVersion      = -1;
+
+
     /**
      * Constructor.
      *
@@ -147,6 +152,18 @@ public class BrowserModule extends AbstractModule
             this.writer.sendOSC (filterAddress + TAG_EXISTS, column.doesExist (), dump);
             this.writer.sendOSC (filterAddress + TAG_NAME, column.getName (), dump);
             this.writer.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+
+            // Only send the items if they have changed since the last flush
+            if (i >= this.filterItemsVersions.length)
+            {
+                this.filterItemsVersions = Arrays.copyOf (this.filterItemsVersions, i + 1);
+                this.filterItemsVersions[i] = -1;
+            }
+            final int itemsVersion = column.getItemsVersion ();
+            if (!dump && itemsVersion == this.filterItemsVersions[i])
+                continue;
+            this.filterItemsVersions[i] = itemsVersion;
+
             final IBrowserColumnItem [] items = column.getItems ();
             for (int j = 0; j < items.length; j++)
             {
@@ -159,13 +176,18 @@ public class BrowserModule extends AbstractModule
         }
 
         // Presets
+        final int version = browser.getResultsVersion ();
+        if (!dump && version == this.resultsVersion)
+            return;
+        this.resultsVersion = version;
+
         final String presetAddress = browserAddress + "result/";
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
         for (int i = 0; i < items.length; i++)
         {
             final String browserPresetAddress = presetAddress + (i + 1) + "/";
             this.writer.sendOSC (browserPresetAddress + TAG_EXISTS, items[i].doesExist (), dump);
-            this.writer.sendOSC (browserPresetAddress + TAG_NAME, items[i].getName (), dump);
+            this.writer.sendOSC (browserPresetAddress + TAG_NAME, browser.getResultName (i), dump);
             this.writer.sendOSC (browserPresetAddress + "hits", items[i].getHitCount (), dump);
             this.writer.sendOSC (browserPresetAddress + "isSelected", items[i].isSelected (), dump);
         }
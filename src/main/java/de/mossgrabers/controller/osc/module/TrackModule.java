@@ -8,10 +8,13 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterManager;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -33,7 +36,11 @@ import java.util.Locale;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final int          VU_UPDATE_RATE = 50;
+
+    private final OSCConfiguration    configuration;
+    private final VuMeterSubscription vuMeters;
+    private final String []           vuAddresses;
 
 
     /**
@@ -49,6 +56,24 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        // Page tracks, master and selected track
+        final VuMeterManager vuMeterManager = model.getVuMeterManager ();
+        final int pageSize = model.getCurrentTrackBank ().getPageSize ();
+        final int [] meters = new int [pageSize + 2];
+        this.vuAddresses = new String [meters.length];
+        for (int i = 0; i < pageSize; i++)
+        {
+            final int index = i;
+            meters[i] = vuMeterManager.addMeter ( () -> this.model.getCurrentTrackBank ().getItem (index));
+            this.vuAddresses[i] = "/track/" + (i + 1) + "/vu";
+        }
+        meters[pageSize] = vuMeterManager.addMeter (model::getMasterTrack);
+        this.vuAddresses[pageSize] = "/master/vu";
+        meters[pageSize + 1] = vuMeterManager.addMeter (model::getCursorTrack);
+        this.vuAddresses[pageSize + 1] = "/track/selected/vu";
+        this.vuMeters = vuMeterManager.subscribe (meters, VU_UPDATE_RATE, 1, (position, left, right) -> this.writer.sendOSC (this.vuAddresses[position], (left + right) / 2, false));
+        configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> this.vuMeters.setEnabled (configuration.isEnableVUMeters ()));
     }
 
 
@@ -98,11 +123,12 @@ public class TrackModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+        final int pageSize = trackBank.getPageSize ();
+        for (int i = 0; i < pageSize; i++)
+            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), i, dump);
+        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), pageSize, dump);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
+        this.flushTrack (this.writer, "/track/selected/", cursorTrack, pageSize + 1, dump);
         this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
         this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
     }
@@ -114,9 +140,10 @@ public class TrackModule extends AbstractModule
      * @param writer Where to send the messages to
      * @param trackAddress The start address for the track
      * @param track The track
+     * @param vuPosition The position of the track in the VU meter subscription
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final int vuPosition, final boolean dump)
     {
         writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
         final ChannelType type = track.getType ();
@@ -174,7 +201,10 @@ public class TrackModule extends AbstractModule
         writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
         writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        // Changed VU values are sent by the VU meter subscription with a limited rate
+        final boolean isEnableVUMeters = this.configuration.isEnableVUMeters ();
+        if (dump || !isEnableVUMeters)
+            writer.sendOSC (trackAddress + "vu", isEnableVUMeters ? this.vuMeters.getMono (vuPosition) : 0, dump);
     }
 
 
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.metrics.Histogram;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 
@@ -23,6 +24,7 @@ import java.util.List;
 public class OSCWriter extends AbstractOpenSoundControlWriter
 {
     private final List<IModule> modules = new ArrayList<> ();
+    private final Histogram     flushTime;
 
 
     /**
@@ -36,6 +38,8 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
     {
         super (host, model, oscClient, configuration);
+
+        this.flushTime = host.getMetrics ().histogram ("osc.flush");
     }
 
 
@@ -45,8 +49,10 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         if (!this.isConnected ())
             return;
+        final long start = this.flushTime.start ();
         this.modules.forEach (module -> module.flush (dump));
         this.flush ("/update");
+        this.flushTime.stop (start);
     }
 
 
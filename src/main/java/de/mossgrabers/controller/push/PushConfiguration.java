@@ -10,6 +10,7 @@ import de.mossgrabers.framework.configuration.IColorSetting;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -122,6 +123,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private static final String     CATEGORY_RIBBON                 = "Ribbon";
     private static final String     CATEGORY_COLORS                 = "Display Colors";
 
+    private static final int        MAX_COLOR_PALETTE_FINGERPRINTS  = 4;
+
     private static final String []  RIBBON_MODE_VALUES              =
     {
         "Pitch",
@@ -232,6 +235,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private int             padSensitivity              = 5;
     private int             padGain                     = 5;
     private int             padDynamics                 = 5;
+    private String          colorPaletteFingerprints    = "";
     private ColorEx         colorBackground             = DEFAULT_COLOR_BACKGROUND;
     private ColorEx         colorBorder                 = DEFAULT_COLOR_BORDER;
     private ColorEx         colorText                   = DEFAULT_COLOR_TEXT;
@@ -248,6 +252,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
 
     private IIntegerSetting displayBrightnessSetting;
     private IIntegerSetting ledBrightnessSetting;
+    private IStringSetting  colorPaletteFingerprintsSetting;
     private IEnumSetting    ribbonModeSetting;
     private IIntegerSetting ribbonModeCCSetting;
     private IEnumSetting    ribbonModeNoteRepeatSetting;
@@ -617,6 +622,50 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /**
+     * Get the fingerprint of the color palette which was last written to a device.
+     *
+     * @param serialNumber The serial number of the device
+     * @return The fingerprint or null if none is stored for the device
+     */
+    public String getColorPaletteFingerprint (final int serialNumber)
+    {
+        final String prefix = serialNumber + ":";
+        for (final String entry: this.colorPaletteFingerprints.split (";"))
+        {
+            if (entry.startsWith (prefix))
+                return entry.substring (prefix.length ());
+        }
+        return null;
+    }
+
+
+    /**
+     * Store the fingerprint of the color palette which was written to a device. The fingerprints
+     * of the last 4 devices are kept.
+     *
+     * @param serialNumber The serial number of the device
+     * @param fingerprint The fingerprint
+     */
+    public void setColorPaletteFingerprint (final int serialNumber, final String fingerprint)
+    {
+        if (this.colorPaletteFingerprintsSetting == null)
+            return;
+
+        final String prefix = serialNumber + ":";
+        final StringBuilder sb = new StringBuilder (prefix).append (fingerprint);
+        int count = 1;
+        for (final String entry: this.colorPaletteFingerprints.split (";"))
+        {
+            if (count == MAX_COLOR_PALETTE_FINGERPRINTS || entry.isEmpty () || entry.startsWith (prefix))
+                continue;
+            sb.append (';').append (entry);
+            count++;
+        }
+        this.colorPaletteFingerprintsSetting.set (sb.toString ());
+    }
+
+
     /**
      * Set the LED brightness.
      *
@@ -1129,6 +1178,11 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        // Not editable, stores the fingerprints of the color palettes written to the devices
+        this.colorPaletteFingerprintsSetting = settingsUI.getStringSetting ("Color Palette", CATEGORY_HARDWARE_SETUP, 100, "");
+        this.colorPaletteFingerprintsSetting.addValueObserver (value -> this.colorPaletteFingerprints = value);
+        this.colorPaletteFingerprintsSetting.setVisible (false);
     }
 
 
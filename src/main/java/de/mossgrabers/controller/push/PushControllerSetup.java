@@ -39,6 +39,7 @@ import de.mossgrabers.controller.push.controller.PushColorManager;
 import de.mossgrabers.controller.push.controller.PushControlSurface;
 import de.mossgrabers.controller.push.mode.AccentMode;
 import de.mossgrabers.controller.push.mode.AutomationSelectionMode;
+import de.mossgrabers.controller.push.mode.BaseMode;
 import de.mossgrabers.controller.push.mode.ConfigurationMode;
 import de.mossgrabers.controller.push.mode.FixedMode;
 import de.mossgrabers.controller.push.mode.FrameMode;
@@ -124,7 +125,9 @@ import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterManager;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -153,8 +156,10 @@ import de.mossgrabers.framework.view.Views;
  */
 public class PushControllerSetup extends AbstractControllerSetup<PushControlSurface, PushConfiguration>
 {
-    private final boolean isPush2;
-    private ISceneBank    sceneBank64;
+    private static final int DISPLAY_VU_UPDATE_RATE = 40;
+
+    private final boolean    isPush2;
+    private ISceneBank       sceneBank64;
 
 
     /**
@@ -206,6 +211,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         ms.setNumMarkers (8);
         ms.setHasFlatTrackList (false);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
+        this.model.getFacetManager ().setOnDemand (ModelFacet.BROWSER, ModelFacet.DRUM_PADS);
         this.sceneBank64 = this.model.createSceneBank (64);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
@@ -242,6 +248,17 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
             surface.addTextDisplay (new Push1Display (this.host, this.valueChanger.getUpperBound (), output, this.configuration));
 
         surface.getModeManager ().setDefaultID (Modes.TRACK);
+
+        // VU meters of the track page and the master track for the display
+        final VuMeterManager vuMeterManager = this.model.getVuMeterManager ();
+        final int [] meters = new int [9];
+        for (int i = 0; i < 8; i++)
+        {
+            final int index = i;
+            meters[i] = vuMeterManager.addMeter ( () -> this.model.getCurrentTrackBank ().getItem (index));
+        }
+        meters[8] = vuMeterManager.addMeter (this.model::getMasterTrack);
+        surface.setTrackVuMeters (vuMeterManager.subscribe (meters, DISPLAY_VU_UPDATE_RATE, this.valueChanger.getUpperBound () / 128, null));
     }
 
 
@@ -278,35 +295,35 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         modeManager.register (Modes.CLIP, new ClipMode (surface, this.model));
         modeManager.register (Modes.NOTE, new NoteMode (surface, this.model));
-        modeManager.register (Modes.FRAME, new FrameMode (surface, this.model));
+        modeManager.register (Modes.FRAME, () -> new FrameMode (surface, this.model));
 
-        modeManager.register (Modes.GROOVE, new GrooveMode (surface, this.model));
-        modeManager.register (Modes.REC_ARM, new QuantizeMode (surface, this.model));
-        modeManager.register (Modes.ACCENT, new AccentMode (surface, this.model));
+        modeManager.register (Modes.GROOVE, () -> new GrooveMode (surface, this.model));
+        modeManager.register (Modes.REC_ARM, () -> new QuantizeMode (surface, this.model));
+        modeManager.register (Modes.ACCENT, () -> new AccentMode (surface, this.model));
 
         modeManager.register (Modes.SCALES, new ScalesMode (surface, this.model));
-        modeManager.register (Modes.SCALE_LAYOUT, new ScaleLayoutMode (surface, this.model));
-        modeManager.register (Modes.FIXED, new FixedMode (surface, this.model));
-        modeManager.register (Modes.RIBBON, new RibbonMode (surface, this.model));
+        modeManager.register (Modes.SCALE_LAYOUT, () -> new ScaleLayoutMode (surface, this.model));
+        modeManager.register (Modes.FIXED, () -> new FixedMode (surface, this.model));
+        modeManager.register (Modes.RIBBON, () -> new RibbonMode (surface, this.model));
         modeManager.register (Modes.VIEW_SELECT, new NoteViewSelectMode (surface, this.model));
 
-        modeManager.register (Modes.AUTOMATION, new AutomationSelectionMode (surface, this.model));
-        modeManager.register (Modes.TRANSPORT, new MetronomeMode (surface, this.model));
-        modeManager.register (Modes.MARKERS, new MarkerMode (surface, this.model));
+        modeManager.register (Modes.AUTOMATION, () -> new AutomationSelectionMode (surface, this.model));
+        modeManager.register (Modes.TRANSPORT, () -> new MetronomeMode (surface, this.model));
+        modeManager.register (Modes.MARKERS, () -> new MarkerMode (surface, this.model));
         modeManager.register (Modes.USER, new UserMode (surface, this.model));
 
         if (this.isPush2)
         {
-            modeManager.register (Modes.SETUP, new SetupMode (surface, this.model));
-            modeManager.register (Modes.INFO, new InfoMode (surface, this.model));
+            modeManager.register (Modes.SETUP, () -> new SetupMode (surface, this.model));
+            modeManager.register (Modes.INFO, () -> new InfoMode (surface, this.model));
         }
         else
-            modeManager.register (Modes.CONFIGURATION, new ConfigurationMode (surface, this.model));
+            modeManager.register (Modes.CONFIGURATION, () -> new ConfigurationMode (surface, this.model));
 
         modeManager.register (Modes.SESSION, new SessionMode (surface, this.model, this.sceneBank64));
         modeManager.register (Modes.SESSION_VIEW_SELECT, new SessionViewSelectMode (surface, this.model));
 
-        modeManager.register (Modes.REPEAT_NOTE, new NoteRepeatMode (surface, this.model));
+        modeManager.register (Modes.REPEAT_NOTE, () -> new NoteRepeatMode (surface, this.model));
     }
 
 
@@ -346,6 +363,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         this.configuration.addSettingObserver (PushConfiguration.RIBBON_MODE, this::updateRibbonMode);
         this.configuration.addSettingObserver (PushConfiguration.RIBBON_MODE_NOTE_REPEAT, this::updateRibbonMode);
         this.configuration.addSettingObserver (AbstractConfiguration.NOTEREPEAT_ACTIVE, this::updateRibbonMode);
+        this.configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> surface.getTrackVuMeters ().setEnabled (this.configuration.isEnableVUMeters ()));
         this.configuration.addSettingObserver (PushConfiguration.DEBUG_MODE, () -> {
             final ModeManager modeManager = surface.getModeManager ();
             final Modes debugMode = this.configuration.getDebugMode ();
@@ -403,6 +421,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         // Other observers
 
         surface.getViewManager ().addChangeListener ( (previousViewId, activeViewId) -> this.onViewChange ());
+        surface.getModeManager ().addChangeListener ( (previousModeId, activeModeId) -> this.updateKnobAccumulation ());
 
         this.activateBrowserObserver (Modes.BROWSER);
     }
@@ -592,6 +611,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         final IHwRelativeKnob knobMaster = this.addRelativeKnob (ContinuousID.MASTER_KNOB, "Master", null, PushControlSurface.PUSH_KNOB9);
         knobMaster.bindTouch (new MastertrackTouchCommand (this.model, surface), input, BindType.NOTE, 0, PushControlSurface.PUSH_KNOB9_TOUCH);
+        // The master knob is always used for the master volume parameter
+        knobMaster.setAccumulateChanges (true, false);
         new MasterVolumeMode<> (surface, this.model, ContinuousID.MASTER_KNOB).onActivate ();
 
         final RasteredKnobCommand tempoCommand = new RasteredKnobCommand (this.model, surface);
@@ -601,6 +622,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         final PlayPositionKnobCommand playPositionCommand = new PlayPositionKnobCommand (this.model, surface);
         final IHwRelativeKnob knobPlayPosition = this.addRelativeKnob (ContinuousID.PLAY_POSITION, "Play Position", playPositionCommand, PushControlSurface.PUSH_SMALL_KNOB2);
         knobPlayPosition.bindTouch (playPositionCommand, input, BindType.NOTE, 0, PushControlSurface.PUSH_SMALL_KNOB2_TOUCH);
+        knobPlayPosition.setAccumulateChanges (true, true);
 
         final ViewManager viewManager = surface.getViewManager ();
 
@@ -899,6 +921,19 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     }
 
 
+    /**
+     * Only accumulate the changes of the knob row if the active mode supports it.
+     */
+    private void updateKnobAccumulation ()
+    {
+        final PushControlSurface surface = this.getSurface ();
+        final IMode mode = surface.getModeManager ().getActive ();
+        final boolean accumulate = mode instanceof BaseMode && ((BaseMode) mode).isAccumulatingKnobChanges ();
+        for (int i = 0; i < 8; i++)
+            ((IHwRelativeKnob) surface.getContinuous (ContinuousID.get (ContinuousID.KNOB1, i))).setAccumulateChanges (accumulate, false);
+    }
+
+
     /**
      * Handle a track selection change.
      *
@@ -35,7 +35,10 @@ public class PlayPositionKnobCommand extends PlayPositionCommand<PushControlSurf
     @Override
     public void execute (final int value)
     {
-        super.execute (value);
+        // The knob accumulates its changes, therefore apply one step per accumulated tick
+        final int steps = Math.max (1, Math.abs (this.model.getValueChanger ().decode (value)));
+        for (int i = 0; i < steps; i++)
+            super.execute (value);
 
         this.displayPosition ();
     }
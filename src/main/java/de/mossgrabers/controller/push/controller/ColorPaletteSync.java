@@ -0,0 +1,298 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+import de.mossgrabers.controller.push.PushConfiguration;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+
+/**
+ * Synchronizes the color palette of the Push 2 with the colors of the Push color manager. Several
+ * palette entries are requested at the same time. All entries which differ are written in one
+ * batch, the palette is re-applied once and only the written entries are read again for
+ * verification.
+ *
+ * A fingerprint of the palette is stored with the serial number of the device after a successful
+ * synchronisation. If the fingerprint matches on the next startup only a few probe entries are
+ * read to detect if the palette was changed by another application.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ColorPaletteSync
+{
+    /** The number of palette entries. */
+    public static final int         NUM_ENTRIES   = 128;
+
+    private static final int        WINDOW_SIZE   = 8;
+    private static final int        TIMEOUT       = 1000;
+
+    private static final int []     PROBE_ENTRIES =
+    {
+        0,
+        69,
+        70,
+        96,
+        127
+    };
+
+    private static final int []     ALL_ENTRIES   = new int [NUM_ENTRIES];
+
+    static
+    {
+        for (int i = 0; i < NUM_ENTRIES; i++)
+            ALL_ENTRIES[i] = i;
+    }
+
+    private final IHost             host;
+    private final PushConfiguration configuration;
+    private final Consumer<int []>  sender;
+    private final PaletteEntry []   entries       = new PaletteEntry [NUM_ENTRIES];
+    private final String            fingerprint;
+
+    private final int []            queue         = new int [NUM_ENTRIES];
+    private final int []            writeIndices  = new int [NUM_ENTRIES];
+    private int                     queueLength   = 0;
+    private int                     nextRequest   = 0;
+    private int                     received      = 0;
+    private int                     writeCount    = 0;
+    private boolean                 isRunning     = false;
+    private boolean                 isProbe       = false;
+    private boolean                 isVerify      = false;
+    private int                     serialNumber  = -1;
+    private long                    lastProgress;
+    private int                     syncID        = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param configuration The configuration for storing the palette fingerprint
+     * @param sender Sends a Push 2 system exclusive message
+     */
+    public ColorPaletteSync (final IHost host, final PushConfiguration configuration, final Consumer<int []> sender)
+    {
+        this.host = host;
+        this.configuration = configuration;
+        this.sender = sender;
+
+        final CRC32 crc = new CRC32 ();
+        for (int i = 0; i < NUM_ENTRIES; i++)
+        {
+            final int [] color = PushColorManager.getPaletteColorRGB (i);
+            this.entries[i] = new PaletteEntry (color);
+            for (final int c: color)
+                crc.update (c);
+        }
+        this.fingerprint = Long.toHexString (crc.getValue ());
+    }
+
+
+    /**
+     * Start the synchronisation. If the stored fingerprint for the device matches the current
+     * palette only the probe entries are checked.
+     *
+     * @param serialNumber The serial number of the device, -1 if unknown which always executes a
+     *            full synchronisation
+     */
+    public void start (final int serialNumber)
+    {
+        synchronized (this.entries)
+        {
+            this.serialNumber = serialNumber;
+            this.syncID++;
+
+            final boolean matches = serialNumber >= 0 && this.fingerprint.equals (this.configuration.getColorPaletteFingerprint (serialNumber));
+            if (matches)
+                this.startPass (PROBE_ENTRIES, PROBE_ENTRIES.length, true, false);
+            else
+                this.startPass (ALL_ENTRIES, NUM_ENTRIES, false, false);
+        }
+
+        this.scheduleTimeout (this.syncID);
+    }
+
+
+    /**
+     * Handle a received color palette message.
+     *
+     * @param data The message data
+     */
+    public void handleMessage (final int [] data)
+    {
+        synchronized (this.entries)
+        {
+            final int index = data[7];
+            final PaletteEntry entry = this.entries[index];
+
+            // Ignore answers to resent requests which already arrived
+            if (!this.isRunning || !entry.isReadPending ())
+                return;
+
+            this.received++;
+            this.lastProgress = System.currentTimeMillis ();
+
+            if (entry.requiresUpdate (data))
+            {
+                if (entry.hasMaxNumberOfWriteRetriesReached ())
+                {
+                    // Cancel the whole process
+                    this.isRunning = false;
+                    this.host.error ("Failed writing color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
+                    return;
+                }
+                entry.incWriteRetries ();
+                this.writeIndices[this.writeCount] = index;
+                this.writeCount++;
+            }
+            else
+            {
+                entry.setOK ();
+
+                final int retries = entry.getWriteRetries ();
+                if (retries > 1)
+                    this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
+            }
+
+            if (this.nextRequest < this.queueLength)
+                this.sendRequest (this.queue[this.nextRequest++]);
+            else if (this.received == this.queueLength)
+                this.finishPass ();
+        }
+    }
+
+
+    /**
+     * Start reading palette entries.
+     *
+     * @param indices The indices of the entries to read
+     * @param length The number of indices to use
+     * @param probe True if only the probe entries are read
+     * @param verify True if written entries are verified
+     */
+    private void startPass (final int [] indices, final int length, final boolean probe, final boolean verify)
+    {
+        System.arraycopy (indices, 0, this.queue, 0, length);
+        this.queueLength = length;
+        this.nextRequest = 0;
+        this.received = 0;
+        this.writeCount = 0;
+        this.isProbe = probe;
+        this.isVerify = verify;
+        this.isRunning = true;
+        this.lastProgress = System.currentTimeMillis ();
+
+        while (this.nextRequest < this.queueLength && this.nextRequest < WINDOW_SIZE)
+            this.sendRequest (this.queue[this.nextRequest++]);
+    }
+
+
+    /**
+     * All requested entries have been received. Write the differing entries, if any.
+     */
+    private void finishPass ()
+    {
+        if (this.writeCount == 0)
+        {
+            this.isRunning = false;
+            if (!this.isProbe && this.serialNumber >= 0)
+                this.configuration.setColorPaletteFingerprint (this.serialNumber, this.fingerprint);
+            if (this.isVerify)
+                this.host.println ("Color palette updated.");
+            return;
+        }
+
+        // The palette was changed by someone else, check all entries
+        if (this.isProbe)
+        {
+            this.startPass (ALL_ENTRIES, NUM_ENTRIES, false, false);
+            return;
+        }
+
+        for (int i = 0; i < this.writeCount; i++)
+        {
+            final int index = this.writeIndices[i];
+            this.sender.accept (this.entries[index].createUpdateMessage (index));
+        }
+
+        // Re-apply the color palette
+        this.sender.accept (new int []
+        {
+            0x05
+        });
+
+        // Read the written entries again to confirm it was written
+        this.startPass (this.writeIndices, this.writeCount, false, true);
+    }
+
+
+    /**
+     * Send a request to the Push 2 to send the values of an entry of the current color palette.
+     *
+     * @param index The index of the entry 0-127
+     */
+    private void sendRequest (final int index)
+    {
+        this.sender.accept (new int []
+        {
+            0x04,
+            index
+        });
+        this.entries[index].incReadRetries ();
+    }
+
+
+    /**
+     * Schedule the check for missing answers.
+     *
+     * @param id The ID of the synchronisation, the check ends if a new one was started
+     */
+    private void scheduleTimeout (final int id)
+    {
+        this.host.scheduleTask ( () -> this.checkTimeout (id), TIMEOUT);
+    }
+
+
+    /**
+     * If there was no answer for a while, resend all requests which have not been answered.
+     *
+     * @param id The ID of the synchronisation
+     */
+    private void checkTimeout (final int id)
+    {
+        synchronized (this.entries)
+        {
+            if (!this.isRunning || id != this.syncID)
+                return;
+
+            if (System.currentTimeMillis () - this.lastProgress >= TIMEOUT)
+            {
+                for (int i = 0; i < this.nextRequest; i++)
+                {
+                    final int index = this.queue[i];
+                    final PaletteEntry entry = this.entries[index];
+                    if (!entry.isReadPending ())
+                        continue;
+
+                    if (entry.hasMaxNumberOfReadRetriesReached ())
+                    {
+                        this.isRunning = false;
+                        this.host.error ("Failed reading color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
+                        return;
+                    }
+
+                    this.host.println ("Resending color palette entry #" + index + " request.");
+                    this.sendRequest (index);
+                }
+                this.lastProgress = System.currentTimeMillis ();
+            }
+        }
+
+        this.scheduleTimeout (id);
+    }
+}
@@ -106,13 +106,13 @@ public class PaletteEntry
 
 
     /**
-     * Check if the read request should be sent
+     * Check if a read request was sent which has not been answered yet.
      *
-     * @return True if it needs to be send
+     * @return True if an answer is expected
      */
-    public boolean requiresRead ()
+    public boolean isReadPending ()
     {
-        return this.state == State.INIT || this.state == State.READ;
+        return this.state == State.READ;
     }
 
 
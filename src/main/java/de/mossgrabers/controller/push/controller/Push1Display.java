@@ -26,31 +26,70 @@ import java.util.List;
 public class Push1Display extends AbstractTextDisplay
 {
     /** Push character codes for value bars - a dash. */
-    public static final String     BARS_NON      = Character.toString ((char) 6);
+    public static final String       BARS_NON             = Character.toString ((char) 6);
     /** Push character codes for value bars - one bar. */
-    public static final String     BARS_ONE      = Character.toString ((char) 3);
+    public static final String       BARS_ONE             = Character.toString ((char) 3);
     /** Push character codes for value bars - two bars. */
-    public static final String     BARS_TWO      = Character.toString ((char) 5);
+    public static final String       BARS_TWO             = Character.toString ((char) 5);
     /** Push character codes for value bars - one bar to the left. */
-    public static final String     BARS_ONE_L    = Character.toString ((char) 4);
-    /** Push character codes for value bars - four dashes. */
-    private static final String    NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
+    public static final String       BARS_ONE_L           = Character.toString ((char) 4);
     /** Push character codes for value bars - the right arrow. */
-    public static final String     SELECT_ARROW  = Character.toString ((char) 127);
+    public static final String       SELECT_ARROW         = Character.toString ((char) 127);
     /** Push character for a degree sign. */
-    public static final String     DEGREE        = Character.toString ((char) 9);
+    public static final String       DEGREE               = Character.toString ((char) 9);
     /** Push character for a right arrow. */
-    public static final String     RIGHT_ARROW   = Character.toString ((char) 30);
+    public static final String       RIGHT_ARROW          = Character.toString ((char) 30);
 
-    private static final String [] SYSEX_MESSAGE =
+    private static final byte []     SYSEX_HEADER         =
     {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
+        (byte) 0xF0,
+        0x47,
+        0x7F,
+        0x15,
+        0x18,
+        0x00,
+        0x45,
+        0x00
     };
 
-    private int                    maxParameterValue;
+    /** Maps the Push characters to the characters of the simulator GUI. */
+    private static final char []     GUI_CHARACTERS       = new char [128];
+
+    /** All value bars for 0 to 16 half bars. */
+    private static final String []   VALUE_BARS           = new String [17];
+    /** All value bars with a modulation indicator, indexed by the half bars of modulation and value. */
+    private static final String [] []MODULATED_VALUE_BARS = new String [17] [17];
+    /** All pan bars for -8 (left) to 8 (right) half bars. */
+    private static final String []   PAN_BARS             = new String [17];
+
+    static
+    {
+        for (int i = 0; i < GUI_CHARACTERS.length; i++)
+            GUI_CHARACTERS[i] = (char) i;
+        GUI_CHARACTERS[BARS_NON.charAt (0)] = '-';
+        GUI_CHARACTERS[BARS_ONE.charAt (0)] = '|';
+        GUI_CHARACTERS[BARS_TWO.charAt (0)] = '|';
+        GUI_CHARACTERS[BARS_ONE_L.charAt (0)] = '|';
+        GUI_CHARACTERS[SELECT_ARROW.charAt (0)] = '>';
+        GUI_CHARACTERS[RIGHT_ARROW.charAt (0)] = '>';
+
+        for (int value = 0; value <= 16; value++)
+        {
+            VALUE_BARS[value] = new String (fillFields (value));
+            for (int modulated = 0; modulated <= 16; modulated++)
+                MODULATED_VALUE_BARS[modulated][value] = new String (fillModulatedFields (modulated, value));
+        }
+
+        for (int pan = -8; pan <= 8; pan++)
+            PAN_BARS[pan + 8] = new String (fillPanFields (pan));
+    }
+
+    /** The sysex messages of the 4 rows, the row content is rendered into them by done. */
+    private final byte [] []         lineBuffers          = new byte [4] [SYSEX_HEADER.length + 68 + 1];
+    private final boolean []         isLineChanged        = new boolean [4];
+    private final byte []            notificationBuffer   = new byte [SYSEX_HEADER.length + 68 + 1];
+    private final char []            guiBuffer            = new char [71];
+    private int                      maxParameterValue;
 
 
     /**
@@ -67,6 +106,18 @@ public class Push1Display extends AbstractTextDisplay
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
 
         this.maxParameterValue = maxParameterValue;
+
+        for (int row = 0; row < this.lineBuffers.length; row++)
+        {
+            final byte [] buffer = this.lineBuffers[row];
+            System.arraycopy (SYSEX_HEADER, 0, buffer, 0, SYSEX_HEADER.length);
+            buffer[4] = (byte) (0x18 + row);
+            buffer[buffer.length - 1] = (byte) 0xF7;
+        }
+        Arrays.fill (this.isLineChanged, true);
+
+        System.arraycopy (SYSEX_HEADER, 0, this.notificationBuffer, 0, SYSEX_HEADER.length);
+        this.notificationBuffer[this.notificationBuffer.length - 1] = (byte) 0xF7;
     }
 
 
@@ -118,28 +169,114 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : "");
+        // The space which separates the 2 cells of a block is added when the row is rendered
+        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ');
         return this;
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ITextDisplay done (final int row)
+    {
+        // Render the characters directly into the sysex message of the row, flush only sends rows
+        // which have changed
+        int pos = SYSEX_HEADER.length;
+        final String fullRow = this.fullRows[row];
+        if (fullRow != null)
+        {
+            this.fullRows[row] = null;
+            for (int i = 0; i < fullRow.length (); i++)
+                pos = this.setCharacter (row, pos, fullRow.charAt (i));
+        }
+        else
+        {
+            final int index = row * this.noOfCells;
+            for (int i = 0; i < this.noOfCells; i++)
+            {
+                final String cell = this.cells[index + i];
+                for (int c = 0; c < cell.length (); c++)
+                    pos = this.setCharacter (row, pos, cell.charAt (c));
+                if (i % 2 == 0 && cell.length () == 8)
+                    pos = this.setCharacter (row, pos, ' ');
+            }
+        }
+
+        while (pos < SYSEX_HEADER.length + 68)
+            pos = this.setCharacter (row, pos, ' ');
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        synchronized (this.notificationLock)
+        {
+            if (this.isNotificationActive > 0)
+            {
+                super.flush ();
+                return;
+            }
+        }
+
+        for (int row = 0; row < this.lineBuffers.length; row++)
+        {
+            if (!this.isLineChanged[row])
+                continue;
+            this.isLineChanged[row] = false;
+            final byte [] buffer = this.lineBuffers[row];
+            this.hwDisplay.setLine (row, this.convertCharacterset (buffer));
+            this.output.sendSysex (buffer);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+        Arrays.fill (this.isLineChanged, true);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected String convertCharacterset (final String text)
     {
-        final String t = text.replace (Push1Display.BARS_NON, "-").replace (Push1Display.BARS_ONE, "|").replace (Push1Display.BARS_TWO, "|").replace (Push1Display.BARS_ONE_L, "|").replace (Push1Display.SELECT_ARROW, ">").replace (Push1Display.RIGHT_ARROW, ">");
-        final StringBuilder sb = new StringBuilder (t.length ());
-        int beginIndex = 0;
-        int endIndex = 17;
-        for (int i = 0; i < 4; i++)
+        final char [] buffer = this.guiBuffer;
+        int pos = 0;
+        for (int i = 0; i < 68; i++)
+        {
+            // Separate the 4 blocks of 17 characters
+            if (i > 0 && i % 17 == 0)
+                buffer[pos++] = ' ';
+            buffer[pos++] = toGuiCharacter (i < text.length () ? text.charAt (i) : ' ');
+        }
+        return new String (buffer, 0, pos);
+    }
+
+
+    /**
+     * Convert the row of a sysex message to the characters of the simulator GUI.
+     *
+     * @param line The sysex message of the row
+     * @return The text adapted to the simulator GUI character set
+     */
+    private String convertCharacterset (final byte [] line)
+    {
+        final char [] buffer = this.guiBuffer;
+        int pos = 0;
+        for (int i = 0; i < 68; i++)
         {
-            sb.append (t.substring (beginIndex, endIndex));
-            beginIndex += 17;
-            endIndex += 17;
-            if (i != 3)
-                sb.append (' ');
+            // Separate the 4 blocks of 17 characters
+            if (i > 0 && i % 17 == 0)
+                buffer[pos++] = ' ';
+            buffer[pos++] = toGuiCharacter ((char) line[SYSEX_HEADER.length + i]);
         }
-        return sb.toString ();
+        return new String (buffer, 0, pos);
     }
 
 
@@ -147,7 +284,51 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        // Used for notifications, which must not overwrite the rendered rows
+        final byte [] buffer = this.notificationBuffer;
+        buffer[4] = (byte) (0x18 + row);
+        for (int i = 0; i < 68; i++)
+        {
+            final char c = i < text.length () ? text.charAt (i) : ' ';
+            buffer[SYSEX_HEADER.length + i] = toPushCharacter (c);
+        }
+        this.output.sendSysex (buffer);
+    }
+
+
+    /**
+     * Set a character in the sysex message of a row and mark the row as changed if it differs.
+     *
+     * @param row The row
+     * @param pos The position in the sysex message
+     * @param c The character
+     * @return The next position
+     */
+    private int setCharacter (final int row, final int pos, final char c)
+    {
+        final byte [] buffer = this.lineBuffers[row];
+        // Ignore characters which do not fit into the row
+        if (pos >= SYSEX_HEADER.length + 68)
+            return pos;
+        final byte value = toPushCharacter (c);
+        if (buffer[pos] != value)
+        {
+            buffer[pos] = value;
+            this.isLineChanged[row] = true;
+        }
+        return pos + 1;
+    }
+
+
+    private static byte toPushCharacter (final char c)
+    {
+        return (byte) (c < 128 ? c : '?');
+    }
+
+
+    private static char toGuiCharacter (final char c)
+    {
+        return c < GUI_CHARACTERS.length ? GUI_CHARACTERS[c] : c;
     }
 
 
@@ -174,9 +355,7 @@ public class Push1Display extends AbstractTextDisplay
      */
     public static String formatValue (final int value, final int maxParam)
     {
-        final StringBuilder n = new StringBuilder ();
-        Arrays.asList (fillFields (value, maxParam)).forEach (n::append);
-        return n.toString ();
+        return VALUE_BARS[toHalfBars (value, maxParam)];
     }
 
 
@@ -191,70 +370,92 @@ public class Push1Display extends AbstractTextDisplay
      */
     public static String formatValue (final int modulated, final int value, final int maxParam)
     {
-        final String [] fields = fillFields (value, maxParam);
+        return MODULATED_VALUE_BARS[toHalfBars (modulated, maxParam)][toHalfBars (value, maxParam)];
+    }
+
+
+    private static String formatPan (final int pan, final int maxParam)
+    {
+        final int middle = maxParam / 2;
+        if (pan == middle)
+            return PAN_BARS[8];
+        final boolean isLeft = pan < middle;
+        final int pos = isLeft ? middle - pan : pan - middle;
+        int noOfBars = 16 * pos / maxParam;
+        // Fully right fills the last field
+        if (pan >= maxParam - 1)
+            noOfBars = 2 * (noOfBars / 2 + 1);
+        noOfBars = Math.min (8, noOfBars);
+        return PAN_BARS[isLeft ? 8 - noOfBars : 8 + noOfBars];
+    }
+
+
+    private static int toHalfBars (final int value, final int maxParam)
+    {
+        return Math.max (0, Math.min (16, (int) Math.round (16.0 * value / maxParam)));
+    }
+
+
+    private static char [] fillFields (final int noOfBars)
+    {
+        final char [] fields = new char [8];
+        Arrays.fill (fields, BARS_NON.charAt (0));
+
+        int count;
+        for (count = 0; count < noOfBars / 2; count++)
+            fields[count] = BARS_TWO.charAt (0);
+        if (noOfBars % 2 == 1)
+            fields[count] = BARS_ONE.charAt (0);
+
+        return fields;
+    }
+
+
+    private static char [] fillModulatedFields (final int noOfBarsModulated, final int noOfBars)
+    {
+        final char [] fields = fillFields (noOfBars);
 
-        final int noOfBarsModulated = (int) Math.round (16.0 * modulated / maxParam);
         final int pos = noOfBarsModulated / 2;
         if (noOfBarsModulated % 2 == 0)
         {
             if (pos > 0)
             {
-                if (fields[pos - 1].charAt (0) == BARS_NON.charAt (0))
-                    fields[pos - 1] = BARS_ONE_L;
-                else if (fields[pos].charAt (0) == BARS_ONE.charAt (0))
-                    fields[pos - 1] = BARS_TWO;
+                if (fields[pos - 1] == BARS_NON.charAt (0))
+                    fields[pos - 1] = BARS_ONE_L.charAt (0);
+                else if (pos < fields.length && fields[pos] == BARS_ONE.charAt (0))
+                    fields[pos - 1] = BARS_TWO.charAt (0);
             }
         }
         else
         {
-            if (fields[pos].charAt (0) == BARS_NON.charAt (0))
-                fields[pos] = BARS_ONE;
+            if (fields[pos] == BARS_NON.charAt (0))
+                fields[pos] = BARS_ONE.charAt (0);
             else
-                fields[pos] = BARS_TWO;
+                fields[pos] = BARS_TWO.charAt (0);
         }
 
-        final StringBuilder n = new StringBuilder ();
-        Arrays.asList (fields).forEach (n::append);
-        return n.toString ();
+        return fields;
     }
 
 
-    private static String [] fillFields (final int value, final int maxParam)
+    private static char [] fillPanFields (final int noOfBars)
     {
-        final String [] fields = new String [8];
-        Arrays.fill (fields, Push1Display.BARS_NON);
+        final char [] fields = new char [8];
+        Arrays.fill (fields, BARS_NON.charAt (0));
 
-        final int noOfBars = (int) Math.round (16.0 * value / maxParam);
+        // The right half is filled from the center to the right, the left half mirrored
+        final boolean isLeft = noOfBars < 0;
+        final int bars = Math.abs (noOfBars);
         int count;
-        for (count = 0; count < noOfBars / 2; count++)
-            fields[count] = Push1Display.BARS_TWO;
-        if (noOfBars % 2 == 1)
-            fields[count] = Push1Display.BARS_ONE;
+        for (count = 0; count < bars / 2; count++)
+            fields[isLeft ? 3 - count : 4 + count] = BARS_TWO.charAt (0);
+        if (bars % 2 == 1)
+            fields[isLeft ? 3 - count : 4 + count] = isLeft ? BARS_ONE_L.charAt (0) : BARS_ONE.charAt (0);
 
         return fields;
     }
 
 
-    private static String formatPan (final int pan, final int maxParam)
-    {
-        final int middle = maxParam / 2;
-        if (pan == middle)
-            return Push1Display.NON_4 + Push1Display.NON_4;
-        final boolean isLeft = pan < middle;
-        final int pos = isLeft ? middle - pan : pan - middle;
-        final int noOfBars = 16 * pos / maxParam;
-        StringBuilder n = new StringBuilder ();
-        for (int i = 0; i < noOfBars / 2; i++)
-            n.append (BARS_TWO);
-        if (pan >= maxParam - 1)
-            n.append (BARS_TWO);
-        else if (noOfBars % 2 == 1)
-            n.append (isLeft ? Push1Display.BARS_ONE_L : Push1Display.BARS_ONE);
-        n = new StringBuilder (Push1Display.NON_4).append (StringUtils.pad (n.toString (), 4, Push1Display.BARS_NON.charAt (0)));
-        return isLeft ? n.reverse ().toString () : n.toString ();
-    }
-
-
     /**
      * Fills a list for drawing a menu.
      *
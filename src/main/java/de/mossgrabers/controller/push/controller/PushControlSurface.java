@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -443,8 +444,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01
     };
 
-    private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
-    private boolean                colorPaletteHasUpdate         = false;
+    private final ColorPaletteSync colorPaletteSync;
+    private boolean                isColorPaletteSyncPending     = false;
 
     private int                    ribbonMode                    = -1;
     private int                    ribbonValue                   = -1;
@@ -455,6 +456,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     private int                    serialNumber                  = -1;
     private int                    boardRevision                 = -1;
 
+    private VuMeterSubscription    trackVuMeters;
+
 
     /**
      * Constructor.
@@ -469,8 +472,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         super (host, configuration, colorManager, output, input, new PadGridImpl (colorManager, output), 200, 156);
 
-        for (int i = 0; i < this.colorPalette.length; i++)
-            this.colorPalette[i] = new PaletteEntry (PushColorManager.getPaletteColorRGB (i));
+        this.colorPaletteSync = new ColorPaletteSync (host, configuration, this::sendPush2SysEx);
 
         this.input.setSysexCallback (this::handleSysEx);
     }
@@ -498,6 +500,30 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     }
 
 
+    /**
+     * Set the VU meters of the 8 tracks of the current track bank page and the master track (at
+     * position 8), decimated for the display.
+     *
+     * @param trackVuMeters The VU meter subscription
+     */
+    public void setTrackVuMeters (final VuMeterSubscription trackVuMeters)
+    {
+        this.trackVuMeters = trackVuMeters;
+    }
+
+
+    /**
+     * Get the VU meters of the 8 tracks of the current track bank page and the master track (at
+     * position 8), decimated for the display.
+     *
+     * @return The VU meter subscription
+     */
+    public VuMeterSubscription getTrackVuMeters ()
+    {
+        return this.trackVuMeters;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void internalShutdown ()
@@ -820,7 +846,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
         // Color palette entry message?
         if (this.configuration.isPush2 () && isPush2Data (byteData) && PaletteEntry.isValid (byteData))
-            this.handleColorPaletteMessage (byteData);
+            this.colorPaletteSync.handleMessage (byteData);
     }
 
 
@@ -858,6 +884,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.buildNumber = revisionLevel[2] + (revisionLevel[3] << 7);
             this.serialNumber = revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28);
             this.boardRevision = revisionLevel[9];
+
+            this.startColorPaletteSync ();
         }
         else
         {
@@ -951,103 +979,36 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Request the full color palette.
+     * Synchronize the color palette of the device. Waits for the serial number of the device to
+     * check the stored palette fingerprint. If there is no answer to the device inquiry, the full
+     * palette is synchronized.
      */
     public void updateColorPalette ()
     {
-        // Retrieve the first, all others are requested after the previous one was received
-        this.sendColorPaletteRequest (0);
-    }
-
-
-    /**
-     * Handle a color palette message.
-     *
-     * @param data The message data
-     */
-    private void handleColorPaletteMessage (final int [] data)
-    {
-        synchronized (this.colorPalette)
+        synchronized (this.colorPaletteSync)
         {
-            final int index = data[7];
-
-            // Is an update necessary?
-            if (this.colorPalette[index].requiresUpdate (data))
-            {
-                this.colorPaletteHasUpdate = true;
-
-                if (this.colorPalette[index].hasMaxNumberOfWriteRetriesReached ())
-                {
-                    // Cancel the whole process
-                    this.host.error ("Failed writing color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
-                    return;
-                }
-
-                this.colorPalette[index].incWriteRetries ();
-                this.sendPush2SysEx (this.colorPalette[index].createUpdateMessage (index));
-            }
-            else
-            {
-                this.colorPalette[index].setOK ();
-
-                final int retries = this.colorPalette[index].getWriteRetries ();
-                if (retries > 1)
-                    this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
-            }
-
-            if (index < 127)
-            {
-                this.sendColorPaletteRequest (index + 1);
-                return;
-            }
+            this.isColorPaletteSyncPending = true;
         }
 
-        // Re-apply the color palette, if necessary
-        if (this.colorPaletteHasUpdate)
-        {
-            this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
-
-            // Request all values again to confirm it was written
-            this.sendColorPaletteRequest (0);
-        }
+        if (this.serialNumber >= 0)
+            this.startColorPaletteSync ();
+        else
+            this.scheduleTask (this::startColorPaletteSync, 1000);
     }
 
 
     /**
-     * Send a request to the Push 2 to send the values of an entry of the current color palette.
-     *
-     * @param paletteEntry The index of the entry 0-127
+     * Start the synchronization of the color palette, if requested and not already started.
      */
-    private void sendColorPaletteRequest (final int paletteEntry)
+    private void startColorPaletteSync ()
     {
-        synchronized (this.colorPalette)
+        synchronized (this.colorPaletteSync)
         {
-            this.sendPush2SysEx (new int []
-            {
-                0x04,
-                paletteEntry
-            });
-            this.colorPalette[paletteEntry].incReadRetries ();
+            if (!this.isColorPaletteSyncPending)
+                return;
+            this.isColorPaletteSyncPending = false;
         }
 
-        // If there was no answer after 1s, retry...
-        this.scheduleTask ( () -> {
-
-            synchronized (this.colorPalette)
-            {
-                if (!this.colorPalette[paletteEntry].requiresRead ())
-                    return;
-
-                if (this.colorPalette[paletteEntry].hasMaxNumberOfReadRetriesReached ())
-                {
-                    this.host.error ("Failed reading color palette entry #" + paletteEntry + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
-                    return;
-                }
-
-                this.host.println ("Resending color palette entry #" + paletteEntry + " request.");
-                this.sendColorPaletteRequest (paletteEntry);
-            }
-
-        }, 1000);
+        this.colorPaletteSync.start (this.serialNumber);
     }
-}
\ No newline at end of file
+}
@@ -145,6 +145,20 @@ public abstract class BaseMode extends AbstractMode<PushControlSurface, PushConf
     }
 
 
+    /**
+     * Should the changes of the knobs be summed up till the next flush and executed as one change?
+     * Must not be enabled for modes which count the single knob movements (e.g. to step through
+     * items), since they would get less steps. The default is to accumulate only if the mode edits
+     * parameters.
+     *
+     * @return True if the changes can be accumulated
+     */
+    public boolean isAccumulatingKnobChanges ()
+    {
+        return this.defaultParameterProvider != null;
+    }
+
+
     /**
      * Slows down knob movement. Increases the counter till the scroll rate.
      *
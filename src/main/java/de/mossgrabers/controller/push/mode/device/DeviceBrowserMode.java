@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
@@ -34,6 +35,10 @@ public class DeviceBrowserMode extends BaseMode
     private int              selectionMode;
     private int              filterColumn;
 
+    private String [] []     resultNames;
+    private boolean [] []    resultSelected;
+    private int              resultsVersion   = -1;
+
 
     /**
      * Constructor.
@@ -45,6 +50,8 @@ public class DeviceBrowserMode extends BaseMode
     {
         super ("Browser", surface, model);
 
+        this.requiredFacets.add (ModelFacet.BROWSER);
+
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = -1;
     }
@@ -275,18 +282,26 @@ public class DeviceBrowserMode extends BaseMode
                     return;
                 }
 
-                for (int i = 0; i < 8; i++)
+                // Only rebuild the lists if the results have changed
+                final int version = browser.getResultsVersion ();
+                if (version != this.resultsVersion)
                 {
-                    final String [] items = new String [6];
-                    final boolean [] selected = new boolean [6];
-                    for (int item = 0; item < 6; item++)
+                    this.resultsVersion = version;
+                    this.resultNames = new String [8] [6];
+                    this.resultSelected = new boolean [8] [6];
+                    for (int i = 0; i < 8; i++)
                     {
-                        final int pos = i * 6 + item;
-                        items[item] = pos < results.length ? results[pos].getName (14) : "";
-                        selected[item] = pos < results.length && results[pos].isSelected ();
+                        for (int item = 0; item < 6; item++)
+                        {
+                            final int pos = i * 6 + item;
+                            this.resultNames[i][item] = pos < results.length ? StringUtils.optimizeName (browser.getResultName (pos), 14) : "";
+                            this.resultSelected[i][item] = pos < results.length && results[pos].isSelected ();
+                        }
                     }
-                    display.addListElement (items, selected);
                 }
+
+                for (int i = 0; i < 8; i++)
+                    display.addListElement (this.resultNames[i], this.resultSelected[i]);
                 break;
 
             case DeviceBrowserMode.SELECTION_FILTER:
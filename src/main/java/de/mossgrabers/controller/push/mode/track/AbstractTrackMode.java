@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
@@ -342,6 +343,7 @@ public abstract class AbstractTrackMode extends BaseMode
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         final PushConfiguration config = this.surface.getConfiguration ();
         final boolean displayCrossfader = this.model.getHost ().supports (Capability.HAS_CROSSFADER);
+        final VuMeterSubscription vuMeters = this.surface.getTrackVuMeters ();
         for (int i = 0; i < 8; i++)
         {
             final ITrack t = tb.getItem (i);
@@ -350,8 +352,8 @@ public abstract class AbstractTrackMode extends BaseMode
             final boolean isTopMenuOn = pair.getValue ().booleanValue ();
             final int crossfadeMode = displayCrossfader ? t.getCrossfadeModeAsNumber () : -1;
             final boolean enableVUMeters = config.isEnableVUMeters ();
-            final int vuR = valueChanger.toDisplayValue (enableVUMeters ? t.getVuRight () : 0);
-            final int vuL = valueChanger.toDisplayValue (enableVUMeters ? t.getVuLeft () : 0);
+            final int vuR = valueChanger.toDisplayValue (enableVUMeters ? vuMeters.getRight (i) : 0);
+            final int vuL = valueChanger.toDisplayValue (enableVUMeters ? vuMeters.getLeft (i) : 0);
             display.addChannelElement (selectedMenu, topMenu, isTopMenuOn, t.doesExist () ? t.getName (12) : "", t.getType (), t.getColor (), t.isSelected (), valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched[i] ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched[i] ? t.getPanStr (8) : "", vuL, vuR, t.isMute (), t.isSolo (), t.isRecArm (), t.isActivated (), crossfadeMode);
         }
     }
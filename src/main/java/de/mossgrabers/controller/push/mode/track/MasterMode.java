@@ -16,6 +16,7 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IProject;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.empty.EmptyParameter;
@@ -138,7 +139,7 @@ public class MasterMode extends BaseMode
         if (canEditCueVolume)
             display.setCell (1, 2, project.getCueVolumeStr (8)).setCell (1, 3, project.getCueMixStr (8));
         display.setBlock (1, 2, "Audio Engine").setBlock (1, 3, this.model.getProject ().getName ());
-        display.setCell (2, 0, this.surface.getConfiguration ().isEnableVUMeters () ? master.getVu () : master.getVolume (), Format.FORMAT_VALUE);
+        display.setCell (2, 0, this.surface.getConfiguration ().isEnableVUMeters () ? this.surface.getTrackVuMeters ().getMono (8) : master.getVolume (), Format.FORMAT_VALUE);
         display.setCell (2, 1, master.getPan (), Format.FORMAT_PAN);
         if (canEditCueVolume)
         {
@@ -160,8 +161,9 @@ public class MasterMode extends BaseMode
 
         final IValueChanger valueChanger = this.model.getValueChanger ();
         final boolean enableVUMeters = this.surface.getConfiguration ().isEnableVUMeters ();
-        final int vuR = valueChanger.toDisplayValue (enableVUMeters ? master.getVuRight () : 0);
-        final int vuL = valueChanger.toDisplayValue (enableVUMeters ? master.getVuLeft () : 0);
+        final VuMeterSubscription vuMeters = this.surface.getTrackVuMeters ();
+        final int vuR = valueChanger.toDisplayValue (enableVUMeters ? vuMeters.getRight (8) : 0);
+        final int vuL = valueChanger.toDisplayValue (enableVUMeters ? vuMeters.getLeft (8) : 0);
 
         display.addChannelElement ("Volume", false, master.getName (), ChannelType.MASTER, master.getColor (), master.isSelected (), valueChanger.toDisplayValue (master.getVolume ()), valueChanger.toDisplayValue (master.getModulatedVolume ()), this.isKnobTouched[0] ? master.getVolumeStr (8) : "", valueChanger.toDisplayValue (master.getPan ()), valueChanger.toDisplayValue (master.getModulatedPan ()), this.isKnobTouched[1] ? master.getPanStr (8) : "", vuL, vuR, master.isMute (), master.isSolo (), master.isRecArm (), master.isActivated (), 0);
         display.addChannelSelectorElement ("Pan", false, "", null, ColorEx.BLACK, false, master.isActivated ());
@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -200,7 +201,7 @@ public class TrackMode extends AbstractTrackMode
         {
             final PushConfiguration config = this.surface.getConfiguration ();
             final int upperBound = this.model.getValueChanger ().getUpperBound ();
-            final String volValueStr = config.isEnableVUMeters () ? Push1Display.formatValue (t.getVolume (), t.getVu (), upperBound) : Push1Display.formatValue (t.getVolume (), upperBound);
+            final String volValueStr = config.isEnableVUMeters () ? Push1Display.formatValue (t.getVolume (), this.surface.getTrackVuMeters ().getMono (t.getIndex ()), upperBound) : Push1Display.formatValue (t.getVolume (), upperBound);
             display.setCell (0, 0, "Volume").setCell (1, 0, t.getVolumeStr (8)).setCell (2, 0, volValueStr);
             display.setCell (0, 1, "Pan").setCell (1, 1, t.getPanStr (8)).setCell (2, 1, t.getPan (), Format.FORMAT_PAN);
 
@@ -260,8 +261,9 @@ public class TrackMode extends AbstractTrackMode
             {
                 final int crossfadeMode = displayCrossfader ? t.getCrossfadeModeAsNumber () : -1;
                 final boolean enableVUMeters = config.isEnableVUMeters ();
-                final int vuR = valueChanger.toDisplayValue (enableVUMeters ? t.getVuRight () : 0);
-                final int vuL = valueChanger.toDisplayValue (enableVUMeters ? t.getVuLeft () : 0);
+                final VuMeterSubscription vuMeters = this.surface.getTrackVuMeters ();
+                final int vuR = valueChanger.toDisplayValue (enableVUMeters ? vuMeters.getRight (i) : 0);
+                final int vuL = valueChanger.toDisplayValue (enableVUMeters ? vuMeters.getLeft (i) : 0);
                 display.addChannelElement (topMenu, topMenuSelected, bottomMenu, t.getType (), bottomMenuColor, isBottomMenuOn, valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), this.isKnobTouched[0] ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), this.isKnobTouched[1] ? t.getPanStr (8) : "", vuL, vuR, t.isMute (), t.isSolo (), t.isRecArm (), t.isActivated (), crossfadeMode);
             }
             else if (sendsIndex == i)
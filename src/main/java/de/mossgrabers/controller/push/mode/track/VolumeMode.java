@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterSubscription;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.parameterprovider.VolumeParameterProvider;
@@ -67,12 +68,13 @@ public class VolumeMode extends AbstractTrackMode
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         final PushConfiguration config = this.surface.getConfiguration ();
         final int upperBound = this.model.getValueChanger ().getUpperBound ();
+        final VuMeterSubscription vuMeters = this.surface.getTrackVuMeters ();
         for (int i = 0; i < 8; i++)
         {
             final ITrack t = tb.getItem (i);
             display.setCell (0, i, t.doesExist () ? "Volume" : "").setCell (1, i, t.getVolumeStr (8));
             if (t.doesExist ())
-                display.setCell (2, i, config.isEnableVUMeters () ? Push1Display.formatValue (t.getVolume (), t.getVu (), upperBound) : Push1Display.formatValue (t.getVolume (), upperBound));
+                display.setCell (2, i, config.isEnableVUMeters () ? Push1Display.formatValue (t.getVolume (), vuMeters.getMono (i), upperBound) : Push1Display.formatValue (t.getVolume (), upperBound));
         }
         this.drawRow4 (display);
     }
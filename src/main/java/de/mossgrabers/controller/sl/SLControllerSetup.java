@@ -260,6 +260,7 @@ public class SLControllerSetup extends AbstractControllerSetup<SLControlSurface,
                 return hasDevice ? parameterBank.getItem (index).getValue () : 0;
 
             }, value -> surface.getMidiOutput ().sendCC (0x70 + index, Math.min (value * 11 / 127, 11)));
+            relativeKnob.setFeedbackHoldTime (200);
 
             this.addAbsoluteKnob (ContinuousID.get (ContinuousID.KNOB1, i), "Knob " + (i + 1), null, SLControlSurface.MKII_KNOB_ROW2_1 + i);
         }
@@ -10,8 +10,6 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.featuregroup.AbstractView;
 
-import java.util.List;
-
 
 /**
  * Command to handle the aftertouch on a view.
@@ -25,6 +23,8 @@ public class AftertouchAbstractViewCommand<S extends IControlSurface<C>, C exten
 {
     protected AbstractView<S, C> view;
 
+    private final int []         pressedKeys = new int [128];
+
 
     /**
      * Constructor.
@@ -81,9 +81,9 @@ public class AftertouchAbstractViewCommand<S extends IControlSurface<C>, C exten
         final Configuration config = this.surface.getConfiguration ();
         if (config.getConvertAftertouch () == -2)
         {
-            final List<Integer> keys = this.view.getKeyManager ().getPressedKeys ();
-            for (final Integer key: keys)
-                this.onPolyAftertouch (key.intValue (), value);
+            final int count = this.view.getKeyManager ().getPressedKeys (this.pressedKeys);
+            for (int i = 0; i < count; i++)
+                this.onPolyAftertouch (this.pressedKeys[i], value);
         }
         else
             this.onPolyAftertouch (0, value);
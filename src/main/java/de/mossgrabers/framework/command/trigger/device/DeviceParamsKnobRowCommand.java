@@ -7,11 +7,10 @@ package de.mossgrabers.framework.command.trigger.device;
 import de.mossgrabers.framework.command.core.AbstractContinuousCommand;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.hardware.InteractionTracker;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 
-import java.util.Date;
-
 
 /**
  * Command to change a device parameter. Slows down the knob.
@@ -23,9 +22,8 @@ import java.util.Date;
  */
 public class DeviceParamsKnobRowCommand<S extends IControlSurface<C>, C extends Configuration> extends AbstractContinuousCommand<S, C>
 {
-    private int     index;
-    private long    moveStartTime;
-    private boolean isKnobMoving;
+    private int                      index;
+    private final InteractionTracker interaction = new InteractionTracker (200);
 
 
     /**
@@ -50,13 +48,7 @@ public class DeviceParamsKnobRowCommand<S extends IControlSurface<C>, C extends
         if (!cd.doesExist ())
             return;
         cd.getParameterBank ().getItem (this.index).setValue (value);
-
-        this.moveStartTime = new Date ().getTime ();
-        if (this.isKnobMoving)
-            return;
-
-        this.isKnobMoving = true;
-        this.startCheckKnobMovement ();
+        this.interaction.markInput ();
     }
 
 
@@ -67,23 +59,6 @@ public class DeviceParamsKnobRowCommand<S extends IControlSurface<C>, C extends
      */
     public boolean isKnobMoving ()
     {
-        return this.isKnobMoving;
-    }
-
-
-    private void checkKnobMovement ()
-    {
-        if (!this.isKnobMoving)
-            return;
-        if (new Date ().getTime () - this.moveStartTime > 200)
-            this.isKnobMoving = false;
-        else
-            this.startCheckKnobMovement ();
-    }
-
-
-    private void startCheckKnobMovement ()
-    {
-        this.surface.scheduleTask (this::checkKnobMovement, 100);
+        return this.interaction.isHolding ();
     }
 }
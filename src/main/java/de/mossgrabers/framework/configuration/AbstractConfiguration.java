@@ -111,6 +111,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      RECORD_BUTTON_FUNCTION            = Integer.valueOf (36);
     /** Setting for different record button functions in combination with shift. */
     public static final Integer      SHIFTED_RECORD_BUTTON_FUNCTION    = Integer.valueOf (37);
+    /** Setting for the limits of the motor fader output. */
+    public static final Integer      MOTOR_FADER_OUTPUT                = Integer.valueOf (38);
 
     // Implementation IDs start at 50
 
@@ -310,6 +312,40 @@ public abstract class AbstractConfiguration implements Configuration
         "Toggle rec arm",
     };
 
+    private static final String []                    MOTOR_FADER_RATE_OPTIONS    =
+    {
+        "Unlimited",
+        "50/s",
+        "30/s",
+        "20/s",
+        "10/s"
+    };
+
+    private static final int []                       MOTOR_FADER_RATES           =
+    {
+        0,
+        50,
+        30,
+        20,
+        10
+    };
+
+    private static final String []                    MOTOR_FADER_TRAVEL_OPTIONS  =
+    {
+        "Off",
+        "100 ms",
+        "200 ms",
+        "400 ms"
+    };
+
+    private static final int []                       MOTOR_FADER_TRAVEL_TIMES    =
+    {
+        0,
+        100,
+        200,
+        400
+    };
+
     protected final IHost                             host;
 
     private IEnumSetting                              scaleBaseSetting;
@@ -387,6 +423,10 @@ public abstract class AbstractConfiguration implements Configuration
     private RecordFunction                            recordButtonFunction        = RecordFunction.RECORD_ARRANGER;
     private RecordFunction                            shiftedRecordButtonFunction = RecordFunction.NEW_CLIP;
 
+    private int                                       motorFaderMinimumStep       = 16;
+    private int                                       motorFaderMaximumRate       = 30;
+    private int                                       motorFaderTravelTime        = 0;
+
 
     /**
      * Constructor.
@@ -1430,6 +1470,35 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the settings for limiting the updates of motor faders.
+     *
+     * @param settingsUI The settings
+     * @param category The name for the category
+     */
+    protected void activateMotorFaderOutputSettings (final ISettingsUI settingsUI, final String category)
+    {
+        settingsUI.getRangeSetting ("Motor Fader Min. Step", category, 0, 256, 1, "", 16).addValueObserver (value -> {
+            this.motorFaderMinimumStep = value.intValue ();
+            this.notifyObservers (MOTOR_FADER_OUTPUT);
+        });
+
+        final IEnumSetting rateSetting = settingsUI.getEnumSetting ("Motor Fader Max. Rate", category, MOTOR_FADER_RATE_OPTIONS, MOTOR_FADER_RATE_OPTIONS[2]);
+        rateSetting.addValueObserver (value -> {
+            this.motorFaderMaximumRate = MOTOR_FADER_RATES[lookupIndex (MOTOR_FADER_RATE_OPTIONS, value)];
+            this.notifyObservers (MOTOR_FADER_OUTPUT);
+        });
+
+        final IEnumSetting travelSetting = settingsUI.getEnumSetting ("Motor Fader Smoothing", category, MOTOR_FADER_TRAVEL_OPTIONS, MOTOR_FADER_TRAVEL_OPTIONS[0]);
+        travelSetting.addValueObserver (value -> {
+            this.motorFaderTravelTime = MOTOR_FADER_TRAVEL_TIMES[lookupIndex (MOTOR_FADER_TRAVEL_OPTIONS, value)];
+            this.notifyObservers (MOTOR_FADER_OUTPUT);
+        });
+
+        this.isSettingActive.add (MOTOR_FADER_OUTPUT);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void notifyAllObservers ()
@@ -1579,6 +1648,30 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getMotorFaderMinimumStep ()
+    {
+        return this.motorFaderMinimumStep;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMotorFaderMaximumRate ()
+    {
+        return this.motorFaderMaximumRate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMotorFaderTravelTime ()
+    {
+        return this.motorFaderTravelTime;
+    }
+
+
     /**
      * Should the master track and group-master tracks be included in the track list?
      *
@@ -431,4 +431,28 @@ public interface Configuration
      * @return The function index
      */
     RecordFunction getShiftedRecordButtonFunction ();
+
+
+    /**
+     * Get the minimum change of a motor fader position which is sent while the value changes.
+     *
+     * @return The minimum step, 0 to send all changes
+     */
+    int getMotorFaderMinimumStep ();
+
+
+    /**
+     * Get the maximum number of position updates per second for each motor fader.
+     *
+     * @return The rate, 0 for unlimited
+     */
+    int getMotorFaderMaximumRate ();
+
+
+    /**
+     * Get the time in which a motor fader should move over its whole range.
+     *
+     * @return The time in milliseconds, 0 to move to the target in one step
+     */
+    int getMotorFaderTravelTime ();
 }
@@ -32,6 +32,8 @@ import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.metrics.Histogram;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.ArrayList;
@@ -83,6 +85,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected ILightGuide                           lightGuide;
 
     private int []                                  keyTranslationTable;
+    private final NoteMappingManager                noteMappingManager       = new NoteMappingManager ();
 
     private final DummyDisplay                      dummyDisplay;
     private IHwPianoKeyboard                        pianoKeyboard;
@@ -91,8 +94,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private int                                     updateCounter            = 0;
 
     private boolean                                 knobSensitivityIsSlow    = false;
+    private boolean                                 isConsumingNotes         = false;
     private final List<ISensitivityCallback>        knobSensitivityObservers = new ArrayList<> ();
 
+    private final Histogram                         flushTime;
+    private final Histogram                         displayTime;
+    private final Histogram                         gridTime;
+    private final Histogram                         hardwareTime;
+
 
     /**
      * Constructor.
@@ -164,8 +173,19 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         if (this.input != null)
             this.input.setMidiCallback (this::handleMidi);
 
+        final MetricsRegistry metrics = host.getMetrics ();
+        final String metricsPrefix = "surface" + surfaceID;
+        this.flushTime = metrics.histogram (metricsPrefix + ".flush");
+        this.displayTime = metrics.histogram (metricsPrefix + ".flush.display");
+        this.gridTime = metrics.histogram (metricsPrefix + ".flush.grid");
+        this.hardwareTime = metrics.histogram (metricsPrefix + ".flush.hardware");
+        if (this.output != null)
+            this.output.enableMetrics (metrics, metricsPrefix);
+
         this.createPads ();
         this.createLightGuide ();
+
+        this.viewManager.addChangeListener ( (previousViewId, activeViewId) -> this.updateNoteCallbacks ());
     }
 
 
@@ -395,14 +415,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void setKeyTranslationTable (final int [] table)
     {
         this.keyTranslationTable = table;
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
-        if (defaultNoteInput != null)
-            defaultNoteInput.setKeyTranslationTable (t);
+        if (this.input != null && this.noteMappingManager.setKeyTranslationTable (table))
+            this.flush ();
     }
 
 
@@ -418,14 +432,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setVelocityTranslationTable (final int [] table)
     {
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
-        if (defaultNoteInput != null)
-            defaultNoteInput.setVelocityTranslationTable (t);
+        if (this.input != null && this.noteMappingManager.setVelocityTranslationTable (table))
+            this.flush ();
     }
 
 
@@ -705,16 +713,28 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 return;
         }
 
+        final long startTime = this.flushTime.start ();
         try
         {
+            this.flushNoteMapping ();
+
+            long phaseStart = this.displayTime.start ();
             this.updateViewControls ();
+            this.displayTime.stop (phaseStart);
+
+            phaseStart = this.gridTime.start ();
             this.updateGrid ();
+            this.gridTime.stop (phaseStart);
+
+            phaseStart = this.hardwareTime.start ();
             this.flushHardware ();
+            this.hardwareTime.stop (phaseStart);
         }
         catch (final RuntimeException ex)
         {
             this.host.error ("Crash during flush.", ex);
         }
+        this.flushTime.stop (startTime);
 
         synchronized (this.updateCounterLock)
         {
@@ -729,6 +749,16 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Apply the latest key and velocity translation tables, if they have changed.
+     */
+    protected void flushNoteMapping ()
+    {
+        if (this.input != null && this.noteMappingManager.hasPendingTables ())
+            this.noteMappingManager.flush (this.input.getDefaultNoteInput ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearCache ()
@@ -983,6 +1013,39 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Only forward the notes of the default note input to the MIDI callback if the active view
+     * requires them. Pads which are held while the consumption is switched are released, since
+     * their note off would not reach the view any more.
+     */
+    protected void updateNoteCallbacks ()
+    {
+        if (this.input == null)
+            return;
+        final INoteInput noteInput = this.input.getDefaultNoteInput ();
+        if (noteInput == null)
+            return;
+        final IView view = this.viewManager.getActive ();
+        final boolean consume = view != null && !view.isNoteCallbackRequired ();
+        if (this.isConsumingNotes == consume)
+            return;
+        this.isConsumingNotes = consume;
+
+        if (consume && this.padGrid != null)
+        {
+            final int size = this.padGrid.getRows () * this.padGrid.getCols ();
+            for (int i = 0; i < size; i++)
+            {
+                final IHwButton pad = this.getButton (ButtonID.get (ButtonID.PAD1, i));
+                if (pad != null && pad.isPressed ())
+                    pad.trigger (ButtonEvent.UP);
+            }
+        }
+
+        noteInput.setShouldConsumeEvents (consume);
+    }
+
+
     /**
      * Handle a midi note which belongs to the grid.
      *
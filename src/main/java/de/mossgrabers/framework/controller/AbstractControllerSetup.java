@@ -21,6 +21,7 @@ import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacetManager;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
@@ -29,8 +30,10 @@ import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
+import de.mossgrabers.framework.metrics.MetricsReporter;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.trace.TraceSession;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
 import de.mossgrabers.framework.utils.IntConsumerSupplier;
@@ -59,6 +62,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected final ISettingsUI   globalSettings;
     protected final ISettingsUI   documentSettings;
     protected final ISetupFactory factory;
+    protected final TraceSession  traceSession;
+    private MetricsReporter       metricsReporter;
 
     protected Scales              scales;
     protected IModel              model;
@@ -78,7 +83,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
      */
     protected AbstractControllerSetup (final ISetupFactory factory, final IHost host, final ISettingsUI globalSettings, final ISettingsUI documentSettings)
     {
-        this.factory = factory;
+        this.traceSession = TraceSession.create (host, factory, this.getClass ().getSimpleName ());
+        this.factory = this.traceSession == null ? factory : this.traceSession.getSetupFactory ();
         this.host = host;
         this.globalSettings = globalSettings;
         this.documentSettings = documentSettings;
@@ -131,20 +137,68 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
+        final long startTime = System.nanoTime ();
+        final StringBuilder report = new StringBuilder ("Startup times:");
+        long time = startTime;
+
         this.initConfiguration ();
+        this.metricsReporter = MetricsReporter.create (this.host, this.host.getMetrics ());
+        if (this.metricsReporter != null)
+            this.metricsReporter.init (this.globalSettings);
+        time = measureStartupPhase (report, "configuration", time);
         this.createScales ();
+        time = measureStartupPhase (report, "scales", time);
         this.createModel ();
+        time = measureStartupPhase (report, "model", time);
         this.createSurface ();
+        time = measureStartupPhase (report, "surfaces", time);
         this.createModes ();
+        time = measureStartupPhase (report, "modes", time);
         this.createObservers ();
+        time = measureStartupPhase (report, "observers", time);
         this.createViews ();
+        time = measureStartupPhase (report, "views", time);
         this.registerTriggerCommands ();
+        time = measureStartupPhase (report, "trigger commands", time);
         this.registerContinuousCommands ();
+        time = measureStartupPhase (report, "continuous commands", time);
         this.layoutControls ();
+        this.connectModelFacets ();
         if (this.model != null)
             this.model.ensureClip ();
 
         this.configuration.notifyAllObservers ();
+        measureStartupPhase (report, "layout and settings", time);
+
+        report.append (" total ").append ((System.nanoTime () - startTime) / 1000000).append (" ms");
+        for (final S surface: this.surfaces)
+        {
+            final ModeManager modeManager = surface.getModeManager ();
+            final ViewManager viewManager = surface.getViewManager ();
+            report.append (", modes ").append (modeManager.getNumberOfCreated ()).append ('/').append (modeManager.getNumberOfRegistered ());
+            report.append (", views ").append (viewManager.getNumberOfCreated ()).append ('/').append (viewManager.getNumberOfRegistered ());
+        }
+        if (this.metricsReporter != null && this.metricsReporter.isStartupTimesOn ())
+            this.host.println (report.toString ());
+
+        if (this.traceSession != null)
+            this.traceSession.start (this::flush);
+    }
+
+
+    /**
+     * Appends the time which has passed since the given start time to the startup report.
+     *
+     * @param report The report to append to
+     * @param phase The name of the startup phase
+     * @param startTime The start time of the phase in nanoseconds
+     * @return The end time of the phase in nanoseconds
+     */
+    private static long measureStartupPhase (final StringBuilder report, final String phase, final long startTime)
+    {
+        final long now = System.nanoTime ();
+        report.append (' ').append (phase).append (' ').append ((now - startTime) / 1000000).append (" ms,");
+        return now;
     }
 
 
@@ -155,6 +209,10 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        if (this.traceSession != null)
+            this.traceSession.close ();
+        if (this.metricsReporter != null)
+            this.metricsReporter.shutdown ();
         this.host.println ("Exited.");
     }
 
@@ -163,16 +221,28 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void flush ()
     {
+        this.flushVuMeters ();
+
         for (final S surface: this.surfaces)
             surface.flush ();
     }
 
 
+    /**
+     * Process the VU meters and notify the subscribed consumers.
+     */
+    protected void flushVuMeters ()
+    {
+        if (this.model != null)
+            this.model.getVuMeterManager ().flush ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void test (final TestCallback callback)
     {
-        final TestFramework framework = new TestFramework (this.host);
+        final TestFramework framework = new TestFramework (this.host, this::flush);
 
         this.getSurfaces ().forEach (surface -> {
 
@@ -192,9 +262,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
                     if (modeManager.get (modeID) == null)
                         continue;
 
-                    framework.scheduleFunction ( () -> {
-
-                        this.host.println ("- View " + viewID + " Mode " + modeID);
+                    framework.scheduleFunction ("View " + viewID + " Mode " + modeID, () -> {
 
                         viewManager.setActive (viewID);
                         modeManager.setActive (modeID);
@@ -246,7 +314,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         });
 
         callback.startTesting ();
-        framework.executeScheduler (callback);
+        framework.executeWithVirtualClock (callback);
     }
 
 
@@ -293,6 +361,23 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Connect the mode and view managers of all surfaces to the model facet manager, which enables
+     * the observers of the model facets required by the active modes and views.
+     */
+    protected void connectModelFacets ()
+    {
+        if (this.model == null)
+            return;
+        final ModelFacetManager facetManager = this.model.getFacetManager ();
+        for (final S surface: this.surfaces)
+        {
+            surface.getModeManager ().setFacetManager (facetManager);
+            surface.getViewManager ().setFacetManager (facetManager);
+        }
+    }
+
+
     /**
      * Initialize the configuration settings.
      */
@@ -87,7 +87,8 @@ public interface IControllerSetup<S extends IControlSurface<C>, C extends Config
 
 
     /**
-     * Test the user interface.
+     * Test the user interface. All steps are executed at once with a virtual clock, which is
+     * advanced instantly between them. Reports the execution time and output volume of each step.
      *
      * @param callback Callback for signalling the start and end of the tests
      */
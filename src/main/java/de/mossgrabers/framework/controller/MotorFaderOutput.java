@@ -0,0 +1,220 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.ScheduledTask;
+
+import java.util.Arrays;
+
+
+/**
+ * Output stage for the positions of motor faders. Instead of sending every change of a value, which
+ * results in a stream of tiny moves (e.g. during automation playback), the positions are limited:
+ * <ul>
+ * <li>Changes smaller than the minimum step are only sent after the value did not change for the
+ * settle time.</li>
+ * <li>Each fader is updated at most at the maximum rate.</li>
+ * <li>If a travel time is set, the fader moves towards a distant target in several steps.</li>
+ * <li>While a fader is touched no position is sent (which would fight against the user). On release
+ * the current position is sent immediately.</li>
+ * </ul>
+ * Updates which are held back are sent by a scheduled task, therefore the faders reach their
+ * target even if there are no further changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MotorFaderOutput
+{
+    /** The interval for sending held back updates if there is no maximum rate. */
+    private static final int MIN_UPDATE_INTERVAL = 10;
+    /** The time in milliseconds in which a value must not change to send a small change. */
+    private static final int SETTLE_TIME         = 100;
+
+
+    /**
+     * Interface for sending the position of a fader to the device.
+     */
+    public interface IFaderSender
+    {
+        /**
+         * Send the position of a fader.
+         *
+         * @param index The index of the fader
+         * @param value The position
+         */
+        void send (int index, int value);
+    }
+
+
+    private final IHost         host;
+    private final IFaderSender  sender;
+    private final int           range;
+    private final int []        targets;
+    private final int []        sentValues;
+    private final long []       sentTimes;
+    private final long []       changeTimes;
+    private final boolean []    isTouched;
+    private final ScheduledTask updateTask      = new ScheduledTask (this::update);
+
+    private int                 minimumStep     = 0;
+    private int                 minimumInterval = 0;
+    private int                 travelTime      = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param numFaders The number of faders
+     * @param range The number of fader positions
+     * @param sender Sends the positions to the device
+     */
+    public MotorFaderOutput (final IHost host, final int numFaders, final int range, final IFaderSender sender)
+    {
+        this.host = host;
+        this.sender = sender;
+        this.range = range;
+
+        this.targets = new int [numFaders];
+        this.sentValues = new int [numFaders];
+        this.sentTimes = new long [numFaders];
+        this.changeTimes = new long [numFaders];
+        this.isTouched = new boolean [numFaders];
+
+        Arrays.fill (this.targets, -1);
+        Arrays.fill (this.sentValues, -1);
+    }
+
+
+    /**
+     * Configure the limits.
+     *
+     * @param minimumStep Changes smaller than this are held back until the value did not change for
+     *            the settle time, 0 to send all changes
+     * @param maximumRate The maximum number of updates per second for each fader, 0 for unlimited
+     * @param travelTime The time in milliseconds in which a fader should move over the whole range,
+     *            0 to move to the target in one step
+     */
+    public void configure (final int minimumStep, final int maximumRate, final int travelTime)
+    {
+        this.minimumStep = Math.max (0, minimumStep);
+        this.minimumInterval = maximumRate <= 0 ? 0 : 1000 / maximumRate;
+        this.travelTime = Math.max (0, travelTime);
+    }
+
+
+    /**
+     * Set the position to which a fader should move. Call update to send the changes.
+     *
+     * @param index The index of the fader
+     * @param value The position
+     */
+    public void setTarget (final int index, final int value)
+    {
+        if (this.targets[index] == value)
+            return;
+        this.targets[index] = value;
+        this.changeTimes[index] = System.currentTimeMillis ();
+    }
+
+
+    /**
+     * Set the touch state of a fader. While touched, no positions are sent for the fader. On release
+     * the fader is set to its target position with the next update.
+     *
+     * @param index The index of the fader
+     * @param isTouched True if touched
+     */
+    public void setTouched (final int index, final boolean isTouched)
+    {
+        if (this.isTouched[index] == isTouched)
+            return;
+
+        this.isTouched[index] = isTouched;
+
+        // The user moved the fader, the last sent position is no longer valid
+        if (!isTouched)
+            this.sentValues[index] = -1;
+    }
+
+
+    /**
+     * Is the fader touched?
+     *
+     * @param index The index of the fader
+     * @return True if touched
+     */
+    public boolean isTouched (final int index)
+    {
+        return this.isTouched[index];
+    }
+
+
+    /**
+     * Forget all sent positions, e.g. after the device was reset. All faders are updated with the
+     * next update.
+     */
+    public void clearCache ()
+    {
+        Arrays.fill (this.sentValues, -1);
+    }
+
+
+    /**
+     * Send the positions of all faders which need to be moved and are not held back by the limits.
+     */
+    public void update ()
+    {
+        final long now = System.currentTimeMillis ();
+        final int interval = Math.max (MIN_UPDATE_INTERVAL, this.minimumInterval);
+        boolean isPending = false;
+
+        for (int i = 0; i < this.targets.length; i++)
+        {
+            final int target = this.targets[i];
+            final int sent = this.sentValues[i];
+            if (this.isTouched[i] || target < 0 || target == sent)
+                continue;
+
+            // Unknown position, e.g. after a touch release
+            if (sent < 0)
+            {
+                this.send (i, target, now);
+                continue;
+            }
+
+            final int diff = target - sent;
+            if (now - this.sentTimes[i] < this.minimumInterval || Math.abs (diff) < this.minimumStep && now - this.changeTimes[i] < SETTLE_TIME)
+            {
+                isPending = true;
+                continue;
+            }
+
+            int value = target;
+            if (this.travelTime > 0)
+            {
+                final int maxDelta = Math.max (1, this.range * interval / this.travelTime);
+                if (Math.abs (diff) > maxDelta)
+                {
+                    value = sent + (diff > 0 ? maxDelta : -maxDelta);
+                    isPending = true;
+                }
+            }
+            this.send (i, value, now);
+        }
+
+        if (isPending && !this.updateTask.isPending ())
+            this.host.getTimerWheel ().schedule (this.updateTask, interval);
+    }
+
+
+    private void send (final int index, final int value, final long now)
+    {
+        this.sentValues[index] = value;
+        this.sentTimes[index] = now;
+        this.sender.send (index, value);
+    }
+}
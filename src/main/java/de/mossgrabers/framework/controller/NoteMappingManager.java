@@ -0,0 +1,142 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.midi.INoteInput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Manages the key and velocity translation tables of a note input. Changes to the tables are
+ * collected and only the latest one is applied on the next flush. A table is only sent to the DAW if
+ * it differs from the one which was applied last. The boxed tables required by the DAW are cached,
+ * so switching back and forth between a few layouts does not create new objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteMappingManager
+{
+    private static final int          MAX_CACHED_TABLES = 8;
+
+    private final List<int []>        cachedTables      = new ArrayList<> (MAX_CACHED_TABLES);
+    private final List<Integer []>    cachedBoxed       = new ArrayList<> (MAX_CACHED_TABLES);
+
+    private int []                    pendingKeyTable;
+    private int []                    appliedKeyTable;
+    private int []                    pendingVelocityTable;
+    private int []                    appliedVelocityTable;
+
+
+    /**
+     * Set a new key translation table. It is applied with the next flush.
+     *
+     * @param table The table
+     * @return True if the table differs from the currently applied or pending one
+     */
+    public boolean setKeyTranslationTable (final int [] table)
+    {
+        final boolean hasChanged = !Arrays.equals (table, this.pendingKeyTable == null ? this.appliedKeyTable : this.pendingKeyTable);
+        this.pendingKeyTable = table;
+        return hasChanged;
+    }
+
+
+    /**
+     * Set a new velocity translation table. It is applied with the next flush.
+     *
+     * @param table The table
+     * @return True if the table differs from the currently applied or pending one
+     */
+    public boolean setVelocityTranslationTable (final int [] table)
+    {
+        final boolean hasChanged = !Arrays.equals (table, this.pendingVelocityTable == null ? this.appliedVelocityTable : this.pendingVelocityTable);
+        this.pendingVelocityTable = table;
+        return hasChanged;
+    }
+
+
+    /**
+     * Are there tables which need to be applied?
+     *
+     * @return True if there are pending tables
+     */
+    public boolean hasPendingTables ()
+    {
+        return this.pendingKeyTable != null || this.pendingVelocityTable != null;
+    }
+
+
+    /**
+     * Apply the pending tables to the note input, if they differ from the ones applied last.
+     *
+     * @param noteInput The note input, may be null
+     */
+    public void flush (final INoteInput noteInput)
+    {
+        if (noteInput == null)
+            return;
+
+        if (this.pendingKeyTable != null)
+        {
+            if (!Arrays.equals (this.pendingKeyTable, this.appliedKeyTable))
+            {
+                this.appliedKeyTable = this.pendingKeyTable.clone ();
+                noteInput.setKeyTranslationTable (this.getBoxedTable (this.appliedKeyTable));
+            }
+            this.pendingKeyTable = null;
+        }
+
+        if (this.pendingVelocityTable != null)
+        {
+            if (!Arrays.equals (this.pendingVelocityTable, this.appliedVelocityTable))
+            {
+                this.appliedVelocityTable = this.pendingVelocityTable.clone ();
+                noteInput.setVelocityTranslationTable (this.getBoxedTable (this.appliedVelocityTable));
+            }
+            this.pendingVelocityTable = null;
+        }
+    }
+
+
+    /**
+     * Get the boxed version of a table from the cache. Creates and caches it if not present. The
+     * least recently used table is removed if the cache is full.
+     *
+     * @param table The table
+     * @return The boxed table
+     */
+    private Integer [] getBoxedTable (final int [] table)
+    {
+        for (int i = 0; i < this.cachedTables.size (); i++)
+        {
+            if (Arrays.equals (this.cachedTables.get (i), table))
+            {
+                final Integer [] boxed = this.cachedBoxed.get (i);
+                if (i > 0)
+                {
+                    this.cachedTables.add (0, this.cachedTables.remove (i));
+                    this.cachedBoxed.add (0, this.cachedBoxed.remove (i));
+                }
+                return boxed;
+            }
+        }
+
+        final Integer [] boxed = new Integer [table.length];
+        for (int i = 0; i < table.length; i++)
+            boxed[i] = Integer.valueOf (table[i]);
+
+        if (this.cachedTables.size () == MAX_CACHED_TABLES)
+        {
+            this.cachedTables.remove (MAX_CACHED_TABLES - 1);
+            this.cachedBoxed.remove (MAX_CACHED_TABLES - 1);
+        }
+        this.cachedTables.add (0, table);
+        this.cachedBoxed.add (0, boxed);
+        return boxed;
+    }
+}
@@ -31,7 +31,10 @@ import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.framework.graphics.canvas.utils.StaticLayerCache;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.metrics.Histogram;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
@@ -84,6 +87,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     protected final IGraphicsConfiguration configuration;
     protected final IGraphicsDimensions    dimensions;
     private final IBitmap                  image;
+    private final StaticLayerCache         layerCache;
+    private final Histogram                renderTime;
+    private final Histogram                sendTime;
 
     private IHwGraphicsDisplay             hardwareDisplay;
 
@@ -106,6 +112,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
         this.image.setDisplayWindowTitle (windowTitle);
+        this.layerCache = new StaticLayerCache (host);
+
+        final MetricsRegistry metrics = host.getMetrics ();
+        this.renderTime = metrics.histogram ("display.render");
+        this.sendTime = metrics.histogram ("display.send");
 
         // Manage notification message display time
         this.executor.scheduleAtFixedRate ( () -> {
@@ -165,7 +176,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             if (!this.info.equals (newInfo))
             {
                 this.info = newInfo;
+                final long start = this.renderTime.start ();
                 this.renderImage ();
+                this.renderTime.stop (start);
             }
         }
         finally
@@ -173,7 +186,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             this.columns.clear ();
         }
 
+        final long start = this.sendTime.start ();
         this.send (this.image);
+        this.sendTime.stop (start);
     }
 
 
@@ -426,7 +441,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             final double paintWidth = gridWidth - separatorSize;
             final double offsetX = separatorSize / 2.0;
 
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            this.layerCache.validate (this.configuration);
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions, this.layerCache);
             for (int i = 0; i < size; i++)
             {
                 final IComponent component = elements.get (i);
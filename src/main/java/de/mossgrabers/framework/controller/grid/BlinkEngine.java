@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ITransport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Software blinking for pad grids whose hardware does not support blinking. The blink phase is not
+ * stored but calculated from the system clock or, while the transport is playing and the engine is
+ * synchronized to it, from the play position. Therefore, all grids blink in sync and the phases
+ * match the beats of the project. There is one engine per host, see {@link IHost#getBlinkEngine()}.
+ * The engine schedules itself for the next phase change and notifies the registered grids, which
+ * only send the pads which need to change their color. This is independent of the flush rate of
+ * the controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BlinkEngine
+{
+    /** The duration of one phase of a slow blinking pad in milliseconds, if not synchronized. */
+    public static final int             BLINK_SPEED = 600;
+
+    private final IHost                 host;
+    private final List<BlinkingPadGrid> grids       = new ArrayList<> ();
+    private ITransport                  transport;
+    private boolean                     isScheduled;
+
+    private double                      anchorBeat  = Double.NaN;
+    private long                        anchorTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the phase changes
+     */
+    public BlinkEngine (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Register a grid, which gets notified about phase changes. Starts the engine.
+     *
+     * @param grid The grid
+     */
+    public void register (final BlinkingPadGrid grid)
+    {
+        synchronized (this.grids)
+        {
+            this.grids.add (grid);
+        }
+        grid.setBlinkEngine (this);
+
+        if (!this.isScheduled)
+            this.scheduleNextStep ();
+    }
+
+
+    /**
+     * Unregister a grid. Call on shutdown. The engine stops if no grid is left.
+     *
+     * @param grid The grid
+     */
+    public void unregister (final BlinkingPadGrid grid)
+    {
+        synchronized (this.grids)
+        {
+            this.grids.remove (grid);
+        }
+    }
+
+
+    /**
+     * Synchronize the blinking to the play position of the transport. While playing, a slow blinking
+     * pad changes its phase on every quarter note, a fast one on every eighth note.
+     *
+     * @param transport The transport, null to always blink with the fixed {@link #BLINK_SPEED}
+     */
+    public void setTransport (final ITransport transport)
+    {
+        this.transport = transport;
+    }
+
+
+    /**
+     * Get the current phase of the blinking.
+     *
+     * @param fast Get the phase of fast blinking pads if true
+     * @return True if the pads should show their blink color
+     */
+    public boolean isBlinkPhase (final boolean fast)
+    {
+        final long step = this.getStep (System.currentTimeMillis ());
+        return ((fast ? step : step / 2) & 1) == 1;
+    }
+
+
+    /**
+     * Get the number of fast blink phases, either since the start of the clock or since the start of
+     * the project.
+     *
+     * @param time The time in milliseconds
+     * @return The step
+     */
+    private long getStep (final long time)
+    {
+        final double beat = this.getBeat (time);
+        if (Double.isNaN (beat))
+            return time / (BLINK_SPEED / 2);
+        return (long) Math.floor (beat * 2);
+    }
+
+
+    /**
+     * Get the time of the next fast blink phase change.
+     *
+     * @param time The current time in milliseconds
+     * @return The time in milliseconds
+     */
+    private long getNextStepTime (final long time)
+    {
+        final double beat = this.getBeat (time);
+        if (Double.isNaN (beat))
+            return (time / (BLINK_SPEED / 2) + 1) * (BLINK_SPEED / 2);
+        final double eighths = Math.floor (beat * 2) + 1 - beat * 2;
+        return time + (long) Math.ceil (eighths * 30000.0 / this.transport.getTempo ());
+    }
+
+
+    /**
+     * Get the play position at the given time. The position reported by the DAW is only updated
+     * from time to time, therefore it is extrapolated with the tempo from the time it changed last.
+     *
+     * @param time The time in milliseconds
+     * @return The position in quarter notes, NaN if the transport is not synchronized or not playing
+     */
+    private double getBeat (final long time)
+    {
+        if (this.transport == null || !this.transport.isPlaying () || this.transport.getTempo () <= 0)
+        {
+            this.anchorBeat = Double.NaN;
+            return Double.NaN;
+        }
+
+        final double position = this.transport.getPosition ();
+        if (position != this.anchorBeat)
+        {
+            this.anchorBeat = position;
+            this.anchorTime = time;
+        }
+        return this.anchorBeat + (time - this.anchorTime) * this.transport.getTempo () / 60000.0;
+    }
+
+
+    private void scheduleNextStep ()
+    {
+        this.isScheduled = true;
+        final long now = System.currentTimeMillis ();
+        this.host.scheduleTask (this::step, Math.max (1, this.getNextStepTime (now) - now));
+    }
+
+
+    private void step ()
+    {
+        this.isScheduled = false;
+
+        final boolean slowPhase = this.isBlinkPhase (false);
+        final boolean fastPhase = this.isBlinkPhase (true);
+        synchronized (this.grids)
+        {
+            if (this.grids.isEmpty ())
+                return;
+            for (final BlinkingPadGrid grid: this.grids)
+                grid.updateBlinking (slowPhase, fastPhase);
+        }
+
+        this.scheduleNextStep ();
+    }
+}
@@ -7,24 +7,31 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-
 
 /**
- * Implementation of a grid of pads with software simulated blinking pads.
+ * Implementation of a grid of pads with software simulated blinking pads. The colors of the pads
+ * are stored with their controller note. Changed and blinking pads are tracked in bitsets. The
+ * blinking is driven by a {@link BlinkEngine}, which only needs to update the pads whose phase
+ * changed.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    private static final int BITSET_SIZE  = NUM_NOTES / 64;
+
+    private final int []     colors       = new int [NUM_NOTES];
+    private final int []     blinkColors  = new int [NUM_NOTES];
+    private final long []    changedPads  = new long [BITSET_SIZE];
+    private final long []    blinkingPads = new long [BITSET_SIZE];
+    private final long []    fastPads     = new long [BITSET_SIZE];
+
+    private final int []     updateNotes  = new int [NUM_NOTES];
+    private final int []     updateColors = new int [NUM_NOTES];
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    private BlinkEngine      blinkEngine;
+    private boolean          slowBlinkPhase;
+    private boolean          fastBlinkPhase;
 
 
     /**
@@ -55,31 +62,125 @@ public abstract class BlinkingPadGrid extends PadGridImpl
 
 
     /**
-     * Flush the changed pad LEDs using sysex.
+     * Set the blink engine which drives the blinking of this grid. Called by
+     * {@link BlinkEngine#register(BlinkingPadGrid)}.
+     *
+     * @param blinkEngine The blink engine
+     */
+    void setBlinkEngine (final BlinkEngine blinkEngine)
+    {
+        synchronized (this.colors)
+        {
+            this.blinkEngine = blinkEngine;
+            this.slowBlinkPhase = blinkEngine.isBlinkPhase (false);
+            this.fastBlinkPhase = blinkEngine.isBlinkPhase (true);
+        }
+    }
+
+
+    /**
+     * Get the blink engine which drives the blinking of this grid.
+     *
+     * @return The blink engine, null if the grid is not registered with an engine
+     */
+    public BlinkEngine getBlinkEngine ()
+    {
+        return this.blinkEngine;
+    }
+
+
+    /**
+     * Flush the changed pad LEDs. Blinking pads are sent with the color of the current blink
+     * phase.
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.colors)
         {
-            this.updateController ();
-            this.padInfos.clear ();
+            int count = 0;
+            for (int i = 0; i < BITSET_SIZE; i++)
+            {
+                long bits = this.changedPads[i];
+                this.changedPads[i] = 0;
+                while (bits != 0)
+                {
+                    final int note = i * 64 + Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+                    this.updateNotes[count] = note;
+                    this.updateColors[count] = this.getPhaseColor (note);
+                    count++;
+                }
+            }
+
+            if (count > 0)
+                this.updateController (this.updateNotes, this.updateColors, count);
         }
     }
 
 
     /**
-     * Send the changes incl. blinking pad changes to the controller.
+     * Send the pads which blink with a phase which has changed. Called by the blink engine.
+     *
+     * @param slowPhase The new phase of the slow blinking pads
+     * @param fastPhase The new phase of the fast blinking pads
      */
-    protected abstract void updateController ();
+    void updateBlinking (final boolean slowPhase, final boolean fastPhase)
+    {
+        synchronized (this.colors)
+        {
+            final boolean slowChanged = slowPhase != this.slowBlinkPhase;
+            final boolean fastChanged = fastPhase != this.fastBlinkPhase;
+            this.slowBlinkPhase = slowPhase;
+            this.fastBlinkPhase = fastPhase;
+            if (!slowChanged && !fastChanged)
+                return;
+
+            int count = 0;
+            for (int i = 0; i < BITSET_SIZE; i++)
+            {
+                long bits = 0;
+                if (slowChanged)
+                    bits |= this.blinkingPads[i] & ~this.fastPads[i];
+                if (fastChanged)
+                    bits |= this.blinkingPads[i] & this.fastPads[i];
+                while (bits != 0)
+                {
+                    final int note = i * 64 + Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+                    this.updateNotes[count] = note;
+                    this.updateColors[count] = this.getPhaseColor (note);
+                    count++;
+                }
+            }
+
+            if (count > 0)
+                this.updateController (this.updateNotes, this.updateColors, count);
+        }
+    }
+
+
+    /**
+     * Send the color changes to the controller.
+     *
+     * @param notes The controller notes of the pads to update, only the first count entries are
+     *            valid
+     * @param colorIndices The color indices to send for the pads, only the first count entries are
+     *            valid
+     * @param count The number of pads to update
+     */
+    protected abstract void updateController (int [] notes, int [] colorIndices, int count);
 
 
     /** {@inheritDoc} */
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
+        synchronized (this.colors)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.colors[note] = color;
+            this.blinkColors[note] = 0;
+            this.blinkingPads[note / 64] &= ~(1L << note % 64);
+            this.changedPads[note / 64] |= 1L << note % 64;
         }
     }
 
@@ -88,24 +189,32 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
+        synchronized (this.colors)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            final long bit = 1L << note % 64;
+            this.blinkColors[note] = blinkColor;
+            this.blinkingPads[note / 64] |= bit;
+            if (fast)
+                this.fastPads[note / 64] |= bit;
+            else
+                this.fastPads[note / 64] &= ~bit;
+            this.changedPads[note / 64] |= bit;
         }
     }
 
 
-    protected boolean checkBlinking ()
+    /**
+     * Get the color to send for a pad in the current blink phase.
+     *
+     * @param note The controller note of the pad
+     * @return The color index
+     */
+    private int getPhaseColor (final int note)
     {
-        final long now = System.currentTimeMillis ();
-        if (now - this.updateTime > BLINK_SPEED)
-        {
-            this.updateTime = now;
-            this.isBlink = !this.isBlink;
-            return true;
-        }
-        return false;
+        final long bit = 1L << note % 64;
+        if ((this.blinkingPads[note / 64] & bit) == 0)
+            return this.colors[note];
+        final boolean phase = (this.fastPads[note / 64] & bit) == 0 ? this.slowBlinkPhase : this.fastBlinkPhase;
+        return phase ? this.blinkColors[note] : this.colors[note];
     }
 }
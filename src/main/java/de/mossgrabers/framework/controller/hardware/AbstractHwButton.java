@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.ScheduledTask;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +31,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 
     private final List<ButtonEventHandler> downEventHandlers     = new ArrayList<> ();
     private final List<ButtonEventHandler> upEventHandlers       = new ArrayList<> ();
+    private final ScheduledTask            longPressTask         = new ScheduledTask (this::checkButtonState);
 
 
     /**
@@ -65,7 +67,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        this.host.getTimerWheel ().schedule (this.longPressTask, BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -79,6 +81,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
      */
     protected void handleButtonRelease ()
     {
+        this.longPressTask.cancel ();
+
         if (!this.isBound ())
             return;
 
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.ScheduledTask;
 
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
@@ -21,16 +22,19 @@ import java.util.function.IntSupplier;
  */
 public abstract class AbstractHwContinuousControl extends AbstractHwInputControl implements IHwContinuousControl
 {
-    private static final int    BUTTON_STATE_INTERVAL = 400;
+    private static final int         BUTTON_STATE_INTERVAL = 400;
 
-    protected ContinuousCommand command;
-    protected TriggerCommand    touchCommand;
-    protected PitchbendCommand  pitchbendCommand;
+    protected ContinuousCommand      command;
+    protected TriggerCommand         touchCommand;
+    protected PitchbendCommand       pitchbendCommand;
 
-    protected ButtonEvent       state;
-    protected IntSupplier       supplier;
-    protected IntConsumer       consumer;
-    protected int               outputValue           = -1;
+    protected ButtonEvent            state;
+    protected IntSupplier            supplier;
+    protected IntConsumer            consumer;
+    protected int                    outputValue           = -1;
+
+    private final ScheduledTask      longTouchTask         = new ScheduledTask (this::checkButtonState);
+    private final InteractionTracker interaction           = new InteractionTracker (0);
 
 
     /**
@@ -100,7 +104,12 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
         if (this.touchCommand == null)
             return;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        this.markInput ();
+
+        if (isDown)
+            this.host.getTimerWheel ().schedule (this.longTouchTask, BUTTON_STATE_INTERVAL);
+        else
+            this.longTouchTask.cancel ();
 
         this.state = isDown ? ButtonEvent.DOWN : ButtonEvent.UP;
         this.touchCommand.execute (this.state, isDown ? 127 : 0);
@@ -123,6 +132,22 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setFeedbackHoldTime (final int holdTime)
+    {
+        this.interaction.setHoldTime (holdTime);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isInteracting ()
+    {
+        return this.isTouched () || this.interaction.isHolding ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void addOutput (final IntSupplier supplier, final IntConsumer consumer)
@@ -136,7 +161,8 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     @Override
     public void update ()
     {
-        if (this.supplier == null)
+        // Do not fight against the user, the current value is sent when the hold time has passed
+        if (this.supplier == null || this.interaction.isHolding ())
             return;
 
         final int value = this.supplier.getAsInt ();
@@ -147,6 +173,15 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     }
 
 
+    /**
+     * Record an input of the user. Must be called by the implementations for each received value.
+     */
+    protected void markInput ()
+    {
+        this.interaction.markInput ();
+    }
+
+
     /**
      * If the state of the given button is still down, the state is set to long and an event gets
      * fired.
@@ -81,6 +81,24 @@ public interface IHwContinuousControl extends IHwInputControl
     TriggerCommand getTouchCommand ();
 
 
+    /**
+     * Set the time after a user input in which no feedback (the output value) is sent to the
+     * control.
+     *
+     * @param holdTime The time in milliseconds, 0 to always send the feedback
+     */
+    void setFeedbackHoldTime (int holdTime);
+
+
+    /**
+     * Test if the user is currently using the control. This is the case if the control is touched
+     * or if the feedback hold time since the last input has not yet passed.
+     *
+     * @return True if in use
+     */
+    boolean isInteracting ();
+
+
     /**
      * Get the continuous command.
      *
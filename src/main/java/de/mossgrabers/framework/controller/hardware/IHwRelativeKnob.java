@@ -34,4 +34,25 @@ public interface IHwRelativeKnob extends IHwContinuousControl
      * @param shouldAdaptSensitivity True if the knob should be adjusted to the sensitivity settings
      */
     void setShouldAdaptSensitivity (boolean shouldAdaptSensitivity);
+
+
+    /**
+     * Enable the accumulation of changes. If enabled, all changes which are received between two
+     * flushes are summed up and executed as one change on the next flush. This drastically reduces
+     * the number of calls to the DAW for fast turned encoders. Touch events are still executed
+     * immediately.
+     *
+     * @param accumulate True to enable
+     * @param accelerate If true, the accumulated change is additionally accelerated depending on
+     *            the rate of the received changes
+     */
+    void setAccumulateChanges (boolean accumulate, boolean accelerate);
+
+
+    /**
+     * Are the changes accumulated till the next flush?
+     *
+     * @return True if enabled
+     */
+    boolean isAccumulatingChanges ();
 }
@@ -0,0 +1,83 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+/**
+ * Tracks the user input of a control. After each input the control is considered to be in use for
+ * the hold time. During that time no feedback (e.g. the value of an LED ring) should be sent to the
+ * control, since it would fight against the movement of the user. Only the time of the last input
+ * is stored, no task needs to be scheduled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class InteractionTracker
+{
+    private int     holdTime;
+    private long    lastInputTime;
+    private boolean hasInput = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param holdTime The time in milliseconds after an input in which the control is in use, 0 to
+     *            disable
+     */
+    public InteractionTracker (final int holdTime)
+    {
+        this.holdTime = holdTime;
+    }
+
+
+    /**
+     * Set the hold time.
+     *
+     * @param holdTime The time in milliseconds after an input in which the control is in use, 0 to
+     *            disable
+     */
+    public void setHoldTime (final int holdTime)
+    {
+        this.holdTime = holdTime;
+    }
+
+
+    /**
+     * Get the hold time.
+     *
+     * @return The time in milliseconds after an input in which the control is in use
+     */
+    public int getHoldTime ()
+    {
+        return this.holdTime;
+    }
+
+
+    /**
+     * Record an input of the user.
+     */
+    public void markInput ()
+    {
+        if (this.holdTime <= 0)
+            return;
+        this.lastInputTime = System.currentTimeMillis ();
+        this.hasInput = true;
+    }
+
+
+    /**
+     * Test if the hold time since the last input has not yet passed.
+     *
+     * @return True if the control is in use
+     */
+    public boolean isHolding ()
+    {
+        if (!this.hasInput)
+            return false;
+        if (System.currentTimeMillis () - this.lastInputTime < this.holdTime)
+            return true;
+        this.hasInput = false;
+        return false;
+    }
+}
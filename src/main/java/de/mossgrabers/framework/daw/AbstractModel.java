@@ -41,6 +41,8 @@ public abstract class AbstractModel implements IModel
     protected final ColorManager                    colorManager;
     protected final IValueChanger                   valueChanger;
     protected final ModelSetup                      modelSetup;
+    protected final VuMeterManager                  vuMeterManager;
+    protected final ModelFacetManager               facetManager       = new ModelFacetManager ();
     protected final Set<IValueObserver<ITrackBank>> trackBankObservers = new HashSet<> ();
 
     protected IApplication                          application;
@@ -80,6 +82,7 @@ public abstract class AbstractModel implements IModel
         this.colorManager = dataSetup.getColorManager ();
         this.valueChanger = dataSetup.getValueChanger ();
         this.scales = scales;
+        this.vuMeterManager = new VuMeterManager (this.valueChanger);
     }
 
 
@@ -99,6 +102,22 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public VuMeterManager getVuMeterManager ()
+    {
+        return this.vuMeterManager;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ModelFacetManager getFacetManager ()
+    {
+        return this.facetManager;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IArranger getArranger ()
@@ -0,0 +1,138 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Caches the names of browser results in a sliding window around the visible page. There is one
+ * window for each filter state (the selected content type and filter items), therefore switching
+ * back to a previous filter state or page shows the known names immediately while the DAW is
+ * still loading them. The windows of the least recently used filter states are dropped.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserResultCache
+{
+    private static final int   MAX_FILTER_STATES = 8;
+
+    private final int          capacity;
+    private final List<String> filterStates      = new ArrayList<> (MAX_FILTER_STATES);
+    private final List<Window> windows           = new ArrayList<> (MAX_FILTER_STATES);
+    private Window             window;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of names to cache for each filter state
+     */
+    public BrowserResultCache (final int capacity)
+    {
+        this.capacity = capacity;
+        this.select ("");
+    }
+
+
+    /**
+     * Select the window of a filter state. Creates it if not present.
+     *
+     * @param filterState A text which identifies the filter state
+     */
+    public void select (final String filterState)
+    {
+        final int index = this.filterStates.indexOf (filterState);
+        if (index == 0)
+            return;
+
+        if (index > 0)
+        {
+            this.filterStates.add (0, this.filterStates.remove (index));
+            this.windows.add (0, this.windows.remove (index));
+        }
+        else
+        {
+            if (this.filterStates.size () == MAX_FILTER_STATES)
+            {
+                this.filterStates.remove (MAX_FILTER_STATES - 1);
+                this.windows.remove (MAX_FILTER_STATES - 1);
+            }
+            this.filterStates.add (0, filterState);
+            this.windows.add (0, new Window (this.capacity));
+        }
+        this.window = this.windows.get (0);
+    }
+
+
+    /**
+     * Store the name of a result in the window of the selected filter state. If the position is
+     * outside of the window, the window is moved so that the position is in its center.
+     *
+     * @param position The absolute position of the result in the result list
+     * @param name The name of the result, empty names are ignored
+     */
+    public void store (final int position, final String name)
+    {
+        if (position < 0 || name == null || name.isEmpty ())
+            return;
+
+        final Window w = this.window;
+        if (position < w.start || position >= w.start + this.capacity)
+            w.moveTo (Math.max (0, position - this.capacity / 2));
+        w.names[position - w.start] = name;
+    }
+
+
+    /**
+     * Get the cached name of a result of the selected filter state.
+     *
+     * @param position The absolute position of the result in the result list
+     * @return The name or null if not cached
+     */
+    public String get (final int position)
+    {
+        final Window w = this.window;
+        if (position < w.start || position >= w.start + this.capacity)
+            return null;
+        return w.names[position - w.start];
+    }
+
+
+    /** The cached names of one filter state. */
+    private static class Window
+    {
+        private final String [] names;
+        private int             start = 0;
+
+
+        Window (final int capacity)
+        {
+            this.names = new String [capacity];
+        }
+
+
+        void moveTo (final int newStart)
+        {
+            final int shift = newStart - this.start;
+            final int length = this.names.length;
+            if (Math.abs (shift) >= length)
+                Arrays.fill (this.names, null);
+            else if (shift > 0)
+            {
+                System.arraycopy (this.names, shift, this.names, 0, length - shift);
+                Arrays.fill (this.names, length - shift, length, null);
+            }
+            else if (shift < 0)
+            {
+                System.arraycopy (this.names, 0, this.names, -shift, length + shift);
+                Arrays.fill (this.names, 0, -shift, null);
+            }
+            this.start = newStart;
+        }
+    }
+}
@@ -180,6 +180,26 @@ public interface IBrowser extends IObserverManagement
     IBrowserColumnItem [] getResultColumnItems ();
 
 
+    /**
+     * Get the name of a result item. If the name has not yet been received from the DAW (e.g.
+     * after scrolling to a new page) the name from the result cache is returned.
+     *
+     * @param index The index of the item in the result column items
+     * @return The name, might be empty
+     */
+    String getResultName (int index);
+
+
+    /**
+     * Get the version of the result column items. The version changes whenever the existence, the
+     * name or the selection state of one of the items changes. Can be used to only update the
+     * result list if necessary.
+     *
+     * @return The version
+     */
+    int getResultsVersion ();
+
+
     /**
      * Select the previous filter column.
      */
@@ -4,16 +4,20 @@
 
 package de.mossgrabers.framework.daw;
 
+import de.mossgrabers.framework.controller.grid.BlinkEngine;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TimerWheel;
+import de.mossgrabers.framework.utils.VirtualClock;
 
 import java.util.List;
 
@@ -51,6 +55,41 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Get the timer wheel, which should be used for short delayed tasks which are executed very
+     * often (e.g. detection of long button presses) or need to be cancelled.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
+    /**
+     * Get the engine for software blinking of pad grids, which is shared by all controllers of the
+     * host.
+     *
+     * @return The blink engine
+     */
+    BlinkEngine getBlinkEngine ();
+
+
+    /**
+     * Get the registry for runtime performance metrics.
+     *
+     * @return The registry
+     */
+    MetricsRegistry getMetrics ();
+
+
+    /**
+     * Use a virtual clock instead of the DAW for all tasks scheduled with scheduleTask. This allows
+     * to run code which depends on delayed tasks (e.g. the self-test) without waiting.
+     *
+     * @param clock The clock to use, null to use the DAW again
+     */
+    void setVirtualClock (VirtualClock clock);
+
+
     /**
      * Print the error to the console.
      *
@@ -45,6 +45,23 @@ public interface IModel
     IValueChanger getValueChanger ();
 
 
+    /**
+     * Get the VU meter manager, which processes and distributes the VU meters of channels.
+     *
+     * @return The VU meter manager
+     */
+    VuMeterManager getVuMeterManager ();
+
+
+    /**
+     * Get the manager, which dis-/enables the observers of model facets depending on the active
+     * modes and views.
+     *
+     * @return The model facet manager
+     */
+    ModelFacetManager getFacetManager ();
+
+
     /**
      * Get the project.
      *
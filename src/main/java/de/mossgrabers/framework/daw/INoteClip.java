@@ -57,6 +57,53 @@ public interface INoteClip extends IClip, IPinnable
     IStepInfo getStep (int channel, int step, int row);
 
 
+    /**
+     * Get the next step in a row which contains a note (start or continuation).
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step to start the search from (inclusive)
+     * @param endStep The step to end the search (exclusive)
+     * @return The step or -1 if there is no note in the range
+     */
+    int getNextStepWithNote (int channel, int row, int step, int endStep);
+
+
+    /**
+     * Get the previous step in a row which contains a note (start or continuation).
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step to start the search from (inclusive)
+     * @param startStep The lowest step to search (inclusive)
+     * @return The step or -1 if there is no note in the range
+     */
+    int getPreviousStepWithNote (int channel, int row, int step, int startStep);
+
+
+    /**
+     * Get the next row which contains a note (start or continuation) at a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row to start the search from (inclusive)
+     * @return The row or -1 if there is no further note at the step
+     */
+    int getNextRowWithNote (int channel, int step, int row);
+
+
+    /**
+     * Get the combined state of all notes at a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return IStepInfo.NOTE_START if at least one note starts at the step,
+     *         IStepInfo.NOTE_CONTINUE if at least one note continues playing, otherwise
+     *         IStepInfo.NOTE_OFF
+     */
+    int getStepState (int channel, int step);
+
+
     /**
      * Toggle a note at a step.
      *
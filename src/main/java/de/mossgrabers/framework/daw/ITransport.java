@@ -300,6 +300,14 @@ public interface ITransport extends IObserverManagement
     String getBeatText ();
 
 
+    /**
+     * Get the play position.
+     *
+     * @return The play position in beats (quarter notes)
+     */
+    double getPosition ();
+
+
     /**
      * Sets the transport playback position to the given beat time value.
      *
@@ -0,0 +1,19 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Parts of the model which are only required by some modes and views. The observers of these parts
+ * can be disabled while no active mode or view reads them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ModelFacet
+{
+    /** The filter columns and results of the browser. */
+    BROWSER,
+    /** The drum pads of the drum machine devices. */
+    DRUM_PADS
+}
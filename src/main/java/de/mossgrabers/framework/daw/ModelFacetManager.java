@@ -0,0 +1,130 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.observer.IObserverManagement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Enables and disables the observers of model facets depending on the demand of the active modes
+ * and views. By default all facets are enabled. Only facets which were set to be on demand are
+ * disabled while no active mode or view requires them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ModelFacetManager
+{
+    private final Map<ModelFacet, List<IObserverManagement>> targets        = new EnumMap<> (ModelFacet.class);
+    private final Set<ModelFacet>                            onDemandFacets = EnumSet.noneOf (ModelFacet.class);
+    private final int []                                     demandCounters = new int [ModelFacet.values ().length];
+    private final boolean []                                 enabledStates  = new boolean [ModelFacet.values ().length];
+
+
+    /**
+     * Constructor.
+     */
+    public ModelFacetManager ()
+    {
+        Arrays.fill (this.enabledStates, true);
+    }
+
+
+    /**
+     * Register an object which provides the data of a facet.
+     *
+     * @param facet The facet
+     * @param target The object which observers are dis-/enabled, ignored if null
+     */
+    public void register (final ModelFacet facet, final IObserverManagement target)
+    {
+        if (target == null)
+            return;
+        this.targets.computeIfAbsent (facet, key -> new ArrayList<> ()).add (target);
+        if (!this.enabledStates[facet.ordinal ()])
+            target.enableObservers (false);
+    }
+
+
+    /**
+     * Only enable the observers of the given facets while at least one active mode or view
+     * requires them.
+     *
+     * @param facets The facets
+     */
+    public void setOnDemand (final ModelFacet... facets)
+    {
+        for (final ModelFacet facet: facets)
+        {
+            this.onDemandFacets.add (facet);
+            this.apply (facet);
+        }
+    }
+
+
+    /**
+     * Check if the observers of a facet are currently enabled.
+     *
+     * @param facet The facet
+     * @return True if enabled
+     */
+    public boolean isEnabled (final ModelFacet facet)
+    {
+        return this.enabledStates[facet.ordinal ()];
+    }
+
+
+    /**
+     * Signal that a mode or view which requires the facets was activated.
+     *
+     * @param facets The facets
+     */
+    public void acquire (final Set<ModelFacet> facets)
+    {
+        for (final ModelFacet facet: facets)
+        {
+            this.demandCounters[facet.ordinal ()]++;
+            this.apply (facet);
+        }
+    }
+
+
+    /**
+     * Signal that a mode or view which requires the facets was deactivated.
+     *
+     * @param facets The facets
+     */
+    public void release (final Set<ModelFacet> facets)
+    {
+        for (final ModelFacet facet: facets)
+        {
+            final int index = facet.ordinal ();
+            if (this.demandCounters[index] > 0)
+                this.demandCounters[index]--;
+            this.apply (facet);
+        }
+    }
+
+
+    private void apply (final ModelFacet facet)
+    {
+        final int index = facet.ordinal ();
+        final boolean enable = !this.onDemandFacets.contains (facet) || this.demandCounters[index] > 0;
+        if (this.enabledStates[index] == enable)
+            return;
+        this.enabledStates[index] = enable;
+
+        final List<IObserverManagement> facetTargets = this.targets.get (facet);
+        if (facetTargets != null)
+            facetTargets.forEach (target -> target.enableObservers (enable));
+    }
+}
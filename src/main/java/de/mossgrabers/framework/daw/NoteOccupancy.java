@@ -0,0 +1,238 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Keeps track of the steps and rows of a clip which contain notes. For each MIDI channel there is
+ * a bitset of the steps per row and a bitset of the rows per step. This allows to find the next or
+ * previous note in a row or the notes at a step without checking all steps or rows.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteOccupancy
+{
+    private static final int NUM_CHANNELS = 16;
+
+    private final int        numSteps;
+    private final int        numRows;
+    private final int        stepWords;
+    private final int        rowWords;
+
+    // Per channel: for each row a bitset of the steps which contain a note
+    private final long [] [] rowNotes     = new long [NUM_CHANNELS] [];
+    // Per channel: for each step a bitset of the rows which contain a note
+    private final long [] [] stepNotes    = new long [NUM_CHANNELS] [];
+    // Per channel: for each step a bitset of the rows in which a note starts
+    private final long [] [] stepStarts   = new long [NUM_CHANNELS] [];
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public NoteOccupancy (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.stepWords = (numSteps + 63) / 64;
+        this.rowWords = (numRows + 63) / 64;
+    }
+
+
+    /**
+     * Update the state of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param state The state of the note, see IStepInfo
+     */
+    public void update (final int channel, final int step, final int row, final int state)
+    {
+        if (channel < 0 || channel >= NUM_CHANNELS || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return;
+
+        final boolean hasNote = state != IStepInfo.NOTE_OFF;
+        if (this.rowNotes[channel] == null)
+        {
+            if (!hasNote)
+                return;
+            this.rowNotes[channel] = new long [this.numRows * this.stepWords];
+            this.stepNotes[channel] = new long [this.numSteps * this.rowWords];
+            this.stepStarts[channel] = new long [this.numSteps * this.rowWords];
+        }
+
+        setBit (this.rowNotes[channel], row * this.stepWords, step, hasNote);
+        setBit (this.stepNotes[channel], step * this.rowWords, row, hasNote);
+        setBit (this.stepStarts[channel], step * this.rowWords, row, state == IStepInfo.NOTE_START);
+    }
+
+
+    /**
+     * Get the next step in a row which contains a note (start or continuation).
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step to start the search from (inclusive)
+     * @param endStep The step to end the search (exclusive)
+     * @return The step or -1 if there is no note in the range
+     */
+    public int getNextStep (final int channel, final int row, final int step, final int endStep)
+    {
+        if (!this.hasChannelData (channel) || row < 0 || row >= this.numRows)
+            return -1;
+        return nextSetBit (this.rowNotes[channel], row * this.stepWords, Math.max (0, step), Math.min (endStep, this.numSteps));
+    }
+
+
+    /**
+     * Get the previous step in a row which contains a note (start or continuation).
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step to start the search from (inclusive)
+     * @param startStep The lowest step to search (inclusive)
+     * @return The step or -1 if there is no note in the range
+     */
+    public int getPreviousStep (final int channel, final int row, final int step, final int startStep)
+    {
+        if (!this.hasChannelData (channel) || row < 0 || row >= this.numRows)
+            return -1;
+        return previousSetBit (this.rowNotes[channel], row * this.stepWords, Math.min (step, this.numSteps - 1), Math.max (0, startStep));
+    }
+
+
+    /**
+     * Get the next row which contains a note (start or continuation) at a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row to start the search from (inclusive)
+     * @return The row or -1 if there is no further note at the step
+     */
+    public int getNextRow (final int channel, final int step, final int row)
+    {
+        if (!this.hasChannelData (channel) || step < 0 || step >= this.numSteps)
+            return -1;
+        return nextSetBit (this.stepNotes[channel], step * this.rowWords, Math.max (0, row), this.numRows);
+    }
+
+
+    /**
+     * Get the combined state of all rows at a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return NOTE_START if at least one note starts at the step, NOTE_CONTINUE if at least one
+     *         note continues playing, otherwise NOTE_OFF, see IStepInfo
+     */
+    public int getStepState (final int channel, final int step)
+    {
+        if (!this.hasChannelData (channel) || step < 0 || step >= this.numSteps)
+            return IStepInfo.NOTE_OFF;
+
+        final int offset = step * this.rowWords;
+        if (hasAnyBit (this.stepStarts[channel], offset, this.rowWords))
+            return IStepInfo.NOTE_START;
+        return hasAnyBit (this.stepNotes[channel], offset, this.rowWords) ? IStepInfo.NOTE_CONTINUE : IStepInfo.NOTE_OFF;
+    }
+
+
+    /**
+     * Does the row contain any notes?
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @return True if it contains at least one note
+     */
+    public boolean hasRowData (final int channel, final int row)
+    {
+        if (!this.hasChannelData (channel) || row < 0 || row >= this.numRows)
+            return false;
+        return hasAnyBit (this.rowNotes[channel], row * this.stepWords, this.stepWords);
+    }
+
+
+    private boolean hasChannelData (final int channel)
+    {
+        return channel >= 0 && channel < NUM_CHANNELS && this.rowNotes[channel] != null;
+    }
+
+
+    private static void setBit (final long [] bits, final int offset, final int index, final boolean isSet)
+    {
+        if (isSet)
+            bits[offset + index / 64] |= 1L << index % 64;
+        else
+            bits[offset + index / 64] &= ~(1L << index % 64);
+    }
+
+
+    private static boolean hasAnyBit (final long [] bits, final int offset, final int words)
+    {
+        for (int i = 0; i < words; i++)
+        {
+            if (bits[offset + i] != 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Find the next set bit.
+     *
+     * @param bits The bitsets
+     * @param offset The offset of the bitset in the array
+     * @param from The index to start from (inclusive)
+     * @param to The index to end (exclusive)
+     * @return The index of the set bit or -1
+     */
+    private static int nextSetBit (final long [] bits, final int offset, final int from, final int to)
+    {
+        int index = from;
+        while (index < to)
+        {
+            final int wordIndex = index / 64;
+            final long word = bits[offset + wordIndex] & -1L << index % 64;
+            if (word != 0)
+            {
+                final int found = wordIndex * 64 + Long.numberOfTrailingZeros (word);
+                return found < to ? found : -1;
+            }
+            index = (wordIndex + 1) * 64;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Find the previous set bit.
+     *
+     * @param bits The bitsets
+     * @param offset The offset of the bitset in the array
+     * @param from The index to start from (inclusive)
+     * @param lowest The lowest index to check (inclusive)
+     * @return The index of the set bit or -1
+     */
+    private static int previousSetBit (final long [] bits, final int offset, final int from, final int lowest)
+    {
+        int index = from;
+        while (index >= lowest)
+        {
+            final int wordIndex = index / 64;
+            final long word = bits[offset + wordIndex] & -1L >>> 63 - index % 64;
+            if (word != 0)
+            {
+                final int found = wordIndex * 64 + 63 - Long.numberOfLeadingZeros (word);
+                return found >= lowest ? found : -1;
+            }
+            index = wordIndex * 64 - 1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,245 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.observer.IVuMeterObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+
+/**
+ * Central processing of the VU meters of channels. The VU values received from the DAW are
+ * processed once per flush (fall-off and peak hold) and distributed to all subscriptions. Each
+ * subscription has its own update rate and minimum change threshold, which limits the amount of
+ * data sent to a controller independently from the rate in which the DAW sends meter updates.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterManager
+{
+    /** The default time in milliseconds to hold a peak value. */
+    public static final int                          DEFAULT_PEAK_HOLD_TIME = 1000;
+    /** The default time in milliseconds for a meter to fall from maximum to zero. */
+    public static final int                          DEFAULT_FALL_OFF_TIME  = 600;
+
+    private final IValueChanger                      valueChanger;
+    private final List<Supplier<? extends IChannel>> meters                 = new ArrayList<> ();
+    private final List<VuMeterSubscription>          subscriptions          = new ArrayList<> ();
+
+    private int []                                   levelLeft              = new int [0];
+    private int []                                   levelRight             = new int [0];
+    private int []                                   peakLeft               = new int [0];
+    private int []                                   peakRight              = new int [0];
+    private long []                                  peakTimeLeft           = new long [0];
+    private long []                                  peakTimeRight          = new long [0];
+
+    private int                                      peakHoldTime           = DEFAULT_PEAK_HOLD_TIME;
+    private int                                      fallOffTime            = DEFAULT_FALL_OFF_TIME;
+    private long                                     lastProcessed          = -1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer, which defines the range of the meter values
+     */
+    public VuMeterManager (final IValueChanger valueChanger)
+    {
+        this.valueChanger = valueChanger;
+    }
+
+
+    /**
+     * Set the time to hold a peak value before it starts to fall.
+     *
+     * @param peakHoldTime The time in milliseconds
+     */
+    public void setPeakHoldTime (final int peakHoldTime)
+    {
+        this.peakHoldTime = Math.max (0, peakHoldTime);
+    }
+
+
+    /**
+     * Set the time in which a meter falls from the maximum value to zero.
+     *
+     * @param fallOffTime The time in milliseconds, 0 disables the fall-off
+     */
+    public void setFallOffTime (final int fallOffTime)
+    {
+        this.fallOffTime = Math.max (0, fallOffTime);
+    }
+
+
+    /**
+     * Register a meter.
+     *
+     * @param channelSupplier Provides the channel from which to read the VU values. The supplier is
+     *            called on each processing step, therefore it can follow bank changes. May return
+     *            null.
+     * @return The index of the meter
+     */
+    public int addMeter (final Supplier<? extends IChannel> channelSupplier)
+    {
+        final int index = this.meters.size ();
+        this.meters.add (channelSupplier);
+
+        final int size = index + 1;
+        this.levelLeft = Arrays.copyOf (this.levelLeft, size);
+        this.levelRight = Arrays.copyOf (this.levelRight, size);
+        this.peakLeft = Arrays.copyOf (this.peakLeft, size);
+        this.peakRight = Arrays.copyOf (this.peakRight, size);
+        this.peakTimeLeft = Arrays.copyOf (this.peakTimeLeft, size);
+        this.peakTimeRight = Arrays.copyOf (this.peakTimeRight, size);
+        return index;
+    }
+
+
+    /**
+     * Subscribe to a number of meters.
+     *
+     * @param meterIndices The indices of the meters (see {@link #addMeter(Supplier)}). The position
+     *            in this array is the position reported to the observer
+     * @param updateRate The minimum time in milliseconds between two updates
+     * @param minimumDelta The minimum difference to the previously reported value to report a new
+     *            value. A change to zero is always reported.
+     * @param observer The observer to notify about the changes, may be null if the values are only
+     *            read from the subscription
+     * @return The subscription
+     */
+    public VuMeterSubscription subscribe (final int [] meterIndices, final int updateRate, final int minimumDelta, final IVuMeterObserver observer)
+    {
+        final VuMeterSubscription subscription = new VuMeterSubscription (this, meterIndices, updateRate, minimumDelta, observer);
+        this.subscriptions.add (subscription);
+        return subscription;
+    }
+
+
+    /**
+     * Remove a subscription.
+     *
+     * @param subscription The subscription to remove
+     */
+    public void unsubscribe (final VuMeterSubscription subscription)
+    {
+        this.subscriptions.remove (subscription);
+    }
+
+
+    /**
+     * Process the meters and notify all subscriptions which are due. Needs to be called from the
+     * flush of the controller. The meters are processed only once even if there are several
+     * subscriptions.
+     */
+    public void flush ()
+    {
+        if (this.subscriptions.isEmpty ())
+            return;
+
+        final long now = System.currentTimeMillis ();
+        boolean isProcessed = false;
+        for (final VuMeterSubscription subscription: this.subscriptions)
+        {
+            if (!subscription.isDue (now))
+                continue;
+            if (!isProcessed)
+            {
+                this.process (now);
+                isProcessed = true;
+            }
+            subscription.dispatch (now);
+        }
+    }
+
+
+    /**
+     * Get the processed (fall-off applied) value of the left meter.
+     *
+     * @param meterIndex The index of the meter
+     * @return The value
+     */
+    public int getLeft (final int meterIndex)
+    {
+        return this.levelLeft[meterIndex];
+    }
+
+
+    /**
+     * Get the processed (fall-off applied) value of the right meter.
+     *
+     * @param meterIndex The index of the meter
+     * @return The value
+     */
+    public int getRight (final int meterIndex)
+    {
+        return this.levelRight[meterIndex];
+    }
+
+
+    /**
+     * Get the peak hold value of the left meter.
+     *
+     * @param meterIndex The index of the meter
+     * @return The value
+     */
+    public int getPeakLeft (final int meterIndex)
+    {
+        return this.peakLeft[meterIndex];
+    }
+
+
+    /**
+     * Get the peak hold value of the right meter.
+     *
+     * @param meterIndex The index of the meter
+     * @return The value
+     */
+    public int getPeakRight (final int meterIndex)
+    {
+        return this.peakRight[meterIndex];
+    }
+
+
+    private void process (final long now)
+    {
+        final long elapsed = this.lastProcessed < 0 ? 0 : now - this.lastProcessed;
+        this.lastProcessed = now;
+
+        final int upperBound = this.valueChanger.getUpperBound ();
+        final int fallOff = this.fallOffTime == 0 ? upperBound : (int) Math.min (upperBound, upperBound * elapsed / this.fallOffTime);
+
+        for (int i = 0; i < this.levelLeft.length; i++)
+        {
+            final IChannel channel = this.meters.get (i).get ();
+            final boolean exists = channel != null && channel.doesExist ();
+            final int left = exists ? channel.getVuLeft () : 0;
+            final int right = exists ? channel.getVuRight () : 0;
+
+            this.levelLeft[i] = Math.max (left, this.levelLeft[i] - fallOff);
+            this.levelRight[i] = Math.max (right, this.levelRight[i] - fallOff);
+
+            if (this.levelLeft[i] >= this.peakLeft[i])
+            {
+                this.peakLeft[i] = this.levelLeft[i];
+                this.peakTimeLeft[i] = now;
+            }
+            else if (now - this.peakTimeLeft[i] > this.peakHoldTime)
+                this.peakLeft[i] = Math.max (this.levelLeft[i], this.peakLeft[i] - fallOff);
+
+            if (this.levelRight[i] >= this.peakRight[i])
+            {
+                this.peakRight[i] = this.levelRight[i];
+                this.peakTimeRight[i] = now;
+            }
+            else if (now - this.peakTimeRight[i] > this.peakHoldTime)
+                this.peakRight[i] = Math.max (this.levelRight[i], this.peakRight[i] - fallOff);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.observer.IVuMeterObserver;
+
+import java.util.Arrays;
+
+
+/**
+ * A subscription to several meters of the VU meter manager. Stores the values which were reported
+ * last, which allows to read decimated values as well.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterSubscription
+{
+    private final VuMeterManager   manager;
+    private final int []           meterIndices;
+    private final int              updateRate;
+    private final int              minimumDelta;
+    private final IVuMeterObserver observer;
+
+    private final int []           lastLeft;
+    private final int []           lastRight;
+    private long                   nextUpdate   = 0;
+    private boolean                isEnabled    = true;
+    private boolean                forceUpdate  = true;
+
+
+    /**
+     * Constructor.
+     *
+     * @param manager The VU meter manager
+     * @param meterIndices The indices of the meters
+     * @param updateRate The minimum time in milliseconds between two updates
+     * @param minimumDelta The minimum difference to the previously reported value
+     * @param observer The observer to notify about the changes, may be null
+     */
+    VuMeterSubscription (final VuMeterManager manager, final int [] meterIndices, final int updateRate, final int minimumDelta, final IVuMeterObserver observer)
+    {
+        this.manager = manager;
+        this.meterIndices = meterIndices.clone ();
+        this.updateRate = Math.max (0, updateRate);
+        this.minimumDelta = Math.max (1, minimumDelta);
+        this.observer = observer;
+
+        this.lastLeft = new int [meterIndices.length];
+        this.lastRight = new int [meterIndices.length];
+    }
+
+
+    /**
+     * Enable or disable the subscription. If disabled no updates are processed. Enabling it again
+     * reports all values on the next update.
+     *
+     * @param isEnabled True to enable
+     */
+    public void setEnabled (final boolean isEnabled)
+    {
+        if (isEnabled && !this.isEnabled)
+            this.invalidate ();
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Is the subscription enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Report all values with the next update, regardless if they have changed.
+     */
+    public void invalidate ()
+    {
+        this.forceUpdate = true;
+        this.nextUpdate = 0;
+    }
+
+
+    /**
+     * Get the number of meters in this subscription.
+     *
+     * @return The number of meters
+     */
+    public int getSize ()
+    {
+        return this.meterIndices.length;
+    }
+
+
+    /**
+     * Get the last reported value of the left meter.
+     *
+     * @param position The position of the meter in the subscription
+     * @return The value
+     */
+    public int getLeft (final int position)
+    {
+        return this.lastLeft[position];
+    }
+
+
+    /**
+     * Get the last reported value of the right meter.
+     *
+     * @param position The position of the meter in the subscription
+     * @return The value
+     */
+    public int getRight (final int position)
+    {
+        return this.lastRight[position];
+    }
+
+
+    /**
+     * Get the last reported mono value (the average of the left and right meter).
+     *
+     * @param position The position of the meter in the subscription
+     * @return The value
+     */
+    public int getMono (final int position)
+    {
+        return (this.lastLeft[position] + this.lastRight[position]) / 2;
+    }
+
+
+    /**
+     * Get the peak hold value of the left meter.
+     *
+     * @param position The position of the meter in the subscription
+     * @return The value
+     */
+    public int getPeakLeft (final int position)
+    {
+        return this.manager.getPeakLeft (this.meterIndices[position]);
+    }
+
+
+    /**
+     * Get the peak hold value of the right meter.
+     *
+     * @param position The position of the meter in the subscription
+     * @return The value
+     */
+    public int getPeakRight (final int position)
+    {
+        return this.manager.getPeakRight (this.meterIndices[position]);
+    }
+
+
+    /**
+     * Check if the subscription needs to be updated.
+     *
+     * @param now The current time in milliseconds
+     * @return True if enabled and the update interval has elapsed
+     */
+    boolean isDue (final long now)
+    {
+        return this.isEnabled && now >= this.nextUpdate;
+    }
+
+
+    /**
+     * Compare the processed meter values with the last reported ones and notify the observer about
+     * the changed meters.
+     *
+     * @param now The current time in milliseconds
+     */
+    void dispatch (final long now)
+    {
+        this.nextUpdate = now + this.updateRate;
+
+        for (int i = 0; i < this.meterIndices.length; i++)
+        {
+            final int meterIndex = this.meterIndices[i];
+            final int left = this.manager.getLeft (meterIndex);
+            final int right = this.manager.getRight (meterIndex);
+            if (!this.forceUpdate && !this.hasChanged (left, this.lastLeft[i]) && !this.hasChanged (right, this.lastRight[i]))
+                continue;
+
+            this.lastLeft[i] = left;
+            this.lastRight[i] = right;
+            if (this.observer != null)
+                this.observer.update (i, left, right);
+        }
+
+        this.forceUpdate = false;
+    }
+
+
+    private boolean hasChanged (final int value, final int lastValue)
+    {
+        if (value == lastValue)
+            return false;
+        return value == 0 || Math.abs (value - lastValue) >= this.minimumDelta;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return "VuMeterSubscription " + Arrays.toString (this.meterIndices);
+    }
+}
@@ -44,6 +44,16 @@ public interface IBrowserColumn extends IItem
     String getCursorName (int limit);
 
 
+    /**
+     * Get the version of the items of the column. The version changes whenever the existence, the
+     * name, the hit count or the selection state of one of the items changes. Can be used to only
+     * update the item list if necessary.
+     *
+     * @return The version
+     */
+    int getItemsVersion ();
+
+
     /**
      * Get the item data.
      *
@@ -6,8 +6,10 @@ package de.mossgrabers.framework.daw.data.bank;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.utils.ScheduledTask;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 
@@ -20,6 +22,15 @@ import java.util.List;
  */
 public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
 {
+    private final ScheduledTask selectTask     = new ScheduledTask (this::selectPendingItem);
+    private int                 selectPosition = 0;
+
+    private final long []       selectionBits;
+    private boolean             isSelectionTracked;
+    private final List<T>       selectedItems;
+    private final List<T>       selectedItemsView;
+
+
     /**
      * Constructor.
      *
@@ -29,6 +40,10 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     public AbstractItemBank (final IHost host, final int pageSize)
     {
         super (host, pageSize);
+
+        this.selectionBits = new long [(Math.max (0, pageSize) + 63) / 64];
+        this.selectedItems = new ArrayList<> (Math.max (0, pageSize));
+        this.selectedItemsView = Collections.unmodifiableList (this.selectedItems);
     }
 
 
@@ -36,13 +51,8 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public T getSelectedItem ()
     {
-        for (int i = 0; i < this.pageSize; i++)
-        {
-            final T item = this.getItem (i);
-            if (item.isSelected ())
-                return item;
-        }
-        return null;
+        final int index = this.getSelectedIndex ();
+        return index < 0 ? null : this.getItem (index);
     }
 
 
@@ -50,14 +60,75 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public List<T> getSelectedItems ()
     {
-        final List<T> selection = new ArrayList<> ();
+        this.selectedItems.clear ();
+        if (this.isSelectionTracked)
+        {
+            for (int w = 0; w < this.selectionBits.length; w++)
+            {
+                long bits = this.selectionBits[w];
+                while (bits != 0)
+                {
+                    this.selectedItems.add (this.getItem (w * 64 + Long.numberOfTrailingZeros (bits)));
+                    bits &= bits - 1;
+                }
+            }
+        }
+        else
+        {
+            for (int i = 0; i < this.pageSize; i++)
+            {
+                final T item = this.getItem (i);
+                if (item.isSelected ())
+                    this.selectedItems.add (item);
+            }
+        }
+        return this.selectedItemsView;
+    }
+
+
+    /**
+     * Get the index of the first selected item on the current page.
+     *
+     * @return The index or -1 if no item is selected
+     */
+    protected int getSelectedIndex ()
+    {
+        if (this.isSelectionTracked)
+        {
+            for (int w = 0; w < this.selectionBits.length; w++)
+            {
+                if (this.selectionBits[w] != 0)
+                    return w * 64 + Long.numberOfTrailingZeros (this.selectionBits[w]);
+            }
+            return -1;
+        }
+
         for (int i = 0; i < this.pageSize; i++)
         {
-            final T item = this.getItem (i);
-            if (item.isSelected ())
-                selection.add (item);
+            if (this.getItem (i).isSelected ())
+                return i;
         }
-        return selection;
+        return -1;
+    }
+
+
+    /**
+     * Update the cached selection state of an item. Needs to be called by implementations which
+     * get notified about all selection changes of their items. After the first call the selection
+     * is no longer calculated by checking all items of the page.
+     *
+     * @param index The index of the item on the page
+     * @param isSelected True if the item is selected
+     */
+    protected void updateSelection (final int index, final boolean isSelected)
+    {
+        if (index < 0 || index >= this.pageSize)
+            return;
+        this.isSelectionTracked = true;
+        if (isSelected)
+            this.selectionBits[index / 64] |= 1L << index % 64;
+        else
+            this.selectionBits[index / 64] &= ~(1L << index % 64);
     }
 
 
@@ -69,12 +140,17 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
             return;
         final int ps = this.pageSize;
         this.scrollTo (position / ps * ps);
-        this.host.scheduleTask ( () -> {
 
-            this.getItem (position % ps).select ();
-            this.firePageObserver ();
+        // Selecting again before the task was executed replaces the previous selection
+        this.selectPosition = position % ps;
+        this.host.getTimerWheel ().schedule (this.selectTask, 75);
+    }
 
-        }, 75);
+
+    private void selectPendingItem ()
+    {
+        this.getItem (this.selectPosition).select ();
+        this.firePageObserver ();
     }
 
 
@@ -108,9 +184,7 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public boolean canScrollBackwards ()
     {
-        final IItem sel = this.getSelectedItem ();
-        final int selIndex = sel != null ? sel.getIndex () : -1;
-        return selIndex > 0 || this.canScrollPageBackwards ();
+        return this.getSelectedIndex () > 0 || this.canScrollPageBackwards ();
     }
 
 
@@ -118,8 +192,7 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public boolean canScrollForwards ()
     {
-        final IItem sel = this.getSelectedItem ();
-        final int selIndex = sel != null ? sel.getIndex () : -1;
+        final int selIndex = this.getSelectedIndex ();
         return selIndex >= 0 && selIndex < this.pageSize - 1 && this.getItem (selIndex + 1).doesExist () || this.canScrollPageForwards ();
     }
 }
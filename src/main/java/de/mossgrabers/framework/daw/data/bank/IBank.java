@@ -55,7 +55,8 @@ public interface IBank<T> extends IObserverManagement
 
 
     /**
-     * Returns a list with the selected items in the current page.
+     * Returns a list with the selected items in the current page. The returned list cannot be
+     * modified and is re-used, its content is only valid until the next call.
      *
      * @return The list is empty if none is selected.
      */
@@ -4,6 +4,10 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.metrics.Counter;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
+
+
 /**
  * An abstract implementation for a midi output
  *
@@ -11,11 +15,26 @@ package de.mossgrabers.framework.daw.midi;
  */
 public abstract class AbstractMidiOutputImpl implements IMidiOutput
 {
+    private Counter messageCounter;
+    private Counter sysexCounter;
+    private Counter byteCounter;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableMetrics (final MetricsRegistry metrics, final String prefix)
+    {
+        this.messageCounter = metrics.counter (prefix + ".midi.messages");
+        this.sysexCounter = metrics.counter (prefix + ".midi.sysex");
+        this.byteCounter = metrics.counter (prefix + ".midi.bytes");
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendCC (final int cc, final int value)
     {
-        this.sendMidiShort (0xB0, cc, value);
+        this.sendShort (0xB0, cc, value);
     }
 
 
@@ -23,7 +42,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendCCEx (final int channel, final int cc, final int value)
     {
-        this.sendMidiShort (0xB0 + channel, cc, value);
+        this.sendShort (0xB0 + channel, cc, value);
     }
 
 
@@ -31,7 +50,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNote (final int note, final int velocity)
     {
-        this.sendMidiShort (0x90, note, velocity);
+        this.sendShort (0x90, note, velocity);
     }
 
 
@@ -39,7 +58,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNoteEx (final int channel, final int note, final int velocity)
     {
-        this.sendMidiShort (0x90 + channel, note, velocity);
+        this.sendShort (0x90 + channel, note, velocity);
     }
 
 
@@ -47,7 +66,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0, data1, data2);
+        this.sendShort (0xA0, data1, data2);
     }
 
 
@@ -55,7 +74,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0 + channel, data1, data2);
+        this.sendShort (0xA0 + channel, data1, data2);
     }
 
 
@@ -63,7 +82,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0, data1, data2);
+        this.sendShort (0xD0, data1, data2);
     }
 
 
@@ -71,7 +90,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0 + channel, data1, data2);
+        this.sendShort (0xD0 + channel, data1, data2);
     }
 
 
@@ -79,7 +98,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0, data1, data2);
+        this.sendShort (0xE0, data1, data2);
     }
 
 
@@ -87,7 +106,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0 + channel, data1, data2);
+        this.sendShort (0xE0 + channel, data1, data2);
     }
 
 
@@ -105,7 +124,46 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     {
         this.sendCCEx (channel, 0, bankMSB);
         this.sendCCEx (channel, 32, bankLSB);
-        this.sendMidiShort (0xC0 + channel, value, 0);
+        this.sendShort (0xC0 + channel, value, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        if (this.sysexCounter != null)
+        {
+            this.sysexCounter.increment ();
+            this.byteCounter.add (data.length);
+        }
+        this.sendMidiSysex (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        if (this.sysexCounter != null)
+        {
+            this.sysexCounter.increment ();
+            // Either formatted with a space between the bytes or without
+            final int length = data.length ();
+            this.byteCounter.add (length > 2 && data.charAt (2) == ' ' ? (length + 1) / 3 : length / 2);
+        }
+        this.sendMidiSysex (data);
+    }
+
+
+    private void sendShort (final int status, final int data1, final int data2)
+    {
+        if (this.messageCounter != null)
+        {
+            this.messageCounter.increment ();
+            this.byteCounter.add (3);
+        }
+        this.sendMidiShort (status, data1, data2);
     }
 
 
@@ -117,4 +175,20 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
      * @param data2 the data2 part of the MIDI message
      */
     protected abstract void sendMidiShort (final int status, final int data1, final int data2);
+
+
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The data to send
+     */
+    protected abstract void sendMidiSysex (final byte [] data);
+
+
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The data to send, formatted as a hex string
+     */
+    protected abstract void sendMidiSysex (final String data);
 }
\ No newline at end of file
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.metrics.MetricsRegistry;
+
+
 /**
  * Interface to a midi output
  *
@@ -141,4 +144,13 @@ public interface IMidiOutput
      * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
      */
     void sendSysex (String data);
+
+
+    /**
+     * Count the sent messages and bytes in the given metrics registry.
+     *
+     * @param metrics The registry
+     * @param prefix The prefix for the names of the counters, e.g. the surface
+     */
+    void enableMetrics (MetricsRegistry metrics, String prefix);
 }
\ No newline at end of file
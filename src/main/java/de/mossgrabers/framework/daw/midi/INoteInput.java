@@ -42,6 +42,15 @@ public interface INoteInput
     void setVelocityTranslationTable (Integer [] table);
 
 
+    /**
+     * Specifies if the note input should consume the MIDI notes it receives. If true, the notes
+     * are only sent to the DAW and not forwarded to the MIDI callback of the input.
+     *
+     * @param shouldConsumeEvents True to consume the notes
+     */
+    void setShouldConsumeEvents (boolean shouldConsumeEvents);
+
+
     /**
      * Get the interface to the note repeat control object.
      *
@@ -0,0 +1,86 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * A reusable buffer for building binary system exclusive messages. Since the message must be sent
+ * as an array of its exact length, the arrays are kept for each message length. Therefore, sending
+ * messages of an already used length does not allocate any memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuffer
+{
+    private final byte []    data;
+    private final byte [] [] messages;
+    private int              length = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum length of a message including the header and the end byte
+     */
+    public SysexBuffer (final int capacity)
+    {
+        this.data = new byte [capacity];
+        this.messages = new byte [capacity + 1] [];
+    }
+
+
+    /**
+     * Start a new message. Removes all previously added bytes.
+     *
+     * @param header The header of the message, including the F0 start byte
+     */
+    public void start (final int [] header)
+    {
+        this.length = 0;
+        for (final int value: header)
+            this.add (value);
+    }
+
+
+    /**
+     * Add a byte to the message.
+     *
+     * @param value The value of the byte, 0-127 for data bytes
+     */
+    public void add (final int value)
+    {
+        this.data[this.length++] = (byte) value;
+    }
+
+
+    /**
+     * Get the number of bytes added since the message was started.
+     *
+     * @return The length of the message
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Add the end byte (F7) and send the message.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        this.add (0xF7);
+
+        byte [] message = this.messages[this.length];
+        if (message == null)
+        {
+            message = new byte [this.length];
+            this.messages[this.length] = message;
+        }
+        System.arraycopy (this.data, 0, message, 0, this.length);
+        output.sendSysex (message);
+    }
+}
@@ -85,6 +85,19 @@ public final class ResourceHandler
     }
 
 
+    /**
+     * Cache an image which was not loaded by the host, e.g. a raster bitmap if there is no DAW to
+     * load the SVG images.
+     *
+     * @param imageName The name (absolute path) of the image
+     * @param image The image
+     */
+    public static void addImage (final String imageName, final IImage image)
+    {
+        CACHE.put (imageName, image);
+    }
+
+
     /**
      * Private due to helper class.
      */
@@ -10,6 +10,10 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -23,16 +27,17 @@ import de.mossgrabers.framework.daw.IModel;
 public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C extends Configuration> implements IFeatureGroup
 {
     /** Color identifier for a button which is off. */
-    public static final String     BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
+    public static final String      BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
     /** Color identifier for a button which is on. */
-    public static final String     BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+    public static final String      BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
 
-    protected final String         name;
-    protected final S              surface;
-    protected final IModel         model;
+    protected final String          name;
+    protected final S               surface;
+    protected final IModel          model;
 
-    protected final ColorManager   colorManager;
-    protected final MVHelper<S, C> mvHelper;
+    protected final ColorManager    colorManager;
+    protected final MVHelper<S, C>  mvHelper;
+    protected final Set<ModelFacet> requiredFacets   = EnumSet.noneOf (ModelFacet.class);
 
 
     /**
@@ -61,6 +66,14 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelFacet> getRequiredFacets ()
+    {
+        return this.requiredFacets;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getButtonColor (final ButtonID buttonID)
@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.ScheduledTask;
 
 
 /**
@@ -32,6 +33,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected final KeyManager    keyManager;
 
     private AftertouchCommand     aftertouchCommand;
+    private final ScheduledTask   noteMappingTask = new ScheduledTask (this::applyNoteMapping);
+    private int []                pendingMatrix   = EMPTY_TABLE;
 
     protected boolean             canScrollLeft;
     protected boolean             canScrollRight;
@@ -123,6 +126,14 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNoteCallbackRequired ()
+    {
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onButton (final ButtonID buttonID, final ButtonEvent event, final int velocity)
@@ -176,11 +187,18 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     protected void delayedUpdateNoteMapping (final int [] matrix)
     {
-        this.surface.scheduleTask ( () -> {
-            this.keyManager.setNoteMatrix (matrix);
-            if (matrix.length == 128)
-                this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (matrix));
-        }, 6);
+        // A pending update is replaced, only the latest matrix needs to be applied
+        this.pendingMatrix = matrix;
+        this.model.getHost ().getTimerWheel ().schedule (this.noteMappingTask, 6);
+    }
+
+
+    private void applyNoteMapping ()
+    {
+        final int [] matrix = this.pendingMatrix;
+        this.keyManager.setNoteMatrix (matrix);
+        if (matrix.length == 128)
+            this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (matrix));
     }
 
 
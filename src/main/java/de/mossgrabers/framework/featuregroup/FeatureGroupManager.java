@@ -4,13 +4,19 @@
 
 package de.mossgrabers.framework.featuregroup;
 
+import de.mossgrabers.framework.daw.ModelFacet;
+import de.mossgrabers.framework.daw.ModelFacetManager;
 import de.mossgrabers.framework.utils.FrameworkException;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Supplier;
 
 
 /**
@@ -24,6 +30,9 @@ import java.util.Map.Entry;
 public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 {
     protected final Map<E, F>                         featureGroups;
+    private final Map<E, Supplier<? extends F>>       suppliers;
+    private final Map<E, Long>                        deactivationTimes = new HashMap<> ();
+    private long                                      idleReleaseTime   = 0;
 
     protected E                                       activeID          = null;
     protected E                                       previousID        = null;
@@ -33,6 +42,9 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     private final List<FeatureGroupChangeListener<E>> changeListeners   = new ArrayList<> ();
     private final List<FeatureGroupManager<E, F>>     connectedManagers = new ArrayList<> ();
 
+    private ModelFacetManager                         facetManager      = null;
+    private final Set<ModelFacet>                     acquiredFacets    = EnumSet.noneOf (ModelFacet.class);
+
 
     /**
      * Construcor
@@ -42,6 +54,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public FeatureGroupManager (final Class<E> clazz)
     {
         this.featureGroups = new EnumMap<> (clazz);
+        this.suppliers = new EnumMap<> (clazz);
     }
 
 
@@ -54,6 +67,82 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public void register (final E featureGroupId, final F featureGroup)
     {
         this.featureGroups.put (featureGroupId, featureGroup);
+        this.suppliers.remove (featureGroupId);
+    }
+
+
+    /**
+     * Register a feature group, which is created when it is accessed for the first time. Use this
+     * for feature groups which are rarely used to reduce the startup time and memory consumption.
+     * The constructor of such a feature group should not register any observers, since the
+     * feature group might be released again (see {@link #setIdleReleaseTime(long)}).
+     *
+     * @param featureGroupId The ID of the feature group to register
+     * @param supplier Creates the feature group
+     */
+    public void register (final E featureGroupId, final Supplier<? extends F> supplier)
+    {
+        this.featureGroups.remove (featureGroupId);
+        this.suppliers.put (featureGroupId, supplier);
+    }
+
+
+    /**
+     * Set the time after which a lazily created feature group is released again, if it was not
+     * active in the meantime. It is created again on the next access. Feature groups which were
+     * registered as instances are never released.
+     *
+     * @param idleReleaseTime The time in milliseconds, 0 never releases a feature group (default)
+     */
+    public void setIdleReleaseTime (final long idleReleaseTime)
+    {
+        this.idleReleaseTime = Math.max (0, idleReleaseTime);
+        if (this.idleReleaseTime == 0)
+            this.deactivationTimes.clear ();
+    }
+
+
+    /**
+     * Get the number of registered feature groups.
+     *
+     * @return The number of feature groups including the ones which are not yet created
+     */
+    public int getNumberOfRegistered ()
+    {
+        int count = this.featureGroups.size ();
+        for (final E featureGroupId: this.suppliers.keySet ())
+        {
+            if (!this.featureGroups.containsKey (featureGroupId))
+                count++;
+        }
+        return count;
+    }
+
+
+    /**
+     * Get the number of created feature groups.
+     *
+     * @return The number of feature groups which are currently instantiated
+     */
+    public int getNumberOfCreated ()
+    {
+        return this.featureGroups.size ();
+    }
+
+
+    /**
+     * Set the manager which enables the model facets required by the active feature group. The
+     * facets of the currently active feature group are acquired immediately.
+     *
+     * @param facetManager The model facet manager
+     */
+    public void setFacetManager (final ModelFacetManager facetManager)
+    {
+        if (this.facetManager != null)
+            this.facetManager.release (this.acquiredFacets);
+        this.acquiredFacets.clear ();
+        this.facetManager = facetManager;
+        this.updateFacets ();
     }
 
 
@@ -65,7 +154,16 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
      */
     public F get (final E featureGroupId)
     {
-        return this.featureGroups.get (featureGroupId);
+        final F featureGroup = this.featureGroups.get (featureGroupId);
+        if (featureGroup != null)
+            return featureGroup;
+
+        final Supplier<? extends F> supplier = this.suppliers.get (featureGroupId);
+        if (supplier == null)
+            return null;
+        final F createdFeatureGroup = supplier.get ();
+        this.featureGroups.put (featureGroupId, createdFeatureGroup);
+        return createdFeatureGroup;
     }
 
 
@@ -80,6 +178,13 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         for (final Entry<E, F> entry: this.featureGroups.entrySet ())
             if (featureGroupName.equals (entry.getValue ().getName ()))
                 return entry.getKey ();
+
+        // The name of a lazily registered feature group is only known after it was created
+        for (final E featureGroupId: this.suppliers.keySet ())
+        {
+            if (!this.featureGroups.containsKey (featureGroupId) && featureGroupName.equals (this.get (featureGroupId).getName ()))
+                return featureGroupId;
+        }
         return null;
     }
 
@@ -123,15 +228,15 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
             return;
 
         // Deactivate the current temporary or active feature group
-        final F deactivate = this.getActive ();
-        if (deactivate != null)
-            deactivate.onDeactivate ();
+        this.deactivate (this.getActiveID ());
         this.temporaryID = null;
 
         // Activate the feature group
         this.previousID = this.activeID;
         this.activeID = id;
         this.get (this.activeID).onActivate ();
+        this.updateFacets ();
+        this.releaseIdleFeatureGroups ();
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -169,13 +274,13 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
             return;
 
         // Deactivate the current temporary or active feature group
-        final F deactivate = this.getActive ();
-        if (deactivate != null)
-            deactivate.onDeactivate ();
+        this.deactivate (this.getActiveID ());
 
         // Activate the new temporary feature group
         this.temporaryID = featureGroupID;
         this.get (this.temporaryID).onActivate ();
+        this.updateFacets ();
+        this.releaseIdleFeatureGroups ();
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -233,7 +338,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public F getActive ()
     {
         final E featureGroupID = this.getActiveID ();
-        return featureGroupID == null ? null : this.featureGroups.get (featureGroupID);
+        return featureGroupID == null ? null : this.get (featureGroupID);
     }
 
 
@@ -317,7 +422,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.temporaryID != null)
         {
             oldID = this.temporaryID;
-            this.get (this.temporaryID).onDeactivate ();
+            this.deactivate (this.temporaryID);
             this.temporaryID = null;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -330,7 +435,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         else if (this.previousID != null)
         {
             oldID = this.activeID;
-            this.get (this.activeID).onDeactivate ();
+            this.deactivate (this.activeID);
             this.activeID = this.previousID;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -340,6 +445,8 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
             }
             featureGroup.onActivate ();
         }
+        this.updateFacets ();
+        this.releaseIdleFeatureGroups ();
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.restore (false));
@@ -372,6 +479,74 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    /**
+     * Deactivate a feature group. Lazily created feature groups are marked for the idle release.
+     *
+     * @param featureGroupID The ID of the feature group to deactivate, might be null
+     */
+    private void deactivate (final E featureGroupID)
+    {
+        if (featureGroupID == null)
+            return;
+        final F featureGroup = this.featureGroups.get (featureGroupID);
+        if (featureGroup == null)
+            return;
+        featureGroup.onDeactivate ();
+
+        if (this.idleReleaseTime > 0 && this.suppliers.containsKey (featureGroupID))
+            this.deactivationTimes.put (featureGroupID, Long.valueOf (System.currentTimeMillis ()));
+    }
+
+
+    /**
+     * Release all lazily created feature groups which were not active for the idle release time.
+     */
+    private void releaseIdleFeatureGroups ()
+    {
+        if (this.deactivationTimes.isEmpty ())
+            return;
+
+        final long now = System.currentTimeMillis ();
+        this.deactivationTimes.entrySet ().removeIf (entry -> {
+            final E featureGroupID = entry.getKey ();
+            if (featureGroupID == this.activeID || featureGroupID == this.temporaryID)
+                return true;
+            if (featureGroupID == this.previousID || now - entry.getValue ().longValue () < this.idleReleaseTime)
+                return false;
+            this.featureGroups.remove (featureGroupID);
+            return true;
+        });
+    }
+
+
+    /**
+     * Acquire the model facets required by the active feature group and release the ones which
+     * are no longer required.
+     */
+    private void updateFacets ()
+    {
+        if (this.facetManager == null)
+            return;
+
+        final F active = this.getActive ();
+        final Set<ModelFacet> requiredFacets = active == null ? EnumSet.noneOf (ModelFacet.class) : active.getRequiredFacets ();
+        if (this.acquiredFacets.equals (requiredFacets))
+            return;
+
+        final Set<ModelFacet> released = EnumSet.copyOf (this.acquiredFacets);
+        released.removeAll (requiredFacets);
+        final Set<ModelFacet> acquired = EnumSet.noneOf (ModelFacet.class);
+        acquired.addAll (requiredFacets);
+        acquired.removeAll (this.acquiredFacets);
+
+        this.facetManager.acquire (acquired);
+        this.facetManager.release (released);
+
+        this.acquiredFacets.clear ();
+        this.acquiredFacets.addAll (requiredFacets);
+    }
+
+
     /**
      * Notify all feature group change observers.
      *
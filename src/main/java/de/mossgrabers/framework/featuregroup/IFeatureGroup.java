@@ -5,6 +5,9 @@
 package de.mossgrabers.framework.featuregroup;
 
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.daw.ModelFacet;
+
+import java.util.Set;
 
 
 /**
@@ -23,6 +26,15 @@ public interface IFeatureGroup
     String getName ();
 
 
+    /**
+     * Get the facets of the model which are read by the feature group. Their observers are
+     * enabled while the feature group is active.
+     *
+     * @return The facets, must not be modified by the caller
+     */
+    Set<ModelFacet> getRequiredFacets ();
+
+
     /**
      * Called when a feature group is activated.
      */
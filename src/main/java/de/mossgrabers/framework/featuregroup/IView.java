@@ -57,6 +57,18 @@ public interface IView extends IFeatureGroup
     void onGridNoteLongPress (int note);
 
 
+    /**
+     * Does the view need to be notified about the notes played on the grid pads? If not, the
+     * notes are only sent to the DAW while the view is active. Pressed pads are then only known
+     * from the note observers of the track bank. Since this consumes all notes of the default note
+     * input of the surface, a view must only return false if that note input is limited to the
+     * notes of the grid pads.
+     *
+     * @return True if the grid notes need to be forwarded to the view
+     */
+    boolean isNoteCallbackRequired ();
+
+
     /**
      * A button event occured.
      *
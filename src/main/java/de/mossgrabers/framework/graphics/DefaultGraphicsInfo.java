@@ -4,6 +4,11 @@
 
 package de.mossgrabers.framework.graphics;
 
+import de.mossgrabers.framework.graphics.canvas.utils.StaticLayerCache;
+
+import java.util.function.Consumer;
+
+
 /**
  * Default implementation for the necessary data for drawing a component in a graphics context.
  *
@@ -15,6 +20,7 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
     private final IGraphicsConfiguration configuration;
     private final IGraphicsDimensions    dimensions;
     private final IBounds                bounds;
+    private final StaticLayerCache       layerCache;
 
 
     /**
@@ -30,6 +36,21 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
         this.configuration = configuration;
         this.dimensions = dimensions;
         this.bounds = null;
+        this.layerCache = null;
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The graphics context
+     * @param configuration The configuration
+     * @param dimensions The pre-calculated dimensions
+     * @param layerCache The cache for the static layers of the components, may be null
+     */
+    public DefaultGraphicsInfo (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final StaticLayerCache layerCache)
+    {
+        this (gc, configuration, dimensions, null, layerCache);
     }
 
 
@@ -42,11 +63,27 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
      * @param bounds The bounds
      */
     public DefaultGraphicsInfo (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final IBounds bounds)
+    {
+        this (gc, configuration, dimensions, bounds, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The graphics context
+     * @param configuration The configuration
+     * @param dimensions The pre-calculated dimensions
+     * @param bounds The bounds
+     * @param layerCache The cache for the static layers of the components, may be null
+     */
+    public DefaultGraphicsInfo (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final IBounds bounds, final StaticLayerCache layerCache)
     {
         this.gc = gc;
         this.configuration = configuration;
         this.dimensions = dimensions;
         this.bounds = bounds;
+        this.layerCache = layerCache;
     }
 
 
@@ -94,6 +131,17 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
     @Override
     public IGraphicsInfo withBounds (final double left, final double top, final double width, final double height)
     {
-        return new DefaultGraphicsInfo (this.gc, this.configuration, this.dimensions, new DefaultBounds (left, top, width, height));
+        return new DefaultGraphicsInfo (this.gc, this.configuration, this.dimensions, new DefaultBounds (left, top, width, height), this.layerCache);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawStaticLayer (final Object state, final Consumer<IGraphicsInfo> painter)
+    {
+        if (this.layerCache == null)
+            painter.accept (this);
+        else
+            this.layerCache.draw (this, state, painter);
     }
 }
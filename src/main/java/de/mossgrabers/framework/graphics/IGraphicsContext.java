@@ -210,6 +210,15 @@ public interface IGraphicsContext
     void drawLine (double x1, double y1, double x2, double y2, ColorEx lineColor);
 
 
+    /**
+     * Moves the origin of the coordinate system for all following drawing operations.
+     *
+     * @param x The horizontal offset
+     * @param y The vertical offset
+     */
+    void translate (double x, double y);
+
+
     /**
      * Calculates the maximum height of a text which needs to fit into a width.
      *
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.graphics;
 
+import java.util.function.Consumer;
+
+
 /**
  * All necessary data for drawing a component in a graphics context.
  *
@@ -63,4 +66,15 @@ public interface IGraphicsInfo
      * @return The new instance
      */
     IGraphicsInfo withBounds (final double left, final double top, final double width, final double height);
+
+
+    /**
+     * Draws the static layer of a component into the bounds. If a layer cache is available, the
+     * painter is only called if there is no cached layer for the state and bounds yet.
+     *
+     * @param state The state of the component which affects the static layer, must implement equals
+     *            and hashCode and must not change afterwards
+     * @param painter Draws the static layer into the bounds of the given info
+     */
+    void drawStaticLayer (final Object state, final Consumer<IGraphicsInfo> painter);
 }
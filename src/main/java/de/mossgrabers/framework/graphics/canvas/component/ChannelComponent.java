@@ -14,6 +14,9 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.Arrays;
+import java.util.List;
+
 
 /**
  * An element in the grid which contains the channel settings: Volume, VU, Pan, Mute, Solo and Arm.
@@ -102,6 +105,25 @@ public class ChannelComponent extends ChannelSelectComponent
     {
         super.draw (info);
 
+        final String name = this.footer.getText ();
+        // Element is off if the name is empty
+        if (name == null || name.length () == 0)
+            return;
+
+        // Only the faders, the VU and the value texts change often, everything else is cached
+        info.drawStaticLayer (this.getLayerState (), this::drawStaticLayer);
+        this.drawValues (info);
+    }
+
+
+    /**
+     * Draws the parts which only change with the state of the channel: the background, the
+     * borders, the crossfader buttons and the record arm, solo and mute buttons.
+     *
+     * @param info All necessary information to draw the component
+     */
+    private void drawStaticLayer (final IGraphicsInfo info)
+    {
         final IGraphicsContext gc = info.getContext ();
         final IGraphicsDimensions dimensions = info.getDimensions ();
         final IGraphicsConfiguration configuration = info.getConfiguration ();
@@ -128,31 +150,16 @@ public class ChannelComponent extends ChannelSelectComponent
         final double panStart = controlStart + 1;
         final double panTop = controlsTop + 1.0;
         final double panHeight = unit - separatorSize;
-        final double panTextTop = panTop + panHeight;
 
         final double faderOffset = controlWidth / 4;
         final double faderTop = panTop + panHeight + separatorSize + 1;
         final double vuX = controlStart + separatorSize;
-        final double faderLeft = vuX + faderOffset;
         final double faderHeight = trackRowTop - faderTop - inset + 1;
         final double faderInnerHeight = faderHeight - 2 * separatorSize;
 
-        final double volumeTextWidth = 1.4 * controlWidth;
-        final double volumeTextLeft = faderLeft - volumeTextWidth - 2;
-
         final double buttonHeight = (faderHeight - 4 * separatorSize) / 3;
 
-        //
-        // Drawing
-        //
-
         final ColorEx textColor = this.modifyIfOff (configuration.getColorText ());
-
-        final String name = this.footer.getText ();
-        // Element is off if the name is empty
-        if (name == null || name.length () == 0)
-            return;
-
         final ColorEx backgroundColor = this.modifyIfOff (configuration.getColorBackground ());
 
         // Draw the background
@@ -180,11 +187,84 @@ public class ChannelComponent extends ChannelSelectComponent
         // Panorama
         gc.fillRectangle (panStart, panTop, panWidth, panHeight, backgroundDarker);
 
+        final double panMiddle = panStart + panWidth / 2;
+        gc.drawLine (panMiddle, panTop, panMiddle, panTop + panHeight, borderColor);
+
+        // VU
+        final double vuWidth = faderOffset - separatorSize;
+        gc.fillRectangle (vuX, faderTop + separatorSize, vuWidth + 1, faderInnerHeight, backgroundDarker);
+
+        double buttonTop = faderTop;
+
+        if (this.type != ChannelType.LAYER)
+        {
+            // Rec Arm
+            this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorRecord ()), textColor, this.isArm, "channel/record_arm.svg", configuration);
+        }
+
+        // Solo
+        buttonTop += buttonHeight + 2 * separatorSize;
+        this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorSolo ()), textColor, this.isSolo, "channel/solo.svg", configuration);
+
+        // Mute
+        buttonTop += buttonHeight + 2 * separatorSize;
+        this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorMute ()), textColor, this.isMute, "channel/mute.svg", configuration);
+    }
+
+
+    /**
+     * Draws the parts which change with the values: panorama, volume, VU and the value texts.
+     *
+     * @param info All necessary information to draw the component
+     */
+    private void drawValues (final IGraphicsInfo info)
+    {
+        final IGraphicsContext gc = info.getContext ();
+        final IGraphicsDimensions dimensions = info.getDimensions ();
+        final IGraphicsConfiguration configuration = info.getConfiguration ();
+        final double left = info.getBounds ().getLeft ();
+        final double width = info.getBounds ().getWidth ();
+        final double height = info.getBounds ().getHeight ();
+
+        final double halfWidth = width / 2;
+
+        final double separatorSize = dimensions.getSeparatorSize ();
+        final double unit = dimensions.getUnit ();
+        final double halfUnit = dimensions.getHalfUnit ();
+        final double controlsTop = dimensions.getControlsTop ();
+        final double inset = dimensions.getInset ();
+
+        final int trackRowHeight = (int) (1.6 * unit);
+        final double trackRowTop = height - trackRowHeight - unit - separatorSize;
+
+        final double controlWidth = halfWidth - halfUnit - halfUnit / 2;
+        final double controlStart = left + halfWidth + halfUnit - halfUnit / 2;
+
+        final double panWidth = controlWidth - 2;
+        final double panStart = controlStart + 1;
+        final double panTop = controlsTop + 1.0;
+        final double panHeight = unit - separatorSize;
+        final double panTextTop = panTop + panHeight;
+
+        final double faderOffset = controlWidth / 4;
+        final double faderTop = panTop + panHeight + separatorSize + 1;
+        final double vuX = controlStart + separatorSize;
+        final double faderLeft = vuX + faderOffset;
+        final double faderHeight = trackRowTop - faderTop - inset + 1;
+        final double faderInnerHeight = faderHeight - 2 * separatorSize;
+
+        final double volumeTextWidth = 1.4 * controlWidth;
+        final double volumeTextLeft = faderLeft - volumeTextWidth - 2;
+
+        final ColorEx textColor = this.modifyIfOff (configuration.getColorText ());
+        final ColorEx borderColor = this.modifyIfOff (configuration.getColorBorder ());
+        final ColorEx backgroundDarker = this.modifyIfOff (configuration.getColorBackgroundDarker ());
+        final ColorEx editColor = this.modifyIfOff (configuration.getColorEdit ());
+
+        // Panorama
         final double panRange = panWidth / 2;
         final double panMiddle = panStart + panRange;
 
-        gc.drawLine (panMiddle, panTop, panMiddle, panTop + panHeight, borderColor);
-
         final double maxValue = dimensions.getParameterUpperBound ();
         final double halfMax = maxValue / 2;
         final boolean isPanTouched = this.panText.length () > 0;
@@ -230,27 +310,10 @@ public class ChannelComponent extends ChannelSelectComponent
         final double vuOffsetLeft = faderInnerHeight - vuHeightLeft;
         final double vuOffsetRight = faderInnerHeight - vuHeightRight;
         final double vuWidth = faderOffset - separatorSize;
-        gc.fillRectangle (vuX, faderTop + separatorSize, vuWidth + 1, faderInnerHeight, backgroundDarker);
         final ColorEx colorVu = this.modifyIfOff (configuration.getColorVu ());
         gc.fillRectangle (vuX, faderTop + separatorSize + vuOffsetLeft, vuWidth / 2, vuHeightLeft, colorVu);
         gc.fillRectangle (vuX + vuWidth / 2, faderTop + separatorSize + vuOffsetRight, vuWidth / 2, vuHeightRight, colorVu);
 
-        double buttonTop = faderTop;
-
-        if (this.type != ChannelType.LAYER)
-        {
-            // Rec Arm
-            this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorRecord ()), textColor, this.isArm, "channel/record_arm.svg", configuration);
-        }
-
-        // Solo
-        buttonTop += buttonHeight + 2 * separatorSize;
-        this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorSolo ()), textColor, this.isSolo, "channel/solo.svg", configuration);
-
-        // Mute
-        buttonTop += buttonHeight + 2 * separatorSize;
-        this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorMute ()), textColor, this.isMute, "channel/mute.svg", configuration);
-
         // Draw panorama text on top if set
         if (isPanTouched)
         {
@@ -270,6 +333,17 @@ public class ChannelComponent extends ChannelSelectComponent
     }
 
 
+    /**
+     * Get the state which affects the static layer.
+     *
+     * @return The state
+     */
+    private List<Object> getLayerState ()
+    {
+        return Arrays.asList (this.getClass (), Double.valueOf (this.editType), this.type, Boolean.valueOf (this.isActive), Boolean.valueOf (this.footer.isSelected ()), Boolean.valueOf (this.isArm), Boolean.valueOf (this.isSolo), Boolean.valueOf (this.isMute), Double.valueOf (this.crossfadeMode));
+    }
+
+
     /**
      * Draws a button a gradient background.
      *
@@ -14,6 +14,9 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.Arrays;
+import java.util.List;
+
 
 /**
  * A component which draws a label. A label is a text and an optional icon.
@@ -71,7 +74,7 @@ public class LabelComponent implements IComponent
     {
         if (this.layout == LabelLayout.SEPARATE_COLOR)
         {
-            this.drawSeparateColorLayout (info);
+            info.drawStaticLayer (this.getLayerState (), this::drawSeparateColorLayout);
             return;
         }
 
@@ -82,9 +85,6 @@ public class LabelComponent implements IComponent
         final double separatorSize = dimensions.getSeparatorSize ();
         final double menuHeight = dimensions.getMenuHeight ();
 
-        final ColorEx bgColor = this.getBackgroundColor (configuration);
-        final ColorEx textColor = ColorEx.calcContrastColor (bgColor);
-
         if (this.text == null || this.text.length () == 0)
         {
             if (this.layout == LabelLayout.SMALL_HEADER)
@@ -95,6 +95,39 @@ public class LabelComponent implements IComponent
             return;
         }
 
+        if (this.layout == LabelLayout.PLAIN)
+        {
+            info.drawStaticLayer (this.getLayerState (), this::drawLabel);
+            return;
+        }
+
+        // The small header is always at the top of the display
+        info.withBounds (0, menuHeight).drawStaticLayer (this.getLayerState (), this::drawLabel);
+
+        // The line below the text reaches into the gap to the next header, which is outside of the
+        // cached layer
+        final ColorEx bgColor = this.getBackgroundColor (configuration);
+        info.getContext ().fillRectangle (bounds.getLeft () + bounds.getWidth (), menuHeight - 2.0, separatorSize, 1, this.isSelected ? bgColor : ColorEx.calcContrastColor (bgColor));
+    }
+
+
+    /**
+     * Draws the label in the PLAIN or SMALL_HEADER layout.
+     *
+     * @param info All necessary information to draw the component
+     */
+    private void drawLabel (final IGraphicsInfo info)
+    {
+        final IGraphicsConfiguration configuration = info.getConfiguration ();
+        final IBounds bounds = info.getBounds ();
+
+        final IGraphicsDimensions dimensions = info.getDimensions ();
+        final double separatorSize = dimensions.getSeparatorSize ();
+        final double menuHeight = dimensions.getMenuHeight ();
+
+        final ColorEx bgColor = this.getBackgroundColor (configuration);
+        final ColorEx textColor = ColorEx.calcContrastColor (bgColor);
+
         final double left = bounds.getLeft ();
         final double top = bounds.getTop ();
         final double width = bounds.getWidth ();
@@ -104,7 +137,7 @@ public class LabelComponent implements IComponent
         if (this.layout == LabelLayout.SMALL_HEADER)
         {
             gc.fillRectangle (left, top, width, menuHeight - 1.0, bgColor);
-            gc.fillRectangle (left, menuHeight - 2.0, width + separatorSize, 1, this.isSelected ? bgColor : textColor);
+            gc.fillRectangle (left, menuHeight - 2.0, width, 1, this.isSelected ? bgColor : textColor);
         }
         else
             gc.fillRectangle (left, top, width, height, bgColor);
@@ -207,6 +240,17 @@ public class LabelComponent implements IComponent
     }
 
 
+    /**
+     * Get the state which affects the drawing of the label.
+     *
+     * @return The state
+     */
+    private List<Object> getLayerState ()
+    {
+        return Arrays.asList (this.getClass (), this.text, this.icon, this.backgroundColor, Boolean.valueOf (this.isSelected), Boolean.valueOf (this.isActive), this.layout);
+    }
+
+
     private ColorEx modifyIfOff (final ColorEx color)
     {
         return this.isActive ? color : ColorEx.dimToGray (color);
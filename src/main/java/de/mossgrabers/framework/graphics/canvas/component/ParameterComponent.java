@@ -14,6 +14,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
+import java.util.Arrays;
+
 
 /**
  * An element in the grid which contains a fader and text for a value.
@@ -133,6 +135,24 @@ public class ParameterComponent extends MenuComponent
     {
         super.draw (info);
 
+        // Component is off if the name is empty
+        if (this.paramName == null || this.paramName.length () == 0)
+            return;
+
+        // Only the value text and the slider change often, everything else is cached
+        info.drawStaticLayer (Arrays.asList (this.getClass (), this.paramName, Boolean.valueOf (this.isTouched), Boolean.valueOf (this.paramValue == -1)), this::drawStaticLayer);
+        this.drawValue (info);
+    }
+
+
+    /**
+     * Draws the parts which only change with the state of the parameter: the background, the name
+     * and the border of the slider.
+     *
+     * @param info All necessary information to draw the component
+     */
+    private void drawStaticLayer (final IGraphicsInfo info)
+    {
         final IGraphicsContext gc = info.getContext ();
         final IGraphicsDimensions dimensions = info.getDimensions ();
         final IGraphicsConfiguration configuration = info.getConfiguration ();
@@ -147,15 +167,10 @@ public class ParameterComponent extends MenuComponent
         final double inset = dimensions.getInset ();
 
         final boolean isValueMissing = this.paramValue == -1;
-        final boolean isModulated = this.modulatedParamValue != -1;
 
         final int trackRowHeight = (int) (1.6 * unit);
         final double trackRowTop = height - trackRowHeight - unit - separatorSize;
 
-        // Component is off if the name is empty
-        if (this.paramName == null || this.paramName.length () == 0)
-            return;
-
         final double elementWidth = width - 2 * inset;
         final double elementHeight = (trackRowTop - controlsTop - inset) / 3;
 
@@ -163,11 +178,47 @@ public class ParameterComponent extends MenuComponent
         final ColorEx backgroundColor = configuration.getColorBackground ();
         gc.fillRectangle (left, menuHeight + 1, width, trackRowTop - (isValueMissing ? controlsTop + elementHeight : menuHeight + 1), this.isTouched ? configuration.getColorBackgroundLighter () : backgroundColor);
 
-        // Draw the name and value texts
-        final ColorEx textColor = configuration.getColorText ();
+        // Draw the name text
+        final double fontSize = elementHeight * 2 / 3;
+        gc.drawTextInBounds (this.paramName, left + inset - 1, controlsTop - inset, elementWidth, elementHeight, Align.CENTER, configuration.getColorText (), fontSize);
+
+        // Border of the value slider
+        if (!isValueMissing)
+            gc.fillRectangle (left + inset - 1, controlsTop + 2 * elementHeight, elementWidth, elementHeight, configuration.getColorBorder ());
+    }
+
+
+    /**
+     * Draws the parts which change with the value: the value text and the slider.
+     *
+     * @param info All necessary information to draw the component
+     */
+    private void drawValue (final IGraphicsInfo info)
+    {
+        final IGraphicsContext gc = info.getContext ();
+        final IGraphicsDimensions dimensions = info.getDimensions ();
+        final IGraphicsConfiguration configuration = info.getConfiguration ();
+        final double left = info.getBounds ().getLeft ();
+        final double width = info.getBounds ().getWidth ();
+        final double height = info.getBounds ().getHeight ();
+
+        final double separatorSize = dimensions.getSeparatorSize ();
+        final double unit = dimensions.getUnit ();
+        final double controlsTop = dimensions.getControlsTop ();
+        final double inset = dimensions.getInset ();
+
+        final boolean isValueMissing = this.paramValue == -1;
+        final boolean isModulated = this.modulatedParamValue != -1;
+
+        final int trackRowHeight = (int) (1.6 * unit);
+        final double trackRowTop = height - trackRowHeight - unit - separatorSize;
+
+        final double elementWidth = width - 2 * inset;
+        final double elementHeight = (trackRowTop - controlsTop - inset) / 3;
+
+        // Draw the value text
         final double fontSize = elementHeight * 2 / 3;
-        gc.drawTextInBounds (this.paramName, left + inset - 1, controlsTop - inset, elementWidth, elementHeight, Align.CENTER, textColor, fontSize);
-        gc.drawTextInBounds (this.paramValueText, left + inset - 1, controlsTop - inset + elementHeight, elementWidth, elementHeight, Align.CENTER, textColor, fontSize);
+        gc.drawTextInBounds (this.paramValueText, left + inset - 1, controlsTop - inset + elementHeight, elementWidth, elementHeight, Align.CENTER, configuration.getColorText (), fontSize);
 
         // Value slider
         if (isValueMissing)
@@ -177,8 +228,6 @@ public class ParameterComponent extends MenuComponent
         final double value = isModulated ? this.modulatedParamValue : this.paramValue;
         final double valueSliderWidth = value >= maxValue - 1 ? elementInnerWidth : elementInnerWidth * value / maxValue;
         final double innerTop = controlsTop + 2 * elementHeight + 1;
-        final ColorEx borderColor = configuration.getColorBorder ();
-        gc.fillRectangle (left + inset - 1, controlsTop + 2 * elementHeight, elementWidth, elementHeight, borderColor);
         gc.fillRectangle (left + inset, innerTop, valueSliderWidth, elementHeight - 2, configuration.getColorFader ());
 
         final double w = this.isTouched ? 3 : 1;
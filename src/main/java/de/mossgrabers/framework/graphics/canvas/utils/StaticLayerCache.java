@@ -0,0 +1,209 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
+import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsInfo;
+import de.mossgrabers.framework.metrics.Counter;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * Caches the static parts of components (e.g. backgrounds, borders, buttons and icons), which only
+ * change with the state of the component, in offscreen bitmaps. The static part is rendered once for
+ * each state and bounds and afterwards only the bitmap is drawn. The least recently used bitmaps are
+ * removed if the maximum number is exceeded. All bitmaps are removed if a color of the
+ * configuration changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StaticLayerCache
+{
+    private static final int             MAX_LAYERS = 64;
+
+
+    /**
+     * Interface for creating the bitmaps of the layers.
+     */
+    public interface IBitmapFactory
+    {
+        /**
+         * Create a bitmap.
+         *
+         * @param width The width of the bitmap
+         * @param height The height of the bitmap
+         * @return The bitmap
+         */
+        IBitmap createBitmap (int width, int height);
+    }
+
+
+    private final IBitmapFactory         bitmapFactory;
+    private final Map<LayerKey, IBitmap> layers     = new LinkedHashMap<> (MAX_LAYERS, 0.75f, true);
+    private final Counter                hits;
+    private final Counter                misses;
+
+    private List<Object>                 configurationState;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for creating the bitmaps
+     */
+    public StaticLayerCache (final IHost host)
+    {
+        this (host::createBitmap, host.getMetrics ());
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param bitmapFactory Creates the bitmaps of the layers, e.g. raster bitmaps if there is no DAW
+     * @param metrics The registry for the hit and miss counters
+     */
+    public StaticLayerCache (final IBitmapFactory bitmapFactory, final MetricsRegistry metrics)
+    {
+        this.bitmapFactory = bitmapFactory;
+
+        this.hits = metrics.counter ("display.layers.hit");
+        this.misses = metrics.counter ("display.layers.miss");
+    }
+
+
+    /**
+     * Removes all layers if the colors of the configuration have changed since the last call. Call
+     * before rendering a frame.
+     *
+     * @param configuration The configuration
+     */
+    public void validate (final IGraphicsConfiguration configuration)
+    {
+        final List<Object> state = Arrays.asList (configuration.getColorText (), configuration.getColorBackground (), configuration.getColorBackgroundDarker (), configuration.getColorBackgroundLighter (), configuration.getColorBorder (), configuration.getColorEdit (), configuration.getColorFader (), configuration.getColorVu (), configuration.getColorRecord (), configuration.getColorSolo (), configuration.getColorMute (), Boolean.valueOf (configuration.isAntialiasEnabled ()));
+        if (state.equals (this.configurationState))
+            return;
+        this.configurationState = state;
+        this.clear ();
+    }
+
+
+    /**
+     * Removes all layers.
+     */
+    public void clear ()
+    {
+        this.layers.clear ();
+    }
+
+
+    /**
+     * Draws the static layer of a component. If there is no layer for the state and the bounds of
+     * the info, the painter draws it into a new bitmap first.
+     *
+     * @param info The info with the graphics context to draw to and the bounds of the component
+     * @param state The state of the component which affects the static layer, must implement equals
+     *            and hashCode and must not change afterwards
+     * @param painter Draws the static layer into the bounds of the given info
+     */
+    public void draw (final IGraphicsInfo info, final Object state, final Consumer<IGraphicsInfo> painter)
+    {
+        final IBounds bounds = info.getBounds ();
+
+        // Align to full pixels, otherwise the bitmap gets blurred when it is drawn
+        final int left = (int) Math.floor (bounds.getLeft ());
+        final int top = (int) Math.floor (bounds.getTop ());
+        final int width = (int) Math.ceil (bounds.getLeft () + bounds.getWidth ()) - left;
+        final int height = (int) Math.ceil (bounds.getTop () + bounds.getHeight ()) - top;
+        if (width <= 0 || height <= 0)
+            return;
+
+        final LayerKey key = new LayerKey (state, bounds);
+        IBitmap layer = this.layers.get (key);
+        if (layer == null)
+        {
+            this.misses.increment ();
+
+            layer = this.bitmapFactory.createBitmap (width, height);
+            layer.render (info.getConfiguration ().isAntialiasEnabled (), gc -> {
+                gc.translate (-left, -top);
+                painter.accept (new DefaultGraphicsInfo (gc, info.getConfiguration (), info.getDimensions (), bounds));
+            });
+            this.layers.put (key, layer);
+
+            // The map is in access order, therefore the first layer is the least recently used
+            if (this.layers.size () > MAX_LAYERS)
+            {
+                final Iterator<LayerKey> iterator = this.layers.keySet ().iterator ();
+                iterator.next ();
+                iterator.remove ();
+            }
+        }
+        else
+            this.hits.increment ();
+
+        info.getContext ().drawImage (layer, left, top);
+    }
+
+
+    /** Identifies a layer by the state of the component and its bounds. */
+    private static class LayerKey
+    {
+        private final Object state;
+        private final double left;
+        private final double top;
+        private final double width;
+        private final double height;
+
+
+        /**
+         * Constructor.
+         *
+         * @param state The state of the component
+         * @param bounds The bounds of the component
+         */
+        LayerKey (final Object state, final IBounds bounds)
+        {
+            this.state = state;
+            this.left = bounds.getLeft ();
+            this.top = bounds.getTop ();
+            this.width = bounds.getWidth ();
+            this.height = bounds.getHeight ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return Objects.hash (this.state, Double.valueOf (this.left), Double.valueOf (this.top), Double.valueOf (this.width), Double.valueOf (this.height));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final LayerKey other = (LayerKey) obj;
+            return this.left == other.left && this.top == other.top && this.width == other.width && this.height == other.height && Objects.equals (this.state, other.state);
+        }
+    }
+}
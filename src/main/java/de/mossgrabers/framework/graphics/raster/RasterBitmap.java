@@ -0,0 +1,146 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.raster;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * A bitmap which is rendered in Java into an integer ARGB raster, independent of the DAW. Therefore,
+ * it can be rendered on any thread and also without a DAW (e.g. for benchmarks or for comparing the
+ * result with reference images). Rendering and encoding are synchronized, an encoder always gets a
+ * complete frame.
+ *
+ * The encoders get the same memory layout as from the DAW bitmaps: 4 bytes per pixel in the order
+ * blue, green, red and alpha, therefore the existing device encoders (e.g. Push 2 and Fire) can be
+ * used unchanged.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RasterBitmap implements IBitmap
+{
+    private final int        width;
+    private final int        height;
+    private final int []     pixels;
+    private final ByteBuffer buffer;
+
+    private String           title;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public RasterBitmap (final int width, final int height)
+    {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int [width * height];
+        this.buffer = ByteBuffer.allocate (width * height * 4).order (ByteOrder.LITTLE_ENDIAN);
+    }
+
+
+    /**
+     * Get the title which was set for the display window. There is no window for a raster bitmap.
+     *
+     * @return The title
+     */
+    public String getDisplayWindowTitle ()
+    {
+        return this.title;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        this.title = title;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // There is no window, the content can be read with getPixels
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        renderer.render (new RasterGraphicsContext (this.pixels, this.width, this.height, enableAntialias));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void encode (final IEncoder encoder)
+    {
+        this.buffer.clear ();
+        this.buffer.asIntBuffer ().put (this.pixels);
+        encoder.encode (this.buffer, this.width, this.height);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.width;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.height;
+    }
+
+
+    /**
+     * Get the color of a pixel.
+     *
+     * @param x The X position of the pixel
+     * @param y The Y position of the pixel
+     * @return The color in ARGB format
+     */
+    public synchronized int getPixel (final int x, final int y)
+    {
+        return this.pixels[y * this.width + x];
+    }
+
+
+    /**
+     * Get a copy of all pixels.
+     *
+     * @return The pixels row by row in ARGB format
+     */
+    public synchronized int [] getPixels ()
+    {
+        return this.pixels.clone ();
+    }
+
+
+    /**
+     * Get the pixels without copying them. Must only be used while rendering into another bitmap.
+     *
+     * @return The pixels row by row in ARGB format
+     */
+    int [] getRaster ()
+    {
+        return this.pixels;
+    }
+}
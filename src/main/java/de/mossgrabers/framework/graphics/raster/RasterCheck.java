@@ -0,0 +1,436 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.raster;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.daw.resource.ResourceHandler;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
+import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
+import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsDimensions;
+import de.mossgrabers.framework.graphics.IGraphicsInfo;
+import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+import de.mossgrabers.framework.graphics.canvas.component.LabelComponent;
+import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
+import de.mossgrabers.framework.graphics.canvas.component.MenuComponent;
+import de.mossgrabers.framework.graphics.canvas.component.OptionsComponent;
+import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
+import de.mossgrabers.framework.graphics.canvas.utils.StaticLayerCache;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Checks the raster implementation without a DAW. Run it with the compiled classes on the class
+ * path. The drawing primitives are compared against their expected pixels and all components are
+ * rendered with and without the static layer cache, which must give the same pixels. Exits with 1
+ * if a check fails.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RasterCheck
+{
+    private static final int       WHITE = 0xFFFFFFFF;
+    private static final int       BLACK = 0xFF000000;
+
+    private static final String [] ICONS = new String []
+    {
+        "channel/mute.svg",
+        "channel/record_arm.svg",
+        "channel/solo.svg",
+        "track/audio_track.svg",
+        "track/crossfade_a.svg",
+        "track/crossfade_ab.svg",
+        "track/crossfade_b.svg",
+        "track/group_track.svg",
+        "track/hybrid_track.svg",
+        "track/instrument_track.svg",
+        "track/master_track.svg",
+        "track/multi_layer.svg",
+        "track/return_track.svg",
+        "device/device_analysis.svg",
+        "device/device_audio.svg",
+        "device/device_container.svg",
+        "device/device_drum_machine.svg",
+        "device/device_drum_module.svg",
+        "device/device_generic.svg",
+        "device/device_instrument.svg",
+        "device/device_io.svg",
+        "device/device_note.svg",
+        "device/device_plugin.svg",
+        "user.svg"
+    };
+
+    private int                    failures;
+
+
+    /**
+     * Run all checks.
+     *
+     * @param args Not used
+     */
+    public static void main (final String [] args)
+    {
+        final RasterCheck check = new RasterCheck ();
+        check.checkRectangles ();
+        check.checkRoundedRectangle ();
+        check.checkGradient ();
+        check.checkLines ();
+        check.checkTextBounds ();
+        check.checkEncoding ();
+        check.checkLayerCache (false);
+        check.checkLayerCache (true);
+
+        if (check.failures > 0)
+        {
+            System.out.println (check.failures + " check(s) failed.");
+            System.exit (1);
+        }
+        System.out.println ("All checks passed.");
+    }
+
+
+    private void checkRectangles ()
+    {
+        final RasterBitmap bitmap = createBitmap (8, 6, false, gc -> gc.fillRectangle (2, 1, 3, 2, ColorEx.WHITE));
+        this.assertArea ("Filled rectangle", bitmap, 2, 1, 3, 2, WHITE);
+
+        final RasterBitmap stroked = createBitmap (8, 6, false, gc -> gc.strokeRectangle (1, 1, 5, 3, ColorEx.WHITE));
+        this.assertPixel ("Stroked rectangle top left", stroked, 1, 1, WHITE);
+        this.assertPixel ("Stroked rectangle bottom right", stroked, 6, 4, WHITE);
+        this.assertPixel ("Stroked rectangle inside", stroked, 3, 2, BLACK);
+
+        // Half of the first column is covered
+        final RasterBitmap partial = createBitmap (8, 6, true, gc -> gc.fillRectangle (1.5, 1, 2, 1, ColorEx.WHITE));
+        this.assertGray ("Partially covered pixel", partial.getPixel (1, 1), 0x80, 1);
+        this.assertPixel ("Fully covered pixel", partial, 2, 1, WHITE);
+    }
+
+
+    private void checkRoundedRectangle ()
+    {
+        final RasterBitmap bitmap = createBitmap (20, 20, false, gc -> gc.fillRoundedRectangle (0, 0, 20, 20, 6, ColorEx.WHITE));
+        this.assertPixel ("Rounded rectangle corner", bitmap, 0, 0, BLACK);
+        this.assertPixel ("Rounded rectangle corner", bitmap, 19, 19, BLACK);
+        this.assertPixel ("Rounded rectangle edge", bitmap, 10, 0, WHITE);
+        this.assertPixel ("Rounded rectangle center", bitmap, 10, 10, WHITE);
+    }
+
+
+    private void checkGradient ()
+    {
+        final RasterBitmap bitmap = createBitmap (4, 16, false, gc -> gc.fillGradientRoundedRectangle (0, 0, 4, 16, 0, ColorEx.BLACK, ColorEx.WHITE));
+        int previous = -1;
+        for (int y = 0; y < 16; y++)
+        {
+            final int gray = bitmap.getPixel (1, y) & 0xFF;
+            if (gray <= previous)
+                this.fail ("Gradient is not increasing at row " + y);
+            previous = gray;
+        }
+        this.assertGray ("Gradient top", bitmap.getPixel (1, 0), 0x08, 1);
+        this.assertGray ("Gradient bottom", bitmap.getPixel (1, 15), 0xF7, 1);
+    }
+
+
+    private void checkLines ()
+    {
+        // A line on full pixels covers exactly one row (or column) without anti aliasing,
+        // independent of its direction
+        final RasterBitmap horizontal = createBitmap (8, 6, false, gc -> gc.drawLine (1, 2, 6, 2, ColorEx.WHITE));
+        this.assertArea ("Horizontal line", horizontal, 1, 2, 5, 1, WHITE);
+        final RasterBitmap reversed = createBitmap (8, 6, false, gc -> gc.drawLine (6, 2, 1, 2, ColorEx.WHITE));
+        this.assertArea ("Reversed horizontal line", reversed, 1, 2, 5, 1, WHITE);
+        final RasterBitmap vertical = createBitmap (8, 6, false, gc -> gc.drawLine (3, 5, 3, 1, ColorEx.WHITE));
+        this.assertArea ("Vertical line", vertical, 3, 1, 1, 4, WHITE);
+    }
+
+
+    private void checkTextBounds ()
+    {
+        // The text is much wider than the bounds and must be clipped, afterwards the clip is
+        // restored
+        final RasterBitmap bitmap = createBitmap (60, 20, false, gc -> {
+            gc.drawTextInBounds ("WWWWWWWWWW", 20, 5, 10, 10, Align.LEFT, ColorEx.WHITE, 10);
+            gc.fillRectangle (50, 0, 10, 2, ColorEx.WHITE);
+        });
+
+        boolean hasText = false;
+        for (int y = 0; y < 20; y++)
+        {
+            for (int x = 0; x < 60; x++)
+            {
+                final boolean isSet = bitmap.getPixel (x, y) != BLACK;
+                final boolean isInside = x >= 20 && x < 30 && y >= 5 && y < 15;
+                if (isInside)
+                    hasText |= isSet;
+                else if (isSet && y >= 2)
+                    this.fail ("Text drawn outside of its bounds at " + x + "," + y);
+            }
+        }
+        if (!hasText)
+            this.fail ("Text was not drawn");
+        this.assertPixel ("Clip restored after text", bitmap, 55, 1, WHITE);
+    }
+
+
+    private void checkEncoding ()
+    {
+        final RasterBitmap bitmap = createBitmap (2, 1, false, gc -> gc.fillRectangle (0, 0, 1, 1, ColorEx.fromRGB (0x10, 0x20, 0x30)));
+        bitmap.encode ( (final ByteBuffer buffer, final int width, final int height) -> {
+            final int [] expected =
+            {
+                0x30,
+                0x20,
+                0x10,
+                0xFF
+            };
+            for (int i = 0; i < expected.length; i++)
+            {
+                final int value = buffer.get (i) & 0xFF;
+                if (value != expected[i])
+                    this.fail ("Encoded byte " + i + " is " + Integer.toHexString (value) + " instead of " + Integer.toHexString (expected[i]));
+            }
+        });
+    }
+
+
+    private void checkLayerCache (final boolean isAntialias)
+    {
+        final RasterBitmap icon = createBitmap (12, 12, true, gc -> gc.fillCircle (6, 6, 5, ColorEx.WHITE));
+        for (final String name: ICONS)
+            ResourceHandler.addImage (name, icon);
+
+        final IGraphicsConfiguration configuration = new CheckConfiguration (isAntialias);
+        final IGraphicsDimensions dimensions = new DefaultGraphicsDimensions (960, 160, 1023);
+        final IComponent [] components =
+        {
+            new ChannelComponent (0, "Volume", true, "Drums", ColorEx.RED, true, ChannelType.AUDIO, 700, -1, "-3.2 dB", 512, -1, "", 600, 500, false, true, true, true, 0),
+            new ChannelComponent (1, "Pan", false, "Bass", ColorEx.BLUE, false, ChannelType.INSTRUMENT, 300, -1, "", 800, -1, "R 40%", 200, 100, true, false, false, true, 1),
+            new ParameterComponent ("Device", false, "Cutoff", "Polysynth", ColorEx.GREEN, false, "Cutoff", 400, -1, "1.2 kHz", true),
+            new ParameterComponent ("Page", true, "Res", (String) null, ColorEx.ORANGE, true, "Resonance", 900, -1, "88 %", false),
+            new MenuComponent ("Menu", false, "Label", null, ColorEx.PINK, false, true),
+            new OptionsComponent ("Top", "Upper", false, ColorEx.GRAY, "Bottom", "Lower", true, ColorEx.DARK_GRAY, true, false),
+            new LabelComponent ("Header", null, ColorEx.YELLOW, true, true, LabelLayout.SMALL_HEADER)
+        };
+
+        final RasterBitmap direct = new RasterBitmap (960, 160);
+        drawComponents (direct, configuration, dimensions, components, null);
+
+        // Render twice, the first frame creates the layers, the second one only draws them. With
+        // anti aliasing, pixels which are partially covered by several shapes are blended into the
+        // transparent layer first, which may round differently by one
+        final int tolerance = isAntialias ? 1 : 0;
+        final StaticLayerCache cache = new StaticLayerCache (RasterBitmap::new, new MetricsRegistry ());
+        cache.validate (configuration);
+        final RasterBitmap cached = new RasterBitmap (960, 160);
+        for (int frame = 0; frame < 2; frame++)
+        {
+            drawComponents (cached, configuration, dimensions, components, cache);
+
+            final int [] expected = direct.getPixels ();
+            final int [] actual = cached.getPixels ();
+            int differences = 0;
+            int first = -1;
+            for (int i = 0; i < expected.length; i++)
+            {
+                if (getDifference (expected[i], actual[i]) <= tolerance)
+                    continue;
+                differences++;
+                if (first < 0)
+                    first = i;
+            }
+            if (differences > 0)
+                this.fail ("Layer cache (antialias " + isAntialias + ", frame " + frame + ") differs in " + differences + " pixels, the first at " + first % 960 + "," + first / 960 + ": " + Integer.toHexString (actual[first]) + " instead of " + Integer.toHexString (expected[first]));
+        }
+    }
+
+
+    private static void drawComponents (final RasterBitmap bitmap, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final IComponent [] components, final StaticLayerCache cache)
+    {
+        bitmap.render (configuration.isAntialiasEnabled (), gc -> {
+            gc.fillRectangle (0, 0, 960, 160, configuration.getColorBorder ());
+            final IGraphicsInfo info = new DefaultGraphicsInfo (gc, configuration, dimensions, cache);
+            // Fractional positions must give the same pixels as well
+            for (int i = 0; i < components.length; i++)
+                components[i].draw (info.withBounds (i * 137.0 + 0.5, 0, 136, 160));
+        });
+    }
+
+
+    private static int getDifference (final int argb1, final int argb2)
+    {
+        int difference = 0;
+        for (int shift = 0; shift < 32; shift += 8)
+            difference = Math.max (difference, Math.abs ((argb1 >>> shift & 0xFF) - (argb2 >>> shift & 0xFF)));
+        return difference;
+    }
+
+
+    private static RasterBitmap createBitmap (final int width, final int height, final boolean isAntialias, final IRenderer renderer)
+    {
+        final RasterBitmap bitmap = new RasterBitmap (width, height);
+        bitmap.render (isAntialias, gc -> {
+            gc.fillRectangle (0, 0, width, height, ColorEx.BLACK);
+            renderer.render (gc);
+        });
+        return bitmap;
+    }
+
+
+    private void assertArea (final String name, final RasterBitmap bitmap, final int left, final int top, final int width, final int height, final int argb)
+    {
+        for (int y = 0; y < bitmap.getHeight (); y++)
+        {
+            for (int x = 0; x < (int) bitmap.getWidth (); x++)
+            {
+                final boolean isInside = x >= left && x < left + width && y >= top && y < top + height;
+                this.assertPixel (name, bitmap, x, y, isInside ? argb : BLACK);
+            }
+        }
+    }
+
+
+    private void assertPixel (final String name, final RasterBitmap bitmap, final int x, final int y, final int argb)
+    {
+        final int pixel = bitmap.getPixel (x, y);
+        if (pixel != argb)
+            this.fail (name + ": pixel " + x + "," + y + " is " + Integer.toHexString (pixel) + " instead of " + Integer.toHexString (argb));
+    }
+
+
+    private void assertGray (final String name, final int pixel, final int gray, final int tolerance)
+    {
+        final int value = pixel & 0xFF;
+        if (Math.abs (value - gray) > tolerance)
+            this.fail (name + ": " + Integer.toHexString (value) + " instead of " + Integer.toHexString (gray));
+    }
+
+
+    private void fail (final String message)
+    {
+        this.failures++;
+        System.out.println ("FAILED: " + message);
+    }
+
+
+    /** A configuration with distinct colors for all elements. */
+    private static class CheckConfiguration implements IGraphicsConfiguration
+    {
+        private final boolean isAntialias;
+
+
+        /**
+         * Constructor.
+         *
+         * @param isAntialias True to enable anti aliasing
+         */
+        CheckConfiguration (final boolean isAntialias)
+        {
+            this.isAntialias = isAntialias;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorText ()
+        {
+            return ColorEx.WHITE;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBackground ()
+        {
+            return ColorEx.fromRGB (83, 83, 83);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBackgroundDarker ()
+        {
+            return ColorEx.fromRGB (39, 39, 39);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBackgroundLighter ()
+        {
+            return ColorEx.fromRGB (97, 97, 97);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBorder ()
+        {
+            return ColorEx.BLACK;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorEdit ()
+        {
+            return ColorEx.fromRGB (240, 200, 30);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorFader ()
+        {
+            return ColorEx.fromRGB (69, 44, 19);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorVu ()
+        {
+            return ColorEx.GREEN;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorRecord ()
+        {
+            return ColorEx.RED;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorSolo ()
+        {
+            return ColorEx.YELLOW;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorMute ()
+        {
+            return ColorEx.ORANGE;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isAntialiasEnabled ()
+        {
+            return this.isAntialias;
+        }
+    }
+}
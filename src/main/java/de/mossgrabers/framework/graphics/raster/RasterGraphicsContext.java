@@ -0,0 +1,580 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.raster;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * Implementation of the drawing functions which renders into an integer ARGB raster. All shapes are
+ * convex, therefore a pixel is completely covered if all 4 of its corners are inside of the shape.
+ * Pixels on the border of a shape are anti-aliased by sampling them on a 4x4 grid. Text is drawn
+ * with a bitmap font. Images can only be drawn and masked if they are raster bitmaps as well.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RasterGraphicsContext implements IGraphicsContext
+{
+    private static final int    SAMPLES          = 4;
+    private static final double LINE_WIDTH       = 1.0;
+    private static final double BACKGROUND_INSET = 12.0;
+
+
+    /** A convex shape. */
+    private interface IShape
+    {
+        /**
+         * Test if a point is inside of the shape.
+         *
+         * @param x The X position of the point
+         * @param y The Y position of the point
+         * @return True if inside
+         */
+        boolean contains (double x, double y);
+    }
+
+
+    private final int []  pixels;
+    private final int     width;
+    private final boolean isAntialias;
+
+    private double        translateX = 0;
+    private double        translateY = 0;
+    private int           clipLeft;
+    private int           clipTop;
+    private int           clipRight;
+    private int           clipBottom;
+
+
+    /**
+     * Constructor.
+     *
+     * @param pixels The raster to draw into, row by row in ARGB format
+     * @param width The width of the raster
+     * @param height The height of the raster
+     * @param isAntialias True to enable anti aliasing
+     */
+    public RasterGraphicsContext (final int [] pixels, final int width, final int height, final boolean isAntialias)
+    {
+        this.pixels = pixels;
+        this.width = width;
+        this.isAntialias = isAntialias;
+
+        this.clipRight = width;
+        this.clipBottom = height;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.fillArea (left, top, width, height, toARGB (color), this.isAntialias);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        // The line is centered on the border, no anti aliasing to get single lines
+        final int argb = toARGB (color);
+        final double half = lineWidth / 2.0;
+        final double x = left - half;
+        final double y = top - half;
+        this.fillArea (x, y, width + lineWidth, lineWidth, argb, false);
+        this.fillArea (x, y + height, width + lineWidth, lineWidth, argb, false);
+        this.fillArea (x, y + lineWidth, lineWidth, height - lineWidth, argb, false);
+        this.fillArea (x + width, y + lineWidth, lineWidth, height - lineWidth, argb, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx fillColor)
+    {
+        final int argb = toARGB (fillColor);
+        this.fillRoundedRectangle (left, top, width, height, radius, argb, argb);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        this.fillRoundedRectangle (left, top, width, height, radius, toARGB (color1), toARGB (color2));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx fillColor)
+    {
+        final double ax = x1 + this.translateX;
+        final double ay = y1 + this.translateY;
+        final double bx = x2 + this.translateX;
+        final double by = y2 + this.translateY;
+        final double cx = x3 + this.translateX;
+        final double cy = y3 + this.translateY;
+
+        final double area = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+        if (area == 0)
+            return;
+
+        // Works for both orientations of the corners
+        final double sign = Math.signum (area);
+        final IShape triangle = (x, y) -> sign * ((bx - ax) * (y - ay) - (by - ay) * (x - ax)) >= 0 && sign * ((cx - bx) * (y - by) - (cy - by) * (x - bx)) >= 0 && sign * ((ax - cx) * (y - cy) - (ay - cy) * (x - cx)) >= 0;
+        final int argb = toARGB (fillColor);
+        this.fillShape (Math.min (ax, Math.min (bx, cx)), Math.min (ay, Math.min (by, cy)), Math.max (ax, Math.max (bx, cx)), Math.max (ay, Math.max (by, cy)), triangle, argb, argb, 0, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx color)
+    {
+        this.drawLine (x1, y1, x2, y2, color);
+        this.drawLine (x2, y2, x3, y3, color);
+        this.drawLine (x3, y3, x1, y1, color);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        if (radius <= 0)
+            return;
+
+        final double centerX = x + this.translateX;
+        final double centerY = y + this.translateY;
+        final double radiusSquare = radius * radius;
+        final IShape circle = (px, py) -> (px - centerX) * (px - centerX) + (py - centerY) * (py - centerY) <= radiusSquare;
+        final int argb = toARGB (fillColor);
+        this.fillShape (centerX - radius, centerY - radius, centerX + radius, centerY + radius, circle, argb, argb, 0, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+        final double textTop = y + (height - BitmapFont.getTextHeight (fontSize)) / 2;
+
+        if (backgroundColor != null)
+            this.fillTextBackground (txt, x, textTop, fontSize, backgroundColor);
+
+        this.drawText (txt, x, textTop, fontSize, toARGB (color));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+        final double textWidth = BitmapFont.getTextWidth (txt, fontSize);
+        final double textTop = y + (height - BitmapFont.getTextHeight (fontSize)) / 2;
+        final double posX;
+        if (alignment == Align.CENTER)
+            posX = x + (width - textWidth) / 2.0;
+        else if (alignment == Align.RIGHT)
+            posX = x + width - textWidth;
+        else
+            posX = x;
+
+        final int oldClipLeft = this.clipLeft;
+        final int oldClipTop = this.clipTop;
+        final int oldClipRight = this.clipRight;
+        final int oldClipBottom = this.clipBottom;
+        this.clip (x + this.translateX, y + this.translateY, width, height);
+
+        if (backgroundColor != null)
+            this.fillTextBackground (txt, posX, textTop, fontSize, backgroundColor);
+
+        this.drawText (txt, posX, textTop, fontSize, toARGB (color));
+
+        this.clipLeft = oldClipLeft;
+        this.clipTop = oldClipTop;
+        this.clipRight = oldClipRight;
+        this.clipBottom = oldClipBottom;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage image, final double x, final double y)
+    {
+        this.drawRaster (image, x, y, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage image, final double x, final double y, final ColorEx maskColor)
+    {
+        this.drawRaster (image, x, y, toARGB (maskColor));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx lineColor)
+    {
+        final double ax = x1 + this.translateX;
+        final double ay = y1 + this.translateY;
+        final double dx = x2 - x1;
+        final double dy = y2 - y1;
+        final double lengthSquare = dx * dx + dy * dy;
+        if (lengthSquare == 0)
+            return;
+
+        // A rectangle with the width of the line along the line. The distance is half-open and
+        // oriented independently of the direction of the line, otherwise a line on full pixels
+        // would cover 2 pixel rows (or columns) without anti aliasing
+        final double maxDistance = LINE_WIDTH / 2.0 * Math.sqrt (lengthSquare);
+        final double orientation = dx > 0 || dx == 0 && dy < 0 ? 1 : -1;
+        final IShape line = (x, y) -> {
+            final double t = (x - ax) * dx + (y - ay) * dy;
+            final double distance = orientation * ((y - ay) * dx - (x - ax) * dy);
+            return t >= 0 && t <= lengthSquare && distance > -maxDistance && distance <= maxDistance;
+        };
+        final double bx = ax + dx;
+        final double by = ay + dy;
+        final double half = LINE_WIDTH / 2.0;
+        final int argb = toARGB (lineColor);
+        this.fillShape (Math.min (ax, bx) - half, Math.min (ay, by) - half, Math.max (ax, bx) + half, Math.max (ay, by) + half, line, argb, argb, 0, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void translate (final double x, final double y)
+    {
+        this.translateX += x;
+        this.translateY += y;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        double size = minimumFontSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            if (BitmapFont.getTextWidth (text, size) > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+        return fittingSize;
+    }
+
+
+    private void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final int argb1, final int argb2)
+    {
+        if (width <= 0 || height <= 0)
+            return;
+
+        final double x0 = left + this.translateX;
+        final double y0 = top + this.translateY;
+        final double x1 = left + width + this.translateX;
+        final double y1 = top + height + this.translateY;
+        final double r = Math.max (0, Math.min (radius, Math.min (width, height) / 2));
+        final double radiusSquare = r * r;
+
+        // The distance to the inner rectangle must not be larger than the radius
+        final IShape roundedRectangle = (x, y) -> {
+            if (x < x0 || x > x1 || y < y0 || y > y1)
+                return false;
+            final double dx = x - Math.max (x0 + r, Math.min (x, x1 - r));
+            final double dy = y - Math.max (y0 + r, Math.min (y, y1 - r));
+            return dx * dx + dy * dy <= radiusSquare;
+        };
+        this.fillShape (x0, y0, x1, y1, roundedRectangle, argb1, argb2, y0, height);
+    }
+
+
+    /**
+     * Fill a shape with a color or a vertical gradient. All positions are in device coordinates.
+     *
+     * @param minX The left bound of the shape
+     * @param minY The top bound of the shape
+     * @param maxX The right bound of the shape
+     * @param maxY The bottom bound of the shape
+     * @param shape The shape
+     * @param argb1 The color at the top of the gradient
+     * @param argb2 The color at the bottom of the gradient, set to argb1 to fill with one color
+     * @param gradientTop The start of the gradient
+     * @param gradientHeight The height of the gradient
+     */
+    private void fillShape (final double minX, final double minY, final double maxX, final double maxY, final IShape shape, final int argb1, final int argb2, final double gradientTop, final double gradientHeight)
+    {
+        final int startX = Math.max (this.clipLeft, (int) Math.floor (minX));
+        final int endX = Math.min (this.clipRight, (int) Math.ceil (maxX));
+        final int startY = Math.max (this.clipTop, (int) Math.floor (minY));
+        final int endY = Math.min (this.clipBottom, (int) Math.ceil (maxY));
+
+        for (int py = startY; py < endY; py++)
+        {
+            final int argb = argb1 == argb2 ? argb1 : interpolate (argb1, argb2, (py + 0.5 - gradientTop) / gradientHeight);
+            final int offset = py * this.width;
+            for (int px = startX; px < endX; px++)
+                this.blend (offset + px, argb, this.getCoverage (shape, px, py));
+        }
+    }
+
+
+    private double getCoverage (final IShape shape, final int px, final int py)
+    {
+        if (!this.isAntialias)
+            return shape.contains (px + 0.5, py + 0.5) ? 1 : 0;
+
+        if (shape.contains (px, py) && shape.contains (px + 1.0, py) && shape.contains (px, py + 1.0) && shape.contains (px + 1.0, py + 1.0))
+            return 1;
+
+        int count = 0;
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            final double y = py + (i + 0.5) / SAMPLES;
+            for (int j = 0; j < SAMPLES; j++)
+            {
+                if (shape.contains (px + (j + 0.5) / SAMPLES, y))
+                    count++;
+            }
+        }
+        return count / (double) (SAMPLES * SAMPLES);
+    }
+
+
+    /**
+     * Fill a rectangle. Fractions of pixels are covered partially if anti aliasing is enabled,
+     * otherwise the bounds are rounded to full pixels. The bounds are calculated before they are
+     * translated, since otherwise the rounding errors would depend on the translation and drawing
+     * into a translated layer would give different pixels.
+     *
+     * @param left The left bound
+     * @param top The top bound
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * @param argb The color
+     * @param antialias True to use anti aliasing
+     */
+    private void fillArea (final double left, final double top, final double width, final double height, final int argb, final boolean antialias)
+    {
+        if (width <= 0 || height <= 0)
+            return;
+
+        double x0 = left + this.translateX;
+        double y0 = top + this.translateY;
+        double x1 = left + width + this.translateX;
+        double y1 = top + height + this.translateY;
+        if (!antialias)
+        {
+            x0 = Math.round (x0);
+            y0 = Math.round (y0);
+            x1 = Math.round (x1);
+            y1 = Math.round (y1);
+        }
+
+        final int startX = Math.max (this.clipLeft, (int) Math.floor (x0));
+        final int endX = Math.min (this.clipRight, (int) Math.ceil (x1));
+        final int startY = Math.max (this.clipTop, (int) Math.floor (y0));
+        final int endY = Math.min (this.clipBottom, (int) Math.ceil (y1));
+
+        for (int py = startY; py < endY; py++)
+        {
+            final double coverageY = Math.min (py + 1, y1) - Math.max (py, y0);
+            final int offset = py * this.width;
+            for (int px = startX; px < endX; px++)
+                this.blend (offset + px, argb, coverageY * (Math.min (px + 1, x1) - Math.max (px, x0)));
+        }
+    }
+
+
+    private void fillTextBackground (final String text, final double x, final double textTop, final double fontSize, final ColorEx backgroundColor)
+    {
+        final double textHeight = BitmapFont.getTextHeight (fontSize);
+        final double textWidth = BitmapFont.getTextWidth (text, fontSize);
+        this.fillRoundedRectangle (x - BACKGROUND_INSET, textTop - BACKGROUND_INSET, textWidth + 2 * BACKGROUND_INSET, textHeight + 2 * BACKGROUND_INSET, BACKGROUND_INSET, backgroundColor);
+    }
+
+
+    /**
+     * Draw a text with the bitmap font. Each vertical run of glyph pixels is drawn as one rectangle.
+     *
+     * @param text The text
+     * @param x The left position of the text
+     * @param top The top position of the glyphs
+     * @param fontSize The font size
+     * @param argb The color
+     */
+    private void drawText (final String text, final double x, final double top, final double fontSize, final int argb)
+    {
+        final double unit = BitmapFont.getUnit (fontSize);
+        final double advance = BitmapFont.getAdvance (fontSize);
+
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            final double charLeft = x + i * advance;
+            if (charLeft + this.translateX >= this.clipRight)
+                break;
+
+            for (int column = 0; column < BitmapFont.GLYPH_WIDTH; column++)
+            {
+                final int bits = BitmapFont.getColumn (c, column);
+                int row = 0;
+                while (row < BitmapFont.GLYPH_HEIGHT)
+                {
+                    if ((bits & 1 << row) == 0)
+                    {
+                        row++;
+                        continue;
+                    }
+                    final int start = row;
+                    while (row < BitmapFont.GLYPH_HEIGHT && (bits & 1 << row) != 0)
+                        row++;
+                    this.fillArea (charLeft + column * unit, top + start * unit, unit, (row - start) * unit, argb, this.isAntialias);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Draw a raster bitmap. Other images (e.g. SVG images loaded by the DAW) cannot be drawn.
+     *
+     * @param image The image
+     * @param x The left position
+     * @param y The top position
+     * @param maskColor If not 0 the alpha of the image is used as a mask for this color
+     */
+    private void drawRaster (final IImage image, final double x, final double y, final int maskColor)
+    {
+        if (!(image instanceof RasterBitmap))
+            return;
+
+        final RasterBitmap bitmap = (RasterBitmap) image;
+        final int [] source = bitmap.getRaster ();
+        final int sourceWidth = (int) bitmap.getWidth ();
+        final int sourceHeight = bitmap.getHeight ();
+        final int left = (int) Math.round (x + this.translateX);
+        final int top = (int) Math.round (y + this.translateY);
+
+        final int startX = Math.max (this.clipLeft, left);
+        final int endX = Math.min (this.clipRight, left + sourceWidth);
+        final int startY = Math.max (this.clipTop, top);
+        final int endY = Math.min (this.clipBottom, top + sourceHeight);
+
+        for (int py = startY; py < endY; py++)
+        {
+            final int offset = py * this.width;
+            final int sourceOffset = (py - top) * sourceWidth - left;
+            for (int px = startX; px < endX; px++)
+            {
+                final int argb = source[sourceOffset + px];
+                if (maskColor == 0)
+                    this.blend (offset + px, argb, 1);
+                else
+                    this.blend (offset + px, maskColor, (argb >>> 24) / 255.0);
+            }
+        }
+    }
+
+
+    private void clip (final double left, final double top, final double width, final double height)
+    {
+        this.clipLeft = Math.max (this.clipLeft, (int) Math.floor (left));
+        this.clipTop = Math.max (this.clipTop, (int) Math.floor (top));
+        this.clipRight = Math.min (this.clipRight, (int) Math.ceil (left + width));
+        this.clipBottom = Math.min (this.clipBottom, (int) Math.ceil (top + height));
+    }
+
+
+    /**
+     * Draw a color over a pixel (non-premultiplied alpha).
+     *
+     * @param index The index of the pixel
+     * @param argb The color
+     * @param coverage The part of the pixel which is covered (0-1)
+     */
+    private void blend (final int index, final int argb, final double coverage)
+    {
+        if (coverage <= 0)
+            return;
+
+        final int srcAlpha = (int) Math.round ((argb >>> 24) * Math.min (1.0, coverage));
+        if (srcAlpha == 0)
+            return;
+        if (srcAlpha == 255)
+        {
+            this.pixels[index] = argb;
+            return;
+        }
+
+        final int dst = this.pixels[index];
+        final int dstAlpha = (dst >>> 24) * (255 - srcAlpha) / 255;
+        final int outAlpha = srcAlpha + dstAlpha;
+        final int red = ((argb >> 16 & 0xFF) * srcAlpha + (dst >> 16 & 0xFF) * dstAlpha) / outAlpha;
+        final int green = ((argb >> 8 & 0xFF) * srcAlpha + (dst >> 8 & 0xFF) * dstAlpha) / outAlpha;
+        final int blue = ((argb & 0xFF) * srcAlpha + (dst & 0xFF) * dstAlpha) / outAlpha;
+        this.pixels[index] = outAlpha << 24 | red << 16 | green << 8 | blue;
+    }
+
+
+    private static int interpolate (final int argb1, final int argb2, final double position)
+    {
+        final double t = Math.max (0, Math.min (1, position));
+        final int red = (int) Math.round ((argb1 >> 16 & 0xFF) * (1 - t) + (argb2 >> 16 & 0xFF) * t);
+        final int green = (int) Math.round ((argb1 >> 8 & 0xFF) * (1 - t) + (argb2 >> 8 & 0xFF) * t);
+        final int blue = (int) Math.round ((argb1 & 0xFF) * (1 - t) + (argb2 & 0xFF) * t);
+        return 0xFF000000 | red << 16 | green << 8 | blue;
+    }
+
+
+    private static int toARGB (final ColorEx color)
+    {
+        final int [] rgb = color.toIntRGB255 ();
+        return 0xFF000000 | rgb[0] << 16 | rgb[1] << 8 | rgb[2];
+    }
+}
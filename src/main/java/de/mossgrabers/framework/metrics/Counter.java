@@ -0,0 +1,51 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+/**
+ * A monotonically increasing counter, e.g. for the number of sent bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class Counter
+{
+    private final MetricsRegistry registry;
+    private final int             index;
+
+
+    /**
+     * Constructor.
+     *
+     * @param registry The registry which stores the value
+     * @param index The index of the counter in the registry
+     */
+    Counter (final MetricsRegistry registry, final int index)
+    {
+        this.registry = registry;
+        this.index = index;
+    }
+
+
+    /**
+     * Increase the counter by one.
+     */
+    public void increment ()
+    {
+        if (this.registry.isEnabled)
+            this.registry.counterValues[this.index]++;
+    }
+
+
+    /**
+     * Increase the counter.
+     *
+     * @param value The value to add
+     */
+    public void add (final long value)
+    {
+        if (this.registry.isEnabled)
+            this.registry.counterValues[this.index] += value;
+    }
+}
@@ -0,0 +1,41 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+/**
+ * A gauge stores the latest value of a measurement, e.g. the length of a queue.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class Gauge
+{
+    private final MetricsRegistry registry;
+    private final int             index;
+
+
+    /**
+     * Constructor.
+     *
+     * @param registry The registry which stores the value
+     * @param index The index of the gauge in the registry
+     */
+    Gauge (final MetricsRegistry registry, final int index)
+    {
+        this.registry = registry;
+        this.index = index;
+    }
+
+
+    /**
+     * Set the value.
+     *
+     * @param value The value
+     */
+    public void set (final double value)
+    {
+        if (this.registry.isEnabled)
+            this.registry.gaugeValues[this.index] = value;
+    }
+}
@@ -0,0 +1,70 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+/**
+ * A histogram of durations with fixed buckets from 10 microseconds to 100 milliseconds. Usage:
+ *
+ * <pre>
+ * final long start = histogram.start ();
+ * ... work to measure ...
+ * histogram.stop (start);
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class Histogram
+{
+    private final MetricsRegistry registry;
+    private final int             index;
+
+
+    /**
+     * Constructor.
+     *
+     * @param registry The registry which stores the values
+     * @param index The index of the histogram in the registry
+     */
+    Histogram (final MetricsRegistry registry, final int index)
+    {
+        this.registry = registry;
+        this.index = index;
+    }
+
+
+    /**
+     * Start a measurement.
+     *
+     * @return The start time in nanoseconds or 0 if the registry is disabled
+     */
+    public long start ()
+    {
+        return this.registry.isEnabled ? System.nanoTime () : 0;
+    }
+
+
+    /**
+     * End a measurement and record the duration.
+     *
+     * @param startTime The value returned from start
+     */
+    public void stop (final long startTime)
+    {
+        if (startTime != 0 && this.registry.isEnabled)
+            this.registry.record (this.index, System.nanoTime () - startTime);
+    }
+
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record (final long nanos)
+    {
+        if (this.registry.isEnabled)
+            this.registry.record (this.index, nanos);
+    }
+}
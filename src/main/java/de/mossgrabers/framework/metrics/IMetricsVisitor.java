@@ -0,0 +1,42 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+/**
+ * Interface for reading the values of all metrics of a registry.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IMetricsVisitor
+{
+    /**
+     * Visit a counter.
+     *
+     * @param name The name of the counter
+     * @param value The current value
+     */
+    void visitCounter (String name, long value);
+
+
+    /**
+     * Visit a gauge.
+     *
+     * @param name The name of the gauge
+     * @param value The current value
+     */
+    void visitGauge (String name, double value);
+
+
+    /**
+     * Visit a histogram.
+     *
+     * @param name The name of the histogram
+     * @param count The number of recorded durations
+     * @param average The average duration in microseconds
+     * @param p95 The 95th percentile of the durations in microseconds (upper bound of its bucket)
+     * @param max The maximum duration in microseconds
+     */
+    void visitHistogram (String name, long count, long average, long p95, long max);
+}
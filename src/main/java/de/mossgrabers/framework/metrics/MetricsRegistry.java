@@ -0,0 +1,224 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A registry for runtime performance metrics: counters, gauges and latency histograms with fixed
+ * buckets. The values are stored in primitive arrays, recording a value does not allocate. Metrics
+ * are registered once (e.g. in a constructor) and the returned handles are kept for recording.
+ *
+ * While the registry is disabled recording costs only a field check and no time is measured.
+ * Updates are not synchronized since they happen mostly on the controller thread. If a metric is
+ * updated from several threads at the same time, a value might get lost, which is acceptable for
+ * monitoring.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MetricsRegistry
+{
+    /** The upper bounds of the histogram buckets in microseconds. The last bucket is unbounded. */
+    static final long []                 BUCKET_BOUNDS    =
+    {
+        10,
+        25,
+        50,
+        100,
+        250,
+        500,
+        1000,
+        2500,
+        5000,
+        10000,
+        25000,
+        50000,
+        100000
+    };
+
+    static final int                     NUM_BUCKETS      = BUCKET_BOUNDS.length + 1;
+
+    private final Map<String, Counter>   counters         = new HashMap<> ();
+    private final Map<String, Gauge>     gauges           = new HashMap<> ();
+    private final Map<String, Histogram> histograms       = new HashMap<> ();
+    private final List<String>           counterNames     = new ArrayList<> ();
+    private final List<String>           gaugeNames       = new ArrayList<> ();
+    private final List<String>           histogramNames   = new ArrayList<> ();
+
+    long []                              counterValues    = new long [16];
+    double []                            gaugeValues      = new double [16];
+    long []                              histogramBuckets = new long [16 * NUM_BUCKETS];
+    long []                              histogramSums    = new long [16];
+    long []                              histogramMaxima  = new long [16];
+    volatile boolean                     isEnabled        = false;
+
+
+    /**
+     * Enable or disable the recording.
+     *
+     * @param isEnabled True to enable
+     */
+    public void setEnabled (final boolean isEnabled)
+    {
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Is the recording enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Get or register a counter.
+     *
+     * @param name The name of the counter, parts are separated by dots
+     * @return The counter
+     */
+    public synchronized Counter counter (final String name)
+    {
+        return this.counters.computeIfAbsent (name, n -> {
+            final int index = this.counterNames.size ();
+            this.counterNames.add (n);
+            if (index >= this.counterValues.length)
+                this.counterValues = Arrays.copyOf (this.counterValues, 2 * this.counterValues.length);
+            return new Counter (this, index);
+        });
+    }
+
+
+    /**
+     * Get or register a gauge.
+     *
+     * @param name The name of the gauge, parts are separated by dots
+     * @return The gauge
+     */
+    public synchronized Gauge gauge (final String name)
+    {
+        return this.gauges.computeIfAbsent (name, n -> {
+            final int index = this.gaugeNames.size ();
+            this.gaugeNames.add (n);
+            if (index >= this.gaugeValues.length)
+                this.gaugeValues = Arrays.copyOf (this.gaugeValues, 2 * this.gaugeValues.length);
+            return new Gauge (this, index);
+        });
+    }
+
+
+    /**
+     * Get or register a latency histogram.
+     *
+     * @param name The name of the histogram, parts are separated by dots
+     * @return The histogram
+     */
+    public synchronized Histogram histogram (final String name)
+    {
+        return this.histograms.computeIfAbsent (name, n -> {
+            final int index = this.histogramNames.size ();
+            this.histogramNames.add (n);
+            if (index >= this.histogramSums.length)
+            {
+                final int size = 2 * this.histogramSums.length;
+                this.histogramBuckets = Arrays.copyOf (this.histogramBuckets, size * NUM_BUCKETS);
+                this.histogramSums = Arrays.copyOf (this.histogramSums, size);
+                this.histogramMaxima = Arrays.copyOf (this.histogramMaxima, size);
+            }
+            return new Histogram (this, index);
+        });
+    }
+
+
+    /**
+     * Hand the current values of all metrics to a visitor.
+     *
+     * @param visitor The visitor
+     */
+    public synchronized void visit (final IMetricsVisitor visitor)
+    {
+        for (int i = 0; i < this.counterNames.size (); i++)
+            visitor.visitCounter (this.counterNames.get (i), this.counterValues[i]);
+
+        for (int i = 0; i < this.gaugeNames.size (); i++)
+            visitor.visitGauge (this.gaugeNames.get (i), this.gaugeValues[i]);
+
+        for (int i = 0; i < this.histogramNames.size (); i++)
+        {
+            final int offset = i * NUM_BUCKETS;
+            long count = 0;
+            for (int b = 0; b < NUM_BUCKETS; b++)
+                count += this.histogramBuckets[offset + b];
+            final long average = count == 0 ? 0 : this.histogramSums[i] / count / 1000;
+            visitor.visitHistogram (this.histogramNames.get (i), count, average, this.getPercentile (offset, count, 0.95), this.histogramMaxima[i] / 1000);
+        }
+    }
+
+
+    /**
+     * Clear all histograms, e.g. to start a new reporting interval.
+     */
+    public synchronized void resetHistograms ()
+    {
+        Arrays.fill (this.histogramBuckets, 0);
+        Arrays.fill (this.histogramSums, 0);
+        Arrays.fill (this.histogramMaxima, 0);
+    }
+
+
+    /**
+     * Add a duration to a histogram.
+     *
+     * @param index The index of the histogram
+     * @param nanos The duration in nanoseconds
+     */
+    void record (final int index, final long nanos)
+    {
+        final long micros = nanos / 1000;
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && micros > BUCKET_BOUNDS[bucket])
+            bucket++;
+
+        this.histogramBuckets[index * NUM_BUCKETS + bucket]++;
+        this.histogramSums[index] += nanos;
+        if (nanos > this.histogramMaxima[index])
+            this.histogramMaxima[index] = nanos;
+    }
+
+
+    /**
+     * Estimate a percentile from the buckets of a histogram.
+     *
+     * @param offset The offset of the first bucket of the histogram
+     * @param count The number of values in the histogram
+     * @param percentile The percentile, 0..1
+     * @return The upper bound of the bucket which contains the percentile in microseconds, for the
+     *         unbounded bucket the maximum is returned
+     */
+    private long getPercentile (final int offset, final long count, final double percentile)
+    {
+        if (count == 0)
+            return 0;
+
+        final long threshold = (long) Math.ceil (count * percentile);
+        long sum = 0;
+        for (int b = 0; b < BUCKET_BOUNDS.length; b++)
+        {
+            sum += this.histogramBuckets[offset + b];
+            if (sum >= threshold)
+                return BUCKET_BOUNDS[b];
+        }
+        return this.histogramMaxima[offset / NUM_BUCKETS] / 1000;
+    }
+}
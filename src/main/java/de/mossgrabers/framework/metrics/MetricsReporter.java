@@ -0,0 +1,309 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.utils.SystemOptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Periodically reports the metrics of a registry to the console and/or sends them as OSC messages.
+ * The registry is only enabled while a report interval is selected. The time needed for a report
+ * is measured as well and a warning is printed if it exceeds its overhead budget of 1% of the
+ * interval.
+ *
+ * The OSC address of a metric is the configured prefix followed by the name of the metric with the
+ * dots replaced by slashes, e.g. /metrics/surface0/flush. Counters send their total and their rate
+ * per second, gauges their value and histograms the count, average, 95th percentile and maximum in
+ * microseconds.
+ *
+ * Since this is a tool for performance measurements, the settings are only added to a controller if
+ * the Java system property drivenbymoss.metrics (or the environment variable DRIVENBYMOSS_METRICS)
+ * is set to 'true'.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MetricsReporter implements IMetricsVisitor
+{
+    private static final String            CATEGORY_METRICS = "Metrics";
+
+    private static final String []         INTERVAL_OPTIONS =
+    {
+        "Off",
+        "1s",
+        "10s",
+        "60s"
+    };
+
+    private static final int []            INTERVALS        =
+    {
+        0,
+        1,
+        10,
+        60
+    };
+
+    private static final String []         ON_OFF_OPTIONS   =
+    {
+        "Off",
+        "On"
+    };
+
+    /** The share of the report interval a report may take. */
+    private static final double            OVERHEAD_BUDGET  = 0.01;
+
+    private final IHost                    host;
+    private final MetricsRegistry          registry;
+    private final Histogram                reportTime;
+    private final Map<String, long []>     previousCounts   = new HashMap<> ();
+
+    private int                            interval         = 0;
+    private boolean                        isConsoleOn      = false;
+    private boolean                        isStartupTimesOn = false;
+    private String                         oscPrefix        = "/metrics";
+    private IOpenSoundControlClient        oscClient;
+    private int                            generation       = 0;
+    private boolean                        budgetWarningShown;
+
+    private StringBuilder                  text;
+    private List<IOpenSoundControlMessage> messages;
+
+
+    /**
+     * Create a reporter if metrics are enabled.
+     *
+     * @param host The host
+     * @param registry The registry to report
+     * @return The reporter or null if metrics are not enabled
+     */
+    public static MetricsReporter create (final IHost host, final MetricsRegistry registry)
+    {
+        return SystemOptions.isEnabled ("drivenbymoss.metrics") ? new MetricsReporter (host, registry) : null;
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param registry The registry to report
+     */
+    private MetricsReporter (final IHost host, final MetricsRegistry registry)
+    {
+        this.host = host;
+        this.registry = registry;
+        this.reportTime = registry.histogram ("metrics.report");
+    }
+
+
+    /**
+     * Create the settings for the reporting. Connects to the OSC export target, since connections
+     * can only be created during initialization.
+     *
+     * @param settingsUI The settings
+     */
+    public void init (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting intervalSetting = settingsUI.getEnumSetting ("Report Interval", CATEGORY_METRICS, INTERVAL_OPTIONS, INTERVAL_OPTIONS[0]);
+        intervalSetting.addValueObserver (value -> {
+            for (int i = 0; i < INTERVAL_OPTIONS.length; i++)
+            {
+                if (INTERVAL_OPTIONS[i].equals (value))
+                    this.setInterval (INTERVALS[i]);
+            }
+        });
+
+        final IEnumSetting consoleSetting = settingsUI.getEnumSetting ("Console Summary", CATEGORY_METRICS, ON_OFF_OPTIONS, ON_OFF_OPTIONS[1]);
+        consoleSetting.addValueObserver (value -> this.isConsoleOn = ON_OFF_OPTIONS[1].equals (value));
+
+        final IEnumSetting startupTimesSetting = settingsUI.getEnumSetting ("Startup Times (requires restart)", CATEGORY_METRICS, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        this.isStartupTimesOn = ON_OFF_OPTIONS[1].equals (startupTimesSetting.get ());
+
+        final IStringSetting oscTargetSetting = settingsUI.getStringSetting ("OSC Export host:port, empty = off (requires restart)", CATEGORY_METRICS, 64, "");
+        this.connect (oscTargetSetting.get ().trim ());
+
+        settingsUI.getStringSetting ("OSC Address Prefix", CATEGORY_METRICS, 64, this.oscPrefix).addValueObserver (value -> {
+            final String prefix = value.trim ();
+            this.oscPrefix = prefix.endsWith ("/") ? prefix.substring (0, prefix.length () - 1) : prefix;
+        });
+    }
+
+
+    /**
+     * Should the durations of the startup phases be printed to the console?
+     *
+     * @return True if enabled
+     */
+    public boolean isStartupTimesOn ()
+    {
+        return this.isStartupTimesOn;
+    }
+
+
+    /**
+     * Stop the reporting.
+     */
+    public void shutdown ()
+    {
+        this.setInterval (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void visitCounter (final String name, final long value)
+    {
+        final long [] previous = this.previousCounts.computeIfAbsent (name, n -> new long [1]);
+        final double rate = (double) (value - previous[0]) / this.interval;
+        previous[0] = value;
+
+        if (this.text != null && rate > 0)
+            this.text.append ("  ").append (name).append (": ").append (value).append (" (").append (Math.round (rate)).append ("/s)\n");
+        if (this.messages != null)
+            this.addMessage (name, Double.valueOf (value), Double.valueOf (rate));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void visitGauge (final String name, final double value)
+    {
+        if (this.text != null)
+            this.text.append ("  ").append (name).append (": ").append (value).append ('\n');
+        if (this.messages != null)
+            this.addMessage (name, Double.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void visitHistogram (final String name, final long count, final long average, final long p95, final long max)
+    {
+        if (this.text != null && count > 0)
+            this.text.append ("  ").append (name).append (": ").append (count).append ("x, avg ").append (average).append (" us, p95 ").append (p95).append (" us, max ").append (max).append (" us\n");
+        if (this.messages != null)
+            this.addMessage (name, Integer.valueOf ((int) Math.min (count, Integer.MAX_VALUE)), Integer.valueOf ((int) average), Integer.valueOf ((int) p95), Integer.valueOf ((int) max));
+    }
+
+
+    private void setInterval (final int interval)
+    {
+        if (this.interval == interval)
+            return;
+
+        this.interval = interval;
+        this.generation++;
+        this.registry.setEnabled (interval > 0);
+        this.registry.resetHistograms ();
+        this.previousCounts.clear ();
+        this.budgetWarningShown = false;
+
+        if (interval > 0)
+            this.scheduleReport ();
+    }
+
+
+    private void scheduleReport ()
+    {
+        final int gen = this.generation;
+        this.host.scheduleTask ( () -> this.report (gen), this.interval * 1000L);
+    }
+
+
+    private void report (final int gen)
+    {
+        if (gen != this.generation)
+            return;
+
+        final long start = System.nanoTime ();
+
+        this.text = this.isConsoleOn ? new StringBuilder ("Metrics of the last ").append (this.interval).append ("s:\n") : null;
+        this.messages = this.oscClient == null ? null : new ArrayList<> ();
+        try
+        {
+            this.registry.visit (this);
+            this.registry.resetHistograms ();
+
+            if (this.text != null)
+                this.host.println (this.text.toString ());
+            if (this.messages != null)
+                this.oscClient.sendBundle (this.messages);
+        }
+        catch (final IOException | RuntimeException ex)
+        {
+            // Keep on reporting, the next report might succeed
+            this.host.error ("Could not report metrics.", ex);
+        }
+        finally
+        {
+            this.text = null;
+            this.messages = null;
+        }
+
+        final long duration = System.nanoTime () - start;
+        this.reportTime.record (duration);
+        if (!this.budgetWarningShown && duration > this.interval * 1_000_000_000L * OVERHEAD_BUDGET)
+        {
+            this.budgetWarningShown = true;
+            this.host.println ("Metrics report took " + duration / 1000 + " us, which exceeds its overhead budget. Consider a longer interval.");
+        }
+
+        this.scheduleReport ();
+    }
+
+
+    /**
+     * Connects to the OSC target.
+     *
+     * @param oscTarget The target in the format host:port, empty to disable the export
+     */
+    private void connect (final String oscTarget)
+    {
+        if (oscTarget.isEmpty ())
+            return;
+
+        final int pos = oscTarget.lastIndexOf (':');
+        final int port;
+        try
+        {
+            port = Integer.parseInt (oscTarget.substring (pos + 1));
+        }
+        catch (final NumberFormatException ex)
+        {
+            this.host.error ("Metrics OSC export: Not a valid host:port - " + oscTarget);
+            return;
+        }
+
+        final String address = pos <= 0 ? "127.0.0.1" : oscTarget.substring (0, pos);
+        try
+        {
+            this.oscClient = this.host.connectToOSCServer (address, port);
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Metrics OSC export: Could not connect to " + oscTarget, ex);
+        }
+    }
+
+
+    private void addMessage (final String name, final Object... values)
+    {
+        final List<Object> params = new ArrayList<> (values.length);
+        for (final Object value: values)
+            params.add (value);
+        this.messages.add (this.host.createOSCMessage (this.oscPrefix + "/" + name.replace ('.', '/'), params));
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
 
 
@@ -31,6 +32,8 @@ public class BrowserMode<S extends IControlSurface<C>, C extends Configuration>
     public BrowserMode (final S surface, final IModel model)
     {
         super ("Browser", surface, model, false);
+
+        this.requiredFacets.add (ModelFacet.BROWSER);
     }
 
 
@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * Callback interface for observing processed VU meter values.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IVuMeterObserver
+{
+    /**
+     * The callback function.
+     *
+     * @param position The position of the meter in the subscription
+     * @param left The value of the left meter
+     * @param right The value of the right meter
+     */
+    void update (int position, int left, int right);
+}
@@ -6,6 +6,9 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.metrics.Counter;
+import de.mossgrabers.framework.metrics.Histogram;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
@@ -31,6 +34,9 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final Map<String, Object>            oldValues = new HashMap<> ();
 
     private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final Histogram                        sendTime;
+    private final Counter                          messageCounter;
+    private final Counter                          byteCounter;
 
 
     /**
@@ -47,6 +53,11 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         this.model = model;
         this.oscClient = oscClient;
         this.configuration = configuration;
+
+        final MetricsRegistry metrics = host.getMetrics ();
+        this.sendTime = metrics.histogram ("osc.send");
+        this.messageCounter = metrics.counter ("osc.messages");
+        this.byteCounter = metrics.counter ("osc.bytes");
     }
 
 
@@ -81,7 +92,10 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
                 }
 
                 this.logMessages (this.messages);
+                final long start = this.sendTime.start ();
                 this.oscClient.sendBundle (this.messages);
+                this.sendTime.stop (start);
+                this.countMessages (this.messages);
             }
             catch (final IOException ex)
             {
@@ -266,6 +280,29 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Count the number and the estimated size of the sent messages.
+     *
+     * @param messages The sent messages
+     */
+    private void countMessages (final List<IOpenSoundControlMessage> messages)
+    {
+        if (!this.host.getMetrics ().isEnabled ())
+            return;
+
+        int size = 0;
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            final Object [] values = message.getValues ();
+            size += message.getAddress ().length () + values.length;
+            for (final Object value: values)
+                size += value instanceof String ? ((String) value).length () : 4;
+        }
+        this.messageCounter.add (messages.size ());
+        this.byteCounter.add (size);
+    }
+
+
     protected void logMessages (final List<IOpenSoundControlMessage> messages)
     {
         if (!this.configuration.shouldLogOutputCommands () || messages.isEmpty ())
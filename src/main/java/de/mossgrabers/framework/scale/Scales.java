@@ -9,6 +9,7 @@ import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 
@@ -112,6 +113,23 @@ public class Scales
     /** Color index when the pad is a note which is not part of the scale. */
     public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
 
+    /** Color role when the pad is turned off. */
+    public static final int             SCALE_ROLE_OFF           = 0;
+    /** Color role when the pad is the base note of the scale. */
+    public static final int             SCALE_ROLE_OCTAVE        = 1;
+    /** Color role when the pad is a note of the scale. */
+    public static final int             SCALE_ROLE_NOTE          = 2;
+    /** Color role when the pad is a note which is not part of the scale. */
+    public static final int             SCALE_ROLE_OUT_OF_SCALE  = 3;
+
+    private static final String []      SCALE_COLOR_IDS          =
+    {
+        SCALE_COLOR_OFF,
+        SCALE_COLOR_OCTAVE,
+        SCALE_COLOR_NOTE,
+        SCALE_COLOR_OUT_OF_SCALE
+    };
+
     /** Number of octaves which can be transposed up and down. */
     public static final int             OCTAVE_RANGE             = 4;
     /** Number of octaves which can be transposed up and down in the piano layout. */
@@ -144,6 +162,23 @@ public class Scales
     private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
     private IValueChanger               valueChanger;
 
+    // Note matrices of all grid matrices, lazily filled per scale offset and octave
+    private final Map<int [], int [][]> noteMatrices             = new IdentityHashMap<> ();
+
+    // The color roles of the 12 notes of an octave (C to B), updated on scale changes
+    private final int []                colorRoles               = new int [12];
+    private Scale                       colorRolesScale          = null;
+    private int                         colorRolesOffset         = -1;
+    private boolean                     colorRolesChromatic      = false;
+
+    private int []                      sequencerMatrix          = null;
+    private int                         sequencerMatrixKey       = -1;
+    private int []                      pianoMatrix              = null;
+    private long                        pianoMatrixKey           = -1;
+    private int []                      drumNoteMatrix           = null;
+    private int []                      drumNoteMatrixSource     = null;
+    private long                        drumNoteMatrixKey        = -1;
+
 
     /**
      * Constructor.
@@ -662,18 +697,60 @@ public class Scales
      * @return The color index
      */
     public String getColor (final int [] noteMap, final int note)
+    {
+        return SCALE_COLOR_IDS[this.getColorRole (noteMap, note)];
+    }
+
+
+    /**
+     * Get the color role for the given note respecting the note map.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The color role, one of the SCALE_ROLE_* constants
+     */
+    public int getColorRole (final int [] noteMap, final int note)
     {
         if (note == -1)
-            return Scales.SCALE_COLOR_OFF;
+            return SCALE_ROLE_OFF;
         final int midiNote = noteMap[note];
         if (midiNote == -1)
-            return Scales.SCALE_COLOR_OFF;
-        final int noteInOctave = this.toNoteInOctave (midiNote);
-        if (noteInOctave == 0)
-            return Scales.SCALE_COLOR_OCTAVE;
-        if (!this.isChromatic ())
-            return Scales.SCALE_COLOR_NOTE;
-        return this.isInScale (noteInOctave) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
+            return SCALE_ROLE_OFF;
+
+        if (this.colorRolesScale != this.selectedScale || this.colorRolesOffset != this.scaleOffset || this.colorRolesChromatic != this.chromaticOn)
+            this.updateColorRoles ();
+        return this.colorRoles[midiNote % 12];
+    }
+
+
+    /**
+     * Get the color ID of a color role.
+     *
+     * @param role The color role, one of the SCALE_ROLE_* constants
+     * @return The color ID
+     */
+    public static String getColorID (final int role)
+    {
+        return SCALE_COLOR_IDS[role];
+    }
+
+
+    private void updateColorRoles ()
+    {
+        this.colorRolesScale = this.selectedScale;
+        this.colorRolesOffset = this.scaleOffset;
+        this.colorRolesChromatic = this.chromaticOn;
+
+        for (int note = 0; note < 12; note++)
+        {
+            final int noteInOctave = this.toNoteInOctave (note);
+            if (noteInOctave == 0)
+                this.colorRoles[note] = SCALE_ROLE_OCTAVE;
+            else if (!this.chromaticOn)
+                this.colorRoles[note] = SCALE_ROLE_NOTE;
+            else
+                this.colorRoles[note] = this.isInScale (noteInOctave) ? SCALE_ROLE_NOTE : SCALE_ROLE_OUT_OF_SCALE;
+        }
     }
 
 
@@ -699,12 +776,7 @@ public class Scales
      */
     public boolean isInScale (final int noteInOctave)
     {
-        for (final int interval: this.selectedScale.getIntervals ())
-        {
-            if (interval == noteInOctave)
-                return true;
-        }
-        return false;
+        return this.selectedScale.isInScale (noteInOctave);
     }
 
 
@@ -716,15 +788,7 @@ public class Scales
      */
     public int getScaleIndex (final int midiNote)
     {
-        final int noteInOctave = this.toNoteInOctave (midiNote);
-
-        final int [] intervals = this.selectedScale.getIntervals ();
-        for (int i = 0; i < intervals.length; i++)
-        {
-            if (intervals[i] == noteInOctave)
-                return i;
-        }
-        return -1;
+        return this.selectedScale.getIndexInScale (this.toNoteInOctave (midiNote));
     }
 
 
@@ -770,7 +834,7 @@ public class Scales
 
 
     /**
-     * Get the active note matrix.
+     * Get the active note matrix. The matrix is shared and must not be modified.
      *
      * @return The matrix
      */
@@ -781,12 +845,26 @@ public class Scales
 
 
     /**
-     * Get a note matrix.
+     * Get a note matrix. If the input matrix is one of the scale or chord grid matrices, the result
+     * is calculated only once for each scale offset and octave, is shared and must not be modified.
      *
      * @param matrix The input scale matrix
      * @return The matrix
      */
     public int [] getNoteMatrix (final int [] matrix)
+    {
+        final int [][] tables = this.noteMatrices.get (matrix);
+        if (tables == null)
+            return this.createNoteMatrix (matrix);
+
+        final int index = this.scaleOffset * (2 * OCTAVE_RANGE + 1) + this.octave + OCTAVE_RANGE;
+        if (tables[index] == null)
+            tables[index] = this.createNoteMatrix (matrix);
+        return tables[index];
+    }
+
+
+    private int [] createNoteMatrix (final int [] matrix)
     {
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.startNote; note < this.endNote; note++)
@@ -799,13 +877,25 @@ public class Scales
 
 
     /**
-     * Get the active sequencer matrix.
+     * Get the active sequencer matrix. The matrix is shared and must not be modified.
      *
      * @param length The expected length
      * @param noteOffset An offset to add to the notes
      * @return The matrix
      */
     public int [] getSequencerMatrix (final int length, final int noteOffset)
+    {
+        final int key = length << 20 | noteOffset << 12 | this.selectedScale.ordinal () << 5 | this.scaleOffset << 1 | (this.chromaticOn ? 1 : 0);
+        if (this.sequencerMatrix == null || this.sequencerMatrixKey != key)
+        {
+            this.sequencerMatrix = this.createSequencerMatrix (length, noteOffset);
+            this.sequencerMatrixKey = key;
+        }
+        return this.sequencerMatrix;
+    }
+
+
+    private int [] createSequencerMatrix (final int length, final int noteOffset)
     {
         final int [] noteMap = new int [length];
         if (this.isChromatic ())
@@ -837,13 +927,25 @@ public class Scales
 
 
     /**
-     * Get the piano matrix.
+     * Get the piano matrix. The matrix is shared and must not be modified.
      *
      * @param rows The number of rows
      * @param columns The number of columns
      * @return The matrix
      */
     public int [] getPianoMatrix (final int rows, final int columns)
+    {
+        final long key = (long) rows << 48 | (long) columns << 32 | (this.pianoOctave + PIANO_OCTAVE_RANGE) << 8 | this.startNote;
+        if (this.pianoMatrix == null || this.pianoMatrixKey != key)
+        {
+            this.pianoMatrix = this.createPianoMatrix (rows, columns);
+            this.pianoMatrixKey = key;
+        }
+        return this.pianoMatrix;
+    }
+
+
+    private int [] createPianoMatrix (final int rows, final int columns)
     {
         int octaveOffset = 3 + this.pianoOctave;
         int counter = this.startNote;
@@ -897,11 +999,24 @@ public class Scales
 
 
     /**
-     * Get the drum matrix.
+     * Get the drum matrix. The matrix is shared and must not be modified.
      *
      * @return The drum matrix
      */
     public int [] getDrumMatrix ()
+    {
+        final long key = (long) this.drumOffset << 32 | this.drumNoteStart << 16 | this.drumNoteEnd;
+        if (this.drumNoteMatrix == null || this.drumNoteMatrixSource != this.drumMatrix || this.drumNoteMatrixKey != key)
+        {
+            this.drumNoteMatrix = this.createDrumMatrix ();
+            this.drumNoteMatrixSource = this.drumMatrix;
+            this.drumNoteMatrixKey = key;
+        }
+        return this.drumNoteMatrix;
+    }
+
+
+    private int [] createDrumMatrix ()
     {
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
@@ -1078,14 +1193,33 @@ public class Scales
     {
         this.scaleGrids.clear ();
         this.chordGrids.clear ();
+        this.noteMatrices.clear ();
+
+        final int numTables = Scales.OFFSETS.length * (2 * OCTAVE_RANGE + 1);
         for (final Scale scale: Scale.values ())
         {
-            this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
-            this.chordGrids.put (scale, new ChordGrid (scale, this.numRows, this.numColumns));
+            final ScaleGrid scaleGrid = new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift);
+            final ChordGrid chordGrid = new ChordGrid (scale, this.numRows, this.numColumns);
+            this.scaleGrids.put (scale, scaleGrid);
+            this.chordGrids.put (scale, chordGrid);
+
+            this.noteMatrices.put (scaleGrid.getMatrix (), new int [numTables][]);
+            this.noteMatrices.put (scaleGrid.getChromatic (), new int [numTables][]);
+            this.noteMatrices.put (chordGrid.getMatrix (), new int [numTables][]);
         }
     }
 
 
+    /**
+     * Remove all cached note matrices, e.g. if the range of the pad grid has changed.
+     */
+    private void clearNoteMatrices ()
+    {
+        for (final int [][] tables: this.noteMatrices.values ())
+            Arrays.fill (tables, null);
+    }
+
+
     /**
      * Get the first midi note of the pad grid.
      *
@@ -1105,6 +1239,7 @@ public class Scales
     public void setStartNote (final int startNote)
     {
         this.startNote = startNote;
+        this.clearNoteMatrices ();
     }
 
 
@@ -1127,5 +1262,6 @@ public class Scales
     public void setEndNote (final int endNote)
     {
         this.endNote = endNote;
+        this.clearNoteMatrices ();
     }
 }
\ No newline at end of file
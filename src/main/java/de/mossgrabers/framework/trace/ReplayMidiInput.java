@@ -0,0 +1,317 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwContinuousControl;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.utils.ButtonEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A MIDI input which receives its messages from a trace instead of the hardware. The bindings of the
+ * controls are not registered with the DAW but matched in memory, the same way the DAW matches the
+ * messages of a hardware port. Note inputs are still created on the wrapped port, so that the
+ * replayed notes are played in the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayMidiInput implements IMidiInput
+{
+    private enum BindingKind
+    {
+        BUTTON,
+        ABSOLUTE,
+        RELATIVE,
+        TOUCH
+    }
+
+
+    private static class Binding
+    {
+        final Object           control;
+        final BindingKind      kind;
+        final BindType         type;
+        final int              channel;
+        final int              number;
+        final int              value;
+        final RelativeEncoding encoding;
+
+
+        Binding (final Object control, final BindingKind kind, final BindType type, final int channel, final int number, final int value, final RelativeEncoding encoding)
+        {
+            this.control = control;
+            this.kind = kind;
+            this.type = type;
+            this.channel = channel;
+            this.number = number;
+            this.value = value;
+            this.encoding = encoding;
+        }
+    }
+
+
+    private final IMidiInput    input;
+    private final List<Binding> bindings = new ArrayList<> ();
+    private MidiShortCallback   midiCallback;
+    private MidiSysExCallback   sysexCallback;
+
+
+    /**
+     * Constructor.
+     *
+     * @param input The hardware input to use for the note inputs
+     */
+    public ReplayMidiInput (final IMidiInput input)
+    {
+        this.input = input;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return this.input.createNoteInput (name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return this.input.getDefaultNoteInput ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.input.sendRawMidiEvent (status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control)
+    {
+        this.bindings.add (new Binding (button, BindingKind.BUTTON, type, channel, control, -1, null));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IHwButton button)
+    {
+        this.bindings.removeIf (binding -> binding.control == button);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control, final int value)
+    {
+        this.bindings.add (new Binding (button, BindingKind.BUTTON, type, channel, control, value, null));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.bindings.add (new Binding (fader, BindingKind.ABSOLUTE, type, channel, control, -1, null));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteKnob absoluteKnob, final BindType type, final int channel, final int control)
+    {
+        this.bindings.add (new Binding (absoluteKnob, BindingKind.ABSOLUTE, type, channel, control, -1, null));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteControl absoluteControl, final BindType type, final int channel, final int control)
+    {
+        this.bindings.add (new Binding (absoluteControl, BindingKind.ABSOLUTE, type, channel, control, -1, null));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control, final RelativeEncoding encoding)
+    {
+        this.bindings.add (new Binding (relativeKnob, BindingKind.RELATIVE, type, channel, control, -1, encoding));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control)
+    {
+        this.bindings.add (new Binding (relativeKnob, BindingKind.TOUCH, type, channel, control, -1, null));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.bindings.add (new Binding (fader, BindingKind.TOUCH, type, channel, control, -1, null));
+    }
+
+
+    /**
+     * Handle a short MIDI message from the trace as if it was received from the hardware.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void handleMidi (final int status, final int data1, final int data2)
+    {
+        final int code = status & 0xF0;
+        final int channel = status & 0x0F;
+
+        final BindType type;
+        final int number;
+        final int value;
+        switch (code)
+        {
+            case 0x80:
+            case 0x90:
+                type = BindType.NOTE;
+                number = data1;
+                value = code == 0x80 ? 0 : data2;
+                break;
+
+            case 0xB0:
+                type = BindType.CC;
+                number = data1;
+                value = data2;
+                break;
+
+            case 0xE0:
+                type = BindType.PITCHBEND;
+                number = -1;
+                value = data2 << 7 | data1;
+                break;
+
+            default:
+                type = null;
+                number = -1;
+                value = 0;
+                break;
+        }
+
+        if (type != null)
+        {
+            for (final Binding binding: this.bindings)
+            {
+                if (binding.type == type && binding.channel == channel && (type == BindType.PITCHBEND || binding.number == number))
+                    handleBinding (binding, value);
+            }
+        }
+
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Handle a system exclusive message from the trace as if it was received from the hardware.
+     *
+     * @param data The bytes of the message formatted as hex
+     */
+    public void handleSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+
+
+    private static void handleBinding (final Binding binding, final int value)
+    {
+        switch (binding.kind)
+        {
+            case BUTTON:
+                final IHwButton button = (IHwButton) binding.control;
+                if (binding.value >= 0)
+                {
+                    if (value == binding.value)
+                        button.trigger (ButtonEvent.DOWN, 1.0);
+                }
+                else if (value > 0)
+                    button.trigger (ButtonEvent.DOWN, value / 127.0);
+                else
+                    button.trigger (ButtonEvent.UP, 0);
+                break;
+
+            case ABSOLUTE:
+                ((IHwContinuousControl) binding.control).handleValue (binding.type == BindType.PITCHBEND ? value / 16383.0 : value / 127.0);
+                break;
+
+            case RELATIVE:
+                ((IHwContinuousControl) binding.control).handleValue (decodeRelative (binding.encoding, value) / 127.0);
+                break;
+
+            case TOUCH:
+                ((IHwContinuousControl) binding.control).triggerTouch (value > 0);
+                break;
+
+            default:
+                // Not used
+                break;
+        }
+    }
+
+
+    private static int decodeRelative (final RelativeEncoding encoding, final int value)
+    {
+        switch (encoding)
+        {
+            case OFFSET_BINARY:
+                return value - 64;
+            case SIGNED_BIT:
+                return value < 0x41 ? value : 0x40 - value;
+            case SIGNED_BIT2:
+                return value > 0x40 ? value - 0x40 : -value;
+            case TWOS_COMPLEMENT:
+            default:
+                return value < 64 ? value : value - 128;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Compares the output of a replayed trace against the output of the reference trace. Besides the
+ * first difference the volume of the output and the latency between an input event and the first
+ * following output event are reported for both traces.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TraceComparison
+{
+    private static final TraceEventType [] OUTPUT_TYPES =
+    {
+        TraceEventType.MIDI_OUTPUT,
+        TraceEventType.SYSEX_OUTPUT,
+        TraceEventType.OSC_OUTPUT
+    };
+
+
+    /**
+     * Output volume and latency of one trace.
+     */
+    private static class Summary
+    {
+        final int []  numEvents = new int [TraceEventType.values ().length];
+        final long [] numBytes  = new long [TraceEventType.values ().length];
+        long          duration;
+        long          latencySum;
+        long          maxLatency;
+        int           numLatencies;
+
+
+        Summary (final List<TraceEvent> events)
+        {
+            long inputTime = -1;
+            for (final TraceEvent event: events)
+            {
+                final int index = event.getType ().ordinal ();
+                this.numEvents[index]++;
+                this.numBytes[index] += event.getSize ();
+                this.duration = Math.max (this.duration, event.getTime ());
+
+                if (event.getType ().isInput ())
+                    inputTime = event.getTime ();
+                else if (inputTime >= 0)
+                {
+                    final long latency = event.getTime () - inputTime;
+                    this.latencySum += latency;
+                    this.maxLatency = Math.max (this.maxLatency, latency);
+                    this.numLatencies++;
+                    inputTime = -1;
+                }
+            }
+        }
+
+
+        void format (final StringBuilder sb, final String name)
+        {
+            sb.append (name).append (": ").append (this.duration / 1000).append (" ms");
+            for (final TraceEventType type: OUTPUT_TYPES)
+                sb.append (", ").append (type).append (' ').append (this.numEvents[type.ordinal ()]).append (" (").append (this.numBytes[type.ordinal ()]).append (" bytes)");
+            sb.append (", latency");
+            if (this.numLatencies == 0)
+                sb.append (" -");
+            else
+                sb.append (" avg ").append (this.latencySum / this.numLatencies).append (" us, max ").append (this.maxLatency).append (" us");
+            sb.append ('\n');
+        }
+    }
+
+
+    private final Summary    referenceSummary;
+    private final Summary    resultSummary;
+    private final int        numDifferences;
+    private final int        firstDifference;
+    private final TraceEvent firstExpected;
+    private final TraceEvent firstActual;
+
+
+    /**
+     * Constructor.
+     *
+     * @param reference The events of the reference trace
+     * @param result The events of the replayed trace
+     */
+    public TraceComparison (final List<TraceEvent> reference, final List<TraceEvent> result)
+    {
+        this.referenceSummary = new Summary (reference);
+        this.resultSummary = new Summary (result);
+
+        final List<TraceEvent> expected = getOutputEvents (reference);
+        final List<TraceEvent> actual = getOutputEvents (result);
+        final int size = Math.max (expected.size (), actual.size ());
+        int differences = 0;
+        int first = -1;
+        for (int i = 0; i < size; i++)
+        {
+            final TraceEvent e = i < expected.size () ? expected.get (i) : null;
+            final TraceEvent a = i < actual.size () ? actual.get (i) : null;
+            if (e != null && a != null && e.hasSameContent (a))
+                continue;
+            differences++;
+            if (first < 0)
+                first = i;
+        }
+
+        this.numDifferences = differences;
+        this.firstDifference = first;
+        this.firstExpected = first >= 0 && first < expected.size () ? expected.get (first) : null;
+        this.firstActual = first >= 0 && first < actual.size () ? actual.get (first) : null;
+    }
+
+
+    /**
+     * Is the output of both traces identical (ignoring the timing)?
+     *
+     * @return True if identical
+     */
+    public boolean isIdentical ()
+    {
+        return this.numDifferences == 0;
+    }
+
+
+    /**
+     * Get the number of output events which differ.
+     *
+     * @return The number of events
+     */
+    public int getNumberOfDifferences ()
+    {
+        return this.numDifferences;
+    }
+
+
+    /**
+     * Format the result of the comparison.
+     *
+     * @return The report
+     */
+    public String format ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        this.referenceSummary.format (sb, "Reference");
+        this.resultSummary.format (sb, "Replay");
+        if (this.isIdentical ())
+            sb.append ("Output is identical.");
+        else
+        {
+            sb.append (this.numDifferences).append (" output events differ, first at index ").append (this.firstDifference).append (":\n");
+            sb.append ("  expected: ").append (this.firstExpected == null ? "nothing" : this.firstExpected.toString ()).append ('\n');
+            sb.append ("  actual:   ").append (this.firstActual == null ? "nothing" : this.firstActual.toString ());
+        }
+        return sb.toString ();
+    }
+
+
+    private static List<TraceEvent> getOutputEvents (final List<TraceEvent> events)
+    {
+        final List<TraceEvent> outputEvents = new ArrayList<> ();
+        for (final TraceEvent event: events)
+        {
+            if (!event.getType ().isInput ())
+                outputEvents.add (event);
+        }
+        return outputEvents;
+    }
+}
@@ -0,0 +1,259 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.util.Arrays;
+
+
+/**
+ * An event read from a trace.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TraceEvent implements IOpenSoundControlMessage
+{
+    private final TraceEventType type;
+    private final long           time;
+    private final int            port;
+    private final int            status;
+    private final int            data1;
+    private final int            data2;
+    private final byte []        data;
+    private final String         address;
+    private final Object []      values;
+
+
+    /**
+     * Constructor for a short MIDI message.
+     *
+     * @param type The type of the event, MIDI_INPUT or MIDI_OUTPUT
+     * @param time The time of the event in microseconds since the start of the trace
+     * @param port The index of the MIDI port
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public TraceEvent (final TraceEventType type, final long time, final int port, final int status, final int data1, final int data2)
+    {
+        this (type, time, port, status, data1, data2, null, null, null);
+    }
+
+
+    /**
+     * Constructor for a system exclusive message.
+     *
+     * @param type The type of the event, SYSEX_INPUT or SYSEX_OUTPUT
+     * @param time The time of the event in microseconds since the start of the trace
+     * @param port The index of the MIDI port
+     * @param data The bytes of the message
+     */
+    public TraceEvent (final TraceEventType type, final long time, final int port, final byte [] data)
+    {
+        this (type, time, port, 0, 0, 0, data, null, null);
+    }
+
+
+    /**
+     * Constructor for an OSC message.
+     *
+     * @param type The type of the event, OSC_INPUT or OSC_OUTPUT
+     * @param time The time of the event in microseconds since the start of the trace
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public TraceEvent (final TraceEventType type, final long time, final String address, final Object [] values)
+    {
+        this (type, time, 0, 0, 0, 0, null, address, values);
+    }
+
+
+    private TraceEvent (final TraceEventType type, final long time, final int port, final int status, final int data1, final int data2, final byte [] data, final String address, final Object [] values)
+    {
+        this.type = type;
+        this.time = time;
+        this.port = port;
+        this.status = status;
+        this.data1 = data1;
+        this.data2 = data2;
+        this.data = data;
+        this.address = address;
+        this.values = values;
+    }
+
+
+    /**
+     * Get the type of the event.
+     *
+     * @return The type
+     */
+    public TraceEventType getType ()
+    {
+        return this.type;
+    }
+
+
+    /**
+     * Get the time of the event.
+     *
+     * @return The time in microseconds since the start of the trace
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /**
+     * Get the index of the MIDI port.
+     *
+     * @return The index
+     */
+    public int getPort ()
+    {
+        return this.port;
+    }
+
+
+    /**
+     * Get the status byte of a short MIDI message.
+     *
+     * @return The status byte
+     */
+    public int getStatus ()
+    {
+        return this.status;
+    }
+
+
+    /**
+     * Get the first data byte of a short MIDI message.
+     *
+     * @return The data byte
+     */
+    public int getData1 ()
+    {
+        return this.data1;
+    }
+
+
+    /**
+     * Get the second data byte of a short MIDI message.
+     *
+     * @return The data byte
+     */
+    public int getData2 ()
+    {
+        return this.data2;
+    }
+
+
+    /**
+     * Get the bytes of a system exclusive message.
+     *
+     * @return The bytes
+     */
+    public byte [] getData ()
+    {
+        return this.data;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        return this.values;
+    }
+
+
+    /**
+     * Get the number of bytes the event occupies on the wire. For OSC messages the length of the
+     * address and the values is estimated.
+     *
+     * @return The number of bytes
+     */
+    public int getSize ()
+    {
+        switch (this.type)
+        {
+            case MIDI_INPUT:
+            case MIDI_OUTPUT:
+                return 3;
+
+            case SYSEX_INPUT:
+            case SYSEX_OUTPUT:
+                return this.data.length;
+
+            default:
+                int size = this.address.length () + this.values.length;
+                for (final Object value: this.values)
+                    size += value instanceof String ? ((String) value).length () : 4;
+                return size;
+        }
+    }
+
+
+    /**
+     * Test if the content of two events is identical. The time is ignored.
+     *
+     * @param event The other event
+     * @return True if the type, port and content are identical
+     */
+    public boolean hasSameContent (final TraceEvent event)
+    {
+        if (this.type != event.type || this.port != event.port)
+            return false;
+
+        switch (this.type)
+        {
+            case MIDI_INPUT:
+            case MIDI_OUTPUT:
+                return this.status == event.status && this.data1 == event.data1 && this.data2 == event.data2;
+
+            case SYSEX_INPUT:
+            case SYSEX_OUTPUT:
+                return Arrays.equals (this.data, event.data);
+
+            default:
+                return this.address.equals (event.address) && Arrays.equals (this.values, event.values);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        sb.append (this.time).append ("us ").append (this.type).append (' ');
+        switch (this.type)
+        {
+            case MIDI_INPUT:
+            case MIDI_OUTPUT:
+                sb.append (this.port).append (": ").append (Integer.toHexString (this.status)).append (' ').append (this.data1).append (' ').append (this.data2);
+                break;
+
+            case SYSEX_INPUT:
+            case SYSEX_OUTPUT:
+                sb.append (this.port).append (": ").append (this.data.length).append (" bytes");
+                break;
+
+            default:
+                sb.append (this.address).append (' ').append (Arrays.toString (this.values));
+                break;
+        }
+        return sb.toString ();
+    }
+}
@@ -0,0 +1,51 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+/**
+ * The types of the events which are stored in a trace.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum TraceEventType
+{
+    /** A short MIDI message received from a controller. */
+    MIDI_INPUT(true),
+    /** A system exclusive message received from a controller. */
+    SYSEX_INPUT(true),
+    /** An OSC message received from a client. */
+    OSC_INPUT(true),
+    /** A short MIDI message sent to a controller. */
+    MIDI_OUTPUT(false),
+    /** A system exclusive message sent to a controller. */
+    SYSEX_OUTPUT(false),
+    /** An OSC message sent to a client. */
+    OSC_OUTPUT(false);
+
+
+    private final boolean isInput;
+
+
+    /**
+     * Constructor.
+     *
+     * @param isInput True if it is an incoming event
+     */
+    private TraceEventType (final boolean isInput)
+    {
+        this.isInput = isInput;
+    }
+
+
+    /**
+     * Is it an incoming event?
+     *
+     * @return True if the event was received, false if it was sent
+     */
+    public boolean isInput ()
+    {
+        return this.isInput;
+    }
+}
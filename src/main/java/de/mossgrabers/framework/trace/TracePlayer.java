@@ -0,0 +1,212 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+
+import java.util.List;
+
+
+/**
+ * Feeds the input events of a trace into the replay inputs of a setup. The events are played back
+ * at real or accelerated speed via the task scheduler of the host, therefore they are executed on
+ * the controller thread like live input. The setup is flushed after each event, which makes the
+ * produced output independent of when the host calls flush.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TracePlayer
+{
+    /** Maximum number of events to play in one task to keep the host responsive. */
+    private static final int                MAX_EVENTS_PER_TASK = 64;
+
+    private static final char []            HEX_DIGITS          = "0123456789abcdef".toCharArray ();
+
+    private final List<TraceEvent>          events;
+    private final TracingSetupFactory       factory;
+    private final IOpenSoundControlCallback oscCallback;
+    private final TraceRecorder             recorder;
+    private final Runnable                  flusher;
+
+    private IHost                           host;
+    private double                          speed;
+    private Runnable                        finishedCallback;
+    private int                             position;
+    private long                            startTime;
+    private boolean                         isPlaying           = false;
+    private int                             numMissingPorts     = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param events The events of the trace, the output events are skipped
+     * @param factory The factory which created the replay inputs
+     * @param oscCallback Where to send the OSC events to, might be null
+     * @param recorder Records the played input events
+     * @param flusher Flushes the setup
+     */
+    public TracePlayer (final List<TraceEvent> events, final TracingSetupFactory factory, final IOpenSoundControlCallback oscCallback, final TraceRecorder recorder, final Runnable flusher)
+    {
+        this.events = events;
+        this.factory = factory;
+        this.oscCallback = oscCallback;
+        this.recorder = recorder;
+        this.flusher = flusher;
+    }
+
+
+    /**
+     * Start the playback.
+     *
+     * @param host The host for scheduling the events
+     * @param speed The playback speed, 1 is real time, 2 twice as fast and so on. 0 or less plays
+     *            the events as fast as possible
+     * @param finishedCallback Called when all events are played
+     */
+    public void start (final IHost host, final double speed, final Runnable finishedCallback)
+    {
+        this.host = host;
+        this.speed = speed;
+        this.finishedCallback = finishedCallback;
+        this.position = 0;
+        this.numMissingPorts = 0;
+        this.startTime = System.nanoTime ();
+        this.isPlaying = true;
+
+        this.playNext ();
+    }
+
+
+    /**
+     * Stop the playback. The finished callback is not called.
+     */
+    public void stop ()
+    {
+        this.isPlaying = false;
+    }
+
+
+    /**
+     * Is the trace played?
+     *
+     * @return True if playing
+     */
+    public boolean isPlaying ()
+    {
+        return this.isPlaying;
+    }
+
+
+    /**
+     * Get the number of events which could not be played since there was no input for the port.
+     *
+     * @return The number of events
+     */
+    public int getNumberOfMissingPorts ()
+    {
+        return this.numMissingPorts;
+    }
+
+
+    private void playNext ()
+    {
+        if (!this.isPlaying)
+            return;
+
+        final long elapsed = (System.nanoTime () - this.startTime) / 1000;
+        int count = 0;
+        while (this.skipOutputEvents () && count < MAX_EVENTS_PER_TASK)
+        {
+            final TraceEvent event = this.events.get (this.position);
+            if (this.getDueTime (event) > elapsed)
+                break;
+
+            this.play (event);
+            this.flusher.run ();
+            this.position++;
+            count++;
+        }
+
+        if (!this.skipOutputEvents ())
+        {
+            this.isPlaying = false;
+            this.finishedCallback.run ();
+            return;
+        }
+
+        final long delay = Math.max (0, this.getDueTime (this.events.get (this.position)) - elapsed) / 1000;
+        this.host.scheduleTask (this::playNext, delay);
+    }
+
+
+    /**
+     * Move the position to the next input event.
+     *
+     * @return True if there is one, false if the end of the trace is reached
+     */
+    private boolean skipOutputEvents ()
+    {
+        while (this.position < this.events.size () && !this.events.get (this.position).getType ().isInput ())
+            this.position++;
+        return this.position < this.events.size ();
+    }
+
+
+    private long getDueTime (final TraceEvent event)
+    {
+        return this.speed <= 0 ? 0 : (long) (event.getTime () / this.speed);
+    }
+
+
+    private void play (final TraceEvent event)
+    {
+        if (event.getType () == TraceEventType.OSC_INPUT)
+        {
+            this.recorder.recordOSC (TraceEventType.OSC_INPUT, event.getAddress (), event.getValues ());
+            if (this.oscCallback != null)
+                this.oscCallback.handle (event);
+            return;
+        }
+
+        final ReplayMidiInput input = this.factory.getReplayInput (event.getPort ());
+        if (input == null)
+        {
+            this.numMissingPorts++;
+            return;
+        }
+
+        if (event.getType () == TraceEventType.SYSEX_INPUT)
+        {
+            this.recorder.recordSysex (TraceEventType.SYSEX_INPUT, event.getPort (), event.getData ());
+            input.handleSysex (toHex (event.getData ()));
+        }
+        else
+        {
+            this.recorder.recordMidi (TraceEventType.MIDI_INPUT, event.getPort (), event.getStatus (), event.getData1 (), event.getData2 ());
+            input.handleMidi (event.getStatus (), event.getData1 (), event.getData2 ());
+        }
+    }
+
+
+    /**
+     * Format the bytes like the DAW formats received system exclusive messages: lower case hex
+     * without spaces.
+     *
+     * @param data The bytes
+     * @return The formatted bytes
+     */
+    private static String toHex (final byte [] data)
+    {
+        final char [] chars = new char [data.length * 2];
+        for (int i = 0; i < data.length; i++)
+        {
+            chars[2 * i] = HEX_DIGITS[data[i] >> 4 & 0x0F];
+            chars[2 * i + 1] = HEX_DIGITS[data[i] & 0x0F];
+        }
+        return new String (chars);
+    }
+}
@@ -0,0 +1,198 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Reads the events of a trace which was written with the trace writer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TraceReader implements Closeable
+{
+    private static final TraceEventType [] TYPES = TraceEventType.values ();
+
+    private final InputStream              in;
+    private long                           time  = 0;
+
+
+    /**
+     * Constructor. Reads and checks the header.
+     *
+     * @param in The stream to read from
+     * @throws IOException The stream does not contain a supported trace
+     */
+    public TraceReader (final InputStream in) throws IOException
+    {
+        this.in = new BufferedInputStream (in);
+
+        for (final byte b: TraceWriter.MAGIC)
+        {
+            if (this.readByte () != b)
+                throw new IOException ("Not a trace file.");
+        }
+        final int version = this.readByte ();
+        if (version != TraceWriter.VERSION)
+            throw new IOException ("Unsupported trace version: " + version);
+    }
+
+
+    /**
+     * Read all events from a trace file.
+     *
+     * @param file The file
+     * @return The events
+     * @throws IOException Could not read the file
+     */
+    public static List<TraceEvent> readAll (final File file) throws IOException
+    {
+        try (final TraceReader reader = new TraceReader (new FileInputStream (file)))
+        {
+            final List<TraceEvent> events = new ArrayList<> ();
+            TraceEvent event;
+            while ((event = reader.read ()) != null)
+                events.add (event);
+            return events;
+        }
+    }
+
+
+    /**
+     * Read the next event.
+     *
+     * @return The event or null if the end of the trace is reached
+     * @throws IOException Could not read the event
+     */
+    public TraceEvent read () throws IOException
+    {
+        final int typeIndex = this.in.read ();
+        if (typeIndex < 0)
+            return null;
+        if (typeIndex >= TYPES.length)
+            throw new IOException ("Unknown event type: " + typeIndex);
+
+        final TraceEventType type = TYPES[typeIndex];
+        this.time += this.readNumber ();
+        final int port = (int) this.readNumber ();
+
+        switch (type)
+        {
+            case MIDI_INPUT:
+            case MIDI_OUTPUT:
+                return new TraceEvent (type, this.time, port, this.readByte (), this.readByte (), this.readByte ());
+
+            case SYSEX_INPUT:
+            case SYSEX_OUTPUT:
+                return new TraceEvent (type, this.time, port, this.readBytes ((int) this.readNumber ()));
+
+            default:
+                final String address = this.readString ();
+                final Object [] values = new Object [(int) this.readNumber ()];
+                for (int i = 0; i < values.length; i++)
+                    values[i] = this.readValue ();
+                return new TraceEvent (type, this.time, address, values);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.in.close ();
+    }
+
+
+    private Object readValue () throws IOException
+    {
+        final int tag = this.readByte ();
+        switch (tag)
+        {
+            case TraceWriter.TAG_NULL:
+                return null;
+            case TraceWriter.TAG_INTEGER:
+                return Integer.valueOf ((int) this.readFixed (4));
+            case TraceWriter.TAG_LONG:
+                return Long.valueOf (this.readFixed (8));
+            case TraceWriter.TAG_FLOAT:
+                return Float.valueOf (Float.intBitsToFloat ((int) this.readFixed (4)));
+            case TraceWriter.TAG_DOUBLE:
+                return Double.valueOf (Double.longBitsToDouble (this.readFixed (8)));
+            case TraceWriter.TAG_STRING:
+                return this.readString ();
+            case TraceWriter.TAG_TRUE:
+                return Boolean.TRUE;
+            case TraceWriter.TAG_FALSE:
+                return Boolean.FALSE;
+            default:
+                throw new IOException ("Unknown value tag: " + tag);
+        }
+    }
+
+
+    private String readString () throws IOException
+    {
+        return new String (this.readBytes ((int) this.readNumber ()), StandardCharsets.UTF_8);
+    }
+
+
+    private byte [] readBytes (final int length) throws IOException
+    {
+        final byte [] data = new byte [length];
+        int pos = 0;
+        while (pos < length)
+        {
+            final int read = this.in.read (data, pos, length - pos);
+            if (read < 0)
+                throw new EOFException ();
+            pos += read;
+        }
+        return data;
+    }
+
+
+    private long readNumber () throws IOException
+    {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do
+        {
+            b = this.readByte ();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+
+    private long readFixed (final int numBytes) throws IOException
+    {
+        long value = 0;
+        for (int i = 0; i < numBytes; i++)
+            value = value << 8 | this.readByte ();
+        return value;
+    }
+
+
+    private int readByte () throws IOException
+    {
+        final int b = this.in.read ();
+        if (b < 0)
+            throw new EOFException ();
+        return b;
+    }
+}
@@ -0,0 +1,256 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * Records timestamped MIDI and OSC events into a trace. The events might be recorded from different
+ * threads, therefore all methods are synchronized. If writing fails the error is reported once and
+ * the recording stops.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TraceRecorder
+{
+    /** Write the buffered events at least every second to not lose them on a crash. */
+    private static final long FLUSH_INTERVAL = 1_000_000;
+
+    private final IHost       host;
+    private final TraceWriter writer;
+    private final boolean     recordOutput;
+    private final long        startTime;
+    private byte []           sysexBuffer    = new byte [256];
+    private long              lastFlushTime  = 0;
+    private boolean           isRecording    = true;
+    private int               numEvents      = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for reporting errors
+     * @param out Where to write the trace to
+     * @param recordOutput True to also record the events which are sent to the controller
+     * @throws IOException Could not write the header of the trace
+     */
+    public TraceRecorder (final IHost host, final OutputStream out, final boolean recordOutput) throws IOException
+    {
+        this.host = host;
+        this.writer = new TraceWriter (out);
+        this.recordOutput = recordOutput;
+        this.startTime = System.nanoTime ();
+    }
+
+
+    /**
+     * Are the events which are sent to the controller recorded as well?
+     *
+     * @return True if recorded
+     */
+    public boolean isRecordingOutput ()
+    {
+        return this.recordOutput;
+    }
+
+
+    /**
+     * Get the number of recorded events.
+     *
+     * @return The number of events
+     */
+    public synchronized int getNumberOfEvents ()
+    {
+        return this.numEvents;
+    }
+
+
+    /**
+     * Record a short MIDI message.
+     *
+     * @param type The type of the event, MIDI_INPUT or MIDI_OUTPUT
+     * @param port The index of the MIDI port
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public synchronized void recordMidi (final TraceEventType type, final int port, final int status, final int data1, final int data2)
+    {
+        if (!this.isRecording)
+            return;
+
+        try
+        {
+            final long time = this.getTime ();
+            this.writer.writeMidi (type, time, port, status & 0xFF, data1 & 0xFF, data2 & 0xFF);
+            this.eventWritten (time);
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    /**
+     * Record a system exclusive message.
+     *
+     * @param type The type of the event, SYSEX_INPUT or SYSEX_OUTPUT
+     * @param port The index of the MIDI port
+     * @param data The bytes of the message
+     */
+    public synchronized void recordSysex (final TraceEventType type, final int port, final byte [] data)
+    {
+        if (!this.isRecording)
+            return;
+
+        try
+        {
+            final long time = this.getTime ();
+            this.writer.writeSysex (type, time, port, data, data.length);
+            this.eventWritten (time);
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    /**
+     * Record a system exclusive message.
+     *
+     * @param type The type of the event, SYSEX_INPUT or SYSEX_OUTPUT
+     * @param port The index of the MIDI port
+     * @param hexData The bytes of the message formatted as hex, whitespace is ignored
+     */
+    public synchronized void recordSysex (final TraceEventType type, final int port, final String hexData)
+    {
+        if (!this.isRecording)
+            return;
+
+        try
+        {
+            final long time = this.getTime ();
+            final int length = this.parseHex (hexData);
+            this.writer.writeSysex (type, time, port, this.sysexBuffer, length);
+            this.eventWritten (time);
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    /**
+     * Record an OSC message.
+     *
+     * @param type The type of the event, OSC_INPUT or OSC_OUTPUT
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public synchronized void recordOSC (final TraceEventType type, final String address, final Object [] values)
+    {
+        if (!this.isRecording)
+            return;
+
+        try
+        {
+            final long time = this.getTime ();
+            this.writer.writeOSC (type, time, address, values);
+            this.eventWritten (time);
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    /**
+     * Stop the recording and close the trace.
+     */
+    public synchronized void close ()
+    {
+        if (!this.isRecording)
+            return;
+        this.isRecording = false;
+
+        try
+        {
+            this.writer.close ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close the trace.", ex);
+        }
+    }
+
+
+    private long getTime ()
+    {
+        return (System.nanoTime () - this.startTime) / 1000;
+    }
+
+
+    private void eventWritten (final long time) throws IOException
+    {
+        this.numEvents++;
+        if (time - this.lastFlushTime < FLUSH_INTERVAL)
+            return;
+        this.lastFlushTime = time;
+        this.writer.flush ();
+    }
+
+
+    private void handleError (final IOException ex)
+    {
+        this.host.error ("Could not write the trace. Recording stopped.", ex);
+        this.isRecording = false;
+        try
+        {
+            this.writer.close ();
+        }
+        catch (final IOException ignored)
+        {
+            // Already reported
+        }
+    }
+
+
+    /**
+     * Parse the hex formatted bytes into the sysex buffer.
+     *
+     * @param hexData The bytes formatted as hex, whitespace is ignored
+     * @return The number of parsed bytes
+     */
+    private int parseHex (final String hexData)
+    {
+        if (this.sysexBuffer.length < hexData.length () / 2)
+            this.sysexBuffer = new byte [hexData.length () / 2];
+
+        int length = 0;
+        int high = -1;
+        for (int i = 0; i < hexData.length (); i++)
+        {
+            final int digit = Character.digit (hexData.charAt (i), 16);
+            if (digit < 0)
+                continue;
+            if (high < 0)
+                high = digit;
+            else
+            {
+                this.sysexBuffer[length++] = (byte) (high << 4 | digit);
+                high = -1;
+            }
+        }
+        return length;
+    }
+}
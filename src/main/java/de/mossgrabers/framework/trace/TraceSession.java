@@ -0,0 +1,241 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.utils.SystemOptions;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * Records or replays the MIDI and OSC traffic of a controller setup. Since this is a tool for
+ * debugging and performance measurements, it is not configured in the settings of the controller
+ * but with Java system properties or environment variables (the property name in upper case with
+ * underscores):
+ *
+ * <ul>
+ * <li>drivenbymoss.trace: A folder, records a trace of all received events into a new file in this
+ * folder</li>
+ * <li>drivenbymoss.trace.output: If 'true' the events sent to the controller are recorded as
+ * well</li>
+ * <li>drivenbymoss.replay: A trace file, the received events are replaced by the events of the
+ * trace. When the playback has finished the produced output is compared with the output in the
+ * trace</li>
+ * <li>drivenbymoss.replay.speed: The playback speed, 1 is real time (default), 0 as fast as
+ * possible</li>
+ * <li>drivenbymoss.replay.hardware: If 'true' the output is sent to the controller as well</li>
+ * </ul>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TraceSession
+{
+    /** The extension of trace files. */
+    public static final String        FILE_EXTENSION = ".dbmt";
+
+    /** Wait for the setup to be started before replaying. */
+    private static final int          REPLAY_DELAY   = 2000;
+
+    private final IHost               host;
+    private final TraceRecorder       recorder;
+    private final TracingSetupFactory factory;
+    private final File                replayFile;
+    private final File                resultFile;
+    private final double              replaySpeed;
+    private final boolean             forwardOutput;
+    private IOpenSoundControlCallback oscCallback;
+    private TracePlayer               player;
+
+
+    /**
+     * Create a trace session if recording or replaying is configured.
+     *
+     * @param host The host
+     * @param factory The setup factory of the controller
+     * @param name The name of the controller setup, used for naming the trace file
+     * @return The session or null if neither recording nor replaying is configured or the trace
+     *         file could not be created
+     */
+    public static TraceSession create (final IHost host, final ISetupFactory factory, final String name)
+    {
+        final String replay = SystemOptions.get ("drivenbymoss.replay");
+        final String trace = SystemOptions.get ("drivenbymoss.trace");
+        if (replay == null && trace == null)
+            return null;
+
+        try
+        {
+            if (replay != null)
+            {
+                final File replayFile = new File (replay);
+                final File resultFile = new File (replayFile.getPath () + ".replay" + FILE_EXTENSION);
+                final double speed = parseSpeed (SystemOptions.get ("drivenbymoss.replay.speed"));
+                final boolean forwardOutput = SystemOptions.isEnabled ("drivenbymoss.replay.hardware");
+                return new TraceSession (host, factory, replayFile, resultFile, true, speed, forwardOutput);
+            }
+
+            final String timestamp = new SimpleDateFormat ("yyyyMMdd-HHmmss").format (new Date ());
+            final File traceFile = new File (trace, name + "-" + timestamp + FILE_EXTENSION);
+            final boolean recordOutput = SystemOptions.isEnabled ("drivenbymoss.trace.output");
+            return new TraceSession (host, factory, null, traceFile, recordOutput, 0, true);
+        }
+        catch (final IOException ex)
+        {
+            host.error ("Could not create the trace file.", ex);
+            return null;
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param factory The setup factory of the controller
+     * @param replayFile The trace to replay, null to record
+     * @param resultFile The file to record to
+     * @param recordOutput True to record the output events
+     * @param replaySpeed The playback speed
+     * @param forwardOutput True to send the output to the controller
+     * @throws IOException Could not create the trace file
+     */
+    private TraceSession (final IHost host, final ISetupFactory factory, final File replayFile, final File resultFile, final boolean recordOutput, final double replaySpeed, final boolean forwardOutput) throws IOException
+    {
+        this.host = host;
+        this.replayFile = replayFile;
+        this.resultFile = resultFile;
+        this.replaySpeed = replaySpeed;
+        this.forwardOutput = forwardOutput;
+
+        final File parent = resultFile.getAbsoluteFile ().getParentFile ();
+        if (parent != null && !parent.exists () && !parent.mkdirs ())
+            throw new IOException ("Could not create folder " + parent);
+
+        this.recorder = new TraceRecorder (host, new FileOutputStream (resultFile), recordOutput);
+        this.factory = new TracingSetupFactory (factory, this.recorder, replayFile != null, forwardOutput);
+
+        host.println ((replayFile == null ? "Recording trace to " : "Replaying trace " + replayFile + ", recording to ") + resultFile);
+    }
+
+
+    /**
+     * Get the setup factory which creates the traced MIDI ports.
+     *
+     * @return The factory
+     */
+    public ISetupFactory getSetupFactory ()
+    {
+        return this.factory;
+    }
+
+
+    /**
+     * Wrap the callback of an OSC server to record the received messages. When replaying, the
+     * messages of the trace are sent to this callback.
+     *
+     * @param callback The callback to wrap
+     * @return The wrapped callback
+     */
+    public IOpenSoundControlCallback wrap (final IOpenSoundControlCallback callback)
+    {
+        this.oscCallback = callback;
+        return new TracingOpenSoundControlCallback (callback, this.recorder);
+    }
+
+
+    /**
+     * Wrap an OSC client to record the sent messages.
+     *
+     * @param client The client to wrap
+     * @return The wrapped client
+     */
+    public IOpenSoundControlClient wrap (final IOpenSoundControlClient client)
+    {
+        if (!this.recorder.isRecordingOutput ())
+            return client;
+        return new TracingOpenSoundControlClient (this.forwardOutput ? client : null, this.recorder);
+    }
+
+
+    /**
+     * Start the replay, if configured. Call after the setup is initialized.
+     *
+     * @param flusher Flushes the setup
+     */
+    public void start (final Runnable flusher)
+    {
+        if (this.replayFile == null)
+            return;
+
+        final List<TraceEvent> events;
+        try
+        {
+            events = TraceReader.readAll (this.replayFile);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not read the trace " + this.replayFile, ex);
+            return;
+        }
+
+        this.player = new TracePlayer (events, this.factory, this.oscCallback, this.recorder, flusher);
+        this.host.scheduleTask ( () -> this.player.start (this.host, this.replaySpeed, () -> this.finishReplay (events)), REPLAY_DELAY);
+    }
+
+
+    /**
+     * Stop the recording or replay.
+     */
+    public void close ()
+    {
+        if (this.player != null)
+            this.player.stop ();
+        this.recorder.close ();
+    }
+
+
+    private void finishReplay (final List<TraceEvent> reference)
+    {
+        this.recorder.close ();
+
+        final StringBuilder report = new StringBuilder ("Replay finished.\n");
+        if (this.player.getNumberOfMissingPorts () > 0)
+            report.append (this.player.getNumberOfMissingPorts ()).append (" events were skipped since their MIDI port does not exist.\n");
+
+        try
+        {
+            report.append (new TraceComparison (reference, TraceReader.readAll (this.resultFile)).format ());
+            this.host.println (report.toString ());
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not read the replay trace " + this.resultFile, ex);
+        }
+    }
+
+
+    private static double parseSpeed (final String speed)
+    {
+        if (speed == null)
+            return 1;
+        try
+        {
+            return Double.parseDouble (speed);
+        }
+        catch (final NumberFormatException ex)
+        {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writes trace events in a compact binary format. The file starts with the magic bytes 'DBMT' and
+ * a version byte. Each event is stored as its type, the time which passed since the previous event
+ * in microseconds, the MIDI port and the payload. Numbers are written as variable length quantities
+ * with 7 bits per byte, therefore a short MIDI message usually needs 6 bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TraceWriter implements Closeable
+{
+    /** The magic bytes at the start of a trace file. */
+    public static final byte [] MAGIC        =
+    {
+        'D',
+        'B',
+        'M',
+        'T'
+    };
+
+    /** The version of the format. */
+    public static final int     VERSION      = 1;
+
+    static final int            TAG_NULL     = 0;
+    static final int            TAG_INTEGER  = 1;
+    static final int            TAG_LONG     = 2;
+    static final int            TAG_FLOAT    = 3;
+    static final int            TAG_DOUBLE   = 4;
+    static final int            TAG_STRING   = 5;
+    static final int            TAG_TRUE     = 6;
+    static final int            TAG_FALSE    = 7;
+
+    private final OutputStream  out;
+    private long                previousTime = 0;
+
+
+    /**
+     * Constructor. Writes the header.
+     *
+     * @param out The stream to write to
+     * @throws IOException Could not write the header
+     */
+    public TraceWriter (final OutputStream out) throws IOException
+    {
+        this.out = new BufferedOutputStream (out);
+        this.out.write (MAGIC);
+        this.out.write (VERSION);
+    }
+
+
+    /**
+     * Write a short MIDI message.
+     *
+     * @param type The type of the event, MIDI_INPUT or MIDI_OUTPUT
+     * @param time The time of the event in microseconds since the start of the trace
+     * @param port The index of the MIDI port
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @throws IOException Could not write the event
+     */
+    public void writeMidi (final TraceEventType type, final long time, final int port, final int status, final int data1, final int data2) throws IOException
+    {
+        this.writeHeader (type, time, port);
+        this.out.write (status);
+        this.out.write (data1);
+        this.out.write (data2);
+    }
+
+
+    /**
+     * Write a system exclusive message.
+     *
+     * @param type The type of the event, SYSEX_INPUT or SYSEX_OUTPUT
+     * @param time The time of the event in microseconds since the start of the trace
+     * @param port The index of the MIDI port
+     * @param data The bytes of the message
+     * @param length The number of bytes to write
+     * @throws IOException Could not write the event
+     */
+    public void writeSysex (final TraceEventType type, final long time, final int port, final byte [] data, final int length) throws IOException
+    {
+        this.writeHeader (type, time, port);
+        this.writeNumber (length);
+        this.out.write (data, 0, length);
+    }
+
+
+    /**
+     * Write an OSC message.
+     *
+     * @param type The type of the event, OSC_INPUT or OSC_OUTPUT
+     * @param time The time of the event in microseconds since the start of the trace
+     * @param address The OSC address
+     * @param values The values of the message
+     * @throws IOException Could not write the event
+     */
+    public void writeOSC (final TraceEventType type, final long time, final String address, final Object [] values) throws IOException
+    {
+        this.writeHeader (type, time, 0);
+        this.writeString (address);
+        this.writeNumber (values.length);
+        for (final Object value: values)
+            this.writeValue (value);
+    }
+
+
+    /**
+     * Write the buffered events.
+     *
+     * @throws IOException Could not write the events
+     */
+    public void flush () throws IOException
+    {
+        this.out.flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.out.close ();
+    }
+
+
+    private void writeHeader (final TraceEventType type, final long time, final int port) throws IOException
+    {
+        this.out.write (type.ordinal ());
+        // Events from different threads might not arrive in order of their time
+        this.writeNumber (Math.max (0, time - this.previousTime));
+        this.previousTime = Math.max (time, this.previousTime);
+        this.writeNumber (port);
+    }
+
+
+    private void writeValue (final Object value) throws IOException
+    {
+        if (value == null)
+            this.out.write (TAG_NULL);
+        else if (value instanceof Integer)
+        {
+            this.out.write (TAG_INTEGER);
+            this.writeFixed (((Integer) value).intValue (), 4);
+        }
+        else if (value instanceof Long)
+        {
+            this.out.write (TAG_LONG);
+            this.writeFixed (((Long) value).longValue (), 8);
+        }
+        else if (value instanceof Float)
+        {
+            this.out.write (TAG_FLOAT);
+            this.writeFixed (Float.floatToIntBits (((Float) value).floatValue ()), 4);
+        }
+        else if (value instanceof Double)
+        {
+            this.out.write (TAG_DOUBLE);
+            this.writeFixed (Double.doubleToLongBits (((Double) value).doubleValue ()), 8);
+        }
+        else if (value instanceof Boolean)
+            this.out.write (((Boolean) value).booleanValue () ? TAG_TRUE : TAG_FALSE);
+        else
+        {
+            this.out.write (TAG_STRING);
+            this.writeString (value.toString ());
+        }
+    }
+
+
+    private void writeString (final String text) throws IOException
+    {
+        final byte [] bytes = text.getBytes (StandardCharsets.UTF_8);
+        this.writeNumber (bytes.length);
+        this.out.write (bytes);
+    }
+
+
+    private void writeNumber (final long value) throws IOException
+    {
+        long v = value;
+        while (v >= 0x80)
+        {
+            this.out.write ((int) (v & 0x7F | 0x80));
+            v >>>= 7;
+        }
+        this.out.write ((int) v);
+    }
+
+
+    private void writeFixed (final long value, final int numBytes) throws IOException
+    {
+        for (int i = numBytes - 1; i >= 0; i--)
+            this.out.write ((int) (value >>> i * 8));
+    }
+}
@@ -0,0 +1,99 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Wraps the MIDI access of a setup to record the traffic of all created ports. In replay mode the
+ * inputs receive their messages from a trace player instead of the hardware and the outputs are
+ * recorded to be compared against the reference trace.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TracingMidiAccess implements IMidiAccess
+{
+    private final IMidiAccess                   midiAccess;
+    private final TraceRecorder                 recorder;
+    private final boolean                       isReplay;
+    private final boolean                       forwardOutput;
+    private final Map<Integer, ReplayMidiInput> replayInputs = new HashMap<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param midiAccess The MIDI access to wrap
+     * @param recorder Where to record the messages
+     * @param isReplay True to create inputs which receive the messages from a trace player
+     * @param forwardOutput True to send the output to the hardware as well
+     */
+    public TracingMidiAccess (final IMidiAccess midiAccess, final TraceRecorder recorder, final boolean isReplay, final boolean forwardOutput)
+    {
+        this.midiAccess = midiAccess;
+        this.recorder = recorder;
+        this.isReplay = isReplay;
+        this.forwardOutput = forwardOutput;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        return this.createOutput (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        final IMidiOutput output = this.forwardOutput ? this.midiAccess.createOutput (index) : null;
+        if (this.isReplay || this.recorder.isRecordingOutput ())
+            return new TracingMidiOutput (output, this.recorder, index);
+        return output;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        return this.createInput (0, name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        final IMidiInput input = this.midiAccess.createInput (index, name, filters);
+        if (!this.isReplay)
+            return new TracingMidiInput (input, this.recorder, index);
+
+        final ReplayMidiInput replayInput = new ReplayMidiInput (input);
+        this.replayInputs.put (Integer.valueOf (index), replayInput);
+        return replayInput;
+    }
+
+
+    /**
+     * Get the replay input for a port.
+     *
+     * @param port The index of the port
+     * @return The input or null if no input was created for the port
+     */
+    public ReplayMidiInput getReplayInput (final int port)
+    {
+        return this.replayInputs.get (Integer.valueOf (port));
+    }
+}
@@ -0,0 +1,180 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+
+/**
+ * Wraps a MIDI input and records all received messages before they are handed to the callbacks.
+ * The recording callbacks are always registered, therefore messages are recorded even if a surface
+ * does not register a callback itself (e.g. if all controls are bound).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TracingMidiInput implements IMidiInput
+{
+    private final IMidiInput    input;
+    private final TraceRecorder recorder;
+    private final int           port;
+    private MidiShortCallback   midiCallback;
+    private MidiSysExCallback   sysexCallback;
+
+
+    /**
+     * Constructor.
+     *
+     * @param input The input to wrap
+     * @param recorder Where to record the messages
+     * @param port The index of the MIDI port
+     */
+    public TracingMidiInput (final IMidiInput input, final TraceRecorder recorder, final int port)
+    {
+        this.input = input;
+        this.recorder = recorder;
+        this.port = port;
+
+        this.input.setMidiCallback (this::handleMidi);
+        this.input.setSysexCallback (this::handleSysex);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return this.input.createNoteInput (name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return this.input.getDefaultNoteInput ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.input.sendRawMidiEvent (status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (button, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IHwButton button)
+    {
+        this.input.unbind (button);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control, final int value)
+    {
+        this.input.bind (button, type, channel, control, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (fader, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteKnob absoluteKnob, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (absoluteKnob, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteControl absoluteControl, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (absoluteControl, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control, final RelativeEncoding encoding)
+    {
+        this.input.bind (relativeKnob, type, channel, control, encoding);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control)
+    {
+        this.input.bindTouch (relativeKnob, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.input.bindTouch (fader, type, channel, control);
+    }
+
+
+    private void handleMidi (final int status, final int data1, final int data2)
+    {
+        this.recorder.recordMidi (TraceEventType.MIDI_INPUT, this.port, status, data1, data2);
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    private void handleSysex (final String data)
+    {
+        this.recorder.recordSysex (TraceEventType.SYSEX_INPUT, this.port, data);
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+}
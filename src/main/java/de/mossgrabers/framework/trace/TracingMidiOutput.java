@@ -0,0 +1,119 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.daw.midi.AbstractMidiOutputImpl;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
+
+
+/**
+ * Records all messages sent to a MIDI output. The messages are forwarded to the wrapped output, if
+ * there is one. Without an output the messages are only recorded, e.g. when replaying a trace
+ * without the hardware.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TracingMidiOutput extends AbstractMidiOutputImpl
+{
+    private final IMidiOutput   output;
+    private final TraceRecorder recorder;
+    private final int           port;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The output to wrap, might be null
+     * @param recorder Where to record the messages
+     * @param port The index of the MIDI port
+     */
+    public TracingMidiOutput (final IMidiOutput output, final TraceRecorder recorder, final int port)
+    {
+        this.output = output;
+        this.recorder = recorder;
+        this.port = port;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableMetrics (final MetricsRegistry metrics, final String prefix)
+    {
+        // Count the messages which are really sent to the hardware
+        if (this.output == null)
+            super.enableMetrics (metrics, prefix);
+        else
+            this.output.enableMetrics (metrics, prefix);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiSysex (final byte [] data)
+    {
+        this.recorder.recordSysex (TraceEventType.SYSEX_OUTPUT, this.port, data);
+        if (this.output != null)
+            this.output.sendSysex (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiSysex (final String data)
+    {
+        this.recorder.recordSysex (TraceEventType.SYSEX_OUTPUT, this.port, data);
+        if (this.output != null)
+            this.output.sendSysex (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendProgramChange (final int channel, final int bankMSB, final int bankLSB, final int value)
+    {
+        this.recorder.recordMidi (TraceEventType.MIDI_OUTPUT, this.port, 0xB0 + channel, 0, bankMSB);
+        this.recorder.recordMidi (TraceEventType.MIDI_OUTPUT, this.port, 0xB0 + channel, 32, bankLSB);
+        this.recorder.recordMidi (TraceEventType.MIDI_OUTPUT, this.port, 0xC0 + channel, value, 0);
+        if (this.output != null)
+            this.output.sendProgramChange (channel, bankMSB, bankLSB, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        this.recorder.recordMidi (TraceEventType.MIDI_OUTPUT, this.port, status, data1, data2);
+        if (this.output == null)
+            return;
+
+        // All messages of the abstract output end up here, therefore they can be sent as a generic
+        // channel message
+        final int channel = status & 0x0F;
+        switch (status & 0xF0)
+        {
+            case 0x90:
+                this.output.sendNoteEx (channel, data1, data2);
+                break;
+            case 0xA0:
+                this.output.sendPolyphonicAftertouch (channel, data1, data2);
+                break;
+            case 0xB0:
+                this.output.sendCCEx (channel, data1, data2);
+                break;
+            case 0xD0:
+                this.output.sendChannelAftertouch (channel, data1, data2);
+                break;
+            case 0xE0:
+                this.output.sendPitchbend (channel, data1, data2);
+                break;
+            default:
+                // Program changes are handled separately, others are not created by the abstract
+                // output
+                break;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+
+/**
+ * Records all received OSC messages before they are handed to the wrapped callback.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TracingOpenSoundControlCallback implements IOpenSoundControlCallback
+{
+    private final IOpenSoundControlCallback callback;
+    private final TraceRecorder             recorder;
+
+
+    /**
+     * Constructor.
+     *
+     * @param callback The callback to wrap
+     * @param recorder Where to record the messages
+     */
+    public TracingOpenSoundControlCallback (final IOpenSoundControlCallback callback, final TraceRecorder recorder)
+    {
+        this.callback = callback;
+        this.recorder = recorder;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handle (final IOpenSoundControlMessage message)
+    {
+        this.recorder.recordOSC (TraceEventType.OSC_INPUT, message.getAddress (), message.getValues ());
+        this.callback.handle (message);
+    }
+}
@@ -0,0 +1,58 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * Records all OSC messages sent to a client. The messages are forwarded to the wrapped client, if
+ * there is one.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TracingOpenSoundControlClient implements IOpenSoundControlClient
+{
+    private final IOpenSoundControlClient client;
+    private final TraceRecorder           recorder;
+
+
+    /**
+     * Constructor.
+     *
+     * @param client The client to wrap, might be null
+     * @param recorder Where to record the messages
+     */
+    public TracingOpenSoundControlClient (final IOpenSoundControlClient client, final TraceRecorder recorder)
+    {
+        this.client = client;
+        this.recorder = recorder;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.recorder.recordOSC (TraceEventType.OSC_OUTPUT, message.getAddress (), message.getValues ());
+        if (this.client != null)
+            this.client.sendMessage (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        for (final IOpenSoundControlMessage message: messages)
+            this.recorder.recordOSC (TraceEventType.OSC_OUTPUT, message.getAddress (), message.getValues ());
+        if (this.client != null)
+            this.client.sendBundle (messages);
+    }
+}
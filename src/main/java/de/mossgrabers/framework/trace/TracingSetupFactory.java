@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.trace;
+
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Wraps the setup factory of a controller to trace the MIDI traffic of all ports the controller
+ * creates.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TracingSetupFactory implements ISetupFactory
+{
+    private final ISetupFactory           factory;
+    private final TraceRecorder           recorder;
+    private final boolean                 isReplay;
+    private final boolean                 forwardOutput;
+    private final List<TracingMidiAccess> midiAccesses = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param factory The factory to wrap
+     * @param recorder Where to record the messages
+     * @param isReplay True to create inputs which receive the messages from a trace player
+     * @param forwardOutput True to send the output to the hardware as well
+     */
+    public TracingSetupFactory (final ISetupFactory factory, final TraceRecorder recorder, final boolean isReplay, final boolean forwardOutput)
+    {
+        this.factory = factory;
+        this.recorder = recorder;
+        this.isReplay = isReplay;
+        this.forwardOutput = forwardOutput;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
+    {
+        return this.factory.createModel (colorManager, valueChanger, scales, modelSetup);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiAccess createMidiAccess ()
+    {
+        final TracingMidiAccess midiAccess = new TracingMidiAccess (this.factory.createMidiAccess (), this.recorder, this.isReplay, this.forwardOutput);
+        this.midiAccesses.add (midiAccess);
+        return midiAccess;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ArpeggiatorMode [] getArpeggiatorModes ()
+    {
+        return this.factory.getArpeggiatorModes ();
+    }
+
+
+    /**
+     * Get the replay input for a port. All created MIDI accesses are searched, the first one which
+     * created an input for the port wins.
+     *
+     * @param port The index of the port
+     * @return The input or null if no input was created for the port
+     */
+    public ReplayMidiInput getReplayInput (final int port)
+    {
+        for (final TracingMidiAccess midiAccess: this.midiAccesses)
+        {
+            final ReplayMidiInput input = midiAccess.getReplayInput (port);
+            if (input != null)
+                return input;
+        }
+        return null;
+    }
+}
@@ -10,9 +10,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.INoteObserver;
 import de.mossgrabers.framework.scale.Scales;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 
 /**
@@ -22,11 +20,13 @@ import java.util.List;
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
-    private final IModel   model;
-    private final Scales   scales;
-    private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private final int []      pressedKeys    = new int [128];
+    private final long []     pressedKeyBits = new long [2];
+    private final long [] []  notePads       = new long [128] [2];
+    private final IModel      model;
+    private final Scales      scales;
+    private final IPadGrid    padGrid;
+    private int []            noteMap        = Scales.getEmptyMatrix ();
 
 
     /**
@@ -51,6 +51,8 @@ public class KeyManager implements INoteObserver
     public void clearPressedKeys ()
     {
         Arrays.fill (this.pressedKeys, 0);
+        this.pressedKeyBits[0] = 0;
+        this.pressedKeyBits[1] = 0;
     }
 
 
@@ -75,21 +77,34 @@ public class KeyManager implements INoteObserver
     public void setKeyPressed (final int key, final int velocity)
     {
         this.pressedKeys[key] = velocity;
+        if (velocity > 0)
+            this.pressedKeyBits[key >> 6] |= 1L << key;
+        else
+            this.pressedKeyBits[key >> 6] &= ~(1L << key);
     }
 
 
     /**
-     * Loop over all pads since the note can be present multiple time.
+     * Set all pads pressed which are mapped to the given note, since the note can be present
+     * multiple times.
      *
      * @param key The key to set
      * @param velocity The velocity
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
+        if (key < 0 || key >= 128)
+            return;
+
+        final long [] pads = this.notePads[key];
+        for (int i = 0; i < 2; i++)
         {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
+            long bits = pads[i];
+            while (bits != 0)
+            {
+                this.setKeyPressed (i * 64 + Long.numberOfTrailingZeros (bits), velocity);
+                bits &= bits - 1;
+            }
         }
     }
 
@@ -107,17 +122,22 @@ public class KeyManager implements INoteObserver
     /**
      * Get the currently pressed keys.
      *
-     * @return The list with the keys
+     * @param keys An array with at least 128 elements, which is filled with the pressed keys
+     * @return The number of pressed keys written to the array
      */
-    public List<Integer> getPressedKeys ()
+    public int getPressedKeys (final int [] keys)
     {
-        final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
+        int count = 0;
+        for (int i = 0; i < 2; i++)
         {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
+            long bits = this.pressedKeyBits[i];
+            while (bits != 0)
+            {
+                keys[count++] = i * 64 + Long.numberOfTrailingZeros (bits);
+                bits &= bits - 1;
+            }
         }
-        return keys;
+        return count;
     }
 
 
@@ -128,12 +148,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return this.pressedKeyBits[0] != 0 || this.pressedKeyBits[1] != 0;
     }
 
 
@@ -164,6 +179,18 @@ public class KeyManager implements INoteObserver
     }
 
 
+    /**
+     * Get the color role to use for a pad with respect to the current scale settings.
+     *
+     * @param pad The midi note of the pad
+     * @return The color role, one of the Scales.SCALE_ROLE_* constants
+     */
+    public int getColorRole (final int pad)
+    {
+        return this.scales.getColorRole (this.noteMap, pad);
+    }
+
+
     /**
      * Get the mapped note from the current note matrix.
      *
@@ -183,6 +210,23 @@ public class KeyManager implements INoteObserver
      */
     public void setNoteMatrix (final int [] matrix)
     {
+        final boolean hasChanged = !Arrays.equals (this.noteMap, matrix);
         this.noteMap = matrix;
+        if (!hasChanged)
+            return;
+
+        // Rebuild the reverse index from notes to the pads which play them
+        for (final long [] pads: this.notePads)
+        {
+            pads[0] = 0;
+            pads[1] = 0;
+        }
+        final int size = Math.min (128, matrix.length);
+        for (int pad = 0; pad < size; pad++)
+        {
+            final int note = matrix[pad];
+            if (note >= 0 && note < 128)
+                this.notePads[note][pad >> 6] |= 1L << pad;
+        }
     }
 }
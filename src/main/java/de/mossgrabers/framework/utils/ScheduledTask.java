@@ -0,0 +1,88 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * A task which can be scheduled on a timer wheel. A task can be scheduled again after it was
+ * executed or cancelled, which allows to re-use it without creating new objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ScheduledTask
+{
+    private final Runnable runnable;
+
+    TimerWheel             wheel;
+    ScheduledTask          previous;
+    ScheduledTask          next;
+    long                   deadline;
+
+
+    /**
+     * Constructor.
+     *
+     * @param runnable The code to execute
+     */
+    public ScheduledTask (final Runnable runnable)
+    {
+        this.runnable = runnable;
+    }
+
+
+    /**
+     * Cancel the task. Does nothing if the task is not scheduled.
+     */
+    public void cancel ()
+    {
+        if (this.wheel != null)
+            this.wheel.cancel (this);
+    }
+
+
+    /**
+     * Is the task scheduled and not yet executed?
+     *
+     * @return True if pending
+     */
+    public boolean isPending ()
+    {
+        return this.wheel != null;
+    }
+
+
+    /**
+     * Execute the task.
+     */
+    void run ()
+    {
+        this.runnable.run ();
+    }
+
+
+    /**
+     * Remove the task from the list it is linked into.
+     */
+    void unlink ()
+    {
+        this.previous.next = this.next;
+        this.next.previous = this.previous;
+        this.previous = null;
+        this.next = null;
+    }
+
+
+    /**
+     * Add the task to the end of a list.
+     *
+     * @param head The head of the list
+     */
+    void linkBefore (final ScheduledTask head)
+    {
+        this.previous = head.previous;
+        this.next = head;
+        head.previous.next = this;
+        head.previous = this;
+    }
+}
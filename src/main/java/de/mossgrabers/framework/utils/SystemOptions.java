@@ -0,0 +1,51 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * Access to the options of the debugging and measurement tools, which are not configured in the
+ * settings of a controller but with Java system properties or environment variables (the property
+ * name in upper case with underscores, e.g. DRIVENBYMOSS_TRACE for drivenbymoss.trace).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SystemOptions
+{
+    /**
+     * Constructor, private due to helper class.
+     */
+    private SystemOptions ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the value of an option. A system property has precedence over the environment variable.
+     *
+     * @param name The name of the option (system property)
+     * @return The trimmed value or null if the option is not set
+     */
+    public static String get (final String name)
+    {
+        final String value = System.getProperty (name);
+        if (value != null && !value.isBlank ())
+            return value.trim ();
+        final String envValue = System.getenv (name.toUpperCase ().replace ('.', '_'));
+        return envValue == null || envValue.isBlank () ? null : envValue.trim ();
+    }
+
+
+    /**
+     * Is an option set to 'true'?
+     *
+     * @param name The name of the option (system property)
+     * @return True if enabled
+     */
+    public static boolean isEnabled (final String name)
+    {
+        return "true".equalsIgnoreCase (get (name));
+    }
+}
@@ -5,12 +5,20 @@
 package de.mossgrabers.framework.utils;
 
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.metrics.IMetricsVisitor;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 
 import java.util.LinkedList;
 
 
 /**
- * Testframework.
+ * Testframework. Executes the scheduled test functions one after the other with a delay in between
+ * to give the DAW time to answer. The execution time and the number of sent MIDI and OSC messages
+ * of each test function are reported.
+ *
+ * The functions can either be executed in real time, which means that the delays are scheduled on
+ * the DAW, or with a virtual clock, which executes all functions at once and advances the time
+ * instantly between them.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -19,7 +27,18 @@ public class TestFramework
     private static final int           ANSWER_DELAY = 100;
 
     private IHost                      host;
-    private final LinkedList<Runnable> scheduler    = new LinkedList<> ();
+    private final Runnable             flusher;
+    private final LinkedList<TestStep> scheduler    = new LinkedList<> ();
+    private final VolumeCounter        volume       = new VolumeCounter ();
+
+    private TestStep                   currentStep;
+    private TestStep                   slowestStep;
+    private boolean                    isStarted    = false;
+    private boolean                    wasMetricsEnabled;
+    private long                       startTime;
+    private int                        numSteps;
+    private long                       totalMessages;
+    private long                       totalBytes;
 
 
     /**
@@ -28,40 +47,113 @@ public class TestFramework
      * @param host The controller host
      */
     public TestFramework (final IHost host)
+    {
+        this (host, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The controller host
+     * @param flusher Sends the updates to the controllers, called after each test function when
+     *            using the virtual clock, may be null
+     */
+    public TestFramework (final IHost host, final Runnable flusher)
     {
         this.host = host;
+        this.flusher = flusher;
     }
 
 
     /**
-     * Execute all scheduled test functions.
+     * Execute all scheduled test functions in real time.
      *
      * @param callback
      */
     public void executeScheduler (final TestCallback callback)
     {
+        if (!this.isStarted)
+            this.start ();
+
+        // The DAW flushed during the delay, therefore the output volume of the previous function
+        // is complete now
+        if (this.currentStep != null)
+        {
+            this.finishStep (this.currentStep);
+            this.currentStep = null;
+        }
+
         if (this.scheduler.isEmpty ())
         {
+            this.end (-1);
             callback.endTesting ();
             return;
         }
 
         final int delay = ANSWER_DELAY;
 
-        final Runnable exec = this.scheduler.remove ();
+        this.currentStep = this.scheduler.remove ();
+        this.startStep (this.currentStep);
         try
         {
-            exec.run ();
+            this.currentStep.runnable.run ();
         }
         catch (final RuntimeException ex)
         {
             this.host.error (ex.getLocalizedMessage (), ex);
         }
+        this.currentStep.duration = System.nanoTime () - this.currentStep.duration;
 
         this.host.scheduleTask ( () -> this.executeScheduler (callback), delay);
     }
 
 
+    /**
+     * Execute all scheduled test functions at once with a virtual clock. All tasks scheduled on the
+     * host (including the ones of the tested code) are executed on the virtual clock, which is
+     * advanced by the answer delay after each function.
+     *
+     * @param callback Callback for signalling the end of the tests
+     */
+    public void executeWithVirtualClock (final TestCallback callback)
+    {
+        this.start ();
+
+        final VirtualClock clock = new VirtualClock ();
+        this.host.setVirtualClock (clock);
+        try
+        {
+            while (!this.scheduler.isEmpty ())
+            {
+                final TestStep step = this.scheduler.remove ();
+                this.startStep (step);
+                try
+                {
+                    step.runnable.run ();
+                    this.flush ();
+                    clock.advance (ANSWER_DELAY);
+                    this.flush ();
+                }
+                catch (final RuntimeException ex)
+                {
+                    this.host.error (ex.getLocalizedMessage (), ex);
+                }
+                step.duration = System.nanoTime () - step.duration;
+                this.finishStep (step);
+            }
+        }
+        finally
+        {
+            this.host.setVirtualClock (null);
+            clock.transferTo (this.host);
+        }
+
+        this.end (clock.currentTimeMillis ());
+        callback.endTesting ();
+    }
+
+
     /**
      * Schedule a function for later test processing.
      *
@@ -69,6 +161,158 @@ public class TestFramework
      */
     public void scheduleFunction (final Runnable f)
     {
-        this.scheduler.add (f);
+        this.scheduleFunction (null, f);
+    }
+
+
+    /**
+     * Schedule a function for later test processing.
+     *
+     * @param name The name of the function for the report, null to not report it
+     * @param f The function to schedule
+     */
+    public void scheduleFunction (final String name, final Runnable f)
+    {
+        this.scheduler.add (new TestStep (name, f));
+    }
+
+
+    private void start ()
+    {
+        this.isStarted = true;
+        this.startTime = System.nanoTime ();
+
+        // The output volume is read from the counters of the metrics
+        final MetricsRegistry metrics = this.host.getMetrics ();
+        this.wasMetricsEnabled = metrics.isEnabled ();
+        metrics.setEnabled (true);
+    }
+
+
+    private void end (final long virtualTime)
+    {
+        this.host.getMetrics ().setEnabled (this.wasMetricsEnabled);
+
+        final StringBuilder report = new StringBuilder ("Tested ").append (this.numSteps).append (" functions in ");
+        report.append ((System.nanoTime () - this.startTime) / 1000000).append (" ms");
+        if (virtualTime >= 0)
+            report.append (" (virtual time ").append (virtualTime).append (" ms)");
+        report.append (", sent ").append (this.totalMessages).append (" messages with ").append (this.totalBytes).append (" bytes");
+        if (this.slowestStep != null)
+            report.append (", slowest: ").append (this.slowestStep.name).append (' ').append (formatMillis (this.slowestStep.duration)).append (" ms");
+        this.host.println (report.toString ());
+    }
+
+
+    private void startStep (final TestStep step)
+    {
+        this.volume.read (this.host.getMetrics ());
+        step.messages = this.volume.messages;
+        step.bytes = this.volume.bytes;
+        step.duration = System.nanoTime ();
+    }
+
+
+    private void finishStep (final TestStep step)
+    {
+        this.volume.read (this.host.getMetrics ());
+        step.messages = this.volume.messages - step.messages;
+        step.bytes = this.volume.bytes - step.bytes;
+
+        this.totalMessages += step.messages;
+        this.totalBytes += step.bytes;
+
+        if (step.name == null)
+            return;
+
+        this.numSteps++;
+        if (this.slowestStep == null || step.duration > this.slowestStep.duration)
+            this.slowestStep = step;
+        this.host.println ("- " + step.name + ": " + formatMillis (step.duration) + " ms, " + step.messages + " messages, " + step.bytes + " bytes");
+    }
+
+
+    private void flush ()
+    {
+        if (this.flusher != null)
+            this.flusher.run ();
+    }
+
+
+    private static String formatMillis (final long nanos)
+    {
+        return String.format ("%.2f", Double.valueOf (nanos / 1000000.0));
+    }
+
+
+    /** A test function with its measurements. */
+    private static class TestStep
+    {
+        private final String   name;
+        private final Runnable runnable;
+        private long           duration;
+        private long           messages;
+        private long           bytes;
+
+
+        /**
+         * Constructor.
+         *
+         * @param name The name of the function for the report, may be null
+         * @param runnable The function
+         */
+        TestStep (final String name, final Runnable runnable)
+        {
+            this.name = name;
+            this.runnable = runnable;
+        }
+    }
+
+
+    /** Sums up the counters of all MIDI outputs and of OSC. */
+    private static class VolumeCounter implements IMetricsVisitor
+    {
+        private long messages;
+        private long bytes;
+
+
+        /**
+         * Read the current sums from the metrics.
+         *
+         * @param metrics The metrics
+         */
+        void read (final MetricsRegistry metrics)
+        {
+            this.messages = 0;
+            this.bytes = 0;
+            metrics.visit (this);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void visitCounter (final String name, final long value)
+        {
+            if (name.endsWith ("midi.messages") || name.endsWith ("midi.sysex") || "osc.messages".equals (name))
+                this.messages += value;
+            else if (name.endsWith ("midi.bytes") || "osc.bytes".equals (name))
+                this.bytes += value;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void visitGauge (final String name, final double value)
+        {
+            // Not used
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void visitHistogram (final String name, final long count, final long average, final long p95, final long max)
+        {
+            // Not used
+        }
     }
 }
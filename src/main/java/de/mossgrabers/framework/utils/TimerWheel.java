@@ -0,0 +1,201 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * A hashed timer wheel for short delayed tasks (e.g. the detection of long button presses). All
+ * tasks share one periodic host task, which only runs as long as tasks are pending. Scheduling and
+ * cancelling a task are O(1) operations. The delay is rounded up to the granularity of the wheel.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TimerWheel
+{
+    /** The default duration of one tick in milliseconds. */
+    public static final int        DEFAULT_TICK_DURATION = 10;
+
+    private static final int       NUM_SLOTS             = 64;
+    private static final int       SLOT_MASK             = NUM_SLOTS - 1;
+
+    private final IHost            host;
+    private final int              tickDuration;
+    private final ScheduledTask [] slots                 = new ScheduledTask [NUM_SLOTS];
+    private final ScheduledTask    expired               = createHead ();
+
+    private long                   currentTick           = 0;
+    private long                   lastTickTime;
+    private int                    pendingTasks          = 0;
+    private boolean                isTicking             = false;
+
+
+    /**
+     * Constructor. Uses the default tick duration.
+     *
+     * @param host The host for scheduling the ticks
+     */
+    public TimerWheel (final IHost host)
+    {
+        this (host, DEFAULT_TICK_DURATION);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the ticks
+     * @param tickDuration The duration of one tick in milliseconds
+     */
+    public TimerWheel (final IHost host, final int tickDuration)
+    {
+        this.host = host;
+        this.tickDuration = Math.max (1, tickDuration);
+
+        for (int i = 0; i < NUM_SLOTS; i++)
+            this.slots[i] = createHead ();
+    }
+
+
+    /**
+     * Schedule a new task.
+     *
+     * @param runnable The code to execute
+     * @param delay The delay in milliseconds
+     * @return The task, which can be used to cancel it
+     */
+    public ScheduledTask schedule (final Runnable runnable, final long delay)
+    {
+        final ScheduledTask task = new ScheduledTask (runnable);
+        this.schedule (task, delay);
+        return task;
+    }
+
+
+    /**
+     * Schedule a task. If the task is already pending it is rescheduled with the new delay.
+     *
+     * @param task The task
+     * @param delay The delay in milliseconds
+     */
+    public void schedule (final ScheduledTask task, final long delay)
+    {
+        if (task.wheel != null)
+            task.wheel.cancel (task);
+
+        if (!this.isTicking)
+        {
+            this.isTicking = true;
+            this.lastTickTime = System.currentTimeMillis ();
+            this.host.scheduleTask (this::tick, this.tickDuration);
+        }
+
+        final long ticks = Math.max (1, (delay + this.tickDuration - 1) / this.tickDuration);
+        task.deadline = this.currentTick + ticks;
+        task.wheel = this;
+        task.linkBefore (this.slots[(int) (task.deadline & SLOT_MASK)]);
+        this.pendingTasks++;
+    }
+
+
+    /**
+     * Cancel a task. Does nothing if the task is not pending.
+     *
+     * @param task The task to cancel
+     */
+    public void cancel (final ScheduledTask task)
+    {
+        if (task.wheel != this)
+            return;
+        task.unlink ();
+        task.wheel = null;
+        this.pendingTasks--;
+    }
+
+
+    /**
+     * Get the number of pending tasks.
+     *
+     * @return The number of tasks
+     */
+    public int getPendingTasks ()
+    {
+        return this.pendingTasks;
+    }
+
+
+    /**
+     * Advance the wheel by the number of ticks which elapsed since the last call and execute all
+     * expired tasks.
+     */
+    private void tick ()
+    {
+        final long now = System.currentTimeMillis ();
+        final long elapsed = Math.max (1, (now - this.lastTickTime) / this.tickDuration);
+        this.lastTickTime += elapsed * this.tickDuration;
+
+        if (elapsed >= NUM_SLOTS)
+        {
+            this.currentTick += elapsed;
+            for (final ScheduledTask head: this.slots)
+                this.collectExpired (head);
+        }
+        else
+        {
+            for (int i = 0; i < elapsed; i++)
+            {
+                this.currentTick++;
+                this.collectExpired (this.slots[(int) (this.currentTick & SLOT_MASK)]);
+            }
+        }
+
+        // Tasks might schedule or cancel other tasks, therefore they are executed after all expired
+        // tasks are removed from the wheel
+        while (this.expired.next != this.expired)
+        {
+            final ScheduledTask task = this.expired.next;
+            this.cancel (task);
+            try
+            {
+                task.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute scheduled task.", ex);
+            }
+        }
+
+        if (this.pendingTasks > 0)
+            this.host.scheduleTask (this::tick, this.tickDuration);
+        else
+            this.isTicking = false;
+    }
+
+
+    private void collectExpired (final ScheduledTask head)
+    {
+        ScheduledTask task = head.next;
+        while (task != head)
+        {
+            final ScheduledTask next = task.next;
+            if (task.deadline <= this.currentTick)
+            {
+                task.unlink ();
+                task.linkBefore (this.expired);
+            }
+            task = next;
+        }
+    }
+
+
+    private static ScheduledTask createHead ()
+    {
+        final ScheduledTask head = new ScheduledTask (null);
+        head.previous = head;
+        head.next = head;
+        return head;
+    }
+}
@@ -0,0 +1,150 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.PriorityQueue;
+
+
+/**
+ * A scheduler with a virtual time. Tasks are not executed after their delay has passed in real time
+ * but when the clock is advanced past their due time. This allows to execute code which depends on
+ * delayed tasks (e.g. the test framework or long button presses) without waiting. Tasks with the
+ * same due time are executed in the order in which they were scheduled. Tasks can be scheduled from
+ * any thread, the clock must only be advanced by one thread. The tasks are executed outside of the
+ * lock, therefore they can schedule further tasks.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VirtualClock
+{
+    private final PriorityQueue<VirtualTask> tasks = new PriorityQueue<> ();
+
+    private volatile long                    currentTime;
+    private long                             sequence;
+
+
+    /**
+     * Get the virtual time.
+     *
+     * @return The number of milliseconds the clock has been advanced since its creation
+     */
+    public long currentTimeMillis ()
+    {
+        return this.currentTime;
+    }
+
+
+    /**
+     * Schedule a task.
+     *
+     * @param task The task to execute
+     * @param delay The virtual time in milliseconds after which the task is executed
+     */
+    public void schedule (final Runnable task, final long delay)
+    {
+        synchronized (this.tasks)
+        {
+            this.tasks.add (new VirtualTask (task, this.currentTime + Math.max (0, delay), this.sequence++));
+        }
+    }
+
+
+    /**
+     * Get the number of tasks which are not yet executed.
+     *
+     * @return The number of tasks
+     */
+    public int getPendingTasks ()
+    {
+        synchronized (this.tasks)
+        {
+            return this.tasks.size ();
+        }
+    }
+
+
+    /**
+     * Advance the virtual time and execute all tasks which become due, including the tasks which are
+     * scheduled by these tasks.
+     *
+     * @param duration The time to advance in milliseconds
+     * @return The number of executed tasks
+     */
+    public int advance (final long duration)
+    {
+        final long endTime = this.currentTime + duration;
+        int count = 0;
+        while (true)
+        {
+            final VirtualTask task;
+            synchronized (this.tasks)
+            {
+                if (this.tasks.isEmpty () || this.tasks.peek ().dueTime > endTime)
+                {
+                    this.currentTime = endTime;
+                    return count;
+                }
+                task = this.tasks.remove ();
+                this.currentTime = task.dueTime;
+            }
+            task.runnable.run ();
+            count++;
+        }
+    }
+
+
+    /**
+     * Hand all pending tasks over to the host, keeping their remaining delays. Must be called when
+     * the virtual clock is no longer used, otherwise periodic tasks would stop.
+     *
+     * @param host The host
+     */
+    public void transferTo (final IHost host)
+    {
+        synchronized (this.tasks)
+        {
+            while (!this.tasks.isEmpty ())
+            {
+                final VirtualTask task = this.tasks.remove ();
+                host.scheduleTask (task.runnable, task.dueTime - this.currentTime);
+            }
+        }
+    }
+
+
+    /** A task with its due time. */
+    private static class VirtualTask implements Comparable<VirtualTask>
+    {
+        private final Runnable runnable;
+        private final long     dueTime;
+        private final long     sequence;
+
+
+        /**
+         * Constructor.
+         *
+         * @param runnable The code to execute
+         * @param dueTime The virtual time at which the task is executed
+         * @param sequence The scheduling order
+         */
+        VirtualTask (final Runnable runnable, final long dueTime, final long sequence)
+        {
+            this.runnable = runnable;
+            this.dueTime = dueTime;
+            this.sequence = sequence;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo (final VirtualTask other)
+        {
+            final int result = Long.compare (this.dueTime, other.dueTime);
+            return result == 0 ? Long.compare (this.sequence, other.sequence) : result;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -69,6 +70,8 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
     {
         super ("Drum 64", surface, model);
 
+        this.requiredFacets.add (ModelFacet.DRUM_PADS);
+
         this.columns = columns;
         this.rows = rows;
 
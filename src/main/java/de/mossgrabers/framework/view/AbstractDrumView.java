@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
+import de.mossgrabers.framework.daw.ModelFacet;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
@@ -103,6 +104,8 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     {
         super (name, surface, model, clipRows, clipCols, useDawColors);
 
+        this.requiredFacets.add (ModelFacet.DRUM_PADS);
+
         this.sequencerLines = numSequencerLines;
         this.playRows = numPlayRows;
         this.allRows = this.sequencerLines + this.playRows;
@@ -13,6 +13,7 @@ import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.featuregroup.AbstractView;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.ScheduledTask;
 
 import java.util.Arrays;
 
@@ -38,6 +39,9 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     protected final boolean    useTrackColor;
 
     private int                blockNotes   = 0;
+    private String             octaveColorID;
+
+    private final ScheduledTask updateMappingTask = new ScheduledTask ( () -> this.delayedUpdateNoteMapping (this.getMapping ()));
 
 
     /**
@@ -104,8 +108,12 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         final ITrack cursorTrack = this.model.getCursorTrack ();
         final int startNote = this.scales.getStartNote ();
         final int endNote = this.scales.getEndNote ();
+
+        // Look up the track color only once for all octave pads
+        this.octaveColorID = replaceOctaveColorWithTrackColor (this.useTrackColor ? cursorTrack : null, Scales.SCALE_COLOR_OCTAVE);
         for (int i = startNote; i < endNote; i++)
             lightGuide.light (i, this.getGridColor (isKeyboardEnabled, isRecording, cursorTrack, i));
+        this.octaveColorID = null;
     }
 
 
@@ -138,6 +146,11 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         {
             if (this.keyManager.isKeyPressed (note))
                 return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+            final int role = this.keyManager.getColorRole (note);
+            if (role != Scales.SCALE_ROLE_OCTAVE)
+                return Scales.getColorID (role);
+            if (this.octaveColorID != null)
+                return this.octaveColorID;
             return this.getPadColor (note, this.useTrackColor ? track : null);
         }
         return AbstractPlayView.COLOR_OFF;
@@ -228,7 +241,7 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     @Override
     public void updateNoteMapping ()
     {
-        this.surface.scheduleTask ( () -> this.delayedUpdateNoteMapping (this.getMapping ()), 100);
+        this.model.getHost ().getTimerWheel ().schedule (this.updateMappingTask, 100);
     }
 
 
@@ -237,17 +250,16 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         if (!this.model.canSelectedTrackHoldNotes ())
             return EMPTY_TABLE;
 
-        final int [] noteMatrix = this.getScaleMatrix ();
-
-        if (this.blockNotes > 0)
-        {
-            final int startNote = this.scales.getStartNote ();
-            final int endNote = this.scales.getEndNote ();
-            final int length = endNote - startNote - this.blockNotes;
-            System.arraycopy (noteMatrix, startNote, noteMatrix, startNote + this.blockNotes, length);
-            Arrays.fill (noteMatrix, startNote, startNote + 8, -1);
-        }
+        if (this.blockNotes <= 0)
+            return this.getScaleMatrix ();
 
+        // The scale matrix is shared, therefore work on a copy
+        final int [] noteMatrix = this.getScaleMatrix ().clone ();
+        final int startNote = this.scales.getStartNote ();
+        final int endNote = this.scales.getEndNote ();
+        final int length = endNote - startNote - this.blockNotes;
+        System.arraycopy (noteMatrix, startNote, noteMatrix, startNote + this.blockNotes, length);
+        Arrays.fill (noteMatrix, startNote, startNote + 8, -1);
         return noteMatrix;
     }
 
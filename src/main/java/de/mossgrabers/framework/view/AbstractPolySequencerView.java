@@ -220,11 +220,8 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
 
         if (this.getStep (clip, step) > 0)
         {
-            for (int row = 0; row < 128; row++)
-            {
-                if (clip.getStep (channel, step, row).getState () > 0)
-                    clip.clearStep (channel, step, row);
-            }
+            for (int row = clip.getNextRowWithNote (channel, step, 0); row >= 0; row = clip.getNextRowWithNote (channel, step, row + 1))
+                clip.clearStep (channel, step, row);
         }
         else
         {
@@ -258,7 +255,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
                 this.copyStep = step;
             else if (this.copyStep >= 0)
             {
-                for (int row = 0; row < 128; row++)
+                for (int row = clip.getNextRowWithNote (channel, this.copyStep, 0); row >= 0; row = clip.getNextRowWithNote (channel, this.copyStep, row + 1))
                 {
                     final IStepInfo stepInfo = clip.getStep (channel, this.copyStep, row);
                     if (stepInfo != null && stepInfo.getVelocity () > 0)
@@ -297,7 +294,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
                 }
 
                 // Change length of existing notes
-                for (int row = 0; row < 128; row++)
+                for (int row = clip.getNextRowWithNote (channel, s, 0); row >= 0; row = clip.getNextRowWithNote (channel, s, row + 1))
                 {
                     final IStepInfo stepInfo = clip.getStep (channel, s, row);
                     if (stepInfo != null && stepInfo.getState () == IStepInfo.NOTE_START)
@@ -354,7 +351,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     @Override
     public void updateNoteMapping ()
     {
-        final int [] matrix = this.scales.getNoteMatrix ();
+        final int [] matrix = this.scales.getNoteMatrix ().clone ();
         for (int i = this.scales.getStartNote () + this.sequencerSteps; i < this.scales.getEndNote (); i++)
             matrix[i] = -1;
         this.delayedUpdateNoteMapping (matrix);
@@ -371,17 +368,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      */
     protected int getStep (final INoteClip clip, final int col)
     {
-        int result = IStepInfo.NOTE_OFF;
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        for (int row = 0; row < 128; row++)
-        {
-            final int r = clip.getStep (editMidiChannel, col, row).getState ();
-            if (r == IStepInfo.NOTE_START)
-                return r;
-            if (r == IStepInfo.NOTE_CONTINUE)
-                result = IStepInfo.NOTE_CONTINUE;
-        }
-        return result;
+        return clip.getStepState (this.configuration.getMidiEditChannel (), col);
     }
 
 
@@ -220,22 +220,13 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
     {
         if (row < 0)
             return -1;
-        int step;
         final INoteClip clip = this.getClip ();
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        for (step = 0; step < length; step++)
-        {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
-                break;
-        }
-        if (step >= length)
+        final int step = clip.getNextStepWithNote (editMidiChannel, row, 0, length);
+        if (step < 0)
             return -1;
-        for (int step2 = step + 1; step2 < length; step2++)
-        {
-            if (clip.getStep (editMidiChannel, step2, row).getState () > 0)
-                return step2 - step;
-        }
-        return -1;
+        final int step2 = clip.getNextStepWithNote (editMidiChannel, row, step + 1, length);
+        return step2 < 0 ? -1 : step2 - step;
     }
 
 
@@ -245,20 +236,14 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
             return -1;
         if (start < 0 || start >= length)
             return -1;
-        int step = start;
-        int counter = 0;
         final INoteClip clip = this.getClip ();
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        do
-        {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
-                return counter;
-            step++;
-            counter++;
-            if (step >= length)
-                step = 0;
-        } while (step != start);
-        return -1;
+        int step = clip.getNextStepWithNote (editMidiChannel, row, start, length);
+        if (step >= 0)
+            return step - start;
+        // Wrap around to the start of the loop
+        step = clip.getNextStepWithNote (editMidiChannel, row, 0, start);
+        return step < 0 ? -1 : step + length - start;
     }
 
 
@@ -269,20 +254,14 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         if (start < 0 || start >= length)
             return -1;
         final int s = start == 0 ? length - 1 : start - 1;
-        int step = s;
-        int counter = 0;
         final INoteClip clip = this.getClip ();
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        do
-        {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
-                return counter;
-            step--;
-            counter++;
-            if (step < 0)
-                step = length - 1;
-        } while (step != s);
-        return -1;
+        int step = clip.getPreviousStepWithNote (editMidiChannel, row, s, 0);
+        if (step >= 0)
+            return s - step;
+        // Wrap around to the end of the loop
+        step = clip.getPreviousStepWithNote (editMidiChannel, row, length - 1, s + 1);
+        return step < 0 ? -1 : s + length - step;
     }
 
 